@@ -0,0 +1,140 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.certs;
+
+import io.strimzi.certs.CertManager;
+import io.strimzi.certs.CertManagerType;
+import io.strimzi.certs.Subject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the certificate throughput of the different CertManager implementations. The user certificate benchmark
+ * issues the same artifacts as the User Operator does for a TLS KafkaUser: a private key with CSR, certificate signed
+ * by the Clients CA and a PKCS12 keystore with both.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class CertManagerBenchmark {
+    private static final Subject CA_SUBJECT = new Subject.Builder()
+            .withOrganizationName("io.strimzi")
+            .withCommonName("clients-ca")
+            .build();
+    private static final Subject USER_SUBJECT = new Subject.Builder()
+            .withCommonName("my-user")
+            .build();
+    private static final Subject BROKER_SUBJECT = new Subject.Builder()
+            .withOrganizationName("io.strimzi")
+            .withCommonName("my-cluster-kafka")
+            .addDnsName("my-cluster-kafka-0.my-cluster-kafka-brokers.my-namespace.svc")
+            .addDnsName("my-cluster-kafka-bootstrap.my-namespace.svc")
+            .addIpAddress("10.0.0.1")
+            .build();
+
+    /**
+     * The CertManager implementation used by the benchmark
+     */
+    @Param({"openssl", "bouncycastle"})
+    public String type;
+
+    private CertManager certManager;
+    private File dir;
+    private byte[] caKey;
+    private byte[] caCert;
+
+    /**
+     * Creates the CA used to sign the certificates
+     *
+     * @throws IOException  If the CA fails to be generated
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        certManager = CertManagerType.forValue(type).create();
+        dir = Files.createTempDirectory("cert-manager-benchmark").toFile();
+
+        File caKeyFile = new File(dir, "ca.key");
+        File caCertFile = new File(dir, "ca.crt");
+        certManager.generateSelfSignedCert(caKeyFile, caCertFile, CA_SUBJECT, 365);
+
+        caKey = Files.readAllBytes(caKeyFile.toPath());
+        caCert = Files.readAllBytes(caCertFile.toPath());
+    }
+
+    /**
+     * Deletes the temporary files
+     *
+     * @throws IOException  If the files fail to be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.delete(new File(dir, "ca.key").toPath());
+        Files.delete(new File(dir, "ca.crt").toPath());
+        Files.delete(dir.toPath());
+    }
+
+    /**
+     * Issues a user certificate and stores it into a PKCS12 keystore
+     *
+     * @return  The keystore file
+     *
+     * @throws IOException  If the certificate fails to be issued
+     */
+    @Benchmark
+    public File issueUserCertificate() throws IOException {
+        return issue(USER_SUBJECT);
+    }
+
+    /**
+     * Issues a broker certificate with Subject Alternative Names and stores it into a PKCS12 keystore
+     *
+     * @return  The keystore file
+     *
+     * @throws IOException  If the certificate fails to be issued
+     */
+    @Benchmark
+    public File issueBrokerCertificate() throws IOException {
+        return issue(BROKER_SUBJECT);
+    }
+
+    private File issue(Subject subject) throws IOException {
+        File keyFile = File.createTempFile("benchmark", ".key", dir);
+        File csrFile = File.createTempFile("benchmark", ".csr", dir);
+        File certFile = File.createTempFile("benchmark", ".crt", dir);
+        File keyStoreFile = File.createTempFile("benchmark", ".p12", dir);
+
+        try {
+            certManager.generateCsr(keyFile, csrFile, subject);
+            certManager.generateCert(csrFile, caKey, caCert, certFile, subject, 365);
+            certManager.addKeyAndCertToKeyStore(keyFile, certFile, subject.commonName(), keyStoreFile, "benchmark");
+
+            return keyStoreFile;
+        } finally {
+            Files.delete(keyFile.toPath());
+            Files.delete(csrFile.toPath());
+            Files.delete(certFile.toPath());
+            Files.delete(keyStoreFile.toPath());
+        }
+    }
+}
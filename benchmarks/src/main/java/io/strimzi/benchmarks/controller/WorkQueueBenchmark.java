@@ -0,0 +1,98 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.controller;
+
+import io.strimzi.operator.common.controller.KeyedWorkQueue;
+import io.strimzi.operator.common.controller.SimplifiedReconciliation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to enqueue all resources twice into an empty controller work queue. The first round
+ * enqueues new events and the second round simulates a periodical resync where all events are duplicates. The
+ * KeyedWorkQueue used by the controllers is compared with the previously used ArrayBlockingQueue which checked
+ * for duplicates using its contains(...) method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WorkQueueBenchmark {
+    /**
+     * Number of resources enqueued into the queue
+     */
+    @Param({"100000"})
+    public int resources;
+
+    private List<SimplifiedReconciliation> reconciliations;
+
+    /**
+     * Prepares the reconciliations which will be enqueued
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        reconciliations = new ArrayList<>(resources);
+
+        for (int i = 0; i < resources; i++) {
+            reconciliations.add(new SimplifiedReconciliation("KafkaUser", "my-namespace", "my-user-" + i, "timer"));
+        }
+    }
+
+    /**
+     * Enqueues the reconciliations into the KeyedWorkQueue
+     *
+     * @return  The work queue
+     */
+    @Benchmark
+    public KeyedWorkQueue<SimplifiedReconciliation> keyedWorkQueue() {
+        KeyedWorkQueue<SimplifiedReconciliation> queue = new KeyedWorkQueue<>(resources);
+
+        for (int round = 0; round < 2; round++) {
+            for (SimplifiedReconciliation reconciliation : reconciliations) {
+                queue.offer(reconciliation);
+            }
+        }
+
+        return queue;
+    }
+
+    /**
+     * Enqueues the reconciliations into the ArrayBlockingQueue
+     *
+     * @return  The work queue
+     */
+    @Benchmark
+    public BlockingQueue<SimplifiedReconciliation> arrayBlockingQueue() {
+        BlockingQueue<SimplifiedReconciliation> queue = new ArrayBlockingQueue<>(resources);
+
+        for (int round = 0; round < 2; round++) {
+            for (SimplifiedReconciliation reconciliation : reconciliations) {
+                if (!queue.contains(reconciliation)) {
+                    queue.offer(reconciliation);
+                }
+            }
+        }
+
+        return queue;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.model;
+
+import io.fabric8.kubernetes.api.model.VolumeMount;
+import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
+import io.strimzi.api.kafka.model.common.Rack;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.operator.cluster.model.KafkaBrokerConfigurationBuilder;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.KafkaConfiguration;
+import io.strimzi.operator.cluster.model.KafkaMetadataConfigurationState;
+import io.strimzi.operator.cluster.model.NodeRef;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to render the configuration of a single Kafka broker. The configuration is rendered for
+ * every node in every reconciliation of the Kafka cluster.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KafkaBrokerConfigurationBuilderBenchmark {
+    private Kafka kafka;
+    private NodeRef node;
+    private Set<NodeRef> nodes;
+    private List<VolumeMount> volumeMounts;
+    private KafkaConfiguration userConfiguration;
+    private Map<Integer, Map<String, String>> advertisedHostnames;
+    private Map<Integer, Map<String, String>> advertisedPorts;
+
+    /**
+     * Prepares the inputs of the configuration builder
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        kafka = KafkaClusterFixture.kafka();
+        KafkaCluster kafkaCluster = KafkaClusterFixture.kafkaCluster(kafka, KafkaClusterFixture.nodePools(3));
+
+        node = kafkaCluster.brokerNodes().iterator().next();
+        nodes = kafkaCluster.nodes();
+        volumeMounts = List.of(
+                new VolumeMountBuilder().withName("data-0").withMountPath("/var/lib/kafka/data-0").build(),
+                new VolumeMountBuilder().withName("data-1").withMountPath("/var/lib/kafka/data-1").build()
+        );
+        userConfiguration = new KafkaConfiguration(KafkaClusterFixture.RECONCILIATION, KafkaClusterFixture.kafkaConfig().entrySet());
+        advertisedHostnames = KafkaClusterFixture.advertisedHostnames(kafkaCluster);
+        advertisedPorts = KafkaClusterFixture.advertisedPorts(kafkaCluster);
+    }
+
+    /**
+     * Renders the broker configuration
+     *
+     * @return  The broker configuration
+     */
+    @Benchmark
+    public String build() {
+        Rack rack = kafka.getSpec().getKafka().getRack();
+
+        return new KafkaBrokerConfigurationBuilder(KafkaClusterFixture.RECONCILIATION, node, KafkaMetadataConfigurationState.KRAFT)
+                .withRackId(rack)
+                .withKRaft(KafkaClusterFixture.CLUSTER_NAME, KafkaClusterFixture.NAMESPACE, nodes)
+                .withLogDirs(volumeMounts)
+                .withListeners(KafkaClusterFixture.CLUSTER_NAME,
+                        KafkaClusterFixture.NAMESPACE,
+                        KafkaClusterFixture.LISTENERS,
+                        listenerId -> advertisedHostnames.get(node.nodeId()).get(listenerId),
+                        listenerId -> advertisedPorts.get(node.nodeId()).get(listenerId))
+                .withAuthorization(KafkaClusterFixture.CLUSTER_NAME, kafka.getSpec().getKafka().getAuthorization())
+                .withCruiseControl(KafkaClusterFixture.CLUSTER_NAME, null, node.broker())
+                .withTieredStorage(KafkaClusterFixture.CLUSTER_NAME, null)
+                .withQuotas(KafkaClusterFixture.CLUSTER_NAME, null)
+                .withUserConfiguration(userConfiguration, false)
+                .build();
+    }
+}
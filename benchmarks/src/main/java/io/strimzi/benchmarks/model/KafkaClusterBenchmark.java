@@ -0,0 +1,95 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.model;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.strimzi.api.kafka.model.podset.StrimziPodSet;
+import io.strimzi.operator.cluster.model.ImagePullPolicy;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.MetricsAndLogging;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the generation of the Kafka cluster model and of the resources derived from it for node pools of different
+ * sizes. This is done in every reconciliation of the Kafka cluster.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KafkaClusterBenchmark {
+    /**
+     * Number of brokers in the broker node pool
+     */
+    @Param({"3", "30", "300"})
+    public int brokers;
+
+    private Kafka kafka;
+    private List<KafkaNodePool> nodePools;
+    private KafkaCluster kafkaCluster;
+    private Map<Integer, Map<String, String>> advertisedHostnames;
+    private Map<Integer, Map<String, String>> advertisedPorts;
+
+    /**
+     * Prepares the custom resources and the model
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        kafka = KafkaClusterFixture.kafka();
+        nodePools = KafkaClusterFixture.nodePools(brokers);
+        kafkaCluster = KafkaClusterFixture.kafkaCluster(kafka, nodePools);
+        advertisedHostnames = KafkaClusterFixture.advertisedHostnames(kafkaCluster);
+        advertisedPorts = KafkaClusterFixture.advertisedPorts(kafkaCluster);
+    }
+
+    /**
+     * Creates the Kafka cluster model from the custom resources
+     *
+     * @return  The Kafka cluster model
+     */
+    @Benchmark
+    public KafkaCluster fromCrd() {
+        return KafkaClusterFixture.kafkaCluster(kafka, nodePools);
+    }
+
+    /**
+     * Generates the StrimziPodSets with the Kafka pods
+     *
+     * @return  The generated PodSets
+     */
+    @Benchmark
+    public List<StrimziPodSet> generatePodSets() {
+        return kafkaCluster.generatePodSets(false, ImagePullPolicy.IFNOTPRESENT, null, nodeId -> Map.of());
+    }
+
+    /**
+     * Generates the per-broker configuration ConfigMaps
+     *
+     * @return  The generated ConfigMaps
+     */
+    @Benchmark
+    public List<ConfigMap> generatePerBrokerConfigurationConfigMaps() {
+        return kafkaCluster.generatePerBrokerConfigurationConfigMaps(new MetricsAndLogging(null, null), advertisedHostnames, advertisedPorts);
+    }
+}
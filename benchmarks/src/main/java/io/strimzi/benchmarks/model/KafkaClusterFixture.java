@@ -0,0 +1,280 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.model;
+
+import io.strimzi.api.kafka.model.kafka.KRaftMetadataStorage;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.KafkaBuilder;
+import io.strimzi.api.kafka.model.kafka.PersistentClaimStorageBuilder;
+import io.strimzi.api.kafka.model.kafka.listener.GenericKafkaListener;
+import io.strimzi.api.kafka.model.kafka.listener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.kafka.listener.KafkaListenerAuthenticationScramSha512;
+import io.strimzi.api.kafka.model.kafka.listener.KafkaListenerAuthenticationTls;
+import io.strimzi.api.kafka.model.kafka.listener.KafkaListenerType;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePoolBuilder;
+import io.strimzi.api.kafka.model.nodepool.ProcessRoles;
+import io.strimzi.operator.cluster.model.DefaultSharedEnvironmentProvider;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.KafkaMetadataConfigurationState;
+import io.strimzi.operator.cluster.model.KafkaPool;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.cluster.model.KafkaVersionChange;
+import io.strimzi.operator.cluster.model.ListenersUtils;
+import io.strimzi.operator.cluster.model.NodeRef;
+import io.strimzi.operator.cluster.model.SharedEnvironmentProvider;
+import io.strimzi.operator.cluster.model.nodepools.NodePoolUtils;
+import io.strimzi.operator.common.Reconciliation;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared fixture for the benchmarks of the Kafka cluster model. It creates a KRaft based Kafka cluster with three
+ * controllers and a configurable number of brokers in a separate node pool. The cluster uses several listeners with
+ * different authentication, authorization and custom configuration to exercise the commonly used code paths.
+ */
+public class KafkaClusterFixture {
+    /**
+     * Namespace of the Kafka cluster
+     */
+    public static final String NAMESPACE = "my-namespace";
+
+    /**
+     * Name of the Kafka cluster
+     */
+    public static final String CLUSTER_NAME = "my-cluster";
+
+    /**
+     * Reconciliation marker used by the benchmarks
+     */
+    public static final Reconciliation RECONCILIATION = new Reconciliation("benchmark", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME);
+
+    /**
+     * Shared environment provider used by the benchmarks
+     */
+    public static final SharedEnvironmentProvider SHARED_ENV_PROVIDER = new DefaultSharedEnvironmentProvider();
+
+    /**
+     * Kafka versions known to the operator
+     */
+    public static final KafkaVersion.Lookup VERSIONS = versionLookup();
+
+    /**
+     * Version change for a cluster which is not being upgraded or downgraded
+     */
+    public static final KafkaVersionChange VERSION_CHANGE = new KafkaVersionChange(VERSIONS.defaultVersion(), VERSIONS.defaultVersion(), null, null, VERSIONS.defaultVersion().metadataVersion());
+
+    /**
+     * Listeners of the Kafka cluster
+     */
+    public static final List<GenericKafkaListener> LISTENERS = List.of(
+            new GenericKafkaListenerBuilder()
+                    .withName("plain")
+                    .withPort(9092)
+                    .withType(KafkaListenerType.INTERNAL)
+                    .withTls(false)
+                    .build(),
+            new GenericKafkaListenerBuilder()
+                    .withName("tls")
+                    .withPort(9093)
+                    .withType(KafkaListenerType.INTERNAL)
+                    .withTls(true)
+                    .withAuth(new KafkaListenerAuthenticationTls())
+                    .build(),
+            new GenericKafkaListenerBuilder()
+                    .withName("scram")
+                    .withPort(9094)
+                    .withType(KafkaListenerType.INTERNAL)
+                    .withTls(true)
+                    .withAuth(new KafkaListenerAuthenticationScramSha512())
+                    .build()
+    );
+
+    private KafkaClusterFixture() { }
+
+    /**
+     * @return  Lookup of the supported Kafka versions with a Kafka container image for each of them
+     */
+    private static KafkaVersion.Lookup versionLookup() {
+        Map<String, String> kafkaImages = new HashMap<>();
+
+        for (String version : new KafkaVersion.Lookup(Map.of(), Map.of(), Map.of(), Map.of()).supportedVersions()) {
+            kafkaImages.put(version, "strimzi/kafka:latest-kafka-" + version);
+        }
+
+        return new KafkaVersion.Lookup(kafkaImages, Map.of(), Map.of(), Map.of());
+    }
+
+    /**
+     * @return  The Kafka custom resource
+     */
+    public static Kafka kafka() {
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(CLUSTER_NAME)
+                    .withNamespace(NAMESPACE)
+                    .withAnnotations(Map.of("strimzi.io/node-pools", "enabled", "strimzi.io/kraft", "enabled"))
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withListeners(LISTENERS)
+                        .withNewKafkaAuthorizationSimple()
+                            .withSuperUsers("CN=my-admin")
+                        .endKafkaAuthorizationSimple()
+                        .withConfig(kafkaConfig())
+                        .withNewRack()
+                            .withTopologyKey("topology.kubernetes.io/zone")
+                        .endRack()
+                    .endKafka()
+                    .withNewEntityOperator()
+                        .withNewTopicOperator()
+                        .endTopicOperator()
+                        .withNewUserOperator()
+                        .endUserOperator()
+                    .endEntityOperator()
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * @return  The custom Kafka configuration used in the Kafka custom resource
+     */
+    public static Map<String, Object> kafkaConfig() {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("offsets.topic.replication.factor", 3);
+        config.put("transaction.state.log.replication.factor", 3);
+        config.put("transaction.state.log.min.isr", 2);
+        config.put("default.replication.factor", 3);
+        config.put("min.insync.replicas", 2);
+        config.put("num.partitions", 12);
+        config.put("auto.create.topics.enable", false);
+        config.put("log.retention.hours", 168);
+        config.put("log.segment.bytes", 1073741824);
+        config.put("log.retention.check.interval.ms", 300000);
+        config.put("num.network.threads", 8);
+        config.put("num.io.threads", 16);
+        config.put("socket.send.buffer.bytes", 102400);
+        config.put("socket.receive.buffer.bytes", 102400);
+        config.put("compression.type", "producer");
+        config.put("unclean.leader.election.enable", false);
+
+        return config;
+    }
+
+    /**
+     * Creates the node pools
+     *
+     * @param brokers   Number of brokers in the broker node pool
+     *
+     * @return  List with the controller and broker node pools
+     */
+    public static List<KafkaNodePool> nodePools(int brokers) {
+        KafkaNodePool controllers = new KafkaNodePoolBuilder()
+                .withNewMetadata()
+                    .withName("controllers")
+                    .withNamespace(NAMESPACE)
+                    .withLabels(Map.of("strimzi.io/cluster", CLUSTER_NAME))
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(3)
+                    .withRoles(ProcessRoles.CONTROLLER)
+                    .withNewJbodStorage()
+                        .withVolumes(new PersistentClaimStorageBuilder().withId(0).withSize("100Gi").withKraftMetadata(KRaftMetadataStorage.SHARED).build())
+                    .endJbodStorage()
+                .endSpec()
+                .build();
+
+        KafkaNodePool brokerPool = new KafkaNodePoolBuilder()
+                .withNewMetadata()
+                    .withName("brokers")
+                    .withNamespace(NAMESPACE)
+                    .withLabels(Map.of("strimzi.io/cluster", CLUSTER_NAME))
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(brokers)
+                    .withRoles(ProcessRoles.BROKER)
+                    .withNewJbodStorage()
+                        .withVolumes(new PersistentClaimStorageBuilder().withId(0).withSize("1Ti").build(),
+                                new PersistentClaimStorageBuilder().withId(1).withSize("1Ti").build())
+                    .endJbodStorage()
+                .endSpec()
+                .build();
+
+        return List.of(controllers, brokerPool);
+    }
+
+    /**
+     * Creates the Kafka pool models
+     *
+     * @param kafka         Kafka custom resource
+     * @param nodePools     Node pools
+     *
+     * @return  List with Kafka pool models
+     */
+    public static List<KafkaPool> kafkaPools(Kafka kafka, List<KafkaNodePool> nodePools) {
+        return NodePoolUtils.createKafkaPools(RECONCILIATION, kafka, nodePools, Map.of(), Map.of(), VERSION_CHANGE, true, SHARED_ENV_PROVIDER);
+    }
+
+    /**
+     * Creates the Kafka cluster model
+     *
+     * @param kafka         Kafka custom resource
+     * @param nodePools     Node pools
+     *
+     * @return  Kafka cluster model
+     */
+    public static KafkaCluster kafkaCluster(Kafka kafka, List<KafkaNodePool> nodePools) {
+        return KafkaCluster.fromCrd(RECONCILIATION, kafka, kafkaPools(kafka, nodePools), VERSIONS, VERSION_CHANGE, KafkaMetadataConfigurationState.KRAFT, null, SHARED_ENV_PROVIDER);
+    }
+
+    /**
+     * Generates the advertised hostnames for all nodes of the cluster
+     *
+     * @param kafkaCluster  Kafka cluster model
+     *
+     * @return  Map with advertised hostnames for every node and listener
+     */
+    public static Map<Integer, Map<String, String>> advertisedHostnames(KafkaCluster kafkaCluster) {
+        Map<Integer, Map<String, String>> hostnames = new HashMap<>();
+
+        for (NodeRef node : kafkaCluster.nodes()) {
+            Map<String, String> nodeHostnames = new HashMap<>();
+
+            for (GenericKafkaListener listener : LISTENERS) {
+                nodeHostnames.put(ListenersUtils.envVarIdentifier(listener), node.podName() + "." + CLUSTER_NAME + "-kafka-brokers." + NAMESPACE + ".svc");
+            }
+
+            hostnames.put(node.nodeId(), nodeHostnames);
+        }
+
+        return hostnames;
+    }
+
+    /**
+     * Generates the advertised ports for all nodes of the cluster
+     *
+     * @param kafkaCluster  Kafka cluster model
+     *
+     * @return  Map with advertised ports for every node and listener
+     */
+    public static Map<Integer, Map<String, String>> advertisedPorts(KafkaCluster kafkaCluster) {
+        Map<Integer, Map<String, String>> ports = new HashMap<>();
+
+        for (NodeRef node : kafkaCluster.nodes()) {
+            Map<String, String> nodePorts = new HashMap<>();
+
+            for (GenericKafkaListener listener : LISTENERS) {
+                nodePorts.put(ListenersUtils.envVarIdentifier(listener), String.valueOf(listener.getPort()));
+            }
+
+            ports.put(node.nodeId(), nodePorts);
+        }
+
+        return ports;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.model;
+
+import io.strimzi.operator.common.model.Labels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the common operations with Labels. Labels are created and merged for every resource generated by the
+ * operators.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LabelsBenchmark {
+    private Map<String, String> userLabels;
+    private Labels labels;
+
+    /**
+     * Prepares the labels
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        userLabels = Map.of("app", "my-app", "team", "my-team", "environment", "production", "cost-center", "1234");
+        labels = componentLabels();
+    }
+
+    private Labels componentLabels() {
+        return Labels.forStrimziCluster(KafkaClusterFixture.CLUSTER_NAME)
+                .withStrimziKind("Kafka")
+                .withStrimziName(KafkaClusterFixture.CLUSTER_NAME + "-kafka")
+                .withStrimziComponentType("kafka")
+                .withKubernetesName("kafka")
+                .withKubernetesInstance(KafkaClusterFixture.CLUSTER_NAME)
+                .withKubernetesPartOf(KafkaClusterFixture.CLUSTER_NAME)
+                .withKubernetesManagedBy("strimzi-cluster-operator")
+                .withStrimziPoolName("brokers")
+                .withStrimziBrokerRole(true)
+                .withStrimziControllerRole(false);
+    }
+
+    /**
+     * Builds the labels of a Kafka component
+     *
+     * @return  The labels
+     */
+    @Benchmark
+    public Labels build() {
+        return componentLabels();
+    }
+
+    /**
+     * Merges the labels with user-provided labels
+     *
+     * @return  The merged labels
+     */
+    @Benchmark
+    public Map<String, String> withAdditionalLabels() {
+        return labels.withAdditionalLabels(userLabels).toMap();
+    }
+
+    /**
+     * Creates the labels from user-provided map
+     *
+     * @return  The labels
+     */
+    @Benchmark
+    public Labels fromMap() {
+        return Labels.fromMap(userLabels);
+    }
+
+    /**
+     * Creates the selector labels and the selector string
+     *
+     * @return  The selector string
+     */
+    @Benchmark
+    public String toSelectorString() {
+        return labels.strimziSelectorLabels().toSelectorString();
+    }
+}
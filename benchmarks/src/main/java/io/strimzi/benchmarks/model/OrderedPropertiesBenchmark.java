@@ -0,0 +1,83 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.model;
+
+import io.strimzi.operator.common.model.OrderedProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing and serialization of the OrderedProperties. They are used to work with the Kafka configurations and
+ * the logging configurations in the operators.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderedPropertiesBenchmark {
+    /**
+     * Number of properties
+     */
+    @Param({"50", "500"})
+    public int properties;
+
+    private String propertiesString;
+    private OrderedProperties orderedProperties;
+
+    /**
+     * Prepares the properties in the text format
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < properties; i++) {
+            if (i % 10 == 0) {
+                sb.append("# Section ").append(i / 10).append("\n");
+            }
+
+            sb.append("my.config.option.").append(i).append("=")
+                    .append("some-value-").append(i).append(",another\\:value\\=").append(i)
+                    .append("\n");
+        }
+
+        propertiesString = sb.toString();
+        orderedProperties = new OrderedProperties().addStringPairs(propertiesString);
+    }
+
+    /**
+     * Parses the properties from the text format
+     *
+     * @return  Parsed properties
+     */
+    @Benchmark
+    public OrderedProperties parse() {
+        return new OrderedProperties().addStringPairs(propertiesString);
+    }
+
+    /**
+     * Serializes the properties into the text format
+     *
+     * @return  Properties in the text format
+     */
+    @Benchmark
+    public String asPairs() {
+        return orderedProperties.asPairs();
+    }
+}
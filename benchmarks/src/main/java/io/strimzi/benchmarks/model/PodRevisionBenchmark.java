@@ -0,0 +1,97 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.model;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.strimzi.api.kafka.model.podset.StrimziPodSet;
+import io.strimzi.operator.cluster.model.ImagePullPolicy;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.PodRevision;
+import io.strimzi.operator.cluster.model.PodSetUtils;
+import io.strimzi.operator.common.Util;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the calculation of the pod revision. The revision is calculated for every pod when generating the
+ * StrimziPodSets and again when deciding whether the pod needs to be rolled. The streaming revision is compared with
+ * hashing the Pod serialized to a String. It also measures reading the pod names from the StrimziPodSet with and
+ * without decoding the Pods.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PodRevisionBenchmark {
+    private Pod pod;
+    private StrimziPodSet podSet;
+
+    /**
+     * Generates the Kafka pod used to calculate the revision
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        KafkaCluster kafkaCluster = KafkaClusterFixture.kafkaCluster(KafkaClusterFixture.kafka(), KafkaClusterFixture.nodePools(3));
+        podSet = kafkaCluster.generatePodSets(false, ImagePullPolicy.IFNOTPRESENT, null, nodeId -> Map.of()).get(1);
+        pod = PodSetUtils.podSetToPods(podSet).get(0);
+    }
+
+    /**
+     * Calculates the revision of the Kafka pod
+     *
+     * @return  The revision
+     */
+    @Benchmark
+    public String getRevision() {
+        return PodRevision.getRevision(KafkaClusterFixture.RECONCILIATION, pod);
+    }
+
+    /**
+     * Calculates the revision of the Kafka pod by hashing the Pod serialized to a String
+     *
+     * @return  The revision
+     *
+     * @throws Exception  When the Pod serialization fails
+     */
+    @Benchmark
+    public String getRevisionFromString() throws Exception {
+        return Util.hashStub(PodSetUtils.podToString(pod));
+    }
+
+    /**
+     * Reads the pod names directly from the Maps stored in the StrimziPodSet
+     *
+     * @return  The pod names
+     */
+    @Benchmark
+    public List<String> podNames() {
+        return PodSetUtils.podNames(podSet);
+    }
+
+    /**
+     * Reads the pod names by decoding the Pods stored in the StrimziPodSet
+     *
+     * @return  The pod names
+     */
+    @Benchmark
+    public List<String> podNamesFromDecodedPods() {
+        return PodSetUtils.podSetToPods(podSet).stream().map(p -> p.getMetadata().getName()).toList();
+    }
+}
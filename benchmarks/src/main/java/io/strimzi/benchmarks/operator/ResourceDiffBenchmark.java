@@ -0,0 +1,89 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.operator;
+
+import io.strimzi.api.kafka.model.podset.StrimziPodSet;
+import io.strimzi.api.kafka.model.podset.StrimziPodSetBuilder;
+import io.strimzi.benchmarks.model.KafkaClusterFixture;
+import io.strimzi.operator.cluster.model.ImagePullPolicy;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.common.operator.resource.ResourceDiff;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the diffing of resources which is done for every resource patched by the operators. It uses the
+ * StrimziPodSet as one of the largest resources managed by the Cluster Operator.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResourceDiffBenchmark {
+    /**
+     * Number of pods in the StrimziPodSet
+     */
+    @Param({"3", "30"})
+    public int pods;
+
+    private StrimziPodSet current;
+    private StrimziPodSet same;
+    private StrimziPodSet changed;
+
+    /**
+     * Generates the StrimziPodSets which are compared
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        KafkaCluster kafkaCluster = KafkaClusterFixture.kafkaCluster(KafkaClusterFixture.kafka(), KafkaClusterFixture.nodePools(pods));
+        current = kafkaCluster.generatePodSets(false, ImagePullPolicy.IFNOTPRESENT, null, nodeId -> Map.of()).get(1);
+        same = new StrimziPodSetBuilder(current)
+                .editMetadata()
+                    .withResourceVersion("12345")
+                    .withGeneration(3L)
+                .endMetadata()
+                .build();
+        changed = new StrimziPodSetBuilder(current)
+                .editMetadata()
+                    .addToLabels("my-label", "my-value")
+                .endMetadata()
+                .build();
+    }
+
+    /**
+     * Diffs resources which differ only in ignored fields
+     *
+     * @return  True if the diff is empty
+     */
+    @Benchmark
+    public boolean diffSame() {
+        return new ResourceDiff<>(KafkaClusterFixture.RECONCILIATION, "StrimziPodSet", "my-podset", current, same, ResourceDiff.DEFAULT_IGNORABLE_PATHS).isEmpty();
+    }
+
+    /**
+     * Diffs resources which differ
+     *
+     * @return  True if the diff is empty
+     */
+    @Benchmark
+    public boolean diffChanged() {
+        return new ResourceDiff<>(KafkaClusterFixture.RECONCILIATION, "StrimziPodSet", "my-podset", current, changed, ResourceDiff.DEFAULT_IGNORABLE_PATHS).isEmpty();
+    }
+}
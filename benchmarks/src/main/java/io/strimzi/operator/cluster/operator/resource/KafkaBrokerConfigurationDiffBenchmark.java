@@ -0,0 +1,100 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.benchmarks.model.KafkaClusterFixture;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.KafkaConfiguration;
+import io.strimzi.operator.cluster.model.NodeRef;
+import io.strimzi.operator.common.model.OrderedProperties;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the diffing of the current and desired broker configuration which is done by the KafkaRoller for every
+ * broker in every reconciliation. The current configuration contains all options known to the config model as the
+ * configuration returned by the Kafka Admin API does.
+ *
+ * This benchmark is in the same package as KafkaBrokerConfigurationDiff because its constructor is not public.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KafkaBrokerConfigurationDiffBenchmark {
+    private KafkaCluster kafkaCluster;
+    private NodeRef node;
+    private String desired;
+    private Config currentSame;
+    private Config currentChanged;
+
+    /**
+     * Prepares the current and desired configurations
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        kafkaCluster = KafkaClusterFixture.kafkaCluster(KafkaClusterFixture.kafka(), KafkaClusterFixture.nodePools(3));
+        node = kafkaCluster.brokerNodes().iterator().next();
+        desired = kafkaCluster.generatePerBrokerConfiguration(node.nodeId(), KafkaClusterFixture.advertisedHostnames(kafkaCluster), KafkaClusterFixture.advertisedPorts(kafkaCluster));
+
+        Map<String, String> desiredMap = new OrderedProperties().addStringPairs(desired).asMap();
+        currentSame = currentConfig(desiredMap, Map.of());
+        currentChanged = currentConfig(desiredMap, Map.of("num.io.threads", "8", "log.retention.hours", "24", "min.insync.replicas", "1"));
+    }
+
+    private Config currentConfig(Map<String, String> desiredMap, Map<String, String> overrides) {
+        List<ConfigEntry> entries = new ArrayList<>();
+
+        for (String option : KafkaConfiguration.readConfigModel(kafkaCluster.getKafkaVersion()).keySet()) {
+            String value = overrides.getOrDefault(option, desiredMap.get(option));
+
+            if (value != null) {
+                entries.add(new ConfigEntry(option, value, ConfigEntry.ConfigSource.STATIC_BROKER_CONFIG, false, false, List.of(), ConfigEntry.ConfigType.STRING, null));
+            } else {
+                entries.add(new ConfigEntry(option, "default-value", ConfigEntry.ConfigSource.DEFAULT_CONFIG, false, false, List.of(), ConfigEntry.ConfigType.STRING, null));
+            }
+        }
+
+        return new Config(entries);
+    }
+
+    /**
+     * Diffs the configuration when nothing changed
+     *
+     * @return  Number of changed options
+     */
+    @Benchmark
+    public int diffSame() {
+        return new KafkaBrokerConfigurationDiff(KafkaClusterFixture.RECONCILIATION, currentSame, desired, kafkaCluster.getKafkaVersion(), node).getDiffSize();
+    }
+
+    /**
+     * Diffs the configuration when some options changed
+     *
+     * @return  Number of changed options
+     */
+    @Benchmark
+    public int diffChanged() {
+        return new KafkaBrokerConfigurationDiff(KafkaClusterFixture.RECONCILIATION, currentChanged, desired, kafkaCluster.getKafkaVersion(), node).getDiffSize();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.metrics.TopicOperatorMetricsProvider;
+import io.strimzi.operator.topic.model.ReconcilableTopic;
+import io.strimzi.operator.topic.model.TopicEvent.TopicUpsert;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.mockito.ArgumentMatchers.anyList;
+
+/**
+ * Measures how long it takes the BatchingLoop to pass the events for all KafkaTopics in a namespace to the controller,
+ * for example during a full resync. Every tenth topic gets a second event which is either coalesced with the first one
+ * or parked while the first one is in flight. The controller is mocked and only waits for the configured time for
+ * every batch to simulate the calls to the Kafka Admin API and the Kubernetes API.
+ *
+ * This benchmark is in the same package as BatchingLoop because the class is not public.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BatchingLoopBenchmark {
+    private static final String NAMESPACE = "my-namespace";
+
+    /**
+     * Number of KafkaTopics
+     */
+    @Param({"50000"})
+    public int topics;
+
+    /**
+     * Number of threads of the batching loop
+     */
+    @Param({"1", "8"})
+    public int threads;
+
+    /**
+     * Time in milliseconds the controller needs to reconcile a batch
+     */
+    @Param({"0", "5"})
+    public int batchLatencyMs;
+
+    private final Set<String> reconciled = ConcurrentHashMap.newKeySet();
+    private BatchingLoop loop;
+
+    /**
+     * Creates the KafkaTopics and starts the batching loop
+     *
+     * @throws InterruptedException Declared by the mocked controller method
+     */
+    @Setup(Level.Trial)
+    public void setup() throws InterruptedException {
+        BasicItemStore<KafkaTopic> itemStore = new BasicItemStore<>(Cache::metaNamespaceKeyFunc);
+        for (int i = 0; i < topics; i++) {
+            itemStore.put(Cache.namespaceKeyFunc(NAMESPACE, topicName(i)), new KafkaTopicBuilder()
+                    .withNewMetadata()
+                        .withName(topicName(i))
+                        .withNamespace(NAMESPACE)
+                        .withResourceVersion("1")
+                    .endMetadata()
+                    .withNewSpec()
+                        .withPartitions(12)
+                        .withReplicas(3)
+                    .endSpec()
+                    .build());
+        }
+
+        BatchingTopicController controller = Mockito.mock(BatchingTopicController.class);
+        Mockito.doAnswer(invocation -> {
+            List<ReconcilableTopic> batch = invocation.getArgument(0);
+            if (batchLatencyMs > 0) {
+                Thread.sleep(batchLatencyMs);
+            }
+            for (ReconcilableTopic topic : batch) {
+                reconciled.add(topic.kt().getMetadata().getName());
+            }
+            return null;
+        }).when(controller).onUpdate(anyList());
+
+        TopicOperatorMetricsHolder metrics = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+
+        loop = new BatchingLoop(2 * topics, controller, threads,
+                Integer.parseInt(TopicOperatorConfig.MAX_BATCH_SIZE.defaultValue()),
+                Long.parseLong(TopicOperatorConfig.MAX_BATCH_LINGER_MS.defaultValue()),
+                itemStore, metrics, NAMESPACE);
+        loop.start();
+    }
+
+    /**
+     * Stops the batching loop
+     *
+     * @throws InterruptedException If interrupted while waiting for the loop to stop
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        loop.stop();
+    }
+
+    private static String topicName(int i) {
+        return "my-topic-" + i;
+    }
+
+    /**
+     * Offers the events for all topics and waits until all topics are reconciled
+     *
+     * @return  Number of reconciled topics
+     */
+    @Benchmark
+    public int resync() {
+        reconciled.clear();
+
+        for (int i = 0; i < topics; i++) {
+            loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, topicName(i), "1"));
+
+            if (i % 10 == 9) {
+                // Second event for the topic offered shortly after the first one
+                loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, topicName(i - 5), "2"));
+            }
+        }
+
+        while (reconciled.size() < topics) {
+            LockSupport.parkNanos(100_000L);
+        }
+
+        return reconciled.size();
+    }
+}
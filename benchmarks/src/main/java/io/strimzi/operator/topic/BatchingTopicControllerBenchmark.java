@@ -0,0 +1,222 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.metrics.TopicOperatorMetricsProvider;
+import io.strimzi.operator.topic.model.ReconcilableTopic;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.Uuid;
+import org.apache.kafka.common.config.ConfigResource;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+/**
+ * Measures the planning of a batch of topic reconciliations in the BatchingTopicController. The Kafka Admin API and the
+ * Kubernetes API are mocked and answer immediately, so the benchmark measures only the work done by the operator
+ * itself. All topics are in sync with Kafka, which is the most common case during periodic reconciliations.
+ *
+ * This benchmark is in the same package as BatchingTopicController because its constructor is not public.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchingTopicControllerBenchmark {
+    private static final String NAMESPACE = "my-namespace";
+    private static final int PARTITIONS = 12;
+    private static final int REPLICAS = 3;
+    private static final List<Node> NODES = List.of(new Node(0, "broker-0", 9092), new Node(1, "broker-1", 9092), new Node(2, "broker-2", 9092));
+
+    /**
+     * Number of topics in the batch
+     */
+    @Param({"100", "1000"})
+    public int topics;
+
+    private BatchingTopicController controller;
+    private List<ReconcilableTopic> batch;
+
+    /**
+     * Prepares the mocked Admin and Kubernetes clients, the controller, and the batch of topics
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        Map<String, KafkaTopic> kafkaTopics = new HashMap<>();
+        Map<String, KafkaFuture<TopicDescription>> descriptions = new HashMap<>();
+        Map<ConfigResource, KafkaFuture<Config>> configs = new HashMap<>();
+        batch = new ArrayList<>(topics);
+
+        for (int i = 0; i < topics; i++) {
+            String name = "my-topic-" + i;
+            KafkaTopic kt = kafkaTopic(name);
+
+            kafkaTopics.put(name, kt);
+            descriptions.put(name, KafkaFuture.completedFuture(topicDescription(name)));
+            configs.put(new ConfigResource(ConfigResource.Type.TOPIC, name), KafkaFuture.completedFuture(topicConfig()));
+            batch.add(new ReconcilableTopic(new Reconciliation("benchmark", KafkaTopic.RESOURCE_KIND, NAMESPACE, name), kt, name));
+        }
+
+        TopicOperatorConfig config = TopicOperatorConfig.buildFromMap(Map.of(
+                TopicOperatorConfig.NAMESPACE.key(), NAMESPACE,
+                TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "my-cluster-kafka-bootstrap:9092",
+                TopicOperatorConfig.SKIP_CLUSTER_CONFIG_REVIEW.key(), "true"
+        ));
+        TopicOperatorMetricsHolder metrics = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+
+        // The old status of the topics is read from the informer cache
+        BasicItemStore<KafkaTopic> itemStore = new BasicItemStore<>(Cache::metaNamespaceKeyFunc);
+        kafkaTopics.values().forEach(kt -> itemStore.put(Cache.metaNamespaceKeyFunc(kt), kt));
+
+        controller = new BatchingTopicController(config, Map.of(), mockAdmin(descriptions, configs), mockKubernetesClient(kafkaTopics), itemStore, metrics, new ReplicasChangeHandler(config, metrics));
+    }
+
+    /**
+     * Stops the threads used by the controller for the status updates
+     *
+     * @throws InterruptedException If the thread was interrupted while waiting for the threads to stop
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        controller.stop();
+    }
+
+    private static KafkaTopic kafkaTopic(String name) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                    .withGeneration(1L)
+                    .withCreationTimestamp("2024-01-01T00:00:00Z")
+                    .withFinalizers(BatchingTopicController.FINALIZER)
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(PARTITIONS)
+                    .withReplicas(REPLICAS)
+                    .withConfig(Map.of("retention.ms", 604800000, "cleanup.policy", "delete"))
+                .endSpec()
+                .withNewStatus()
+                    .withObservedGeneration(1L)
+                    .withTopicName(name)
+                .endStatus()
+                .build();
+    }
+
+    private static TopicDescription topicDescription(String name) {
+        List<TopicPartitionInfo> partitions = new ArrayList<>(PARTITIONS);
+
+        for (int partition = 0; partition < PARTITIONS; partition++) {
+            partitions.add(new TopicPartitionInfo(partition, NODES.get(partition % NODES.size()), NODES, NODES));
+        }
+
+        return new TopicDescription(name, false, partitions, Set.of(), Uuid.randomUuid());
+    }
+
+    private static Config topicConfig() {
+        return new Config(List.of(
+                new ConfigEntry("retention.ms", "604800000", ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG, false, false, List.of(), ConfigEntry.ConfigType.LONG, null),
+                new ConfigEntry("cleanup.policy", "delete", ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG, false, false, List.of(), ConfigEntry.ConfigType.LIST, null),
+                new ConfigEntry("segment.bytes", "1073741824", ConfigEntry.ConfigSource.DEFAULT_CONFIG, false, false, List.of(), ConfigEntry.ConfigType.INT, null)
+        ));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Admin mockAdmin(Map<String, KafkaFuture<TopicDescription>> descriptions, Map<ConfigResource, KafkaFuture<Config>> configs) {
+        DescribeTopicsResult describeTopicsResult = Mockito.mock(DescribeTopicsResult.class);
+        Mockito.when(describeTopicsResult.allTopicNames()).thenReturn(KafkaFuture.completedFuture(Map.of()));
+        Mockito.when(describeTopicsResult.topicNameValues()).thenReturn(descriptions);
+
+        DescribeConfigsResult describeConfigsResult = Mockito.mock(DescribeConfigsResult.class);
+        Mockito.when(describeConfigsResult.all()).thenReturn(KafkaFuture.completedFuture(Map.of()));
+        Mockito.when(describeConfigsResult.values()).thenReturn(configs);
+
+        Admin admin = Mockito.mock(Admin.class);
+        Mockito.when(admin.describeTopics(any(Collection.class))).thenReturn(describeTopicsResult);
+        Mockito.when(admin.describeConfigs(any(Collection.class))).thenReturn(describeConfigsResult);
+
+        return admin;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static KubernetesClient mockKubernetesClient(Map<String, KafkaTopic> kafkaTopics) {
+        Map<String, Resource<KafkaTopic>> resources = new HashMap<>();
+
+        for (KafkaTopic kt : kafkaTopics.values()) {
+            Resource<KafkaTopic> resource = Mockito.mock(Resource.class);
+            Mockito.when(resource.get()).thenReturn(kt);
+            Mockito.when(resource.updateStatus()).thenReturn(kt);
+            resources.put(kt.getMetadata().getName(), resource);
+        }
+
+        NonNamespaceOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> inNamespace = Mockito.mock(NonNamespaceOperation.class);
+        Mockito.when(inNamespace.withName(anyString())).thenAnswer(invocation -> resources.get(invocation.<String>getArgument(0)));
+
+        MixedOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> operation = Mockito.mock(MixedOperation.class);
+        Mockito.when(operation.inNamespace(anyString())).thenReturn(inNamespace);
+        Mockito.when(operation.resource(any(KafkaTopic.class))).thenAnswer(invocation -> resources.get(invocation.<KafkaTopic>getArgument(0).getMetadata().getName()));
+
+        KubernetesClient kubernetesClient = Mockito.mock(KubernetesClient.class);
+        Mockito.when(kubernetesClient.resources(KafkaTopic.class, KafkaTopicList.class)).thenReturn(operation);
+
+        return kubernetesClient;
+    }
+
+    /**
+     * Reconciles the batch of topics
+     *
+     * @return  The number of reconciled topics
+     *
+     * @throws InterruptedException If the thread was interrupted while blocking
+     */
+    @Benchmark
+    public int reconcileBatch() throws InterruptedException {
+        controller.onUpdate(batch);
+        return batch.size();
+    }
+}
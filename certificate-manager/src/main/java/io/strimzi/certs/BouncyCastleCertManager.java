@@ -0,0 +1,755 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.DERBMPString;
+import org.bouncycastle.asn1.DERNull;
+import org.bouncycastle.asn1.DEROctetString;
+import org.bouncycastle.asn1.nist.NISTObjectIdentifiers;
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.asn1.sec.ECPrivateKey;
+import org.bouncycastle.asn1.x500.RDN;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x500.X500NameBuilder;
+import org.bouncycastle.asn1.x500.style.BCStyle;
+import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
+import org.bouncycastle.asn1.x509.AuthorityKeyIdentifier;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.ExtensionsGenerator;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.asn1.x509.KeyUsage;
+import org.bouncycastle.asn1.x509.SubjectKeyIdentifier;
+import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.openssl.PEMKeyPair;
+import org.bouncycastle.openssl.PEMParser;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
+import org.bouncycastle.openssl.jcajce.JcaPKCS8Generator;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.OutputEncryptor;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentVerifierProviderBuilder;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+import org.bouncycastle.pkcs.PKCS10CertificationRequestBuilder;
+import org.bouncycastle.pkcs.PKCS12PfxPduBuilder;
+import org.bouncycastle.pkcs.PKCS12SafeBag;
+import org.bouncycastle.pkcs.PKCS12SafeBagBuilder;
+import org.bouncycastle.pkcs.PKCSException;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequestBuilder;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS12SafeBagBuilder;
+import org.bouncycastle.pkcs.jcajce.JcePKCS12MacCalculatorBuilder;
+import org.bouncycastle.pkcs.jcajce.JcePKCSPBEOutputEncryptorBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A certificate manager which does all the work in memory using the JDK and Bouncy Castle APIs instead of forking
+ * the {@code openssl} binary. The certificates, requests and stores it produces have the same structure as the ones
+ * produced by {@link OpenSslCertManager}: the same key sizes, Subject encoding, extensions, signature algorithm and
+ * PKCS #12 protection. The only files touched are the ones passed in by the caller.
+ */
+@SuppressWarnings({"checkstyle:ClassFanOutComplexity", "checkstyle:ClassDataAbstractionCoupling"})
+public class BouncyCastleCertManager implements CertManager {
+    /**
+     * Key size used for newly generated CA keys (matches `openssl genrsa 4096`)
+     */
+    private static final int CA_KEY_SIZE = 4096;
+
+    /**
+     * Key size used for newly generated end-entity keys (matches the `openssl req -new` default)
+     */
+    private static final int KEY_SIZE = 2048;
+
+    /**
+     * Number of random bits in the serial numbers (matches the `rand_serial` option of `openssl ca`)
+     */
+    private static final int SERIAL_NUMBER_BITS = 159;
+
+    /**
+     * Iteration count used for the PKCS #12 encryption and MAC (matches the `openssl pkcs12` default)
+     */
+    private static final int PKCS12_ITERATION_COUNT = 2048;
+
+    private static final String CSR_SIGNATURE_ALGORITHM = "SHA256withRSA";
+    private static final AlgorithmIdentifier PKCS12_PRF = new AlgorithmIdentifier(PKCSObjectIdentifiers.id_hmacWithSHA256, DERNull.INSTANCE);
+
+    // The provider is used directly and not registered in the JVM to not influence any other users of the JCA
+    private static final BouncyCastleProvider PROVIDER = new BouncyCastleProvider();
+
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+
+    // The last used issuer. When many certificates are signed by the same CA, its key and certificate are parsed only once.
+    private volatile Issuer lastIssuer;
+
+    /**
+     * Constructs the BouncyCastleCertManager with the system time
+     */
+    public BouncyCastleCertManager() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Configures the BouncyCastleCertManager with time passed as a parameter
+     *
+     * @param clock     Clock / Time which should be used by the manager
+     */
+    public BouncyCastleCertManager(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
+        generateRootCaCert(sbj, keyFile, certFile, notBefore, notAfter, 0);
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
+        generateCaCert(null, null, sbj, keyFile, certFile, notBefore, notAfter, 0);
+    }
+
+    @Override
+    public void generateRootCaCert(Subject subject, File subjectKeyFile, File subjectCertFile,
+                                   ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        generateCaCert(null, null, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    @Override
+    public void generateIntermediateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                           Subject subject,
+                                           File subjectKeyFile, File subjectCertFile,
+                                           ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        Objects.requireNonNull(issuerCaKeyFile);
+        Objects.requireNonNull(issuerCaCertFile);
+        generateCaCert(issuerCaKeyFile, issuerCaCertFile, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    /**
+     * Generate a root or intermediate CA certificate, using either a new CA key or reusing an existing subject key.
+     *
+     * @param issuerCaKeyFile The issuing CA key (or null for a root CA).
+     * @param issuerCaCertFile The issuing CA cert (or null for a root CA).
+     * @param subject The required subject.
+     * @param subjectKeyFile The subject key file. If this file is empty then a new CA key will be generated and
+     *                       populated by this call. Otherwise it is assumed to contain the existing CA key.
+     * @param subjectCertFile The subject certificate file, populated by this call.
+     * @param notBefore The required NotBefore date of the issued certificate.
+     * @param notAfter The required NotAfter date of the issued certificate.
+     * @param pathLength The number of CA certificates below this certificate in a certificate chain.
+     *
+     * @throws IOException IO problems
+     */
+    private void generateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                Subject subject,
+                                File subjectKeyFile, File subjectCertFile,
+                                ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        if (issuerCaKeyFile == null ^ issuerCaCertFile == null) {
+            throw new IllegalArgumentException();
+        }
+        // Preconditions
+        Objects.requireNonNull(subject);
+        Objects.requireNonNull(subjectKeyFile);
+        Objects.requireNonNull(subjectCertFile);
+        checkValidity(notBefore, notAfter);
+        if (pathLength < 0) {
+            throw new IllegalArgumentException("pathLength cannot be negative: " + pathLength);
+        }
+        if (subject.hasSubjectAltNames()) {
+            throw new IllegalArgumentException("CA certificates should not have Subject Alternative Names");
+        }
+
+        try {
+            boolean generateKey = subjectKeyFile.length() == 0;
+            KeyPair subjectKeyPair;
+            if (generateKey) {
+                subjectKeyPair = generateKeyPair(CA_KEY_SIZE);
+            } else {
+                subjectKeyPair = readKeyPair(Files.readAllBytes(subjectKeyFile.toPath()));
+            }
+
+            X500Name subjectName = x500Name(subject);
+            X500Name issuerName;
+            PrivateKey issuerKey;
+            X509Certificate issuerCert = null;
+
+            if (issuerCaCertFile == null) {
+                issuerName = subjectName;
+                issuerKey = subjectKeyPair.getPrivate();
+            } else {
+                issuerCert = readCertificates(Files.readAllBytes(issuerCaCertFile.toPath())).get(0);
+                issuerName = X500Name.getInstance(issuerCert.getSubjectX500Principal().getEncoded());
+                issuerKey = readPrivateKey(Files.readAllBytes(issuerCaKeyFile.toPath()));
+            }
+
+            JcaX509ExtensionUtils extensionUtils = new JcaX509ExtensionUtils();
+            X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(issuerName, serialNumber(),
+                    Date.from(notBefore.toInstant()), Date.from(notAfter.toInstant()), subjectName, subjectKeyPair.getPublic())
+                    .addExtension(Extension.subjectKeyIdentifier, false, extensionUtils.createSubjectKeyIdentifier(subjectKeyPair.getPublic()))
+                    .addExtension(Extension.basicConstraints, true, new BasicConstraints(pathLength))
+                    .addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.keyCertSign | KeyUsage.cRLSign));
+
+            if (issuerCert != null) {
+                builder.addExtension(Extension.authorityKeyIdentifier, false, authorityKeyIdentifier(extensionUtils, issuerCert));
+            }
+
+            writePem(subjectCertFile, builder.build(contentSigner(issuerKey)));
+
+            if (generateKey) {
+                writePem(subjectKeyFile, new JcaPKCS8Generator(subjectKeyPair.getPrivate(), null));
+            }
+        } catch (GeneralSecurityException | OperatorCreationException e) {
+            throw new RuntimeException("Failed to generate the CA certificate", e);
+        }
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(certFile);
+        Objects.requireNonNull(certAlias);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        X509Certificate certificate = readCertificates(Files.readAllBytes(certFile.toPath())).get(0);
+
+        // the KeyStore class is able to create an empty store if the input stream is null
+        KeyStore trustStore = loadKeyStore(trustStoreFile.length() > 0 ? Files.readAllBytes(trustStoreFile.toPath()) : null, trustStorePassword);
+        trustStore.setEntry(certAlias, new KeyStore.TrustedCertificateEntry(certificate), null);
+        Files.write(trustStoreFile.toPath(), storeKeyStore(trustStore, trustStorePassword));
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        // Preconditions
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(certFile);
+        Objects.requireNonNull(alias);
+        Objects.requireNonNull(keyStoreFile);
+        Objects.requireNonNull(keyStorePassword);
+
+        try {
+            PrivateKey key = readPrivateKey(Files.readAllBytes(keyFile.toPath()));
+            List<X509Certificate> certificates = readCertificates(Files.readAllBytes(certFile.toPath()));
+            Files.write(keyStoreFile.toPath(), keyStore(key, certificates, alias, keyStorePassword));
+        } catch (GeneralSecurityException | OperatorCreationException | PKCSException e) {
+            throw new RuntimeException("Failed to create the PKCS #12 keystore", e);
+        }
+    }
+
+    /**
+     * Creates a PKCS #12 keystore with the key and the certificate chain
+     *
+     * @param key               Private key
+     * @param certificates      Certificate chain starting with the certificate of the key
+     * @param alias             Alias of the key and certificate
+     * @param keyStorePassword  Password of the keystore
+     *
+     * @return  The keystore
+     */
+    private byte[] keyStore(PrivateKey key, List<X509Certificate> certificates, String alias, String keyStorePassword)
+            throws GeneralSecurityException, OperatorCreationException, PKCSException, IOException {
+        char[] password = keyStorePassword.toCharArray();
+
+        // The same layout as `openssl pkcs12 -export`: the certificates are in an encrypted safe, the key is in a
+        // shrouded key bag and both carry the friendly name and the local key ID (SHA-1 of the certificate)
+        DERBMPString friendlyName = new DERBMPString(alias);
+        DEROctetString localKeyId = new DEROctetString(MessageDigest.getInstance("SHA-1").digest(certificates.get(0).getEncoded()));
+
+        List<PKCS12SafeBag> certBags = new ArrayList<>(certificates.size());
+        for (int i = 0; i < certificates.size(); i++) {
+            PKCS12SafeBagBuilder certBagBuilder = new JcaPKCS12SafeBagBuilder(certificates.get(i));
+            if (i == 0) {
+                certBagBuilder.addBagAttribute(PKCSObjectIdentifiers.pkcs_9_at_friendlyName, friendlyName);
+                certBagBuilder.addBagAttribute(PKCSObjectIdentifiers.pkcs_9_at_localKeyId, localKeyId);
+            }
+            certBags.add(certBagBuilder.build());
+        }
+
+        PKCS12SafeBagBuilder keyBagBuilder = new JcaPKCS12SafeBagBuilder(key, pbeEncryptor(password));
+        keyBagBuilder.addBagAttribute(PKCSObjectIdentifiers.pkcs_9_at_friendlyName, friendlyName);
+        keyBagBuilder.addBagAttribute(PKCSObjectIdentifiers.pkcs_9_at_localKeyId, localKeyId);
+
+        PKCS12PfxPduBuilder pfxBuilder = new PKCS12PfxPduBuilder();
+        pfxBuilder.addEncryptedData(pbeEncryptor(password), certBags.toArray(new PKCS12SafeBag[0]));
+        pfxBuilder.addData(keyBagBuilder.build());
+
+        return pfxBuilder.build(new JcePKCS12MacCalculatorBuilder(NISTObjectIdentifiers.id_sha256)
+                .setProvider(PROVIDER)
+                .setIterationCount(PKCS12_ITERATION_COUNT), password).getEncoded();
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(aliases);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        KeyStore trustStore = loadKeyStore(Files.readAllBytes(trustStoreFile.toPath()), trustStorePassword);
+        for (String alias : aliases) {
+            trustStore.deleteEntry(alias);
+        }
+        Files.write(trustStoreFile.toPath(), storeKeyStore(trustStore, trustStorePassword));
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject subject) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(subject);
+
+        try {
+            KeyPair keyPair = generateKeyPair(KEY_SIZE);
+            PKCS10CertificationRequestBuilder builder = new JcaPKCS10CertificationRequestBuilder(x500Name(subject), keyPair.getPublic());
+
+            if (subject.hasSubjectAltNames()) {
+                ExtensionsGenerator extensions = new ExtensionsGenerator();
+                extensions.addExtension(Extension.subjectAlternativeName, false, subjectAltNames(subject));
+                builder.addAttribute(PKCSObjectIdentifiers.pkcs_9_at_extensionRequest, extensions.generate());
+            }
+
+            writePem(keyFile, new JcaPKCS8Generator(keyPair.getPrivate(), null));
+            writePem(csrFile, builder.build(new JcaContentSignerBuilder(CSR_SIGNATURE_ALGORITHM).build(keyPair.getPrivate())));
+        } catch (GeneralSecurityException | OperatorCreationException e) {
+            throw new RuntimeException("Failed to generate the certificate signing request", e);
+        }
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+        generateCert(csrFile, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), crtFile, sbj, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
+        generateCert(csrFile, caKey, caCert, crtFile, sbj, notBefore, notAfter);
+    }
+
+    /**
+     * Generates a certificate
+     *
+     * @param csrFile       CSR file
+     * @param caKey         Key of the CA which should sign this certificate
+     * @param caCert        Certificate of the CA which should sign this certificate
+     * @param crtFile       Cert file for the newly generated certificate
+     * @param sbj           Subject of the new certificate
+     * @param notBefore     Not before validity
+     * @param notAfter      Not after validity
+     *
+     * @throws IOException  Thrown when working with files fails
+     */
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, ZonedDateTime notBefore, ZonedDateTime notAfter) throws IOException {
+        // Preconditions
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+        Objects.requireNonNull(crtFile);
+        Objects.requireNonNull(sbj);
+        checkValidity(notBefore, notAfter);
+
+        try {
+            PKCS10CertificationRequest csr = readCsr(Files.readAllBytes(csrFile.toPath()));
+            if (!csr.isSignatureValid(new JcaContentVerifierProviderBuilder().build(csr.getSubjectPublicKeyInfo()))) {
+                throw new IllegalArgumentException("The signature of the certificate signing request is not valid");
+            }
+
+            Issuer issuer = issuer(caKey, caCert);
+            PublicKey subjectKey = new JcaPEMKeyConverter().getPublicKey(csr.getSubjectPublicKeyInfo());
+
+            writePem(crtFile, certificateBuilder(issuer, policySubject(csr.getSubject()), subjectKey, sbj, notBefore, notAfter)
+                    .build(contentSigner(issuer.key())));
+        } catch (GeneralSecurityException | OperatorCreationException | PKCSException e) {
+            throw new RuntimeException("Failed to generate the certificate", e);
+        }
+    }
+
+    /**
+     * Generates a new private key and a certificate for it signed by the CA, and packs them into a PKCS #12 keystore.
+     * Unlike the file based methods, everything is done in memory and without the certificate signing request. The
+     * CA key and certificate are parsed only when they differ from the previous call, so issuing many certificates
+     * with the same CA does not parse the CA again for every certificate. This method is thread-safe.
+     *
+     * @param sbj               Subject of the new certificate
+     * @param caKey             Key of the CA which should sign this certificate
+     * @param caCert            Certificate of the CA which should sign this certificate
+     * @param days              Validity of the new certificate in days
+     * @param keyStorePassword  Password for the PKCS #12 keystore
+     *
+     * @return  CertAndKey with the PEM encoded key and certificate, the keystore and its password
+     *
+     * @throws IOException  Thrown when the CA key or certificate cannot be parsed
+     */
+    @Override
+    public CertAndKey generateSignedCert(Subject sbj, byte[] caKey, byte[] caCert, int days, String keyStorePassword) throws IOException {
+        // Preconditions
+        Objects.requireNonNull(sbj);
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+        Objects.requireNonNull(keyStorePassword);
+
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
+        checkValidity(notBefore, notAfter);
+
+        try {
+            Issuer issuer = issuer(caKey, caCert);
+            KeyPair keyPair = generateKeyPair(KEY_SIZE);
+
+            X509Certificate certificate = new JcaX509CertificateConverter().getCertificate(
+                    certificateBuilder(issuer, policySubject(x500Name(sbj)), keyPair.getPublic(), sbj, notBefore, notAfter)
+                            .build(contentSigner(issuer.key())));
+
+            return new CertAndKey(
+                    pem(new JcaPKCS8Generator(keyPair.getPrivate(), null)),
+                    pem(certificate),
+                    null,
+                    keyStore(keyPair.getPrivate(), List.of(certificate), sbj.commonName(), keyStorePassword),
+                    keyStorePassword);
+        } catch (GeneralSecurityException | OperatorCreationException | PKCSException e) {
+            throw new RuntimeException("Failed to generate the certificate", e);
+        }
+    }
+
+    /**
+     * Creates the builder for a certificate signed by the issuer with the same extensions as the ones used by
+     * {@link OpenSslCertManager}
+     *
+     * @param issuer        The issuer
+     * @param subjectName   Subject name of the new certificate
+     * @param subjectKey    Public key of the new certificate
+     * @param sbj           Subject with the subject alternative names
+     * @param notBefore     Not before validity
+     * @param notAfter      Not after validity
+     *
+     * @return  Certificate builder
+     */
+    private X509v3CertificateBuilder certificateBuilder(Issuer issuer, X500Name subjectName, PublicKey subjectKey, Subject sbj,
+                                                       ZonedDateTime notBefore, ZonedDateTime notAfter)
+            throws NoSuchAlgorithmException, IOException {
+        JcaX509ExtensionUtils extensionUtils = new JcaX509ExtensionUtils();
+        X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(issuer.name(),
+                serialNumber(), Date.from(notBefore.toInstant()), Date.from(notAfter.toInstant()), subjectName, subjectKey);
+
+        if (sbj.hasSubjectAltNames()) {
+            // The extensions section used by OpenSslCertManager for SANs contains only the SANs themselves
+            builder.addExtension(Extension.subjectAlternativeName, false, subjectAltNames(sbj))
+                    .addExtension(Extension.subjectKeyIdentifier, false, extensionUtils.createSubjectKeyIdentifier(subjectKey));
+        } else {
+            builder.addExtension(Extension.subjectKeyIdentifier, false, extensionUtils.createSubjectKeyIdentifier(subjectKey))
+                    .addExtension(Extension.basicConstraints, true, new BasicConstraints(false))
+                    .addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.digitalSignature | KeyUsage.keyEncipherment));
+        }
+
+        return builder.addExtension(Extension.authorityKeyIdentifier, false, issuer.authorityKeyIdentifier());
+    }
+
+    /**
+     * Returns the parsed issuer for the CA key and certificate. The last issuer is cached and reused when the same CA
+     * key and certificate are passed again.
+     *
+     * @param caKey     Key of the CA
+     * @param caCert    Certificate of the CA
+     *
+     * @return  The parsed issuer
+     */
+    /* test */ Issuer issuer(byte[] caKey, byte[] caCert) throws IOException, GeneralSecurityException {
+        Issuer cached = lastIssuer;
+
+        if (cached != null && Arrays.equals(cached.caKey(), caKey) && Arrays.equals(cached.caCert(), caCert)) {
+            return cached;
+        }
+
+        X509Certificate issuerCert = readCertificates(caCert).get(0);
+        Issuer issuer = new Issuer(caKey.clone(), caCert.clone(), readPrivateKey(caKey),
+                X500Name.getInstance(issuerCert.getSubjectX500Principal().getEncoded()),
+                authorityKeyIdentifier(new JcaX509ExtensionUtils(), issuerCert));
+        lastIssuer = issuer;
+
+        return issuer;
+    }
+
+    void checkValidity(ZonedDateTime notBefore, ZonedDateTime notAfter) {
+        Objects.requireNonNull(notBefore);
+        Objects.requireNonNull(notAfter);
+        if (!notBefore.isBefore(notAfter)) {
+            throw new IllegalArgumentException("Invalid notBefore and notAfter: " + notBefore + " must be before " + notAfter);
+        }
+    }
+
+    private KeyPair generateKeyPair(int keySize) throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(keySize, random);
+        return generator.generateKeyPair();
+    }
+
+    private BigInteger serialNumber() {
+        return new BigInteger(SERIAL_NUMBER_BITS, random);
+    }
+
+    private OutputEncryptor pbeEncryptor(char[] password) throws OperatorCreationException {
+        return new JcePKCSPBEOutputEncryptorBuilder(NISTObjectIdentifiers.id_aes128_CBC)
+                .setProvider(PROVIDER)
+                .setPRF(PKCS12_PRF)
+                .setIterationCount(PKCS12_ITERATION_COUNT)
+                .setRandom(random)
+                .build(password);
+    }
+
+    /**
+     * Creates the signer used for issuing certificates. This uses SHA-512 in the same way as the `default_md` option
+     * in the OpenSSL configuration used by {@link OpenSslCertManager}.
+     *
+     * @param issuerKey     Private key of the issuer
+     *
+     * @return  Content signer
+     *
+     * @throws OperatorCreationException    If the signer cannot be created for the key
+     */
+    private static ContentSigner contentSigner(PrivateKey issuerKey) throws OperatorCreationException {
+        String algorithm = "EC".equals(issuerKey.getAlgorithm()) ? "SHA512withECDSA" : "SHA512withRSA";
+        return new JcaContentSignerBuilder(algorithm).build(issuerKey);
+    }
+
+    /**
+     * Builds the X500 name in the same order and encoding as `openssl -utf8 -subj /O=.../CN=...`.
+     *
+     * @param subject   Subject
+     *
+     * @return  X500 name
+     */
+    /* test */ static X500Name x500Name(Subject subject) {
+        X500NameBuilder builder = new X500NameBuilder(BCStyle.INSTANCE);
+
+        if (subject.organizationName() != null) {
+            builder.addRDN(BCStyle.O, subject.organizationName());
+        }
+
+        if (subject.commonName() != null) {
+            builder.addRDN(BCStyle.CN, subject.commonName());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Applies the same policy as the `policy_c_o_match` section of the OpenSSL configuration: only the O and CN
+     * attributes are taken from the certificate signing request, in this order.
+     *
+     * @param requested     Subject from the certificate signing request
+     *
+     * @return  Subject of the issued certificate
+     */
+    private static X500Name policySubject(X500Name requested) {
+        X500NameBuilder builder = new X500NameBuilder(BCStyle.INSTANCE);
+
+        for (ASN1ObjectIdentifier type : List.of(BCStyle.O, BCStyle.CN)) {
+            for (RDN rdn : requested.getRDNs(type)) {
+                builder.addRDN(rdn.getFirst());
+            }
+        }
+
+        return builder.build();
+    }
+
+    private static GeneralNames subjectAltNames(Subject subject) {
+        // Iterates in the same order as OpenSslCertManager writes the alt_names section
+        List<GeneralName> names = new ArrayList<>();
+        for (Map.Entry<String, String> entry : subject.subjectAltNames().entrySet()) {
+            if (entry.getKey().startsWith("IP.")) {
+                names.add(new GeneralName(GeneralName.iPAddress, entry.getValue()));
+            } else {
+                names.add(new GeneralName(GeneralName.dNSName, entry.getValue()));
+            }
+        }
+        return new GeneralNames(names.toArray(new GeneralName[0]));
+    }
+
+    /**
+     * Creates the Authority Key Identifier in the same way as OpenSSL does by default (keyid only).
+     *
+     * @param extensionUtils    Extension utils
+     * @param issuerCert        Certificate of the issuer
+     *
+     * @return  Authority Key Identifier
+     *
+     * @throws IOException  If the Subject Key Identifier of the issuer cannot be parsed
+     */
+    private static AuthorityKeyIdentifier authorityKeyIdentifier(JcaX509ExtensionUtils extensionUtils, X509Certificate issuerCert) throws IOException {
+        byte[] issuerSki = issuerCert.getExtensionValue(Extension.subjectKeyIdentifier.getId());
+
+        if (issuerSki != null) {
+            return new AuthorityKeyIdentifier(SubjectKeyIdentifier.getInstance(JcaX509ExtensionUtils.parseExtensionValue(issuerSki)).getKeyIdentifier());
+        } else {
+            return extensionUtils.createAuthorityKeyIdentifier(issuerCert.getPublicKey());
+        }
+    }
+
+    private static Object readPem(byte[] pem) throws IOException {
+        try (PEMParser parser = new PEMParser(new InputStreamReader(new ByteArrayInputStream(pem), StandardCharsets.US_ASCII))) {
+            Object object = parser.readObject();
+
+            if (object == null) {
+                throw new IOException("No PEM object found");
+            }
+
+            return object;
+        }
+    }
+
+    private static PrivateKey readPrivateKey(byte[] pem) throws IOException {
+        Object object = readPem(pem);
+        JcaPEMKeyConverter converter = new JcaPEMKeyConverter();
+
+        if (object instanceof PrivateKeyInfo) {
+            return converter.getPrivateKey((PrivateKeyInfo) object);
+        } else if (object instanceof PEMKeyPair) {
+            return converter.getPrivateKey(((PEMKeyPair) object).getPrivateKeyInfo());
+        } else {
+            throw new IOException("Unsupported private key format " + object.getClass().getSimpleName());
+        }
+    }
+
+    private static KeyPair readKeyPair(byte[] pem) throws IOException, GeneralSecurityException {
+        Object object = readPem(pem);
+        JcaPEMKeyConverter converter = new JcaPEMKeyConverter();
+
+        if (object instanceof PEMKeyPair) {
+            return converter.getKeyPair((PEMKeyPair) object);
+        } else if (object instanceof PrivateKeyInfo) {
+            PrivateKeyInfo info = (PrivateKeyInfo) object;
+            PrivateKey privateKey = converter.getPrivateKey(info);
+
+            if (privateKey instanceof RSAPrivateCrtKey) {
+                RSAPrivateCrtKey rsaKey = (RSAPrivateCrtKey) privateKey;
+                PublicKey publicKey = KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(rsaKey.getModulus(), rsaKey.getPublicExponent()));
+                return new KeyPair(publicKey, privateKey);
+            } else if ("EC".equals(privateKey.getAlgorithm())) {
+                ECPrivateKey ecKey = ECPrivateKey.getInstance(info.parsePrivateKey());
+                if (ecKey.getPublicKey() != null) {
+                    PublicKey publicKey = converter.getPublicKey(new SubjectPublicKeyInfo(info.getPrivateKeyAlgorithm(), ecKey.getPublicKey().getBytes()));
+                    return new KeyPair(publicKey, privateKey);
+                }
+            }
+
+            throw new IOException("Cannot get the public key from the " + privateKey.getAlgorithm() + " private key");
+        } else {
+            throw new IOException("Unsupported private key format " + object.getClass().getSimpleName());
+        }
+    }
+
+    private static PKCS10CertificationRequest readCsr(byte[] pem) throws IOException {
+        Object object = readPem(pem);
+
+        if (object instanceof PKCS10CertificationRequest) {
+            return (PKCS10CertificationRequest) object;
+        } else {
+            throw new IOException("Unsupported certificate signing request format " + object.getClass().getSimpleName());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<X509Certificate> readCertificates(byte[] pem) throws CertificateException {
+        List<X509Certificate> certificates = (List<X509Certificate>) CertificateFactory.getInstance("X.509").generateCertificates(new ByteArrayInputStream(pem));
+
+        if (certificates.isEmpty()) {
+            throw new CertificateException("No certificate found");
+        }
+
+        return certificates;
+    }
+
+    private static KeyStore loadKeyStore(byte[] store, String password) throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(store != null ? new ByteArrayInputStream(store) : null, password.toCharArray());
+        return keyStore;
+    }
+
+    private static byte[] storeKeyStore(KeyStore keyStore, String password) throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        keyStore.store(os, password.toCharArray());
+        return os.toByteArray();
+    }
+
+    private static void writePem(File file, Object object) throws IOException {
+        Files.write(file.toPath(), pem(object));
+    }
+
+    private static byte[] pem(Object object) throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        try (JcaPEMWriter writer = new JcaPEMWriter(new OutputStreamWriter(os, StandardCharsets.US_ASCII))) {
+            writer.writeObject(object);
+        }
+        return os.toByteArray();
+    }
+
+    /**
+     * Parsed CA used to sign the certificates
+     *
+     * @param caKey                     The PEM encoded CA key the issuer was parsed from
+     * @param caCert                    The PEM encoded CA certificate the issuer was parsed from
+     * @param key                       The private key of the CA
+     * @param name                      The subject name of the CA
+     * @param authorityKeyIdentifier    The Authority Key Identifier used in the signed certificates
+     */
+    /* test */ record Issuer(byte[] caKey, byte[] caCert, PrivateKey key, X500Name name, AuthorityKeyIdentifier authorityKeyIdentifier) { }
+}
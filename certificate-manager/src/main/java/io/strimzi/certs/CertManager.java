@@ -6,6 +6,7 @@ package io.strimzi.certs;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
@@ -148,4 +149,44 @@ public interface CertManager {
      * @throws IOException If an input or output file could not be read/written.
      */
     void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException;
+
+    /**
+     * Generates a new private key and a certificate for it signed by the CA, and packs them into a PKCS #12 keystore.
+     * The default implementation uses the file based methods with temporary files. Implementations which can do it in
+     * memory should override it.
+     *
+     * @param sbj               Subject of the new certificate
+     * @param caKey             Key of the CA which should sign this certificate
+     * @param caCert            Certificate of the CA which should sign this certificate
+     * @param days              Validity of the new certificate in days
+     * @param keyStorePassword  Password for the PKCS #12 keystore
+     *
+     * @return  CertAndKey with the PEM encoded key and certificate, the keystore and its password
+     *
+     * @throws IOException If an input or output file could not be read/written.
+     */
+    default CertAndKey generateSignedCert(Subject sbj, byte[] caKey, byte[] caCert, int days, String keyStorePassword) throws IOException {
+        File csrFile = Files.createTempFile("tls", "csr").toFile();
+        File keyFile = Files.createTempFile("tls", "key").toFile();
+        File certFile = Files.createTempFile("tls", "cert").toFile();
+        File keyStoreFile = Files.createTempFile("tls", "p12").toFile();
+
+        try {
+            generateCsr(keyFile, csrFile, sbj);
+            generateCert(csrFile, caKey, caCert, certFile, sbj, days);
+            addKeyAndCertToKeyStore(keyFile, certFile, sbj.commonName(), keyStoreFile, keyStorePassword);
+
+            return new CertAndKey(
+                    Files.readAllBytes(keyFile.toPath()),
+                    Files.readAllBytes(certFile.toPath()),
+                    null,
+                    Files.readAllBytes(keyStoreFile.toPath()),
+                    keyStorePassword);
+        } finally {
+            Files.deleteIfExists(csrFile.toPath());
+            Files.deleteIfExists(keyFile.toPath());
+            Files.deleteIfExists(certFile.toPath());
+            Files.deleteIfExists(keyStoreFile.toPath());
+        }
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.util.Locale;
+
+/**
+ * The available CertManager implementations
+ */
+public enum CertManagerType {
+    /**
+     * Uses the openssl binary to issue the certificates
+     */
+    OPENSSL("openssl"),
+
+    /**
+     * Issues the certificates in-memory using the JDK and Bouncy Castle APIs
+     */
+    BOUNCY_CASTLE("bouncycastle");
+
+    private final String value;
+
+    CertManagerType(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Parses the CertManager type from its String representation. The parsing is case-insensitive.
+     *
+     * @param value     The String value ("openssl" or "bouncycastle")
+     *
+     * @return  The CertManager type
+     *
+     * @throws IllegalArgumentException if the value does not correspond to any type
+     */
+    public static CertManagerType forValue(String value) {
+        String normalized = value.trim().toLowerCase(Locale.ENGLISH);
+
+        for (CertManagerType type : values()) {
+            if (type.value.equals(normalized)) {
+                return type;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown CertManager type " + value + ". Supported types are openssl and bouncycastle.");
+    }
+
+    /**
+     * @return  New instance of the CertManager implementation of this type
+     */
+    public CertManager create() {
+        switch (this) {
+            case BOUNCY_CASTLE:
+                return new BouncyCastleCertManager();
+            case OPENSSL:
+            default:
+                return new OpenSslCertManager();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -4,10 +4,12 @@
  */
 package io.strimzi.certs;
 
+import org.bouncycastle.cert.X509CertificateHolder;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -507,4 +509,80 @@ public class OpenSslCertManagerIT {
         caCert.delete();
         caStore.delete();
     }
+
+    @Test
+    public void testGenerateSignedCertWithTemporaryFiles() throws Exception {
+        File caKey = Files.createTempFile("ca-key-", ".key").toFile();
+        caKey.deleteOnExit();
+        File caCert = Files.createTempFile("ca-crt-", ".crt").toFile();
+        caCert.deleteOnExit();
+        Subject caSubject = new Subject.Builder().withCommonName("MyRootCa").withOrganizationName("MyOrganization").build();
+        ssl.generateSelfSignedCert(caKey, caCert, caSubject, 365);
+
+        Subject sbj = new Subject.Builder().withCommonName("MyCommonName").build();
+        CertAndKey certAndKey = ssl.generateSignedCert(sbj, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), 365, "123456");
+
+        X509Certificate x509 = (X509Certificate) certFactory.generateCertificate(new ByteArrayInputStream(certAndKey.cert()));
+        x509.verify(((X509Certificate) certFactory.generateCertificate(new FileInputStream(caCert))).getPublicKey());
+        assertThat(x509.getSubjectX500Principal().getName(), is("CN=MyCommonName"));
+        assertThat(certAndKey.storePassword(), is("123456"));
+
+        KeyStore store = KeyStore.getInstance("PKCS12");
+        store.load(new ByteArrayInputStream(certAndKey.keyStore()), "123456".toCharArray());
+        assertThat(store.getCertificate("MyCommonName"), is(x509));
+    }
+
+    @Test
+    public void testBouncyCastleCertManagerProducesEqualCertificates() throws Exception {
+        BouncyCastleCertManager bc = new BouncyCastleCertManager();
+        Path dir = Files.createTempDirectory(OpenSslCertManagerIT.class.getSimpleName());
+
+        try {
+            File caKey = dir.resolve("ca.key").toFile();
+            File caCert = dir.resolve("ca.crt").toFile();
+            File bcCaCert = dir.resolve("bc-ca.crt").toFile();
+            Subject caSubject = new Subject.Builder().withCommonName("MyRootCa").withOrganizationName("MyOrganization").build();
+
+            // Same key for both so that the key identifiers can be compared as well
+            ssl.generateSelfSignedCert(caKey, caCert, caSubject, 365);
+            bc.renewSelfSignedCert(caKey, bcCaCert, caSubject, 365);
+            assertEquivalentCertificates(loadCertificate(caCert), loadCertificate(bcCaCert));
+
+            for (Subject subject : List.of(
+                    new Subject.Builder().withCommonName("MyCommonName").withOrganizationName("MyOrganization").build(),
+                    new Subject.Builder().withCommonName("MyCommonName").withOrganizationName("MyOrganization")
+                            .addDnsName("example1.com").addDnsName("*.example2.com").addIpAddress("10.0.0.1").addIpAddress("fc01::8d1c").build())) {
+                File key = dir.resolve("user.key").toFile();
+                File csr = dir.resolve("user.csr").toFile();
+                File cert = dir.resolve("user.crt").toFile();
+                File bcCert = dir.resolve("bc-user.crt").toFile();
+
+                ssl.generateCsr(key, csr, subject);
+                ssl.generateCert(csr, caKey, caCert, cert, subject, 365);
+                bc.generateCert(csr, caKey, caCert, bcCert, subject, 365);
+                assertEquivalentCertificates(loadCertificate(cert), loadCertificate(bcCert));
+
+                // The other way around: openssl signing a CSR created by the BouncyCastleCertManager
+                bc.generateCsr(key, csr, subject);
+                ssl.generateCert(csr, caKey, caCert, cert, subject, 365);
+                bc.generateCert(csr, caKey, caCert, bcCert, subject, 365);
+                assertEquivalentCertificates(loadCertificate(cert), loadCertificate(bcCert));
+            }
+        } finally {
+            OpenSslCertManager.delete(dir);
+        }
+    }
+
+    private void assertEquivalentCertificates(X509Certificate expected, X509Certificate actual) throws Exception {
+        X509CertificateHolder expectedHolder = new X509CertificateHolder(expected.getEncoded());
+        X509CertificateHolder actualHolder = new X509CertificateHolder(actual.getEncoded());
+
+        assertEquals(expectedHolder.getVersionNumber(), actualHolder.getVersionNumber());
+        assertEquals(expectedHolder.getSignatureAlgorithm(), actualHolder.getSignatureAlgorithm());
+        assertEquals(expectedHolder.getIssuer(), actualHolder.getIssuer());
+        assertEquals(expectedHolder.getSubject(), actualHolder.getSubject());
+        assertEquals(expectedHolder.getSubjectPublicKeyInfo(), actualHolder.getSubjectPublicKeyInfo());
+        assertEquals(expected.getSerialNumber().bitLength() > 64, actual.getSerialNumber().bitLength() > 64);
+        assertEquals(expectedHolder.getExtensions(), actualHolder.getExtensions());
+    }
 }
@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 
 import static java.util.Arrays.asList;
@@ -45,6 +46,7 @@ public class ClusterOperator extends AbstractVerticle {
     private final ClusterOperatorConfig config;
 
     private final Map<String, ReconnectingWatcher<?>> watchByKind = new ConcurrentHashMap<>();
+    private final List<AbstractOperator<?, ?, ?, ?>> operatorsWithInformers = new CopyOnWriteArrayList<>();
 
     private long reconcileTimer;
     private final KafkaAssemblyOperator kafkaAssemblyOperator;
@@ -110,11 +112,19 @@ public class ClusterOperator extends AbstractVerticle {
                     kafkaAssemblyOperator, kafkaMirrorMakerAssemblyOperator, kafkaConnectAssemblyOperator,
                     kafkaBridgeAssemblyOperator, kafkaMirrorMaker2AssemblyOperator, kafkaRebalanceAssemblyOperator));
             for (AbstractOperator<?, ?, ?, ?> operator : operators) {
-                startFutures.add(operator.createWatch(namespace).compose(w -> {
-                    LOGGER.info("Opened watch for {} operator", operator.kind());
-                    watchByKind.put(operator.kind(), w);
-                    return Future.succeededFuture();
-                }));
+                if (config.isCustomResourceInformersEnabled()) {
+                    startFutures.add(operator.createInformer(namespace).compose(i -> {
+                        LOGGER.info("Started informer for {} operator", operator.kind());
+                        operatorsWithInformers.add(operator);
+                        return Future.succeededFuture();
+                    }));
+                } else {
+                    startFutures.add(operator.createWatch(namespace).compose(w -> {
+                        LOGGER.info("Opened watch for {} operator", operator.kind());
+                        watchByKind.put(operator.kind(), w);
+                        return Future.succeededFuture();
+                    }));
+                }
             }
 
             // Start the NodePool watch
@@ -159,7 +169,8 @@ public class ClusterOperator extends AbstractVerticle {
                         resourceOperatorSupplier.strimziPodSetOperator,
                         resourceOperatorSupplier.podOperations,
                         resourceOperatorSupplier.metricsProvider,
-                        config.getPodSetControllerWorkQueueSize()
+                        config.getPodSetControllerWorkQueueSize(),
+                        config.getPodSetControllerWorkers()
                 );
                 strimziPodSetController.start();
                 return null;
@@ -180,12 +191,17 @@ public class ClusterOperator extends AbstractVerticle {
             }
         }
 
+        for (AbstractOperator<?, ?, ?, ?> operator : operatorsWithInformers) {
+            operator.stopInformer(namespace);
+        }
+
         strimziPodSetController.stop();
         stop.complete();
     }
 
     /**
-     * Periodical reconciliation (in case we lost some event)
+     * Periodical reconciliation (in case we lost some event). When the custom resource informers are enabled, the
+     * resources to reconcile are taken from the informer caches instead of being listed from the Kubernetes API server.
      */
     private void reconcileAll(String trigger) {
         if (!config.isPodSetReconciliationOnly()) {
@@ -5,6 +5,7 @@
 package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManagerConfig;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
@@ -34,6 +35,7 @@ import static io.strimzi.operator.common.config.ConfigParameterParser.LONG;
 import static io.strimzi.operator.common.config.ConfigParameterParser.NAMESPACE_SET;
 import static io.strimzi.operator.common.config.ConfigParameterParser.STRING;
 import static io.strimzi.operator.common.config.ConfigParameterParser.parseFeatureGates;
+import static io.strimzi.operator.common.config.ConfigParameterParser.strictlyPositive;
 
 /**
  * Cluster Operator configuration
@@ -216,6 +218,10 @@ public class ClusterOperatorConfig {
      */
     public static final ConfigParameter<Integer> POD_SET_CONTROLLER_WORK_QUEUE_SIZE = new ConfigParameter<>("STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE", INTEGER, "1024", CONFIG_VALUES);
 
+    /**
+     * Number of worker threads reconciling the StrimziPodSets in parallel
+     */
+    public static final ConfigParameter<Integer> POD_SET_CONTROLLER_WORKERS = new ConfigParameter<>("STRIMZI_POD_SET_CONTROLLER_WORKERS", strictlyPositive(INTEGER), "4", CONFIG_VALUES);
 
     /**
      * The Pod name of the cluster operator, used to identify source of K8s events the operator creates
@@ -232,6 +238,47 @@ public class ClusterOperatorConfig {
      */
     public static final ConfigParameter<Boolean> LEADER_ELECTION_ENABLED = new ConfigParameter<>("STRIMZI_LEADER_ELECTION_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
 
+    /**
+     * The CertManager implementation used to issue the certificates
+     */
+    public static final ConfigParameter<CertManagerType> CERT_MANAGER_TYPE = new ConfigParameter<>("STRIMZI_CERT_MANAGER_TYPE", ConfigParameterParser.CERT_MANAGER_TYPE, "openssl", CONFIG_VALUES);
+
+    /**
+     * Enables the informer-backed read cache for the resources managed by the Cluster Operator
+     */
+    public static final ConfigParameter<Boolean> RESOURCE_CACHE_ENABLED = new ConfigParameter<>("STRIMZI_RESOURCE_CACHE_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+
+    /**
+     * Enables the informers for the custom resources operated by the Cluster Operator instead of the watches
+     */
+    public static final ConfigParameter<Boolean> CUSTOM_RESOURCE_INFORMERS_ENABLED = new ConfigParameter<>("STRIMZI_CUSTOM_RESOURCE_INFORMERS_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+
+    /**
+     * Maximal number of independent Kafka reconciliation steps executed concurrently. The steps run one after another
+     * by default.
+     */
+    public static final ConfigParameter<Integer> RECONCILIATION_STEPS_CONCURRENCY = new ConfigParameter<>("STRIMZI_RECONCILIATION_STEPS_CONCURRENCY", strictlyPositive(INTEGER), "1", CONFIG_VALUES);
+
+    /**
+     * Maximal number of connectors of a single Kafka Connect or MirrorMaker 2 cluster reconciled concurrently
+     */
+    public static final ConfigParameter<Integer> CONNECTOR_RECONCILIATION_CONCURRENCY = new ConfigParameter<>("STRIMZI_CONNECTOR_RECONCILIATION_CONCURRENCY", strictlyPositive(INTEGER), "10", CONFIG_VALUES);
+
+    /**
+     * Maximal number of connector reconciliations started per second for a single Kafka Connect or MirrorMaker 2 cluster
+     */
+    public static final ConfigParameter<Integer> CONNECTOR_RECONCILIATION_RATE = new ConfigParameter<>("STRIMZI_CONNECTOR_RECONCILIATION_RATE", strictlyPositive(INTEGER), "20", CONFIG_VALUES);
+
+    /**
+     * Enables caching of the Kafka cluster model between the reconciliations of the same Kafka cluster
+     */
+    public static final ConfigParameter<Boolean> KAFKA_MODEL_CACHE_ENABLED = new ConfigParameter<>("STRIMZI_KAFKA_MODEL_CACHE_ENABLED", BOOLEAN, "true", CONFIG_VALUES);
+
+    /**
+     * Verifies the cached Kafka cluster models against newly built models (for debugging only)
+     */
+    public static final ConfigParameter<Boolean> KAFKA_MODEL_CACHE_VERIFY = new ConfigParameter<>("STRIMZI_KAFKA_MODEL_CACHE_VERIFY", BOOLEAN, "false", CONFIG_VALUES);
+
     private static final ConfigParameter<String> POD_SECURITY_PROVIDER_BASELINE_SHORTCUT = new ConfigParameter<>("POD_SECURITY_PROVIDER_BASELINE_SHORTCUT", STRING, "baseline", CONFIG_VALUES);
 
     /**
@@ -573,6 +620,13 @@ public class ClusterOperatorConfig {
         return get(POD_SET_CONTROLLER_WORK_QUEUE_SIZE);
     }
 
+    /**
+     * @return Returns the number of worker threads of the StrimziPodSetController
+     */
+    public int getPodSetControllerWorkers() {
+        return get(POD_SET_CONTROLLER_WORKERS);
+    }
+
     /**
      * @return  The name of this operator
      */
@@ -587,6 +641,62 @@ public class ClusterOperatorConfig {
         return parsePodSecurityProviderClass(get(POD_SECURITY_PROVIDER_CLASS));
     }
 
+    /**
+     * @return  The type of the CertManager used to issue the certificates
+     */
+    public CertManagerType getCertManagerType() {
+        return get(CERT_MANAGER_TYPE);
+    }
+
+    /**
+     * @return  True if the informer-backed read cache should be used for the resources managed by the operator
+     */
+    public boolean isResourceCacheEnabled() {
+        return get(RESOURCE_CACHE_ENABLED);
+    }
+
+    /**
+     * @return  True if the custom resources should be informed on using informers instead of watches
+     */
+    public boolean isCustomResourceInformersEnabled() {
+        return get(CUSTOM_RESOURCE_INFORMERS_ENABLED);
+    }
+
+    /**
+     * @return  Maximal number of independent Kafka reconciliation steps executed concurrently
+     */
+    public int getReconciliationStepsConcurrency() {
+        return get(RECONCILIATION_STEPS_CONCURRENCY);
+    }
+
+    /**
+     * @return  Maximal number of connectors of a single Kafka Connect or MirrorMaker 2 cluster reconciled concurrently
+     */
+    public int getConnectorReconciliationConcurrency() {
+        return get(CONNECTOR_RECONCILIATION_CONCURRENCY);
+    }
+
+    /**
+     * @return  Maximal number of connector reconciliations started per second for a single Kafka Connect or MirrorMaker 2 cluster
+     */
+    public int getConnectorReconciliationRate() {
+        return get(CONNECTOR_RECONCILIATION_RATE);
+    }
+
+    /**
+     * @return  Indicates whether the Kafka cluster model is cached between the reconciliations
+     */
+    public boolean isKafkaModelCacheEnabled() {
+        return get(KAFKA_MODEL_CACHE_ENABLED);
+    }
+
+    /**
+     * @return  Indicates whether the cached Kafka cluster models are verified against newly built models
+     */
+    public boolean isKafkaModelCacheVerify() {
+        return get(KAFKA_MODEL_CACHE_VERIFY);
+    }
+
     /**
      * @return Returns the Leader Election Manager configuration
      */
@@ -617,8 +727,17 @@ public class ClusterOperatorConfig {
                 "\n\tdnsCacheTtlSec=" + getDnsCacheTtlSec() +
                 "\n\tpodSetReconciliationOnly=" + isPodSetReconciliationOnly() +
                 "\n\tpodSetControllerWorkQueueSize=" + getPodSetControllerWorkQueueSize() +
+                "\n\tpodSetControllerWorkers=" + getPodSetControllerWorkers() +
                 "\n\toperatorName='" + getOperatorName() + '\'' +
                 "\n\tpodSecurityProviderClass='" + getPodSecurityProviderClass() + '\'' +
+                "\n\tcertManagerType='" + getCertManagerType() + '\'' +
+                "\n\tresourceCacheEnabled=" + isResourceCacheEnabled() +
+                "\n\tcustomResourceInformersEnabled=" + isCustomResourceInformersEnabled() +
+                "\n\treconciliationStepsConcurrency=" + getReconciliationStepsConcurrency() +
+                "\n\tconnectorReconciliationConcurrency=" + getConnectorReconciliationConcurrency() +
+                "\n\tconnectorReconciliationRate=" + getConnectorReconciliationRate() +
+                "\n\tkafkaModelCacheEnabled=" + isKafkaModelCacheEnabled() +
+                "\n\tkafkaModelCacheVerify=" + isKafkaModelCacheVerify() +
                 "\n\tleaderElectionConfig='" + getLeaderElectionConfig() + '\'' +
                 "}";
     }
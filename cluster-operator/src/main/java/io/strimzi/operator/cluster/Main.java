@@ -7,7 +7,7 @@ package io.strimzi.operator.cluster;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
-import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.CertManager;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManager;
 import io.strimzi.operator.cluster.model.securityprofiles.PodSecurityProviderFactory;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
@@ -17,6 +17,7 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOp
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.cluster.operator.resource.kubernetes.ResourceCache;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.OperatorKubernetesClientBuilder;
@@ -49,6 +50,7 @@ public class Main {
 
     private static final int HEALTH_SERVER_PORT = 8080;
     private static final long SHUTDOWN_TIMEOUT = 10_000L;
+    private static final long RESOURCE_CACHE_RESYNC_PERIOD_MS = 5 * 60 * 1_000L;
 
     /**
      * The main method used to run the Cluster Operator
@@ -142,6 +144,13 @@ public class Main {
                 config.getOperatorName()
         );
 
+        // Closes the pooled Admin clients once all the verticles are undeployed
+        shutdownHook.register(resourceOperatorSupplier.adminClientProvider::close);
+
+        if (config.isResourceCacheEnabled()) {
+            startResourceCaches(resourceOperatorSupplier, metricsProvider, config, shutdownHook);
+        }
+
         // Initialize the PodSecurityProvider factory to provide the user configured provider
         PodSecurityProviderFactory.initialize(config.getPodSecurityProviderClass(), pfa);
 
@@ -153,7 +162,7 @@ public class Main {
         KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator = null;
 
         if (!config.isPodSetReconciliationOnly()) {
-            OpenSslCertManager certManager = new OpenSslCertManager();
+            CertManager certManager = config.getCertManagerType().create();
             PasswordGenerator passwordGenerator = new PasswordGenerator(12,
                     "abcdefghijklmnopqrstuvwxyz" +
                             "ABCDEFGHIJKLMNOPQRSTUVWXYZ",
@@ -167,6 +176,11 @@ public class Main {
             kafkaMirrorMakerAssemblyOperator = new KafkaMirrorMakerAssemblyOperator(vertx, pfa, certManager, passwordGenerator, resourceOperatorSupplier, config);
             kafkaBridgeAssemblyOperator = new KafkaBridgeAssemblyOperator(vertx, pfa, certManager, passwordGenerator, resourceOperatorSupplier, config);
             kafkaRebalanceAssemblyOperator = new KafkaRebalanceAssemblyOperator(vertx, resourceOperatorSupplier, config);
+
+            // Registered before the verticles, so they are stopped only after the verticles are undeployed
+            shutdownHook.register(kafkaConnectClusterOperations::stop);
+            shutdownHook.register(kafkaMirrorMaker2AssemblyOperator::stop);
+            shutdownHook.register(kafkaRebalanceAssemblyOperator::stop);
         }
 
         List<Future<String>> futures = new ArrayList<>(config.getNamespaces().size());
@@ -201,6 +215,31 @@ public class Main {
         return Future.join(futures);
     }
 
+    /**
+     * Enables and starts the informer-backed read caches for the resources which are reconciled by the Cluster Operator
+     * in every reconciliation.
+     *
+     * @param supplier          Resource operator supplier with the operators which should use the cache
+     * @param metricsProvider   Metrics provider instance
+     * @param config            Cluster Operator configuration
+     * @param shutdownHook      Shutdown hook to register the shutdown of the caches
+     */
+    private static void startResourceCaches(ResourceOperatorSupplier supplier, MetricsProvider metricsProvider, ClusterOperatorConfig config, ShutdownHook shutdownHook) {
+        List<ResourceCache<?>> caches = List.of(
+                supplier.serviceOperations.enableCache(config.getNamespaces(), metricsProvider, RESOURCE_CACHE_RESYNC_PERIOD_MS),
+                supplier.configMapOperations.enableCache(config.getNamespaces(), metricsProvider, RESOURCE_CACHE_RESYNC_PERIOD_MS),
+                supplier.secretOperations.enableCache(config.getNamespaces(), metricsProvider, RESOURCE_CACHE_RESYNC_PERIOD_MS),
+                supplier.pvcOperations.enableCache(config.getNamespaces(), metricsProvider, RESOURCE_CACHE_RESYNC_PERIOD_MS),
+                supplier.podDisruptionBudgetOperator.enableCache(config.getNamespaces(), metricsProvider, RESOURCE_CACHE_RESYNC_PERIOD_MS),
+                supplier.networkPolicyOperator.enableCache(config.getNamespaces(), metricsProvider, RESOURCE_CACHE_RESYNC_PERIOD_MS),
+                supplier.serviceAccountOperations.enableCache(config.getNamespaces(), metricsProvider, RESOURCE_CACHE_RESYNC_PERIOD_MS)
+        );
+
+        LOGGER.info("Starting the resource caches");
+        caches.forEach(ResourceCache::start);
+        shutdownHook.register(() -> caches.forEach(cache -> cache.stop(SHUTDOWN_TIMEOUT)));
+    }
+
     /**
      * Utility method which waits until this instance of the operator is elected as a leader:
      *   - When it is not a leader, it will just wait
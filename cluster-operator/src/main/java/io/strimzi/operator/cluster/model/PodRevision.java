@@ -4,7 +4,6 @@
  */
 package io.strimzi.operator.cluster.model;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.strimzi.api.kafka.model.podset.StrimziPodSet;
 import io.strimzi.operator.common.Annotations;
@@ -13,6 +12,13 @@ import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+
 /**
  * In the future, as we better utilize the StrimziPodSet possibilities and not just replace StatefulSets 1-to-1, the
  * revision might require more complicated setup. That is why this is using separate class, although it currently seems
@@ -24,10 +30,13 @@ public class PodRevision {
      */
     public static final String STRIMZI_REVISION_ANNOTATION = Labels.STRIMZI_DOMAIN + "revision";
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(PodRevision.class.getName());
+    private static final ThreadLocal<DigestWriter> DIGEST = ThreadLocal.withInitial(DigestWriter::new);
 
     /**
      * Generates the revision of the Pod. Currently, it just serializes the Pod using Jackson ObjectMapper and creates
-     * a SHA1 hashstub from it.
+     * a SHA1 hashstub from it. The serialized Pod is streamed straight into a per-thread digest without building the
+     * JSON String. The revision is the same as {@code Util.hashStub(PodSetUtils.podToString(pod))} so that the
+     * existing pods are not rolled because of a different revision.
      *
      * @param reconciliation    Reconciliation identifier (used for logging)
      * @param pod               Pod for which the revision should be calculated
@@ -35,9 +44,13 @@ public class PodRevision {
      * @return                  The revision string
      */
     public static String getRevision(Reconciliation reconciliation, Pod pod) {
+        DigestWriter digest = DIGEST.get();
+        digest.reset();
+
         try {
-            return Util.hashStub(PodSetUtils.podToString(pod));
-        } catch (JsonProcessingException e) {
+            PodSetUtils.writePod(pod, digest);
+            return digest.hashStub();
+        } catch (IOException e) {
             LOGGER.warnCr(reconciliation, "Failed to get pod revision", e);
             throw new RuntimeException("Failed to get pod revision", e);
         }
@@ -53,12 +66,11 @@ public class PodRevision {
      * @return                  True if the revision changed. False otherwise.
      */
     public static boolean hasChanged(Pod currentPod, StrimziPodSet desiredPodSet)   {
-        Pod desiredPod = desiredPodSet
+        Map<String, Object> desiredPod = desiredPodSet
                 .getSpec()
                 .getPods()
                 .stream()
-                .map(pod -> PodSetUtils.mapToPod(pod))
-                .filter(pod -> currentPod.getMetadata().getName().equals(pod.getMetadata().getName()))
+                .filter(pod -> currentPod.getMetadata().getName().equals(PodSetUtils.podName(pod)))
                 .findFirst()
                 .orElse(null);
 
@@ -79,9 +91,32 @@ public class PodRevision {
      * @return                  True if the revision changed. False otherwise.
      */
     public static boolean hasChanged(Pod currentPod, Pod desiredPod)   {
-        String currentRevision = getRevisionFromAnnotations(currentPod);
-        String desiredRevision = getRevisionFromAnnotations(desiredPod);
+        return hasChanged(getRevisionFromAnnotations(currentPod), getRevisionFromAnnotations(desiredPod));
+    }
+
+    /**
+     * Compares the current Pod with the desired Pod from a StrimziPodSet to decide if the desired pod changed and needs
+     * to be rolled. The revision is read directly from the Map representing the desired Pod without decoding the
+     * whole Pod.
+     *
+     * @param currentPod        Current pod
+     * @param desiredPod        Desired pod represented as a Map as stored in the StrimziPodSet
+     *
+     * @return                  True if the revision changed. False otherwise.
+     */
+    public static boolean hasChanged(Pod currentPod, Map<String, Object> desiredPod)   {
+        return hasChanged(getRevisionFromAnnotations(currentPod), PodSetUtils.podAnnotation(desiredPod, STRIMZI_REVISION_ANNOTATION));
+    }
 
+    /**
+     * Compares the current and desired revisions
+     *
+     * @param currentRevision   Current revision
+     * @param desiredRevision   Desired revision
+     *
+     * @return                  True if the revision changed. False otherwise.
+     */
+    private static boolean hasChanged(String currentRevision, String desiredRevision)   {
         if (currentRevision == null && desiredRevision == null) {
             // Both revisions are null => that is weird, but it means they had not changed
             return false;
@@ -104,4 +139,88 @@ public class PodRevision {
     private static String getRevisionFromAnnotations(Pod pod)  {
         return Annotations.stringAnnotation(pod, STRIMZI_REVISION_ANNOTATION, null);
     }
+
+    /**
+     * Writer which passes the serialized Pod into the SHA-1 digest. The JSON String used originally to calculate the
+     * revision was converted to US-ASCII bytes. So every non-ASCII character (including a surrogate pair) is passed to
+     * the digest as a single question mark to keep the revisions the same. The bytes are collected in a reused buffer
+     * to not update the digest for every character.
+     */
+    private static class DigestWriter extends Writer {
+        private final MessageDigest digest;
+        private final byte[] buffer = new byte[4096];
+        private int position = 0;
+        private boolean afterHighSurrogate = false;
+
+        DigestWriter() {
+            try {
+                // This is used to generate unique identifier which is not used for security => using SHA-1 is ok
+                this.digest = MessageDigest.getInstance("SHA-1");
+            } catch (NoSuchAlgorithmException e) {
+                throw new RuntimeException("Failed to get SHA-1 hash", e);
+            }
+        }
+
+        void reset() {
+            digest.reset();
+            position = 0;
+            afterHighSurrogate = false;
+        }
+
+        String hashStub() {
+            flush();
+            return HexFormat.of().formatHex(digest.digest(), 0, Util.HASH_STUB_LENGTH / 2);
+        }
+
+        private void writeChar(char c) {
+            if (c < 0x80) {
+                afterHighSurrogate = false;
+                add((byte) c);
+            } else if (afterHighSurrogate && Character.isLowSurrogate(c)) {
+                // The low surrogate of a pair was already passed as a question mark together with the high surrogate
+                afterHighSurrogate = false;
+            } else {
+                afterHighSurrogate = Character.isHighSurrogate(c);
+                add((byte) '?');
+            }
+        }
+
+        private void add(byte b) {
+            if (position == buffer.length) {
+                flush();
+            }
+
+            buffer[position++] = b;
+        }
+
+        @Override
+        public void write(int c) {
+            writeChar((char) c);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                writeChar(cbuf[i]);
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                writeChar(str.charAt(i));
+            }
+        }
+
+        @Override
+        public void flush() {
+            digest.update(buffer, 0, position);
+            position = 0;
+        }
+
+        @Override
+        public void close() {
+            // Nothing to close
+        }
+    }
 }
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.strimzi.api.kafka.model.podset.StrimziPodSet;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -45,6 +47,19 @@ public class PodSetUtils {
         return MAPPER.writeValueAsString(pod);
     }
 
+    /**
+     * Writes the Pod as JSON into a Writer. This produces the same characters as {@link #podToString(Pod)}, but without
+     * building the String.
+     *
+     * @param pod       Pod which should be written
+     * @param writer    Writer where the Pod should be written
+     *
+     * @throws IOException  Throws IOException when writing the Pod fails
+     */
+    public static void writePod(Pod pod, Writer writer) throws IOException {
+        MAPPER.writeValue(writer, pod);
+    }
+
     /**
      * Converts List of Pods to List of Maps which can be used in StrimziPodSets
      *
@@ -67,6 +82,40 @@ public class PodSetUtils {
         return MAPPER.convertValue(map, Pod.class);
     }
 
+    /**
+     * Gets the name of the Pod represented as Map in a StrimziPodSet without decoding the whole Pod
+     *
+     * @param map   Pod represented as Map
+     *
+     * @return      Name of the Pod or null if it is not set
+     */
+    public static String podName(Map<String, Object> map) {
+        return metadata(map).get("name") instanceof String name ? name : null;
+    }
+
+    /**
+     * Gets an annotation of the Pod represented as Map in a StrimziPodSet without decoding the whole Pod
+     *
+     * @param map           Pod represented as Map
+     * @param annotation    Name of the annotation
+     *
+     * @return      Value of the annotation or null if it is not set
+     */
+    public static String podAnnotation(Map<String, Object> map, String annotation) {
+        return metadata(map).get("annotations") instanceof Map<?, ?> annotations && annotations.get(annotation) instanceof String value ? value : null;
+    }
+
+    /**
+     * Gets the metadata of the Pod represented as Map
+     *
+     * @param map   Pod represented as Map
+     *
+     * @return      Map with the Pod metadata or empty Map if the metadata are not set
+     */
+    private static Map<?, ?> metadata(Map<String, Object> map) {
+        return map.get("metadata") instanceof Map<?, ?> metadata ? metadata : Map.of();
+    }
+
     /**
      * Converts a PdoSet to a List of Pods. This is useful when extracting information from the Pods in a PodSet
      *
@@ -92,7 +141,13 @@ public class PodSetUtils {
      * @return  List of pod names
      */
     public static List<String> podNames(StrimziPodSet podSet)   {
-        return podSetToPods(podSet).stream().map(pod -> pod.getMetadata().getName()).toList();
+        if (podSet != null
+                && podSet.getSpec() != null
+                && podSet.getSpec().getPods() != null)   {
+            return podSet.getSpec().getPods().stream().map(PodSetUtils::podName).toList();
+        } else {
+            return List.of();
+        }
     }
 
     /**
@@ -12,6 +12,7 @@ import io.fabric8.kubernetes.api.model.networking.v1.NetworkPolicy;
 import io.fabric8.kubernetes.api.model.rbac.ClusterRoleBinding;
 import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.micrometer.core.instrument.Tags;
 import io.strimzi.api.kafka.model.common.Condition;
 import io.strimzi.api.kafka.model.common.ConnectorState;
 import io.strimzi.api.kafka.model.connect.AbstractKafkaConnectSpec;
@@ -32,6 +33,7 @@ import io.strimzi.operator.cluster.model.PodSetUtils;
 import io.strimzi.operator.cluster.model.RestartReason;
 import io.strimzi.operator.cluster.model.RestartReasons;
 import io.strimzi.operator.cluster.model.SharedEnvironmentProvider;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.ClusterRoleBindingOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.ConfigMapOperator;
@@ -46,6 +48,7 @@ import io.strimzi.operator.cluster.operator.resource.kubernetes.ServiceOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.StrimziPodSetOperator;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.model.Labels;
@@ -64,6 +67,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -109,6 +113,10 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     protected final KafkaVersion.Lookup versions;
     protected final SharedEnvironmentProvider sharedEnvironmentProvider;
     protected final int port;
+    private final int connectorReconciliationConcurrency;
+    private final int connectorReconciliationRate;
+    private final MetricsProvider metricsProvider;
+    private final Map<String, ConnectorReconciliationScheduler> connectorSchedulers = new ConcurrentHashMap<>();
 
     /**
      * Constructor
@@ -151,6 +159,106 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         this.sharedEnvironmentProvider = supplier.sharedEnvironmentProvider;
         this.port = port;
         this.continueOnManualRUFailure = config.featureGates().continueOnManualRUFailureEnabled();
+        this.connectorReconciliationConcurrency = config.getConnectorReconciliationConcurrency();
+        this.connectorReconciliationRate = config.getConnectorReconciliationRate();
+        this.metricsProvider = supplier.metricsProvider;
+    }
+
+    /**
+     * Creates the provider of the Kafka Connect REST API client. The provider always returns the same client instance,
+     * so that all reconciliations share the same pool of kept-alive HTTP connections to the Connect clusters.
+     *
+     * @param vertx             Vert.x instance
+     * @param metricsProvider   Metrics provider used for the HTTP client pool metrics
+     * @param kind              Kind of the operator. It is used as the name of the HTTP client pool.
+     *
+     * @return  Provider of the Kafka Connect REST API client
+     */
+    protected static Function<Vertx, KafkaConnectApi> pooledConnectClientProvider(Vertx vertx, MetricsProvider metricsProvider, String kind) {
+        return new PooledConnectClientProvider(vertx, new HttpClientPool(vertx, kind, metricsProvider));
+    }
+
+    /**
+     * Stops the operator. It closes the pooled HTTP clients used to connect to the Kafka Connect REST API. This should
+     * be called only after all reconciliations are stopped.
+     */
+    public void stop() {
+        if (connectClientProvider instanceof PooledConnectClientProvider pooledProvider) {
+            pooledProvider.close();
+        }
+    }
+
+    /**
+     * Returns the scheduler for the connector reconciliations of the Connect cluster. The scheduler is shared by all
+     * reconciliations of the same Connect cluster, so that the limits apply to the cluster as a whole. Its metrics are
+     * tagged with the Connect cluster.
+     *
+     * @param namespace     Namespace of the Connect cluster
+     * @param name          Name of the Connect cluster
+     * @param host          The REST API host of the Connect cluster
+     *
+     * @return  The connector reconciliation scheduler
+     */
+    protected ConnectorReconciliationScheduler connectorScheduler(String namespace, String name, String host) {
+        return connectorSchedulers.computeIfAbsent(host, h -> new ConnectorReconciliationScheduler(vertx, connectorReconciliationConcurrency,
+                connectorReconciliationRate, metricsProvider, Tags.of("kind", kind(), "namespace", namespace, "resource-name", name)));
+    }
+
+    /**
+     * Removes the scheduler for the connector reconciliations of a deleted Connect cluster
+     *
+     * @param host  The REST API host of the Connect cluster
+     */
+    protected void removeConnectorScheduler(String host) {
+        ConnectorReconciliationScheduler scheduler = connectorSchedulers.remove(host);
+
+        if (scheduler != null) {
+            scheduler.removeMetrics();
+        }
+    }
+
+    /**
+     * Decides on the priority of the connector reconciliation based on the connector snapshot. Connectors which have
+     * to be created or reconfigured have the highest priority. Connectors which need to be restarted, paused, resumed
+     * or stopped follow. Connectors which only have their status refreshed have the lowest priority.
+     *
+     * @param reconciliation    The reconciliation
+     * @param connectorName     The connector name
+     * @param connectorSpec     The desired connector spec
+     * @param resource          The resource that defines the connector
+     * @param snapshots         The snapshot of all connectors or null when it is not available
+     *
+     * @return  Priority of the connector reconciliation
+     */
+    @SuppressWarnings({ "rawtypes" })
+    protected ConnectorReconciliationScheduler.Priority connectorReconciliationPriority(Reconciliation reconciliation, String connectorName, KafkaConnectorSpec connectorSpec,
+                                                                                        CustomResource resource, Map<String, KafkaConnectApi.ConnectorSnapshot> snapshots) {
+        KafkaConnectApi.ConnectorSnapshot snapshot = snapshots != null ? snapshots.get(connectorName) : null;
+
+        if (snapshot == null || connectorSpec == null) {
+            return ConnectorReconciliationScheduler.Priority.SPEC_CHANGE;
+        }
+
+        KafkaConnectorConfiguration desiredConfig = new KafkaConnectorConfiguration(reconciliation, connectorSpec.getConfig().entrySet());
+        if (needsReconfiguring(reconciliation, connectorName, connectorSpec, desiredConfig.asOrderedProperties().asMap(), snapshot.config())) {
+            return ConnectorReconciliationScheduler.Priority.SPEC_CHANGE;
+        }
+
+        Map<String, Object> status = snapshot.status() != null ? snapshot.status() : emptyMap();
+        boolean autoRestart = false;
+        if (connectorSpec.getAutoRestart() != null && connectorSpec.getAutoRestart().isEnabled()) {
+            JsonObject statusJson = new JsonObject(status);
+            autoRestart = connectorHasFailed(statusJson) || !failedTaskIds(statusJson).isEmpty();
+        }
+
+        if (autoRestart
+                || needsStateUpdate(status, connectorSpec)
+                || hasRestartAnnotation(resource, connectorName)
+                || getRestartTaskAnnotationTaskID(resource, connectorName) >= 0) {
+            return ConnectorReconciliationScheduler.Priority.RESTART;
+        } else {
+            return ConnectorReconciliationScheduler.Priority.STATUS_REFRESH;
+        }
     }
 
     @Override
@@ -285,42 +393,124 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     @SuppressWarnings({ "rawtypes" })
     protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                                                                 String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource) {
+        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource, null);
+    }
+
+    /**
+     * Same as {@link #maybeCreateOrUpdateConnector(Reconciliation, String, KafkaConnectApi, String, KafkaConnectorSpec, CustomResource)},
+     * but the current config and status of the connector are taken from the snapshot of all connectors instead of
+     * getting them from the REST API. The REST API is called only when the connector needs to be created, updated,
+     * paused, resumed, stopped or restarted.
+     *
+     * @param reconciliation The reconciliation.
+     * @param host The REST API host.
+     * @param apiClient The client instance.
+     * @param connectorName The connector name.
+     * @param connectorSpec The desired connector spec.
+     * @param resource The resource that defines the connector.
+     * @param snapshots The snapshot of all connectors from {@link KafkaConnectApi#listWithStatusAndInfo(Reconciliation, String, int)}
+     *                  or null to get the current config and status of the connector from the REST API.
+     * @return A Future whose result, when successfully completed, is a ConnectorStatusAndConditions object containing the map of the current connector state plus any conditions that have arisen.
+     */
+    @SuppressWarnings({ "rawtypes" })
+    protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                                String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource,
+                                                                                Map<String, KafkaConnectApi.ConnectorSnapshot> snapshots) {
         KafkaConnectorConfiguration desiredConfig = new KafkaConnectorConfiguration(reconciliation, connectorSpec.getConfig().entrySet());
 
+        if (snapshots != null) {
+            KafkaConnectApi.ConnectorSnapshot snapshot = snapshots.get(connectorName);
+
+            if (snapshot == null) {
+                LOGGER.debugCr(reconciliation, "Connector {} does not exist", connectorName);
+                return createConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig, resource);
+            } else if (needsReconfiguring(reconciliation, connectorName, connectorSpec, desiredConfig.asOrderedProperties().asMap(), snapshot.config())) {
+                LOGGER.debugCr(reconciliation, "Connector {} exists but does not have desired config, {}!={}", connectorName, desiredConfig.asOrderedProperties().asMap(), snapshot.config());
+                return updateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig);
+            } else {
+                LOGGER.debugCr(reconciliation, "Connector {} exists and has desired config, {}=={}", connectorName, desiredConfig.asOrderedProperties().asMap(), snapshot.config());
+                return reconcileExistingConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource, snapshot.status(), true);
+            }
+        }
+
         return apiClient.getConnectorConfig(reconciliation, new BackOff(200L, 2, 6), host, port, connectorName).compose(
             currentConfig -> {
                 if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, desiredConfig.asOrderedProperties().asMap(), currentConfig)) {
                     LOGGER.debugCr(reconciliation, "Connector {} exists and has desired config, {}=={}", connectorName, desiredConfig.asOrderedProperties().asMap(), currentConfig);
                     return apiClient.status(reconciliation, host, port, connectorName)
-                        .compose(status -> updateState(reconciliation, host, apiClient, connectorName, connectorSpec, status, new ArrayList<>()))
-                        .compose(conditions -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, conditions))
-                        .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
-                        .compose(conditions ->
-                            apiClient.statusWithBackOff(reconciliation, new BackOff(200L, 2, 10), host, port, connectorName)
-                                .compose(createConnectorStatusAndConditions(conditions)))
-                        .compose(status -> autoRestartFailedConnectorAndTasks(reconciliation, host, apiClient, connectorName, connectorSpec, status, resource))
-                        .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+                        .compose(status -> reconcileExistingConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource, status, false));
                 } else {
                     LOGGER.debugCr(reconciliation, "Connector {} exists but does not have desired config, {}!={}", connectorName, desiredConfig.asOrderedProperties().asMap(), currentConfig);
-                    return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
-                        .compose(createConnectorStatusAndConditions())
-                        .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+                    return updateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig);
                 }
             },
             error -> {
                 if (error instanceof ConnectRestException
                         && ((ConnectRestException) error).getStatusCode() == 404) {
                     LOGGER.debugCr(reconciliation, "Connector {} does not exist", connectorName);
-                    return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
-                        .compose(createConnectorStatusAndConditions())
-                        .compose(status -> autoRestartFailedConnectorAndTasks(reconciliation, host, apiClient, connectorName, connectorSpec, status, resource))
-                        .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+                    return createConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig, resource);
                 } else {
                     return Future.failedFuture(error);
                 }
             });
     }
 
+    /**
+     * Reconciles a connector which exists and has the desired configuration: updates its state, handles the restart
+     * annotations and the auto-restarts.
+     *
+     * @param reconciliation    The reconciliation
+     * @param host              The REST API host
+     * @param apiClient         The client instance
+     * @param connectorName     The connector name
+     * @param connectorSpec     The desired connector spec
+     * @param resource          The resource that defines the connector
+     * @param status            The current status of the connector
+     * @param fromSnapshot      Indicates whether the status comes from the connector snapshot. When it does and the
+     *                          connector does not need to change its state or be restarted, the status is used as the
+     *                          new status without getting it again from the REST API.
+     *
+     * @return  Future with connector status and conditions
+     */
+    @SuppressWarnings({ "rawtypes" })
+    private Future<ConnectorStatusAndConditions> reconcileExistingConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName,
+                                                                            KafkaConnectorSpec connectorSpec, CustomResource resource, Map<String, Object> status, boolean fromSnapshot) {
+        boolean unchanged = fromSnapshot
+                && !needsStateUpdate(status, connectorSpec)
+                && !hasRestartAnnotation(resource, connectorName)
+                && getRestartTaskAnnotationTaskID(resource, connectorName) < 0;
+
+        return updateState(reconciliation, host, apiClient, connectorName, connectorSpec, status, new ArrayList<>())
+            .compose(conditions -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, conditions))
+            .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
+            .compose(conditions -> {
+                if (unchanged) {
+                    return createConnectorStatusAndConditions(conditions).apply(status);
+                } else {
+                    return apiClient.statusWithBackOff(reconciliation, new BackOff(200L, 2, 10), host, port, connectorName)
+                            .compose(createConnectorStatusAndConditions(conditions));
+                }
+            })
+            .compose(connectorStatus -> autoRestartFailedConnectorAndTasks(reconciliation, host, apiClient, connectorName, connectorSpec, connectorStatus, resource))
+            .compose(connectorStatus -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, connectorStatus));
+    }
+
+    @SuppressWarnings({ "rawtypes" })
+    private Future<ConnectorStatusAndConditions> createConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName,
+                                                                 KafkaConnectorSpec connectorSpec, KafkaConnectorConfiguration desiredConfig, CustomResource resource) {
+        return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
+            .compose(createConnectorStatusAndConditions())
+            .compose(status -> autoRestartFailedConnectorAndTasks(reconciliation, host, apiClient, connectorName, connectorSpec, status, resource))
+            .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+    }
+
+    private Future<ConnectorStatusAndConditions> updateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName,
+                                                                 KafkaConnectorSpec connectorSpec, KafkaConnectorConfiguration desiredConfig) {
+        return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
+            .compose(createConnectorStatusAndConditions())
+            .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+    }
+
     private boolean needsReconfiguring(Reconciliation reconciliation, String connectorName,
                                        KafkaConnectorSpec connectorSpec,
                                        Map<String, String> desiredConfig,
@@ -359,8 +549,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             ConnectorState desiredState = connectorSpec.getState();
             @SuppressWarnings("deprecation")
             Boolean shouldPause = connectorSpec.getPause();
-            ConnectorState targetState = desiredState != null ? desiredState :
-                    Boolean.TRUE.equals(shouldPause) ? ConnectorState.PAUSED : ConnectorState.RUNNING;
+            ConnectorState targetState = targetState(connectorSpec);
             if (desiredState != null && shouldPause != null) {
                 String message = "Both pause and state are set. Since pause is deprecated, state takes precedence " +
                         "so the connector will be " + targetState.toValue();
@@ -407,6 +596,38 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         }
     }
 
+    /**
+     * @param connectorSpec     Spec of the connector
+     *
+     * @return  The state the connector should be in. The state field takes precedence over the deprecated pause field.
+     */
+    private static ConnectorState targetState(KafkaConnectorSpec connectorSpec) {
+        ConnectorState desiredState = connectorSpec.getState();
+        @SuppressWarnings("deprecation")
+        Boolean shouldPause = connectorSpec.getPause();
+
+        return desiredState != null ? desiredState :
+                Boolean.TRUE.equals(shouldPause) ? ConnectorState.PAUSED : ConnectorState.RUNNING;
+    }
+
+    /**
+     * Checks whether the connector has to be paused, resumed or stopped. This has to match the transitions done in
+     * {@link #updateState(Reconciliation, String, KafkaConnectApi, String, KafkaConnectorSpec, Map, List)}.
+     *
+     * @param status            The current status of the connector
+     * @param connectorSpec     Spec of the connector
+     *
+     * @return  True if the state of the connector has to be updated. False otherwise.
+     */
+    @SuppressWarnings({ "rawtypes" })
+    /* test */ static boolean needsStateUpdate(Map<String, Object> status, KafkaConnectorSpec connectorSpec) {
+        Object state = ((Map) status.getOrDefault("connector", emptyMap())).get("state");
+
+        // Connectors in the transient UNASSIGNED or RESTARTING state or with an unknown state are not updated
+        return ("RUNNING".equals(state) || "PAUSED".equals(state) || "STOPPED".equals(state))
+                && !targetState(connectorSpec).name().equals(state);
+    }
+
     /**
      * Handles auto-restarting of the connectors and managing the auto-restart status. It checks that current state of
      * the connector and its tasks. If it is failing, it will restart them in periodic intervals with backoff. If the connector is stable after the restart, it resets that auto-restart status.
@@ -803,4 +1024,27 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             this.autoRestart = autoRestart;
         }
     }
+
+    /**
+     * Provider of the Kafka Connect REST API client which always returns the same client backed by a pool of HTTP
+     * clients. The pool is closed when the operator is stopped.
+     */
+    private static class PooledConnectClientProvider implements Function<Vertx, KafkaConnectApi> {
+        private final HttpClientPool clientPool;
+        private final KafkaConnectApi apiClient;
+
+        PooledConnectClientProvider(Vertx vertx, HttpClientPool clientPool) {
+            this.clientPool = clientPool;
+            this.apiClient = new KafkaConnectApiImpl(vertx, clientPool);
+        }
+
+        @Override
+        public KafkaConnectApi apply(Vertx vertx) {
+            return apiClient;
+        }
+
+        void close() {
+            clientPool.close();
+        }
+    }
 }
@@ -85,6 +85,7 @@ public abstract class AbstractOperator<
     protected final OperatorMetricsHolder metrics;
 
     private final Map<String, AtomicInteger> resourcesStateCounter = new ConcurrentHashMap<>(1);
+    private final Map<String, CustomResourceInformer<T>> informers = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the AbstractOperator. This constructor is used to construct the AbstractOperator using the
@@ -477,6 +478,13 @@ public abstract class AbstractOperator<
      */
     @Override
     public Future<Set<NamespaceAndName>> allResourceNames(String namespace) {
+        CustomResourceInformer<T> informer = informers.get(namespace);
+
+        if (informer != null && informer.hasSynced()) {
+            // The informer cache is used instead of listing the resources from the Kubernetes API server
+            return Future.succeededFuture(informer.resourceNames());
+        }
+
         return resourceOperator.listAsync(namespace, selector())
                 .map(resourceList ->
                         resourceList.stream()
@@ -504,6 +512,37 @@ public abstract class AbstractOperator<
         return VertxUtil.async(vertx, () -> new ReconnectingWatcher<>(resourceOperator, kind(), namespace, selector(), this::eventHandler));
     }
 
+    /**
+     * Create and start the informer for the custom resources. The informer is used instead of the watch created by
+     * {@link #createWatch(String)}: it triggers the reconciliations of the changed resources and its cache is used to
+     * find the resources for the periodic reconciliation.
+     *
+     * @param namespace     Namespace where to inform on the resources
+     *
+     * @return  A future which completes when the informer has been started
+     */
+    public Future<CustomResourceInformer<T>> createInformer(String namespace) {
+        return VertxUtil.async(vertx, () -> {
+            CustomResourceInformer<T> informer = new CustomResourceInformer<>(resourceOperator, kind(), namespace, selector(), this::reconcile);
+            informer.start();
+            informers.put(namespace, informer);
+            return informer;
+        });
+    }
+
+    /**
+     * Stops the informer created by {@link #createInformer(String)}
+     *
+     * @param namespace     Namespace of the informer
+     */
+    public void stopInformer(String namespace) {
+        CustomResourceInformer<T> informer = informers.remove(namespace);
+
+        if (informer != null) {
+            informer.stop();
+        }
+    }
+
     /**
      * Event handler called when the watch receives an event.
      *
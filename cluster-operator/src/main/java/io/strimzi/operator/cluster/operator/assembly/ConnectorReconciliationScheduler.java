@@ -0,0 +1,239 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Schedules the connector reconciliations of a single Kafka Connect or MirrorMaker 2 cluster. Kafka Connect handles
+ * the connector operations one after another, so starting the reconciliations of all connectors at once only makes the
+ * REST API requests time out. The scheduler limits the number of connector reconciliations running at the same time
+ * and the rate at which they are started (using a token bucket which allows bursts of up to one second worth of
+ * reconciliations).
+ *
+ * The queued reconciliations are started in the order of their priority: connectors with spec changes first,
+ * restarts second and status refreshes last. Reconciliations with the same priority are started in the order in which
+ * they were scheduled.
+ */
+public class ConnectorReconciliationScheduler {
+    /**
+     * Metric name for the time the connector reconciliations wait in the queue
+     */
+    public static final String METRICS_QUEUE_WAIT = MetricsHolder.METRICS_PREFIX + "connector.reconciliation.queue.wait";
+    /**
+     * Metric name for the number of connector reconciliations waiting in the queue
+     */
+    public static final String METRICS_QUEUE_SIZE = MetricsHolder.METRICS_PREFIX + "connector.reconciliation.queue.size";
+
+    /**
+     * Priority of the connector reconciliation
+     */
+    public enum Priority {
+        /**
+         * The connector has to be created, updated or deleted
+         */
+        SPEC_CHANGE,
+
+        /**
+         * The connector has to be restarted, paused, resumed or stopped
+         */
+        RESTART,
+
+        /**
+         * Only the status of the connector is refreshed
+         */
+        STATUS_REFRESH
+    }
+
+    private final Vertx vertx;
+    private final MetricsProvider metricsProvider;
+    private final Tags tags;
+    private final int maxInFlight;
+    private final int ratePerSecond;
+    private final PriorityQueue<Task<?>> queue = new PriorityQueue<>(Comparator.<Task<?>, Priority>comparing(Task::priority).thenComparingLong(Task::sequence)); // Guarded by this
+
+    private final Timer queueWaitTimer;
+    private final AtomicInteger queueSizeGauge;
+
+    private int inFlight = 0; // Guarded by this
+    private long sequence = 0; // Guarded by this
+    private double tokens; // Guarded by this
+    private long lastRefillNs; // Guarded by this
+    private boolean refillTimerSet = false; // Guarded by this
+
+    /**
+     * Creates the scheduler
+     *
+     * @param vertx             Vert.x instance
+     * @param maxInFlight       Maximal number of connector reconciliations running at the same time
+     * @param ratePerSecond     Maximal number of connector reconciliations started per second
+     * @param metricsProvider   Metrics provider
+     * @param tags              Tags identifying the Connect cluster in the metrics
+     */
+    public ConnectorReconciliationScheduler(Vertx vertx, int maxInFlight, int ratePerSecond, MetricsProvider metricsProvider, Tags tags) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("The connector reconciliation concurrency has to be at least 1");
+        } else if (ratePerSecond < 1) {
+            throw new IllegalArgumentException("The connector reconciliation rate has to be at least 1");
+        }
+
+        this.vertx = vertx;
+        this.metricsProvider = metricsProvider;
+        this.tags = tags;
+        this.maxInFlight = maxInFlight;
+        this.ratePerSecond = ratePerSecond;
+        this.tokens = ratePerSecond;
+        this.lastRefillNs = System.nanoTime();
+
+        this.queueWaitTimer = metricsProvider.timer(METRICS_QUEUE_WAIT, "Time the connector reconciliations wait before they are started", tags);
+        this.queueSizeGauge = metricsProvider.gauge(METRICS_QUEUE_SIZE, "Number of connector reconciliations waiting to be started", tags);
+    }
+
+    /**
+     * Schedules the connector reconciliation
+     *
+     * @param priority      Priority of the reconciliation
+     * @param operation     Supplier which starts the reconciliation and returns a Future which completes when it is done
+     *
+     * @return  Future which completes with the result of the reconciliation
+     *
+     * @param <T>   Type of the reconciliation result
+     */
+    public <T> Future<T> schedule(Priority priority, Supplier<Future<T>> operation) {
+        Promise<T> promise = Promise.promise();
+
+        synchronized (this) {
+            queue.add(new Task<>(priority, sequence++, System.nanoTime(), operation, promise));
+            queueSizeGauge.set(queue.size());
+        }
+
+        dispatch();
+        return promise.future();
+    }
+
+    /**
+     * Removes the metrics of this scheduler. This is used when the Connect cluster is deleted, so that the metrics of
+     * deleted clusters do not pile up.
+     */
+    public void removeMetrics() {
+        if (metricsProvider.meterRegistry() != null) {
+            metricsProvider.meterRegistry().remove(queueWaitTimer);
+
+            Gauge queueSize = metricsProvider.meterRegistry().find(METRICS_QUEUE_SIZE).tags(tags).gauge();
+            if (queueSize != null) {
+                metricsProvider.meterRegistry().remove(queueSize);
+            }
+        }
+    }
+
+    /**
+     * @return  The number of reconciliations waiting in the queue
+     */
+    /* test */ synchronized int queueSize() {
+        return queue.size();
+    }
+
+    /**
+     * @return  The number of running reconciliations
+     */
+    /* test */ synchronized int inFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Starts the queued reconciliations while there is free capacity and there are tokens in the bucket. When the
+     * bucket is empty, a timer is set to continue once the next token is available.
+     */
+    private void dispatch() {
+        List<Task<?>> toStart = new ArrayList<>();
+
+        synchronized (this) {
+            refill(System.nanoTime());
+
+            while (inFlight < maxInFlight && !queue.isEmpty()) {
+                if (tokens < 1) {
+                    if (!refillTimerSet) {
+                        refillTimerSet = true;
+                        long delayMs = Math.max(1, (long) Math.ceil((1 - tokens) * 1_000 / ratePerSecond));
+                        vertx.setTimer(delayMs, id -> {
+                            synchronized (this) {
+                                refillTimerSet = false;
+                            }
+
+                            dispatch();
+                        });
+                    }
+
+                    break;
+                }
+
+                tokens -= 1;
+                inFlight++;
+                toStart.add(queue.poll());
+            }
+
+            queueSizeGauge.set(queue.size());
+        }
+
+        for (Task<?> task : toStart) {
+            start(task);
+        }
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(ratePerSecond, tokens + (now - lastRefillNs) * ratePerSecond / 1_000_000_000.0);
+        lastRefillNs = now;
+    }
+
+    private <T> void start(Task<T> task) {
+        queueWaitTimer.record(System.nanoTime() - task.enqueuedAt(), TimeUnit.NANOSECONDS);
+
+        Future<T> result;
+        try {
+            result = task.operation().get();
+        } catch (RuntimeException e) {
+            result = Future.failedFuture(e);
+        }
+
+        result.onComplete(r -> {
+            synchronized (this) {
+                inFlight--;
+            }
+
+            task.promise().handle(r);
+            // The next reconciliations are started asynchronously to not build a deep stack when the reconciliations
+            // complete right away
+            vertx.runOnContext(v -> dispatch());
+        });
+    }
+
+    /**
+     * Queued connector reconciliation
+     *
+     * @param priority      Priority of the reconciliation
+     * @param sequence      Sequence number used to keep the order of the reconciliations with the same priority
+     * @param enqueuedAt    Time in nanoseconds when the reconciliation was scheduled
+     * @param operation     Supplier which starts the reconciliation
+     * @param promise       Promise completed with the result of the reconciliation
+     *
+     * @param <T>   Type of the reconciliation result
+     */
+    private record Task<T>(Priority priority, long sequence, long enqueuedAt, Supplier<Future<T>> operation, Promise<T> promise) { }
+}
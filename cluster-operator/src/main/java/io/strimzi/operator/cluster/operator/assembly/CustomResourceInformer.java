@@ -0,0 +1,179 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.strimzi.operator.cluster.operator.resource.kubernetes.AbstractWatchableNamespacedResourceOperator;
+import io.strimzi.operator.common.InformerUtils;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.controller.KeyedWorkQueue;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.vertx.core.Future;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Informer for the custom resources operated by one of the assembly operators. It is used instead of the
+ * {@link ReconnectingWatcher} when the custom resource informers are enabled:
+ *     - The informer keeps a local cache of the custom resources. The periodic reconciliation uses the cache to find
+ *       the resources to reconcile instead of listing them from the Kubernetes API server.
+ *     - The events are de-duplicated by the namespace and name of the resource in a {@link KeyedWorkQueue} before
+ *       they trigger the reconciliation. A burst of events for the same resource results in a single reconciliation.
+ *     - When the connection to the Kubernetes API server is lost, the informer reconnects and resumes from the last
+ *       known resource version without triggering the reconciliation of all resources.
+ *
+ * @param <T>   The custom resource type
+ */
+public class CustomResourceInformer<T extends HasMetadata> {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(CustomResourceInformer.class);
+
+    // The queue is de-duplicated by resource, so its size is limited by the number of the resources
+    private static final int QUEUE_CAPACITY = Integer.MAX_VALUE;
+
+    private final String kind;
+    private final String namespace;
+    private final SharedIndexInformer<T> informer;
+    private final KeyedWorkQueue<NamespaceAndName> queue = new KeyedWorkQueue<>(QUEUE_CAPACITY);
+    private final Function<Reconciliation, Future<Void>> reconciler;
+    private final Thread dispatcherThread;
+
+    private volatile boolean stop = false;
+
+    /**
+     * Creates the custom resource informer. The informer is not running until it is started.
+     *
+     * @param resourceOperator  Operator for managing the resource which should be informed on
+     * @param kind              Kind of the resource
+     * @param namespace         Namespace which should be watched (or * for all namespaces)
+     * @param selector          Custom resource selector or null to select all resources
+     * @param reconciler        Function which triggers the reconciliation of a resource
+     */
+    public CustomResourceInformer(AbstractWatchableNamespacedResourceOperator<?, T, ?, ?> resourceOperator, String kind, String namespace,
+                                  LabelSelector selector, Function<Reconciliation, Future<Void>> reconciler) {
+        this.kind = kind;
+        this.namespace = namespace;
+        this.reconciler = reconciler;
+
+        // No resync => the periodic reconciliation is triggered by the periodic timer of the ClusterOperator
+        this.informer = selector == null ? resourceOperator.informer(namespace, 0L) : resourceOperator.informer(namespace, selector, 0L);
+        this.dispatcherThread = new Thread(this::dispatch, kind + "-informer-" + ("*".equals(namespace) ? "all-namespaces" : namespace));
+    }
+
+    /**
+     * Starts the informer and the thread dispatching the reconciliations
+     */
+    public void start() {
+        informer.addEventHandler(new EventHandler());
+        informer.exceptionHandler((isStarted, throwable) -> InformerUtils.loggingExceptionHandler(kind, isStarted, throwable));
+        informer.start();
+        informer.stopped().whenComplete((v, t) -> InformerUtils.stoppedInformerHandler(kind, t, stop));
+
+        dispatcherThread.start();
+    }
+
+    /**
+     * Stops the informer and the thread dispatching the reconciliations
+     */
+    public void stop() {
+        stop = true;
+        InformerUtils.stopAll(5_000L, informer);
+        dispatcherThread.interrupt();
+    }
+
+    /**
+     * @return  True when the informer cache is synchronized with the Kubernetes API server. False otherwise.
+     */
+    public boolean hasSynced() {
+        return informer.hasSynced();
+    }
+
+    /**
+     * @return  The names of the resources in the informer cache
+     */
+    public Set<NamespaceAndName> resourceNames() {
+        return informer.getStore().list().stream()
+                .map(resource -> new NamespaceAndName(resource.getMetadata().getNamespace(), resource.getMetadata().getName()))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Enqueues the resource for reconciliation
+     *
+     * @param resource  The resource which changed
+     * @param action    Description of the change used for logging
+     */
+    /* test */ void enqueue(T resource, String action) {
+        NamespaceAndName key = new NamespaceAndName(resource.getMetadata().getNamespace(), resource.getMetadata().getName());
+
+        if (queue.offer(key) == KeyedWorkQueue.OfferResult.ENQUEUED) {
+            LOGGER.infoCr(new Reconciliation("watch", kind, key.getNamespace(), key.getName()), "{} {} in namespace {} was {}", kind, key.getName(), key.getNamespace(), action);
+        } else {
+            LOGGER.debugCr(new Reconciliation("watch", kind, key.getNamespace(), key.getName()), "{} {} in namespace {} was {}, but its reconciliation is already enqueued", kind, key.getName(), key.getNamespace(), action);
+        }
+    }
+
+    /**
+     * @return  The queue with the resources waiting for the reconciliation
+     */
+    /* test */ KeyedWorkQueue<NamespaceAndName> queue() {
+        return queue;
+    }
+
+    /**
+     * Takes the resources from the queue and triggers their reconciliation. The reconciliation is asynchronous, so the
+     * dispatcher does not wait for it to complete. The resource is marked as done in the queue only once the
+     * reconciliation completes, so that the same resource is not reconciled twice at the same time from here.
+     */
+    private void dispatch() {
+        LOGGER.infoOp("Dispatching the {} reconciliations for namespace {}", kind, namespace);
+
+        while (!stop) {
+            try {
+                NamespaceAndName key = queue.take();
+
+                try {
+                    reconciler.apply(new Reconciliation("watch", kind, key.getNamespace(), key.getName()))
+                            .onComplete(i -> queue.done(key));
+                } catch (RuntimeException e) {
+                    LOGGER.errorOp("Failed to trigger the reconciliation of {} {} in namespace {}", kind, key.getName(), key.getNamespace(), e);
+                    queue.done(key);
+                }
+            } catch (InterruptedException e) {
+                LOGGER.debugOp("Dispatching the {} reconciliations was interrupted", kind);
+            }
+        }
+
+        LOGGER.infoOp("Stopped dispatching the {} reconciliations for namespace {}", kind, namespace);
+    }
+
+    /**
+     * Event handler for the informer events
+     */
+    private class EventHandler implements ResourceEventHandler<T> {
+        @Override
+        public void onAdd(T resource) {
+            enqueue(resource, "ADDED");
+        }
+
+        @Override
+        public void onUpdate(T oldResource, T newResource) {
+            if (!Objects.equals(oldResource.getMetadata().getResourceVersion(), newResource.getMetadata().getResourceVersion())) {
+                enqueue(newResource, "MODIFIED");
+            }
+        }
+
+        @Override
+        public void onDelete(T resource, boolean deletedFinalStateUnknown) {
+            enqueue(resource, "DELETED");
+        }
+    }
+}
@@ -115,6 +115,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private final CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator;
     private final StrimziPodSetOperator strimziPodSetOperator;
     private final CrdOperator<KubernetesClient, KafkaNodePool, KafkaNodePoolList> nodePoolOperator;
+    private final KafkaClusterModelCache kafkaModelCache;
     protected Clock clock;
 
     /**
@@ -139,6 +140,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         this.nodePoolOperator = supplier.kafkaNodePoolOperator;
         this.strimziPodSetOperator = supplier.strimziPodSetOperator;
         this.metrics = new KafkaAssemblyOperatorMetricsHolder(Kafka.RESOURCE_KIND, config.getCustomResourceSelector(), supplier.metricsProvider);
+        this.kafkaModelCache = config.isKafkaModelCacheEnabled() ? new KafkaClusterModelCache(config.isKafkaModelCacheVerify(), supplier.metricsProvider) : null;
         this.clock = Clock.systemUTC();
     }
 
@@ -201,6 +203,11 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         .withStatus("True")
                         .build();
 
+                // The Kafka cluster model can be reused only after a successful reconciliation
+                if (kafkaModelCache != null && reconcileState.kafkaModelCacheEntry != null) {
+                    kafkaModelCache.put(reconciliation, reconcileState.kafkaModelCacheEntry);
+                }
+
                 // successful reconcile, write operator version to successful reconcile field
                 status.setOperatorLastSuccessfulVersion(OPERATOR_VERSION);
                 status.addCondition(condition);
@@ -305,6 +312,9 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         private Map<String, Storage> kafkaBrokerStorage;
         private Map<String, ResourceRequirements> kafkaBrokerResources;
 
+        // Kafka cluster model which is cached when the reconciliation succeeds
+        private KafkaClusterModelCache.Entry kafkaModelCacheEntry;
+
         /* test */ KafkaStatus kafkaStatus = new KafkaStatus();
 
         ReconciliationState(Reconciliation reconciliation, Kafka kafkaAssembly) {
@@ -696,9 +706,13 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                             currentPods.put(sts.getMetadata().getName(), IntStream.range(0, sts.getSpec().getReplicas()).mapToObj(i -> KafkaResources.kafkaPodName(kafkaAssembly.getMetadata().getName(), i)).toList());
                         }
 
-                        return new KafkaClusterCreator(vertx, reconciliation, config, kafkaMetadataStateManager.getMetadataConfigurationState(), supplier)
+                        KafkaClusterCreator kafkaClusterCreator = new KafkaClusterCreator(vertx, reconciliation, config, kafkaMetadataStateManager.getMetadataConfigurationState(), supplier, kafkaModelCache);
+
+                        return kafkaClusterCreator
                                 .prepareKafkaCluster(kafkaAssembly, nodePools, oldStorage, currentPods, versionChange, kafkaStatus, true)
                                 .compose(kafkaCluster -> {
+                                    kafkaModelCacheEntry = kafkaClusterCreator.modelCacheEntry();
+
                                     // We store this for use with Cruise Control later. As these configurations might
                                     // not be exactly the same as in the original custom resource (for example because
                                     // of un-allowed storage changes being reverted) they are passed this way from the
@@ -840,6 +854,10 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
      */
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        if (kafkaModelCache != null) {
+            kafkaModelCache.remove(reconciliation);
+        }
+
         return ReconcilerUtils.withIgnoreRbacError(reconciliation, clusterRoleBindingOperations.reconcile(reconciliation, KafkaResources.initContainerClusterRoleBindingName(reconciliation.name(), reconciliation.namespace()), null), null)
                 .map(Boolean.FALSE); // Return FALSE since other resources are still deleted by garbage collection
     }
@@ -54,7 +54,10 @@ public class KafkaClusterCreator {
     private final SharedEnvironmentProvider sharedEnvironmentProvider;
     private final BrokersInUseCheck brokerScaleDownOperations;
     private final KafkaMetadataConfigurationState kafkaMetadataConfigState;
+    private final KafkaClusterModelCache modelCache;
+
     // State
+    private KafkaClusterModelCache.Entry modelCacheEntry;
     private boolean scaleDownCheckFailed = false;
     private boolean usedToBeBrokersCheckFailed = false;
     private final List<Condition> warningConditions = new ArrayList<>();
@@ -74,10 +77,32 @@ public class KafkaClusterCreator {
             ClusterOperatorConfig config,
             KafkaMetadataConfigurationState kafkaMetadataConfigState,
             ResourceOperatorSupplier supplier
+    ) {
+        this(vertx, reconciliation, config, kafkaMetadataConfigState, supplier, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx                     Vert.x instance
+     * @param reconciliation            Reconciliation marker
+     * @param config                    Cluster Operator configuration
+     * @param kafkaMetadataConfigState  Metadata state related to nodes configuration
+     * @param supplier                  Resource Operators supplier
+     * @param modelCache                Cache of the Kafka cluster models or null if the models should not be cached
+     */
+    public KafkaClusterCreator(
+            Vertx vertx,
+            Reconciliation reconciliation,
+            ClusterOperatorConfig config,
+            KafkaMetadataConfigurationState kafkaMetadataConfigState,
+            ResourceOperatorSupplier supplier,
+            KafkaClusterModelCache modelCache
     ) {
         this.reconciliation = reconciliation;
         this.versions = config.versions();
         this.kafkaMetadataConfigState = kafkaMetadataConfigState;
+        this.modelCache = modelCache;
 
         this.vertx = vertx;
         this.adminClientProvider = supplier.adminClientProvider;
@@ -161,7 +186,24 @@ public class KafkaClusterCreator {
             Map<String, List<String>> currentPods,
             KafkaVersionChange versionChange
     )   {
-        return Future.succeededFuture(createKafkaCluster(reconciliation, kafkaCr, nodePoolCrs, oldStorage, currentPods, versionChange, kafkaMetadataConfigState, versions, sharedEnvironmentProvider));
+        if (modelCache != null) {
+            String digest = KafkaClusterModelCache.digest(kafkaCr, nodePoolCrs, oldStorage, currentPods, versionChange, kafkaMetadataConfigState);
+            modelCacheEntry = modelCache.getOrBuild(reconciliation, digest, () -> createKafkaCluster(reconciliation, kafkaCr, nodePoolCrs, oldStorage, currentPods, versionChange, kafkaMetadataConfigState, versions, sharedEnvironmentProvider));
+
+            return Future.succeededFuture(modelCacheEntry.model());
+        } else {
+            return Future.succeededFuture(createKafkaCluster(reconciliation, kafkaCr, nodePoolCrs, oldStorage, currentPods, versionChange, kafkaMetadataConfigState, versions, sharedEnvironmentProvider));
+        }
+    }
+
+    /**
+     * Returns the cache entry with the last Kafka cluster model prepared by this creator. It should be stored in the
+     * cache only once the reconciliation succeeds.
+     *
+     * @return  The cache entry or null when the models are not cached
+     */
+    public KafkaClusterModelCache.Entry modelCacheEntry() {
+        return modelCacheEntry;
     }
 
     /**
@@ -0,0 +1,324 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.api.kafka.model.common.ExternalLogging;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.Storage;
+import io.strimzi.api.kafka.model.kafka.listener.GenericKafkaListener;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.strimzi.operator.cluster.model.ImagePullPolicy;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.KafkaMetadataConfigurationState;
+import io.strimzi.operator.cluster.model.KafkaVersionChange;
+import io.strimzi.operator.cluster.model.ListenersUtils;
+import io.strimzi.operator.cluster.model.MetricsAndLogging;
+import io.strimzi.operator.cluster.model.NodeRef;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.strimzi.operator.common.model.NamespaceAndName;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches the KafkaCluster models of the Kafka clusters between their reconciliations. Building the KafkaCluster model
+ * (node pools, listeners, broker configuration etc.) is done in every reconciliation even when nothing changed. The
+ * cache keeps the model from the last successful reconciliation together with a digest of all the inputs used to build
+ * it (the Kafka and KafkaNodePool custom resources, the old storage, the current pods, the version change and the
+ * metadata state). When the digest of the inputs in the next reconciliation matches, the cached model is used instead
+ * of building a new one. The KafkaCluster model is not modified once it is created, so it can be safely reused.
+ *
+ * When the verification is enabled, the model is built also on cache hits and the resources generated from the cached
+ * and from the new model are compared. Any difference is logged and the new model is used. This is meant only for
+ * debugging as it removes any benefit of the cache.
+ */
+public class KafkaClusterModelCache {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaClusterModelCache.class.getName());
+    private static final ObjectMapper MAPPER = new ObjectMapper().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    // Placeholders used for the inputs which do not come from the model when generating the resources for the fingerprint
+    private static final String PLACEHOLDER_OPERATOR_NAMESPACE = "placeholder-operator-namespace";
+    private static final String PLACEHOLDER_ADVERTISED_HOSTNAME = "placeholder-advertised-hostname";
+    private static final String PLACEHOLDER_ADVERTISED_PORT = "9999";
+    private static final String PLACEHOLDER_CONFIG_MAP_DATA = "";
+
+    /**
+     * Metric name for the number of the Kafka models found in the cache
+     */
+    public static final String METRICS_HITS = MetricsHolder.METRICS_PREFIX + "kafka.model.cache.hits";
+    /**
+     * Metric name for the number of the Kafka models which had to be built
+     */
+    public static final String METRICS_MISSES = MetricsHolder.METRICS_PREFIX + "kafka.model.cache.misses";
+    /**
+     * Metric name for the number of the cached Kafka models which did not match the new model during the verification
+     */
+    public static final String METRICS_VERIFICATION_FAILURES = MetricsHolder.METRICS_PREFIX + "kafka.model.cache.verification.failures";
+
+    private final boolean verify;
+    private final Map<NamespaceAndName, Entry> cache = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter verificationFailures;
+
+    /**
+     * Creates the cache
+     *
+     * @param verify            Flag indicating whether the cached models should be verified against newly built models
+     * @param metricsProvider   Metrics provider
+     */
+    public KafkaClusterModelCache(boolean verify, MetricsProvider metricsProvider) {
+        this.verify = verify;
+
+        Tags tags = Tags.of("kind", Kafka.RESOURCE_KIND);
+        this.hits = metricsProvider.counter(METRICS_HITS, "Number of Kafka cluster models reused from the cache", tags);
+        this.misses = metricsProvider.counter(METRICS_MISSES, "Number of Kafka cluster models which had to be built", tags);
+        this.verificationFailures = metricsProvider.counter(METRICS_VERIFICATION_FAILURES, "Number of cached Kafka cluster models which did not match a newly built model", tags);
+    }
+
+    /**
+     * Returns the cached model when it was built from the same inputs. Otherwise, a new model is built.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param digest            Digest of the inputs used to build the model
+     * @param builder           Supplier which builds a new model
+     *
+     * @return  Cache entry with the digest and the model
+     */
+    public Entry getOrBuild(Reconciliation reconciliation, String digest, Supplier<KafkaCluster> builder) {
+        Entry cached = cache.get(new NamespaceAndName(reconciliation.namespace(), reconciliation.name()));
+
+        if (cached != null && cached.digest().equals(digest)) {
+            hits.increment();
+
+            if (verify) {
+                KafkaCluster fresh = builder.get();
+
+                if (!fingerprint(cached.model()).equals(fingerprint(fresh))) {
+                    LOGGER.warnCr(reconciliation, "The cached Kafka cluster model does not match the newly built model");
+                    verificationFailures.increment();
+                    return new Entry(digest, fresh);
+                }
+            }
+
+            LOGGER.debugCr(reconciliation, "Using the cached Kafka cluster model");
+            return cached;
+        } else {
+            misses.increment();
+            return new Entry(digest, builder.get());
+        }
+    }
+
+    /**
+     * Stores the model after a successful reconciliation
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param entry             Cache entry with the digest and the model
+     */
+    public void put(Reconciliation reconciliation, Entry entry) {
+        cache.put(new NamespaceAndName(reconciliation.namespace(), reconciliation.name()), entry);
+    }
+
+    /**
+     * Removes the cached model. This is used when the Kafka cluster is deleted.
+     *
+     * @param reconciliation    Reconciliation marker
+     */
+    public void remove(Reconciliation reconciliation) {
+        cache.remove(new NamespaceAndName(reconciliation.namespace(), reconciliation.name()));
+    }
+
+    /**
+     * @return  The number of cached models
+     */
+    /* test */ int size() {
+        return cache.size();
+    }
+
+    /**
+     * Calculates the digest of all the inputs used to build the KafkaCluster model. Only the parts of the custom
+     * resources which are used to build the model are included. So for example the status conditions or the resource
+     * version do not change the digest.
+     *
+     * @param kafkaCr                   Kafka custom resource
+     * @param nodePoolCrs               KafkaNodePool custom resources
+     * @param oldStorage                Old storage configuration
+     * @param currentPods               Current Kafka pods
+     * @param versionChange             Version change descriptor
+     * @param kafkaMetadataConfigState  Metadata state related to nodes configuration
+     *
+     * @return  The digest
+     */
+    public static String digest(
+            Kafka kafkaCr,
+            List<KafkaNodePool> nodePoolCrs,
+            Map<String, Storage> oldStorage,
+            Map<String, List<String>> currentPods,
+            KafkaVersionChange versionChange,
+            KafkaMetadataConfigurationState kafkaMetadataConfigState
+    ) {
+        Map<String, Object> inputs = new LinkedHashMap<>();
+        inputs.put("kafka", List.of(kafkaCr.getMetadata().getUid() != null ? kafkaCr.getMetadata().getUid() : "",
+                kafkaCr.getMetadata().getName()));
+        inputs.put("kafkaLabels", kafkaCr.getMetadata().getLabels());
+        inputs.put("kafkaAnnotations", kafkaCr.getMetadata().getAnnotations());
+        inputs.put("kafkaSpec", kafkaCr.getSpec());
+        inputs.put("kafkaClusterId", kafkaCr.getStatus() != null ? kafkaCr.getStatus().getClusterId() : null);
+
+        if (nodePoolCrs != null) {
+            List<Object> pools = new ArrayList<>();
+
+            nodePoolCrs.stream()
+                    .sorted(Comparator.comparing(pool -> pool.getMetadata().getName()))
+                    .forEach(pool -> {
+                        Map<String, Object> poolInputs = new LinkedHashMap<>();
+                        poolInputs.put("name", pool.getMetadata().getName());
+                        poolInputs.put("uid", pool.getMetadata().getUid());
+                        poolInputs.put("labels", pool.getMetadata().getLabels());
+                        poolInputs.put("annotations", pool.getMetadata().getAnnotations());
+                        poolInputs.put("spec", pool.getSpec());
+
+                        if (pool.getStatus() != null) {
+                            poolInputs.put("nodeIds", pool.getStatus().getNodeIds());
+                            poolInputs.put("roles", pool.getStatus().getRoles());
+                            poolInputs.put("clusterId", pool.getStatus().getClusterId());
+                        }
+
+                        pools.add(poolInputs);
+                    });
+
+            inputs.put("nodePools", pools);
+        }
+
+        inputs.put("oldStorage", oldStorage);
+        inputs.put("currentPods", currentPods);
+
+        if (versionChange != null) {
+            inputs.put("versionChange", List.of(String.valueOf(versionChange.from()), String.valueOf(versionChange.to()),
+                    String.valueOf(versionChange.interBrokerProtocolVersion()), String.valueOf(versionChange.logMessageFormatVersion()),
+                    String.valueOf(versionChange.metadataVersion())));
+        }
+
+        inputs.put("metadataState", String.valueOf(kafkaMetadataConfigState));
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(MAPPER.writeValueAsString(inputs).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new RuntimeException("Failed to calculate the digest of the Kafka cluster inputs", e);
+        }
+    }
+
+    /**
+     * Creates a fingerprint of the resources generated from the model. The resources which need also other inputs
+     * (such as the advertised addresses or the metrics and logging Config Maps) are generated with fixed placeholders
+     * instead of them. It is used to compare the cached and the newly built models during the verification.
+     *
+     * @param kafka     Kafka cluster model
+     *
+     * @return  The fingerprint
+     */
+    /* test */ static String fingerprint(KafkaCluster kafka) {
+        Map<String, Object> resources = new LinkedHashMap<>();
+        resources.put("nodes", kafka.nodes().stream().sorted(Comparator.comparingInt(NodeRef::nodeId)).map(String::valueOf).toList());
+        resources.put("configuration", kafka.getConfiguration().getConfiguration());
+        resources.put("storage", kafka.getStorageByPoolName());
+        resources.put("resources", kafka.getBrokerResourceRequirementsByPoolName());
+        resources.put("service", kafka.generateService());
+        resources.put("headlessService", kafka.generateHeadlessService());
+        resources.put("externalBootstrapServices", kafka.generateExternalBootstrapServices());
+        resources.put("perPodServices", kafka.generatePerPodServices());
+        resources.put("pvcs", kafka.generatePersistentVolumeClaims());
+        resources.put("pdb", kafka.generatePodDisruptionBudget());
+        resources.put("podSets", kafka.generatePodSets(false, ImagePullPolicy.IFNOTPRESENT, List.of(), nodeId -> Map.of()));
+        resources.put("perBrokerConfigMaps", placeholderPerBrokerConfigurationConfigMaps(kafka));
+        resources.put("networkPolicy", kafka.generateNetworkPolicy(PLACEHOLDER_OPERATOR_NAMESPACE, null));
+        // The warning conditions carry the time when they were created, so only the other fields are compared
+        resources.put("warnings", kafka.getWarningConditions().stream()
+                .map(condition -> List.of(String.valueOf(condition.getType()), String.valueOf(condition.getReason()), String.valueOf(condition.getMessage())))
+                .toList());
+
+        try {
+            return MAPPER.writeValueAsString(resources);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize the Kafka cluster model", e);
+        }
+    }
+
+    /**
+     * Generates the per-broker configuration Config Maps with placeholder advertised addresses and placeholder metrics
+     * and logging Config Maps.
+     *
+     * @param kafka     Kafka cluster model
+     *
+     * @return  List with the per-broker configuration Config Maps
+     */
+    private static List<ConfigMap> placeholderPerBrokerConfigurationConfigMaps(KafkaCluster kafka) {
+        Map<Integer, Map<String, String>> advertisedHostnames = new HashMap<>();
+        Map<Integer, Map<String, String>> advertisedPorts = new HashMap<>();
+
+        for (NodeRef node : kafka.nodes()) {
+            Map<String, String> hostnames = new HashMap<>();
+            Map<String, String> ports = new HashMap<>();
+
+            for (GenericKafkaListener listener : kafka.getListeners()) {
+                hostnames.put(ListenersUtils.envVarIdentifier(listener), PLACEHOLDER_ADVERTISED_HOSTNAME);
+                ports.put(ListenersUtils.envVarIdentifier(listener), PLACEHOLDER_ADVERTISED_PORT);
+            }
+
+            advertisedHostnames.put(node.nodeId(), hostnames);
+            advertisedPorts.put(node.nodeId(), ports);
+        }
+
+        ConfigMap metricsCm = kafka.metrics().isEnabled()
+                ? placeholderConfigMap(kafka.metrics().getConfigMapName(), kafka.metrics().getConfigMapKey())
+                : null;
+        ConfigMap loggingCm = kafka.logging().getLogging() instanceof ExternalLogging externalLogging
+                && externalLogging.getValueFrom() != null
+                && externalLogging.getValueFrom().getConfigMapKeyRef() != null
+                ? placeholderConfigMap(externalLogging.getValueFrom().getConfigMapKeyRef().getName(), externalLogging.getValueFrom().getConfigMapKeyRef().getKey())
+                : null;
+
+        return kafka.generatePerBrokerConfigurationConfigMaps(new MetricsAndLogging(metricsCm, loggingCm), advertisedHostnames, advertisedPorts);
+    }
+
+    private static ConfigMap placeholderConfigMap(String name, String key) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                .endMetadata()
+                .withData(key != null ? Map.of(key, PLACEHOLDER_CONFIG_MAP_DATA) : Map.of())
+                .build();
+    }
+
+    /**
+     * Cached Kafka cluster model
+     *
+     * @param digest    Digest of the inputs used to build the model
+     * @param model     The Kafka cluster model
+     */
+    public record Entry(String digest, KafkaCluster model) { }
+}
@@ -152,6 +152,16 @@ public interface KafkaConnectApi {
      */
     Future<List<String>> list(Reconciliation reconciliation, String host, int port);
 
+    /**
+     * Make a {@code GET} request to {@code /connectors?expand=status&expand=info}.
+     * @param reconciliation The reconciliation
+     * @param host The host to make the request to.
+     * @param port The port to make the request to.
+     * @return A Future which completes with the result of the request. If the request was successful,
+     * this returns the configuration and status of all connectors indexed by the connector name.
+     */
+    Future<Map<String, ConnectorSnapshot>> listWithStatusAndInfo(Reconciliation reconciliation, String host, int port);
+
     /**
      * Make a {@code GET} request to {@code /connector-plugins}.
      * @param reconciliation The reconciliation
@@ -216,6 +226,15 @@ public interface KafkaConnectApi {
      * this returns the connector's topics.
      */
     Future<List<String>> getConnectorTopics(Reconciliation reconciliation, String host, int port, String connectorName);
+
+    /**
+     * Configuration and status of a connector as returned by the {@code GET} request to
+     * {@code /connectors?expand=status&expand=info}.
+     *
+     * @param config    The connector's config in the same format as returned from {@code /connectors/${connectorName}/config}
+     * @param status    The connector's status in the same format as returned from {@code /connectors/${connectorName}/status}
+     */
+    record ConnectorSnapshot(Map<String, String> config, Map<String, Object> status) { }
 }
 
 class ConnectRestException extends RuntimeException {
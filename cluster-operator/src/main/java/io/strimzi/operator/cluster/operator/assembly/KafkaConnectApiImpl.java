@@ -8,7 +8,7 @@ package io.strimzi.operator.cluster.operator.assembly;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.strimzi.api.kafka.model.connect.ConnectorPlugin;
-import io.strimzi.operator.cluster.operator.resource.HttpClientUtils;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
@@ -48,11 +48,43 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public static final TypeReference<Map<String, String>> MAP_OF_STRINGS = new TypeReference<>() { };
     public static final TypeReference<Map<String, Map<String, String>>> MAP_OF_MAP_OF_STRINGS = new TypeReference<>() { };
     public static final TypeReference<Map<String, Map<String, List<String>>>> MAP_OF_MAP_OF_LIST_OF_STRING = new TypeReference<>() { };
+    public static final TypeReference<Map<String, Map<String, Map<String, Object>>>> MAP_OF_MAP_OF_TREES = new TypeReference<>() { };
+    private static final int MAX_CONNECTIONS = 5;
+    private static final int KEEP_ALIVE_TIMEOUT_SECONDS = 15;
+
     private final ObjectMapper mapper = new ObjectMapper();
     private final Vertx vertx;
+    private final HttpClientPool clientPool;
 
-    public KafkaConnectApiImpl(Vertx vertx) {
+    /**
+     * Creates the Kafka Connect REST API client. The HTTP connections are pooled and kept alive between the requests
+     * separately for each Connect cluster.
+     *
+     * @param vertx         Vert.x instance
+     * @param clientPool    Pool of the HTTP clients used to connect to the Connect clusters
+     */
+    public KafkaConnectApiImpl(Vertx vertx, HttpClientPool clientPool) {
         this.vertx = vertx;
+        this.clientPool = clientPool;
+    }
+
+    /**
+     * Creates the options for the HTTP clients. The Kafka Connect REST API is configured with a small connection pool
+     * with keep-alive to bound the number of concurrent connections to each Connect cluster.
+     *
+     * @return  HTTP client options
+     */
+    private static HttpClientOptions httpClientOptions() {
+        return new HttpClientOptions()
+                .setLogActivity(true)
+                .setKeepAlive(true)
+                // Lower than the default idle timeout of the Connect REST API to avoid reusing connections closed by the server
+                .setKeepAliveTimeout(KEEP_ALIVE_TIMEOUT_SECONDS)
+                .setMaxPoolSize(MAX_CONNECTIONS);
+    }
+
+    private static String clientKey(String host, int port) {
+        return host + ":" + port;
     }
 
     @Override
@@ -64,7 +96,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
         Buffer data = configJson.toBuffer();
         String path = "/connectors/" + connectorName + "/config";
         LOGGER.debugCr(reconciliation, "Making PUT request to {} with body {}", path, configJson);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return clientPool.withHttpClient(clientKey(host, port), httpClientOptions(), (httpClient, result) ->
             httpClient.request(HttpMethod.PUT, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -114,7 +146,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     private <T> Future<T> doGet(Reconciliation reconciliation, String host, int port, String path, Set<Integer> okStatusCodes, TypeReference<T> type) {
         LOGGER.debugCr(reconciliation, "Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return clientPool.withHttpClient(clientKey(host, port), httpClientOptions(), (httpClient, result) ->
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -168,7 +200,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public Future<Void> delete(Reconciliation reconciliation, String host, int port, String connectorName) {
         String path = "/connectors/" + connectorName;
         LOGGER.debugCr(reconciliation, "Making DELETE request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return clientPool.withHttpClient(clientKey(host, port), httpClientOptions(), (httpClient, result) ->
             httpClient.request(HttpMethod.DELETE, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -292,7 +324,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     private Future<Void> updateState(Reconciliation reconciliation, String host, int port, String path, int expectedStatusCode) {
         LOGGER.debugCr(reconciliation, "Making PUT request to {} ", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return clientPool.withHttpClient(clientKey(host, port), httpClientOptions(), (httpClient, result) ->
                 httpClient.request(HttpMethod.PUT, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -321,7 +353,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public Future<List<String>> list(Reconciliation reconciliation, String host, int port) {
         String path = "/connectors";
         LOGGER.debugCr(reconciliation, "Making GET request to {} ", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return clientPool.withHttpClient(clientKey(host, port), httpClientOptions(), (httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
 
                     if (request.succeeded()) {
@@ -355,11 +387,45 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 }));
     }
 
+    @Override
+    public Future<Map<String, ConnectorSnapshot>> listWithStatusAndInfo(Reconciliation reconciliation, String host, int port) {
+        return doGet(reconciliation, host, port, "/connectors?expand=status&expand=info", Collections.singleton(200), MAP_OF_MAP_OF_TREES)
+                .map(KafkaConnectApiImpl::connectorSnapshots);
+    }
+
+    /**
+     * Converts the response of the {@code GET} request to {@code /connectors?expand=status&expand=info} to the
+     * connector snapshots. The {@code info} part contains the connector config with the same content as returned from
+     * {@code /connectors/${connectorName}/config}.
+     *
+     * @param connectors    The response mapping the connector names to their info and status
+     *
+     * @return  Map with the connector snapshots indexed by the connector name
+     */
+    @SuppressWarnings("unchecked")
+    /* test */ static Map<String, ConnectorSnapshot> connectorSnapshots(Map<String, Map<String, Map<String, Object>>> connectors) {
+        Map<String, ConnectorSnapshot> snapshots = new HashMap<>(connectors.size());
+
+        for (Map.Entry<String, Map<String, Map<String, Object>>> connector : connectors.entrySet()) {
+            Map<String, Object> info = connector.getValue().getOrDefault("info", Map.of());
+            Map<String, Object> rawConfig = (Map<String, Object>) info.getOrDefault("config", Map.of());
+            Map<String, String> config = new HashMap<>(rawConfig.size());
+
+            for (Map.Entry<String, Object> entry : rawConfig.entrySet()) {
+                config.put(entry.getKey(), entry.getValue() == null ? null : String.valueOf(entry.getValue()));
+            }
+
+            snapshots.put(connector.getKey(), new ConnectorSnapshot(config, connector.getValue().get("status")));
+        }
+
+        return snapshots;
+    }
+
     @Override
     public Future<List<ConnectorPlugin>> listConnectorPlugins(Reconciliation reconciliation, String host, int port) {
         String path = "/connector-plugins";
         LOGGER.debugCr(reconciliation, "Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return clientPool.withHttpClient(clientKey(host, port), httpClientOptions(), (httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -394,7 +460,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
         JsonObject levelJO = new JsonObject();
         levelJO.put("level", level);
         LOGGER.debugCr(reconciliation, "Making PUT request to {} with body {}", path, levelJO);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) -> {
+        return clientPool.withHttpClient(clientKey(host, port), httpClientOptions(), (httpClient, result) -> {
             Buffer buffer = levelJO.toBuffer();
             httpClient
                     .request(HttpMethod.PUT, port, host, path, request -> {
@@ -429,7 +495,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public Future<Map<String, String>> listConnectLoggers(Reconciliation reconciliation, String host, int port) {
         String path = "/admin/loggers/";
         LOGGER.debugCr(reconciliation, "Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return clientPool.withHttpClient(clientKey(host, port), httpClientOptions(), (httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -570,7 +636,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     }
 
     private Future<Map<String, Object>> restartConnectorOrTask(String host, int port, String path) {
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return clientPool.withHttpClient(clientKey(host, port), httpClientOptions(), (httpClient, result) ->
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -608,7 +674,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public Future<List<String>> getConnectorTopics(Reconciliation reconciliation, String host, int port, String connectorName) {
         String path = String.format("/connectors/%s/topics", connectorName);
         LOGGER.debugCr(reconciliation, "Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return clientPool.withHttpClient(clientKey(host, port), httpClientOptions(), (httpClient, result) ->
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -94,7 +94,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
     public KafkaConnectAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
                                         ResourceOperatorSupplier supplier,
                                         ClusterOperatorConfig config) {
-        this(vertx, pfa, supplier, config, connect -> new KafkaConnectApiImpl(vertx));
+        this(vertx, pfa, supplier, config, pooledConnectClientProvider(vertx, supplier.metricsProvider, KafkaConnect.RESOURCE_KIND));
     }
 
     /**
@@ -314,6 +314,8 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
      */
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        removeConnectorScheduler(KafkaConnectResources.qualifiedServiceName(reconciliation.name(), reconciliation.namespace()));
+
         return updateConnectorsThatConnectClusterWasDeleted(reconciliation)
                 .compose(i -> ReconcilerUtils.withIgnoreRbacError(reconciliation, clusterRoleBindingOperations.reconcile(reconciliation, KafkaConnectResources.initContainerClusterRoleBindingName(reconciliation.name(), reconciliation.namespace()), null), null))
                 .map(Boolean.FALSE); // Return FALSE since other resources are still deleted by garbage collection
@@ -396,23 +398,29 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
             String host = KafkaConnectResources.qualifiedServiceName(connectName, namespace);
             KafkaConnectApi apiClient = connectClientProvider.apply(vertx);
 
+            // The snapshot of all connectors is used to find the connectors which need to be changed without calling
+            // the REST API for every connector
             return Future.join(
-                    apiClient.list(reconciliation, host, port),
+                    apiClient.listWithStatusAndInfo(reconciliation, host, port),
                     connectorOperator.listAsync(namespace, new LabelSelectorBuilder().addToMatchLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName).build())
             ).compose(cf -> {
-                List<String> runningConnectorNames = cf.resultAt(0);
+                Map<String, KafkaConnectApi.ConnectorSnapshot> snapshots = cf.resultAt(0);
                 List<KafkaConnector> desiredConnectors = cf.resultAt(1);
 
-                Set<String> deleteConnectorNames = new HashSet<>(runningConnectorNames);
+                Set<String> deleteConnectorNames = new HashSet<>(snapshots.keySet());
                 deleteConnectorNames.removeAll(desiredConnectors.stream().map(c -> c.getMetadata().getName()).collect(Collectors.toSet()));
                 LOGGER.debugCr(reconciliation, "{} cluster: delete connectors: {}", kind(), deleteConnectorNames);
+                // The connector reconciliations are scheduled to limit the load on the Connect REST API
+                ConnectorReconciliationScheduler scheduler = connectorScheduler(namespace, connectName, host);
                 Stream<Future<Void>> deletionFutures = deleteConnectorNames.stream().map(connectorName ->
-                        reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null)
+                        scheduler.schedule(ConnectorReconciliationScheduler.Priority.SPEC_CHANGE,
+                                () -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null))
                 );
 
                 LOGGER.debugCr(reconciliation, "{} cluster: required connectors: {}", kind(), desiredConnectors);
                 Stream<Future<Void>> createUpdateFutures = desiredConnectors.stream()
-                        .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector));
+                        .map(connector -> scheduler.schedule(connectorReconciliationPriority(reconciliation, connector.getMetadata().getName(), connector.getSpec(), connector, snapshots),
+                                () -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector, snapshots)));
 
                 return Future.join(Stream.concat(deletionFutures, createUpdateFutures).collect(Collectors.toList())).map((Void) null);
             }).recover(error -> {
@@ -437,6 +445,12 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
 
     /*test*/ Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                              boolean useResources, String connectorName, KafkaConnector connector) {
+        return reconcileConnectorAndHandleResult(reconciliation, host, apiClient, useResources, connectorName, connector, null);
+    }
+
+    private Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                             boolean useResources, String connectorName, KafkaConnector connector,
+                                             Map<String, KafkaConnectApi.ConnectorSnapshot> snapshots) {
         Promise<Void> reconciliationResult = Promise.promise();
 
         metrics().connectorsReconciliationsCounter(reconciliation.namespace()).increment();
@@ -452,7 +466,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
             );
         }
 
-        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector)
+        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector, snapshots)
                 .onComplete(result -> {
                     if (result.succeeded() && result.result() == null)  {
                         // The reconciliation succeeded, but there is no status to be set => we complete the reconciliation and return
@@ -491,7 +505,8 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
     }
 
     private Future<ConnectorStatusAndConditions> reconcileConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
-                                             boolean useResources, String connectorName, KafkaConnector connector) {
+                                             boolean useResources, String connectorName, KafkaConnector connector,
+                                             Map<String, KafkaConnectApi.ConnectorSnapshot> snapshots) {
         if (connector == null) {
             if (useResources) {
                 LOGGER.infoCr(reconciliation, "deleting connector: {}", connectorName);
@@ -509,7 +524,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
             if (!useResources) {
                 return Future.failedFuture(new NoSuchResourceException(reconciliation.kind() + " " + reconciliation.name() + " is not configured with annotation " + Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES));
             } else {
-                return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector);
+                return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector, snapshots);
             }
         }
     }
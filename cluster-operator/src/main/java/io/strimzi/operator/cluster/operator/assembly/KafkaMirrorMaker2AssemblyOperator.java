@@ -39,6 +39,7 @@ import io.vertx.core.Vertx;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -77,7 +78,7 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
     public KafkaMirrorMaker2AssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
                                         ResourceOperatorSupplier supplier,
                                         ClusterOperatorConfig config) {
-        this(vertx, pfa, supplier, config, connect -> new KafkaConnectApiImpl(vertx));
+        this(vertx, pfa, supplier, config, pooledConnectClientProvider(vertx, supplier.metricsProvider, KafkaMirrorMaker2.RESOURCE_KIND));
     }
 
     /**
@@ -261,32 +262,37 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
         KafkaConnectApi apiClient = connectClientProvider.apply(vertx);
         List<KafkaConnector> desiredConnectors = mirrorMaker2Cluster.connectors().generateConnectorDefinitions();
 
-        return apiClient.list(reconciliation, host, KafkaConnectCluster.REST_API_PORT).compose(currentConnectors -> {
+        // The snapshot of all connectors is used to find the connectors which need to be changed without calling
+        // the REST API for every connector
+        return apiClient.listWithStatusAndInfo(reconciliation, host, KafkaConnectCluster.REST_API_PORT).compose(snapshots -> {
+            List<String> currentConnectors = new ArrayList<>(snapshots.keySet());
             currentConnectors.removeAll(desiredConnectors.stream().map(c -> c.getMetadata().getName()).collect(Collectors.toSet()));
 
-            Future<Void> deletionFuture = deleteConnectors(reconciliation, host, apiClient, currentConnectors);
-            Future<Void> createOrUpdateFuture = reconcileConnectors(reconciliation, host, apiClient, kafkaMirrorMaker2, desiredConnectors, mirrorMaker2Status);
+            // The connector reconciliations are scheduled to limit the load on the Connect REST API
+            ConnectorReconciliationScheduler scheduler = connectorScheduler(reconciliation.namespace(), kafkaMirrorMaker2.getMetadata().getName(), host);
+            Future<Void> deletionFuture = deleteConnectors(reconciliation, host, apiClient, currentConnectors, scheduler);
+            Future<Void> createOrUpdateFuture = reconcileConnectors(reconciliation, host, apiClient, kafkaMirrorMaker2, desiredConnectors, mirrorMaker2Status, snapshots, scheduler);
 
             return Future.join(deletionFuture, createOrUpdateFuture).map((Void) null);
         });
     }
 
-    private static Future<Void> deleteConnectors(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, List<String> connectorsForDeletion) {
+    private static Future<Void> deleteConnectors(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, List<String> connectorsForDeletion, ConnectorReconciliationScheduler scheduler) {
         return Future.join(connectorsForDeletion.stream()
-                        .map(connectorName -> {
+                        .map(connectorName -> scheduler.schedule(ConnectorReconciliationScheduler.Priority.SPEC_CHANGE, () -> {
                             LOGGER.debugCr(reconciliation, "Deleting connector {}", connectorName);
                             return apiClient.delete(reconciliation, host, KafkaConnectCluster.REST_API_PORT, connectorName);
-                        })
+                        }))
                         .collect(Collectors.toList()))
                 .map((Void) null);
     }
 
-    private Future<Void> reconcileConnectors(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, KafkaMirrorMaker2 mirrorMaker2, List<KafkaConnector> connectors, KafkaMirrorMaker2Status mirrorMaker2Status) {
+    private Future<Void> reconcileConnectors(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, KafkaMirrorMaker2 mirrorMaker2, List<KafkaConnector> connectors, KafkaMirrorMaker2Status mirrorMaker2Status, Map<String, KafkaConnectApi.ConnectorSnapshot> snapshots, ConnectorReconciliationScheduler scheduler) {
         return Future.join(connectors.stream()
-                        .map(connector -> {
+                        .map(connector -> scheduler.schedule(connectorReconciliationPriority(reconciliation, connector.getMetadata().getName(), connector.getSpec(), mirrorMaker2, snapshots), () -> {
                             LOGGER.debugCr(reconciliation, "Creating / updating connector {}", connector.getMetadata().getName());
-                            return reconcileMirrorMaker2Connector(reconciliation, mirrorMaker2, apiClient, host, connector.getMetadata().getName(), connector.getSpec(), mirrorMaker2Status);
-                        })
+                            return reconcileMirrorMaker2Connector(reconciliation, mirrorMaker2, apiClient, host, connector.getMetadata().getName(), connector.getSpec(), mirrorMaker2Status, snapshots);
+                        }))
                         .collect(Collectors.toList()))
                 .compose(i -> {
                     boolean failedConnector = mirrorMaker2Status.getConnectors().stream()
@@ -304,8 +310,8 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
                 .map((Void) null);
     }
 
-    private Future<Void> reconcileMirrorMaker2Connector(Reconciliation reconciliation, KafkaMirrorMaker2 mirrorMaker2, KafkaConnectApi apiClient, String host, String connectorName, KafkaConnectorSpec connectorSpec, KafkaMirrorMaker2Status mirrorMaker2Status) {
-        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, mirrorMaker2)
+    private Future<Void> reconcileMirrorMaker2Connector(Reconciliation reconciliation, KafkaMirrorMaker2 mirrorMaker2, KafkaConnectApi apiClient, String host, String connectorName, KafkaConnectorSpec connectorSpec, KafkaMirrorMaker2Status mirrorMaker2Status, Map<String, KafkaConnectApi.ConnectorSnapshot> snapshots) {
+        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, mirrorMaker2, snapshots)
                 .onComplete(result -> {
                     if (result.succeeded()) {
                         mirrorMaker2Status.addConditions(result.result().conditions);
@@ -341,6 +347,8 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
      */
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        removeConnectorScheduler(KafkaMirrorMaker2Resources.qualifiedServiceName(reconciliation.name(), reconciliation.namespace()));
+
         return ReconcilerUtils.withIgnoreRbacError(reconciliation, clusterRoleBindingOperations.reconcile(reconciliation, KafkaMirrorMaker2Resources.initContainerClusterRoleBindingName(reconciliation.name(), reconciliation.namespace()), null), null)
                 .map(Boolean.FALSE); // Return FALSE since other resources are still deleted by garbage collection
     }
@@ -28,6 +28,7 @@ import io.strimzi.operator.cluster.model.CruiseControl;
 import io.strimzi.operator.cluster.model.ModelUtils;
 import io.strimzi.operator.cluster.model.NoSuchResourceException;
 import io.strimzi.operator.cluster.model.cruisecontrol.CruiseControlConfiguration;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.AbstractRebalanceOptions;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.AddBrokerOptions;
@@ -151,6 +152,7 @@ public class KafkaRebalanceAssemblyOperator
     private final SecretOperator secretOperations;
     private final LabelSelector kafkaSelector;
     private final ConfigMapOperator configMapOperator;
+    private final HttpClientPool cruiseControlClientPool;
     private int cruiseControlPort;
 
     /**
@@ -182,10 +184,12 @@ public class KafkaRebalanceAssemblyOperator
         this.configMapOperator = supplier.configMapOperations;
         this.secretOperations = supplier.secretOperations;
         this.cruiseControlPort = cruiseControlPort;
+        this.cruiseControlClientPool = new HttpClientPool(vertx, KafkaRebalance.RESOURCE_KIND, supplier.metricsProvider);
     }
 
     /**
-     * Provides an implementation of the Cruise Control API client
+     * Provides an implementation of the Cruise Control API client. The clients share a pool of HTTP clients with one
+     * long-lived client per Cruise Control instance.
      *
      * @param ccSecret Cruise Control secret
      * @param ccApiSecret Cruise Control API secret
@@ -195,7 +199,15 @@ public class KafkaRebalanceAssemblyOperator
      */
     public CruiseControlApi cruiseControlClientProvider(Secret ccSecret, Secret ccApiSecret,
                                                            boolean apiAuthEnabled, boolean apiSslEnabled) {
-        return new CruiseControlApiImpl(vertx, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled);
+        return new CruiseControlApiImpl(vertx, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled, cruiseControlClientPool, metrics().metricsProvider());
+    }
+
+    /**
+     * Stops the operator. It closes the pooled HTTP clients used to connect to the Cruise Control REST API. This should
+     * be called only after all reconciliations are stopped.
+     */
+    public void stop() {
+        cruiseControlClientPool.close();
     }
 
     /**
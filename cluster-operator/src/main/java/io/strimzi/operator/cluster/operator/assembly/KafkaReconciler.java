@@ -69,6 +69,7 @@ import io.strimzi.operator.cluster.operator.resource.kubernetes.StrimziPodSetOpe
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -87,6 +88,7 @@ import org.apache.kafka.common.KafkaException;
 
 import java.time.Clock;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -96,6 +98,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -122,6 +125,7 @@ public class KafkaReconciler {
     private final ImagePullPolicy imagePullPolicy;
     private final List<LocalObjectReference> imagePullSecrets;
     private final List<Integer> previousNodeIds;
+    private final int stepsConcurrency;
 
     // Objects used during the reconciliation
     /* test */ final Reconciliation reconciliation;
@@ -151,19 +155,22 @@ public class KafkaReconciler {
     private final KubernetesRestartEventPublisher eventsPublisher;
     private final AdminClientProvider adminClientProvider;
     private final KafkaAgentClientProvider kafkaAgentClientProvider;
+    private final MetricsProvider metricsProvider;
 
     // State of the reconciliation => these objects might change during the reconciliation (the collection objects are
-    // marked as final, but their contents is modified during the reconciliation)
-    private final Set<String> fsResizingRestartRequest = new HashSet<>();
+    // marked as final, but their contents is modified during the reconciliation). The independent reconciliation
+    // steps might run concurrently on different threads, so the state is kept in volatile fields and synchronized
+    // collections. Each of them is written by a single step and read only by the steps which depend on it.
+    private final Set<String> fsResizingRestartRequest = Collections.synchronizedSet(new HashSet<>());
 
     private final boolean continueOnManualRUFailure;
 
-    private String logging = "";
-    private final Map<Integer, String> brokerLoggingHash = new HashMap<>();
-    private final Map<Integer, String> brokerConfigurationHash = new HashMap<>();
-    private final Map<Integer, String> kafkaServerCertificateHash = new HashMap<>();
-    /* test */ TlsPemIdentity coTlsPemIdentity;
-    /* test */ KafkaListenersReconciler.ReconciliationResult listenerReconciliationResults; // Result of the listener reconciliation with the listener details
+    private volatile String logging = "";
+    private final Map<Integer, String> brokerLoggingHash = Collections.synchronizedMap(new HashMap<>());
+    private final Map<Integer, String> brokerConfigurationHash = Collections.synchronizedMap(new HashMap<>());
+    private final Map<Integer, String> kafkaServerCertificateHash = Collections.synchronizedMap(new HashMap<>());
+    /* test */ volatile TlsPemIdentity coTlsPemIdentity;
+    /* test */ volatile KafkaListenersReconciler.ReconciliationResult listenerReconciliationResults; // Result of the listener reconciliation with the listener details
 
     private final KafkaMetadataStateManager kafkaMetadataStateManager;
 
@@ -213,6 +220,7 @@ public class KafkaReconciler {
         this.imagePullPolicy = config.getImagePullPolicy();
         this.imagePullSecrets = config.getImagePullSecrets();
         this.previousNodeIds = kafkaCr.getStatus() != null ? kafkaCr.getStatus().getRegisteredNodeIds() : null;
+        this.stepsConcurrency = config.getReconciliationStepsConcurrency();
 
         this.stsOperator = supplier.stsOperations;
         this.strimziPodSetOperator = supplier.strimziPodSetOperator;
@@ -234,6 +242,7 @@ public class KafkaReconciler {
 
         this.adminClientProvider = supplier.adminClientProvider;
         this.kafkaAgentClientProvider = supplier.kafkaAgentClientProvider;
+        this.metricsProvider = supplier.metricsProvider;
         this.continueOnManualRUFailure = config.featureGates().continueOnManualRUFailureEnabled();
     }
 
@@ -248,39 +257,50 @@ public class KafkaReconciler {
      * @return              Future which completes when the reconciliation completes
      */
     public Future<Void> reconcile(KafkaStatus kafkaStatus, Clock clock)    {
-        return modelWarnings(kafkaStatus)
-                .compose(i -> initClientAuthenticationCertificates())
-                .compose(i -> manualPodCleaning())
-                .compose(i -> networkPolicy())
-                .compose(i -> manualRollingUpdate())
-                .compose(i -> pvcs(kafkaStatus))
-                .compose(i -> serviceAccount())
-                .compose(i -> initClusterRoleBinding())
-                .compose(i -> scaleDown())
-                .compose(i -> updateNodePoolStatuses(kafkaStatus))
-                .compose(i -> listeners())
-                .compose(i -> certificateSecret(clock))
-                .compose(i -> brokerConfigurationConfigMaps())
-                .compose(i -> jmxSecret())
-                .compose(i -> podDisruptionBudget())
-                .compose(i -> migrateFromStatefulSetToPodSet())
-                .compose(i -> podSet())
-                .compose(podSetDiffs -> rollingUpdate(podSetDiffs)) // We pass the PodSet reconciliation result this way to avoid storing it in the instance
-                .compose(i -> podsReady())
-                .compose(i -> serviceEndpointsReady())
-                .compose(i -> headlessServiceEndpointsReady())
-                .compose(i -> clusterId(kafkaStatus))
-                .compose(i -> defaultKafkaQuotas())
-                .compose(i -> nodeUnregistration(kafkaStatus))
-                .compose(i -> metadataVersion(kafkaStatus))
-                .compose(i -> deletePersistentClaims())
-                .compose(i -> sharedKafkaConfigurationCleanup())
+        // We pass the PodSet reconciliation result this way to avoid storing it in the instance
+        AtomicReference<Map<String, ReconcileResult<StrimziPodSet>>> podSetDiffs = new AtomicReference<>();
+
+        return new ReconcileStepGraph(reconciliation, stepsConcurrency, metricsProvider)
+                // Steps updating the status or working with the existing pods run one after another
+                .step("modelWarnings", () -> modelWarnings(kafkaStatus))
+                .step("initClientAuthenticationCertificates", this::initClientAuthenticationCertificates, "modelWarnings")
+                .step("manualPodCleaning", this::manualPodCleaning, "initClientAuthenticationCertificates")
+                .step("networkPolicy", this::networkPolicy)
+                // The rolling update connects to the brokers, so the network policy has to be updated first
+                .step("manualRollingUpdate", this::manualRollingUpdate, "manualPodCleaning", "networkPolicy")
+                .step("pvcs", () -> pvcs(kafkaStatus), "manualRollingUpdate")
+                .step("serviceAccount", this::serviceAccount)
+                .step("initClusterRoleBinding", this::initClusterRoleBinding)
+                .step("scaleDown", this::scaleDown, "pvcs")
+                .step("updateNodePoolStatuses", () -> updateNodePoolStatuses(kafkaStatus), "scaleDown")
+                .step("listeners", this::listeners)
+                // The certificates and the configuration depend on the listener addresses and clean up the scaled-down nodes.
+                // The configuration also updates the logging used by the manual rolling update, so it has to run after it.
+                .step("certificateSecret", () -> certificateSecret(clock), "listeners", "scaleDown")
+                .step("brokerConfigurationConfigMaps", this::brokerConfigurationConfigMaps, "listeners", "scaleDown", "manualRollingUpdate")
+                .step("jmxSecret", this::jmxSecret)
+                .step("podDisruptionBudget", this::podDisruptionBudget)
+                // Everything from here on works with the pods and has to run after all the previous steps and one after another
+                .step("migrateFromStatefulSetToPodSet", this::migrateFromStatefulSetToPodSet, "updateNodePoolStatuses", "networkPolicy",
+                        "serviceAccount", "initClusterRoleBinding", "certificateSecret", "brokerConfigurationConfigMaps", "jmxSecret", "podDisruptionBudget")
+                .step("podSet", () -> podSet().onSuccess(podSetDiffs::set).mapEmpty(), "migrateFromStatefulSetToPodSet")
+                .step("rollingUpdate", () -> rollingUpdate(podSetDiffs.get()), "podSet")
+                .step("podsReady", this::podsReady, "rollingUpdate")
+                .step("serviceEndpointsReady", this::serviceEndpointsReady, "podsReady")
+                .step("headlessServiceEndpointsReady", this::headlessServiceEndpointsReady, "serviceEndpointsReady")
+                .step("clusterId", () -> clusterId(kafkaStatus), "headlessServiceEndpointsReady")
+                .step("defaultKafkaQuotas", this::defaultKafkaQuotas, "clusterId")
+                .step("nodeUnregistration", () -> nodeUnregistration(kafkaStatus), "defaultKafkaQuotas")
+                .step("metadataVersion", () -> metadataVersion(kafkaStatus), "nodeUnregistration")
+                .step("deletePersistentClaims", this::deletePersistentClaims, "metadataVersion")
+                .step("sharedKafkaConfigurationCleanup", this::sharedKafkaConfigurationCleanup, "deletePersistentClaims")
                 // This has to run after all possible rolling updates which might move the pods to different nodes
-                .compose(i -> nodePortExternalListenerStatus())
-                .compose(i -> addListenersToKafkaStatus(kafkaStatus))
-                .compose(i -> updateKafkaVersion(kafkaStatus))
-                .compose(i -> updateKafkaMetadataMigrationState())
-                .compose(i -> updateKafkaMetadataState(kafkaStatus));
+                .step("nodePortExternalListenerStatus", this::nodePortExternalListenerStatus, "sharedKafkaConfigurationCleanup")
+                .step("addListenersToKafkaStatus", () -> addListenersToKafkaStatus(kafkaStatus), "nodePortExternalListenerStatus")
+                .step("updateKafkaVersion", () -> updateKafkaVersion(kafkaStatus), "addListenersToKafkaStatus")
+                .step("updateKafkaMetadataMigrationState", this::updateKafkaMetadataMigrationState, "updateKafkaVersion")
+                .step("updateKafkaMetadataState", () -> updateKafkaMetadataState(kafkaStatus), "updateKafkaMetadataMigrationState")
+                .execute();
     }
 
     /**
@@ -471,7 +491,8 @@ public class KafkaReconciler {
                     logging,
                     kafka.getKafkaVersion(),
                     allowReconfiguration,
-                    eventsPublisher
+                    eventsPublisher,
+                    metricsProvider
             ).rollingRestart(podNeedsRestart);
     }
 
@@ -559,7 +580,7 @@ public class KafkaReconciler {
 
                         for (StrimziPodSet podSet : podSets) {
                             List<Map<String, Object>> desiredPods = podSet.getSpec().getPods().stream()
-                                    .filter(pod -> desiredPodNames.contains(PodSetUtils.mapToPod(pod).getMetadata().getName()))
+                                    .filter(pod -> desiredPodNames.contains(PodSetUtils.podName(pod)))
                                     .collect(Collectors.toList());
 
                             StrimziPodSet scaledDownPodSet = new StrimziPodSetBuilder(podSet)
@@ -0,0 +1,240 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Graph of reconciliation steps with declared dependencies. Steps which do not depend on each other are executed
+ * concurrently, up to the configured concurrency limit. Each step is started only once all the steps it depends on
+ * completed successfully. The steps are started in the order in which they were added, so with a concurrency limit of
+ * 1 the graph behaves the same way as a sequential chain of the steps.
+ *
+ * When any of the steps fails, no new steps are started. The execution fails with the error of the first failed step
+ * once the steps which are already running are complete.
+ *
+ * The duration of each step is recorded in a timer, so it is possible to see which steps are on the critical path of
+ * the reconciliation.
+ */
+public class ReconcileStepGraph {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconcileStepGraph.class);
+
+    /**
+     * Metric name for the duration of the reconciliation steps
+     */
+    public static final String METRICS_STEP_DURATION = MetricsHolder.METRICS_PREFIX + "reconciliation.step.duration";
+
+    private final Reconciliation reconciliation;
+    private final int maxConcurrency;
+    private final MetricsProvider metricsProvider;
+    private final Map<String, Step> steps = new LinkedHashMap<>();
+
+    /**
+     * Creates the reconciliation step graph
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param maxConcurrency    Maximal number of steps running at the same time
+     * @param metricsProvider   Metrics provider used for the step timers. If null, the step durations are not recorded.
+     */
+    public ReconcileStepGraph(Reconciliation reconciliation, int maxConcurrency, MetricsProvider metricsProvider) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The concurrency of the reconciliation steps has to be at least 1");
+        }
+
+        this.reconciliation = reconciliation;
+        this.maxConcurrency = maxConcurrency;
+        this.metricsProvider = metricsProvider;
+    }
+
+    /**
+     * Adds a step to the graph. The steps it depends on have to be added before it. That way, the graph can never
+     * contain any cycles.
+     *
+     * @param name          Name of the step. It is used in logs and in the metrics tags.
+     * @param step          Supplier which starts the step and returns a Future which completes when the step is done
+     * @param dependsOn     Names of the steps which have to complete before this step is started
+     *
+     * @return  This graph to allow chaining of the calls
+     */
+    public ReconcileStepGraph step(String name, Supplier<Future<Void>> step, String... dependsOn) {
+        if (steps.containsKey(name)) {
+            throw new IllegalArgumentException("Reconciliation step " + name + " already exists");
+        }
+
+        for (String dependency : dependsOn) {
+            if (!steps.containsKey(dependency)) {
+                throw new IllegalArgumentException("Reconciliation step " + name + " depends on unknown step " + dependency);
+            }
+        }
+
+        steps.put(name, new Step(name, step, Set.of(dependsOn)));
+        return this;
+    }
+
+    /**
+     * Executes the steps in the graph
+     *
+     * @return  Future which completes when all steps are complete or fails when any of the steps fails
+     */
+    public Future<Void> execute() {
+        Promise<Void> result = Promise.promise();
+        new Execution(result).schedule();
+        return result.future();
+    }
+
+    /**
+     * Single execution of the graph. It keeps track of the steps which are pending, running, and completed.
+     */
+    private class Execution {
+        private final Promise<Void> result;
+        private final List<Step> pending = new ArrayList<>(steps.values());
+        private final Set<String> completed = new HashSet<>();
+        private int running = 0;
+        private Throwable failure = null;
+
+        // Used to avoid recursion when the steps complete synchronously and to make sure only one thread starts the
+        // steps at a time. Any step completed in the meantime is picked up by the thread which is already scheduling.
+        private boolean scheduling = false;
+
+        Execution(Promise<Void> result) {
+            this.result = result;
+        }
+
+        /**
+         * Starts all steps which are ready to run. When the scheduling is already in progress, it does nothing as the
+         * steps completed in the meantime are taken into account by the scheduling which is in progress.
+         */
+        void schedule() {
+            synchronized (this) {
+                if (scheduling) {
+                    return;
+                }
+
+                scheduling = true;
+            }
+
+            while (true) {
+                Step next;
+                boolean done;
+                Throwable error;
+
+                synchronized (this) {
+                    next = nextReadyStep();
+
+                    if (next == null) {
+                        scheduling = false;
+                        done = running == 0 && (failure != null || pending.isEmpty());
+                        error = failure;
+                    } else {
+                        running++;
+                        done = false;
+                        error = null;
+                    }
+                }
+
+                if (next != null) {
+                    start(next);
+                } else {
+                    if (done) {
+                        // The result is completed outside the lock to not run the handlers of the caller while holding it
+                        if (error != null) {
+                            result.tryFail(error);
+                        } else {
+                            result.tryComplete();
+                        }
+                    }
+
+                    return;
+                }
+            }
+        }
+
+        /**
+         * @return  The first pending step with all dependencies completed or null if no step can be started now
+         */
+        private Step nextReadyStep() {
+            if (failure != null || running >= maxConcurrency) {
+                return null;
+            }
+
+            Iterator<Step> iterator = pending.iterator();
+            while (iterator.hasNext()) {
+                Step step = iterator.next();
+
+                if (completed.containsAll(step.dependsOn)) {
+                    iterator.remove();
+                    return step;
+                }
+            }
+
+            return null;
+        }
+
+        private void start(Step step) {
+            LOGGER.debugCr(reconciliation, "Starting reconciliation step {}", step.name);
+            long startNs = System.nanoTime();
+
+            Future<Void> future;
+            try {
+                future = step.supplier.get();
+            } catch (Throwable t) {
+                future = Future.failedFuture(t);
+            }
+
+            future.onComplete(res -> {
+                long durationNs = System.nanoTime() - startNs;
+                LOGGER.debugCr(reconciliation, "Reconciliation step {} {} after {}ms", step.name, res.succeeded() ? "completed" : "failed", TimeUnit.NANOSECONDS.toMillis(durationNs));
+
+                if (metricsProvider != null) {
+                    stepTimer(step.name).record(durationNs, TimeUnit.NANOSECONDS);
+                }
+
+                synchronized (this) {
+                    running--;
+
+                    if (res.succeeded()) {
+                        completed.add(step.name);
+                    } else if (failure == null) {
+                        failure = res.cause();
+                    }
+                }
+
+                schedule();
+            });
+        }
+    }
+
+    private Timer stepTimer(String step) {
+        return metricsProvider.timer(METRICS_STEP_DURATION,
+                "Time taken by the individual steps of the reconciliation",
+                Tags.of("kind", reconciliation.kind(), "namespace", reconciliation.namespace(), "step", step));
+    }
+
+    /**
+     * Reconciliation step
+     *
+     * @param name          Name of the step
+     * @param supplier      Supplier which starts the step
+     * @param dependsOn     Names of the steps this step depends on
+     */
+    private record Step(String name, Supplier<Future<Void>> supplier, Set<String> dependsOn) { }
+}
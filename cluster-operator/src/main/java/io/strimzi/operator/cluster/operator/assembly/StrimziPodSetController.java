@@ -41,18 +41,19 @@ import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.controller.KeyedWorkQueue;
 import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.StatusDiff;
 import io.strimzi.operator.common.model.StatusUtils;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -67,6 +68,7 @@ public class StrimziPodSetController implements Runnable {
             .build();
 
     private final Thread controllerThread;
+    private final int workers;
 
     private volatile boolean stop = false;
 
@@ -76,7 +78,7 @@ public class StrimziPodSetController implements Runnable {
     private final LabelSelector crSelector;
     private final String watchedNamespace;
 
-    private final BlockingQueue<SimplifiedReconciliation> workQueue;
+    private final KeyedWorkQueue<SimplifiedReconciliation> workQueue;
     private final SharedIndexInformer<Pod> podInformer;
     private final SharedIndexInformer<StrimziPodSet> strimziPodSetInformer;
     private final SharedIndexInformer<Kafka> kafkaInformer;
@@ -115,15 +117,55 @@ public class StrimziPodSetController implements Runnable {
             MetricsProvider metricsProvider,
             int podSetControllerWorkQueueSize
     ) {
+        this(watchedNamespace, crSelectorLabels, kafkaOperator, kafkaConnectOperator, kafkaMirrorMaker2Operator, strimziPodSetOperator, podOperator, metricsProvider, podSetControllerWorkQueueSize, 1);
+    }
+
+    /**
+     * Creates the StrimziPodSet controller with multiple worker threads. The workers take the reconciliations from a
+     * shared work queue. The work queue never hands out the same StrimziPodSet to two workers at the same time, so
+     * different StrimziPodSets are reconciled in parallel while each StrimziPodSet is still reconciled only by one
+     * worker at a time.
+     *
+     * @param watchedNamespace              Namespace which should be watched. Use * for all namespaces.
+     * @param crSelectorLabels              Selector labels for custom resource managed by this operator instance. This is used
+     *                                      to check that the pods belong to a Kafka cluster matching these labels.
+     * @param kafkaOperator                 Kafka Operator for getting the Kafka custom resources
+     * @param kafkaConnectOperator          KafkaConnect Operator for getting the KafkaConnect custom resources
+     * @param kafkaMirrorMaker2Operator     KafkaMirrorMaker2 Operator for getting the KafkaMirrorMaker2 custom resources
+     * @param strimziPodSetOperator         StrimziPodSet Operator used to manage the StrimziPodSet resources - get them, update
+     *                                      their status etc.
+     * @param podOperator                   Pod operator for managing pods
+     * @param metricsProvider               Metrics provider
+     * @param podSetControllerWorkQueueSize Indicates the size of the StrimziPodSetController work queue
+     * @param workers                       Number of worker threads reconciling the StrimziPodSets
+     */
+    public StrimziPodSetController(
+            String watchedNamespace,
+            Labels crSelectorLabels,
+            CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator,
+            CrdOperator<KubernetesClient, KafkaConnect, KafkaConnectList> kafkaConnectOperator,
+            CrdOperator<KubernetesClient, KafkaMirrorMaker2, KafkaMirrorMaker2List> kafkaMirrorMaker2Operator,
+            StrimziPodSetOperator strimziPodSetOperator,
+            PodOperator podOperator,
+            MetricsProvider metricsProvider,
+            int podSetControllerWorkQueueSize,
+            int workers
+    ) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("The StrimziPodSet controller needs at least one worker");
+        }
+
+        this.workers = workers;
         this.podOperator = podOperator;
         this.strimziPodSetOperator = strimziPodSetOperator;
         this.crSelector = (crSelectorLabels == null || crSelectorLabels.toMap().isEmpty()) ? null : new LabelSelector(null, crSelectorLabels.toMap());
         this.watchedNamespace = watchedNamespace;
-        this.workQueue = new ArrayBlockingQueue<>(podSetControllerWorkQueueSize);
 
         // Set up the metrics holder
         this.metrics = new ControllerMetricsHolder("StrimziPodSet", crSelectorLabels != null ? crSelectorLabels : Labels.EMPTY, metricsProvider);
 
+        this.workQueue = new KeyedWorkQueue<>(podSetControllerWorkQueueSize, metrics.workQueueDepthGauge(watchedNamespace));
+
         // Kafka, KafkaConnect and KafkaMirrorMaker2 informers and listers are used to get the CRs quickly.
         // This is needed for verification of the CR selector labels.
         this.kafkaInformer = kafkaOperator.informer(watchedNamespace, (crSelectorLabels == null) ? Map.of() : crSelectorLabels.toMap(), DEFAULT_RESYNC_PERIOD_MS);
@@ -392,10 +434,9 @@ public class StrimziPodSetController implements Runnable {
                     podCounter.pods = podSet.getSpec().getPods().size();
 
                     for (Map<String, Object> desiredPod : podSet.getSpec().getPods()) {
-                        Pod pod = PodSetUtils.mapToPod(desiredPod);
-                        desiredPods.add(pod.getMetadata().getName());
+                        desiredPods.add(PodSetUtils.podName(desiredPod));
 
-                        maybeCreateOrPatchPod(reconciliation, pod, ModelUtils.createOwnerReference(podSet, true), podCounter);
+                        maybeCreateOrPatchPod(reconciliation, desiredPod, ModelUtils.createOwnerReference(podSet, true), podCounter);
                     }
 
                     // Check if any pods needs to be deleted
@@ -456,16 +497,19 @@ public class StrimziPodSetController implements Runnable {
      * needed adds it to the Pod.
      *
      * @param reconciliation    Reconciliation in which this is executed
-     * @param pod               Pod which should be checked and created if needed
+     * @param desiredPod        Pod which should be checked and created if needed. It is represented as Map as stored in
+     *                          the StrimziPodSet and decoded only when the Pod needs to be created.
      * @param owner             The OwnerReference which should be set to the pod
      * @param podCounter        Pod Counter used to count pods for the status
      */
-    private void maybeCreateOrPatchPod(Reconciliation reconciliation, Pod pod, OwnerReference owner, PodCounter podCounter)    {
-        Pod currentPod = podLister.namespace(reconciliation.namespace()).get(pod.getMetadata().getName());
+    private void maybeCreateOrPatchPod(Reconciliation reconciliation, Map<String, Object> desiredPod, OwnerReference owner, PodCounter podCounter)    {
+        String podName = PodSetUtils.podName(desiredPod);
+        Pod currentPod = podLister.namespace(reconciliation.namespace()).get(podName);
 
         if (currentPod == null) {
             // Pod does not exist => we create it
-            LOGGER.debugCr(reconciliation, "Creating pod {} in namespace {}", pod.getMetadata().getName(), reconciliation.namespace());
+            LOGGER.debugCr(reconciliation, "Creating pod {} in namespace {}", podName, reconciliation.namespace());
+            Pod pod = PodSetUtils.mapToPod(desiredPod);
             pod.getMetadata().setOwnerReferences(List.of(owner));
             podOperator.client().inNamespace(reconciliation.namespace()).resource(pod).create();
         } else {
@@ -476,7 +520,7 @@ public class StrimziPodSetController implements Runnable {
                 LOGGER.debugCr(reconciliation, "Pod {} in namespace {} reached terminal phase {} => deleting it", currentPod.getMetadata().getName(), reconciliation.namespace(), currentPod.getStatus().getPhase());
                 podOperator.client().inNamespace(reconciliation.namespace()).resource(currentPod).withPropagationPolicy(DeletionPropagation.BACKGROUND).delete();
             } else if (ModelUtils.hasOwnerReference(currentPod, owner))    {
-                LOGGER.debugCr(reconciliation, "Pod {} in namespace {} already exists => nothing to do right now", pod.getMetadata().getName(), reconciliation.namespace());
+                LOGGER.debugCr(reconciliation, "Pod {} in namespace {} already exists => nothing to do right now", podName, reconciliation.namespace());
             } else  {
                 LOGGER.debugCr(reconciliation, "Pod {} in namespace {} is missing owner reference => patching it", currentPod.getMetadata().getName(), reconciliation.namespace());
                 Pod podWithOwnerReference = new PodBuilder(currentPod).build();
@@ -487,14 +531,14 @@ public class StrimziPodSetController implements Runnable {
                     podWithOwnerReference.getMetadata().setOwnerReferences(List.of(owner));
                 }
 
-                podOperator.client().inNamespace(reconciliation.namespace()).withName(pod.getMetadata().getName()).patch(PatchContext.of(PatchType.JSON), podWithOwnerReference);
+                podOperator.client().inNamespace(reconciliation.namespace()).withName(podName).patch(PatchContext.of(PatchType.JSON), podWithOwnerReference);
             }
 
             if (Readiness.isPodReady(currentPod))   {
                 podCounter.readyPods++;
             }
 
-            if (!PodRevision.hasChanged(currentPod, pod))    {
+            if (!PodRevision.hasChanged(currentPod, desiredPod))    {
                 podCounter.currentPods++;
             }
 
@@ -535,17 +579,54 @@ public class StrimziPodSetController implements Runnable {
      * @param reconciliation    Reconciliation identifier
      */
     private void enqueue(SimplifiedReconciliation reconciliation)    {
-        if (!workQueue.contains(reconciliation)) {
-            LOGGER.debugOp("Enqueueing StrimziPodSet {} in namespace {}", reconciliation.name, reconciliation.name);
-            workQueue.add(reconciliation);
-        } else {
-            metrics().alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
-            LOGGER.debugOp("StrimziPodSet {} in namespace {} is already enqueued => ignoring", reconciliation.name, reconciliation.name);
+        switch (workQueue.offer(reconciliation)) {
+            case ENQUEUED:
+                LOGGER.debugOp("Enqueued StrimziPodSet {} in namespace {}", reconciliation.name, reconciliation.namespace);
+                break;
+            case DUPLICATE:
+                metrics().alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
+                LOGGER.debugOp("StrimziPodSet {} in namespace {} is already enqueued => ignoring", reconciliation.name, reconciliation.namespace);
+                break;
+            case FULL:
+            default:
+                LOGGER.warnOp("Failed to enqueue StrimziPodSet {} in namespace {} because the controller queue is full", reconciliation.name, reconciliation.namespace);
         }
     }
 
     /**
-     * The run loop of the controller thread. It picks reconciliations from the work queue and executes them.
+     * The run loop of a worker thread. It picks reconciliations from the work queue and executes them.
+     *
+     * @param worker    Index of the worker used for the metrics
+     */
+    private void runWorker(int worker) {
+        Timer queueWaitTimer = metrics.workQueueWaitTimer(watchedNamespace);
+        Timer busyTimer = metrics.workerBusyTimer(watchedNamespace, worker);
+
+        while (!stop) {
+            try {
+                LOGGER.debugOp("Waiting for next event from work queue");
+                SimplifiedReconciliation reconciliation = workQueue.take();
+                long startTime = System.nanoTime();
+                queueWaitTimer.record(startTime - reconciliation.enqueuedAt, TimeUnit.NANOSECONDS);
+
+                try {
+                    reconcile(reconciliation.toReconciliation());
+                } finally {
+                    // Allows the StrimziPodSet to be taken from the queue again
+                    workQueue.done(reconciliation);
+                    busyTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                }
+            } catch (InterruptedException e)    {
+                LOGGER.debugOp("StrimziPodSet Controller worker {} was interrupted", worker, e);
+            } catch (Exception e)   {
+                LOGGER.warnOp("StrimziPodSet reconciliation failed", e);
+            }
+        }
+    }
+
+    /**
+     * The run loop of the controller thread. It starts the informers, waits for them to sync and starts the worker
+     * threads which execute the reconciliations. Once the controller is stopped, it stops the workers and the informers.
      */
     @Override
     public void run() {
@@ -559,20 +640,41 @@ public class StrimziPodSetController implements Runnable {
 
         LOGGER.infoOp("Informers are in-sync");
 
-        while (!stop) {
-            try {
-                LOGGER.debugOp("Waiting for next event from work queue");
-                Reconciliation reconciliation = workQueue.take().toReconciliation();
-                reconcile(reconciliation);
-            } catch (InterruptedException e)    {
-                LOGGER.debugOp("StrimziPodSet Controller was interrupted", e);
-            } catch (Exception e)   {
-                LOGGER.warnOp("StrimziPodSet reconciliation failed", e);
+        List<Thread> workerThreads = new ArrayList<>(workers);
+        if (!stop) {
+            LOGGER.infoOp("Starting {} StrimziPodSet controller workers", workers);
+
+            for (int i = 0; i < workers; i++) {
+                int worker = i;
+                Thread workerThread = new Thread(() -> runWorker(worker), "StrimziPodSetController-worker-" + i);
+                workerThreads.add(workerThread);
+                workerThread.start();
+            }
+        }
+
+        try {
+            // The workers run until the controller is stopped
+            for (Thread workerThread : workerThreads) {
+                workerThread.join();
             }
+        } catch (InterruptedException e)    {
+            LOGGER.debugOp("StrimziPodSet Controller was interrupted", e);
         }
 
         LOGGER.infoOp("Stopping StrimziPodSet controller");
 
+        for (Thread workerThread : workerThreads) {
+            workerThread.interrupt();
+        }
+
+        for (Thread workerThread : workerThreads) {
+            try {
+                workerThread.join();
+            } catch (InterruptedException e)    {
+                LOGGER.warnOp("Interrupted while waiting for the StrimziPodSet controller worker {} to stop", workerThread.getName());
+            }
+        }
+
         stopController();
     }
 
@@ -619,10 +721,13 @@ public class StrimziPodSetController implements Runnable {
     static class SimplifiedReconciliation    {
         private final String namespace;
         private final String name;
+        // Not part of equals or hashCode => used only to measure the time spent in the work queue
+        private final long enqueuedAt;
 
         public SimplifiedReconciliation(String namespace, String name) {
             this.namespace = namespace;
             this.name = name;
+            this.enqueuedAt = System.nanoTime();
         }
 
         /**
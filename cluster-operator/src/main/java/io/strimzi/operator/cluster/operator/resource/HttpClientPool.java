@@ -0,0 +1,302 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.json.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Pool of long-lived HTTP clients. Unlike HttpClientUtils which creates a new client (and a new TCP connection) for
+ * every request, the pool keeps one client per key (for example per Kafka Connect cluster). The client keeps its
+ * connections alive between the requests and reuses them.
+ *
+ * The client is invalidated and replaced with a new one when it is requested with different options than it was
+ * created with (for example when the TLS certificates change). The invalidated client is closed once all the requests
+ * which use it are complete. Clients which were not used for longer than the idle timeout are closed and removed from
+ * the pool as well.
+ */
+public class HttpClientPool {
+    private static final Logger LOGGER = LogManager.getLogger(HttpClientPool.class);
+
+    /**
+     * Default time after which idle clients are closed
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT_MS = 10 * 60 * 1_000L;
+
+    /**
+     * Metric name for the number of HTTP clients in the pool
+     */
+    public static final String METRICS_CLIENTS = MetricsHolder.METRICS_PREFIX + "http.client.pool.clients";
+
+    /**
+     * Metric name for the number of requests in progress
+     */
+    public static final String METRICS_REQUESTS_IN_FLIGHT = MetricsHolder.METRICS_PREFIX + "http.client.pool.requests.in.flight";
+
+    /**
+     * Metric name for the number of HTTP clients created by the pool
+     */
+    public static final String METRICS_CLIENTS_CREATED = MetricsHolder.METRICS_PREFIX + "http.client.pool.clients.created";
+
+    /**
+     * Metric name for the number of HTTP clients invalidated because of changed options
+     */
+    public static final String METRICS_CLIENTS_INVALIDATED = MetricsHolder.METRICS_PREFIX + "http.client.pool.clients.invalidated";
+
+    /**
+     * Metric name for the duration of the requests to a single server
+     */
+    public static final String METRICS_REQUEST_DURATION = MetricsHolder.METRICS_PREFIX + "http.client.pool.request.duration";
+
+    private final Vertx vertx;
+    private final String name;
+    private final long idleTimeoutNs;
+    private final Map<String, PooledClient> clients = new ConcurrentHashMap<>();
+    private final Map<String, Timer> requestTimers = new ConcurrentHashMap<>();
+
+    private final MetricsProvider metricsProvider;
+    private final Tags tags;
+
+    private final AtomicInteger clientsGauge;
+    private final AtomicInteger requestsInFlightGauge;
+    private final Counter clientsCreatedCounter;
+    private final Counter clientsInvalidatedCounter;
+
+    /**
+     * Creates the HTTP client pool
+     *
+     * @param vertx             Vert.x instance
+     * @param name              Name of the pool. It is used in the metrics tags and has to be unique.
+     * @param metricsProvider   Metrics provider
+     */
+    public HttpClientPool(Vertx vertx, String name, MetricsProvider metricsProvider) {
+        this(vertx, name, metricsProvider, DEFAULT_IDLE_TIMEOUT_MS);
+    }
+
+    /**
+     * Creates the HTTP client pool
+     *
+     * @param vertx             Vert.x instance
+     * @param name              Name of the pool. It is used in the metrics tags and has to be unique.
+     * @param metricsProvider   Metrics provider
+     * @param idleTimeoutMs     Time in milliseconds after which the unused clients are closed
+     */
+    public HttpClientPool(Vertx vertx, String name, MetricsProvider metricsProvider, long idleTimeoutMs) {
+        this.vertx = vertx;
+        this.name = name;
+        this.idleTimeoutNs = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMs);
+
+        this.metricsProvider = metricsProvider;
+        this.tags = Tags.of("pool", name);
+        this.clientsGauge = metricsProvider.gauge(METRICS_CLIENTS, "Number of HTTP clients in the pool", tags);
+        this.requestsInFlightGauge = metricsProvider.gauge(METRICS_REQUESTS_IN_FLIGHT, "Number of HTTP requests in progress", tags);
+        this.clientsCreatedCounter = metricsProvider.counter(METRICS_CLIENTS_CREATED, "Number of HTTP clients created by the pool", tags);
+        this.clientsInvalidatedCounter = metricsProvider.counter(METRICS_CLIENTS_INVALIDATED, "Number of HTTP clients replaced because their options changed", tags);
+    }
+
+    /**
+     * Perform the given operation, which completes the promise, using the pooled HTTP client for given key. The client
+     * is created if it does not exist yet or if it was created with different options.
+     *
+     * @param key           Key identifying the client (e.g. the host and port of the server)
+     * @param options       Options of the HTTP client
+     * @param operation     The operation to perform
+     *
+     * @return A future which is completed with the result performed by the operation
+     *
+     * @param <T> The type of the result
+     */
+    public <T> Future<T> withHttpClient(String key, HttpClientOptions options, BiConsumer<HttpClient, Promise<T>> operation) {
+        closeIdleClients();
+
+        PooledClient client = acquire(key, options);
+        Timer requestTimer = requestTimers.computeIfAbsent(key, k -> metricsProvider.timer(METRICS_REQUEST_DURATION, "Duration of the HTTP requests to a single server", tags.and("server", k)));
+        long startNs = System.nanoTime();
+        Promise<T> promise = Promise.promise();
+
+        try {
+            operation.accept(client.httpClient, promise);
+        } catch (RuntimeException e) {
+            promise.tryFail(e);
+        }
+
+        return promise.future().onComplete(i -> {
+            requestTimer.record(System.nanoTime() - startNs, TimeUnit.NANOSECONDS);
+            release(client);
+        });
+    }
+
+    /**
+     * Closes and removes the client for given key. This should be used when the server it connects to is deleted.
+     * Requests which are already in progress are allowed to finish.
+     *
+     * @param key   Key identifying the client
+     */
+    public void remove(String key) {
+        PooledClient client = clients.remove(key);
+
+        if (client != null) {
+            LOGGER.debug("Removing HTTP client {} from pool {}", key, name);
+            clientsGauge.set(clients.size());
+            client.retire();
+            removeRequestTimer(key);
+        }
+    }
+
+    /**
+     * Closes all clients in the pool
+     */
+    public void close() {
+        for (String key : List.copyOf(clients.keySet())) {
+            remove(key);
+        }
+    }
+
+    /**
+     * @return  Number of clients in the pool
+     */
+    public int size() {
+        return clients.size();
+    }
+
+    private PooledClient acquire(String key, HttpClientOptions options) {
+        JsonObject config = options.toJson();
+        List<PooledClient> invalidated = new ArrayList<>(1);
+        AtomicBoolean created = new AtomicBoolean(false);
+
+        PooledClient client = clients.compute(key, (k, existing) -> {
+            if (existing != null && existing.config.equals(config)) {
+                existing.inFlight.incrementAndGet();
+                return existing;
+            } else {
+                if (existing != null) {
+                    invalidated.add(existing);
+                }
+
+                PooledClient newClient = new PooledClient(vertx.createHttpClient(options), config);
+                newClient.inFlight.incrementAndGet();
+                created.set(true);
+                return newClient;
+            }
+        });
+
+        if (created.get()) {
+            clientsCreatedCounter.increment();
+            clientsGauge.set(clients.size());
+            LOGGER.debug("Created new HTTP client {} in pool {}", key, name);
+        }
+
+        for (PooledClient old : invalidated) {
+            LOGGER.debug("HTTP client {} in pool {} was invalidated because of changed options", key, name);
+            clientsInvalidatedCounter.increment();
+            old.retire();
+        }
+
+        requestsInFlightGauge.incrementAndGet();
+        return client;
+    }
+
+    private void release(PooledClient client) {
+        requestsInFlightGauge.decrementAndGet();
+        client.lastUsedNs = System.nanoTime();
+
+        if (client.inFlight.decrementAndGet() == 0 && client.retired) {
+            client.close();
+        }
+    }
+
+    private void closeIdleClients() {
+        long now = System.nanoTime();
+
+        for (String key : clients.keySet()) {
+            List<PooledClient> idle = new ArrayList<>(1);
+
+            clients.computeIfPresent(key, (k, client) -> {
+                if (client.inFlight.get() == 0 && now - client.lastUsedNs > idleTimeoutNs) {
+                    idle.add(client);
+                    return null;
+                } else {
+                    return client;
+                }
+            });
+
+            for (PooledClient client : idle) {
+                LOGGER.debug("Closing idle HTTP client {} in pool {}", key, name);
+                clientsGauge.set(clients.size());
+                client.retire();
+                removeRequestTimer(key);
+            }
+        }
+    }
+
+    /**
+     * Removes the request duration metric of a server which is not used anymore, so that the metrics of deleted
+     * servers do not pile up
+     *
+     * @param key   Key identifying the client
+     */
+    private void removeRequestTimer(String key) {
+        Timer timer = requestTimers.remove(key);
+
+        if (timer != null && metricsProvider.meterRegistry() != null) {
+            metricsProvider.meterRegistry().remove(timer);
+        }
+    }
+
+    /**
+     * Pooled HTTP client with the options it was created with and the number of requests using it
+     */
+    private static class PooledClient {
+        private final HttpClient httpClient;
+        private final JsonObject config;
+        private final AtomicInteger inFlight = new AtomicInteger(0);
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        private volatile boolean retired = false;
+        private volatile long lastUsedNs = System.nanoTime();
+
+        PooledClient(HttpClient httpClient, JsonObject config) {
+            this.httpClient = httpClient;
+            this.config = config;
+        }
+
+        /**
+         * Marks the client as retired. It is closed right away if it has no requests in progress or once the last
+         * request is finished.
+         */
+        void retire() {
+            retired = true;
+
+            if (inFlight.get() == 0) {
+                close();
+            }
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                httpClient.close();
+            }
+        }
+    }
+}
@@ -4,8 +4,12 @@
  */
 package io.strimzi.operator.cluster.operator.resource;
 
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.metrics.MetricsHolder;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import org.apache.kafka.clients.admin.Admin;
@@ -19,10 +23,12 @@ import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static java.lang.Integer.parseInt;
@@ -30,28 +36,37 @@ import static java.lang.Integer.parseInt;
 /**
  * Determines whether the given broker can be rolled without affecting
  * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+ *
+ * <p>Every check describes all topics, because the Kafka Admin API does not provide any metadata deltas and any
+ * partition might have been reassigned to the checked broker or added to an existing topic since the previous check.
+ * The {@code min.insync.replicas} configuration is fetched only for the topics hosted by the checked broker. It is
+ * fetched again in every check, so changes done during the rolling update are respected.</p>
  */
 class KafkaAvailability {
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaAvailability.class.getName());
 
+    /**
+     * Metric name for the duration of the availability checks
+     */
+    static final String METRICS_CHECK_DURATION = MetricsHolder.METRICS_PREFIX + "kafka.availability.check.duration";
+
     private final Admin ac;
 
     private final Reconciliation reconciliation;
 
-    private final Future<Collection<TopicDescription>> descriptions;
+    private final Timer checkTimer;
 
     KafkaAvailability(Reconciliation reconciliation, Admin ac) {
+        this(reconciliation, ac, null);
+    }
+
+    KafkaAvailability(Reconciliation reconciliation, Admin ac, MetricsProvider metricsProvider) {
         this.ac = ac;
         this.reconciliation = reconciliation;
-        // 1. Get all topic names
-        Future<Set<String>> topicNames = topicNames();
-        // 2. Get topic descriptions
-        descriptions = topicNames.compose(names -> {
-            LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
-            LOGGER.traceCr(reconciliation, "Topic names {}", names);
-            return describeTopics(names);
-        });
+        this.checkTimer = metricsProvider == null ? null : metricsProvider.timer(METRICS_CHECK_DURATION,
+                "Time taken to determine whether a Kafka broker can be rolled without affecting the availability of its partitions",
+                Tags.of("kind", reconciliation.kind(), "namespace", reconciliation.namespace()));
     }
 
     /**
@@ -60,90 +75,69 @@ class KafkaAvailability {
      */
     Future<Boolean> canRoll(int podId) {
         LOGGER.debugCr(reconciliation, "Determining whether broker {} can be rolled", podId);
-        return canRollBroker(descriptions, podId);
-    }
+        long startNs = System.nanoTime();
 
-    private Future<Boolean> canRollBroker(Future<Collection<TopicDescription>> descriptions, int podId) {
-        Future<Set<TopicDescription>> topicsOnGivenBroker = descriptions
-                .compose(topicDescriptions -> {
-                    LOGGER.debugCr(reconciliation, "Got {} topic descriptions", topicDescriptions.size());
-                    return Future.succeededFuture(groupTopicsByBroker(topicDescriptions, podId));
-                }).recover(error -> {
-                    LOGGER.warnCr(reconciliation, "failed to get topic descriptions", error);
+        return topicsOnBroker(podId)
+                .compose(tds -> minIsrs(tds)
+                        .map(topicMinIsrs -> canRollBroker(podId, tds, topicMinIsrs)))
+                .recover(error -> {
+                    LOGGER.warnCr(reconciliation, "Error determining whether it is safe to restart pod {}", podId, error);
                     return Future.failedFuture(error);
+                })
+                .onComplete(i -> {
+                    if (checkTimer != null) {
+                        checkTimer.record(System.nanoTime() - startNs, TimeUnit.NANOSECONDS);
+                    }
                 });
+    }
 
-        // 4. Get topic configs (for those on $broker)
-        Future<Map<String, Config>> topicConfigsOnGivenBroker = topicsOnGivenBroker
-                .compose(td -> topicConfigs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
-
-        // 5. join
-        return topicConfigsOnGivenBroker.map(topicNameToConfig -> {
-            Collection<TopicDescription> tds = topicsOnGivenBroker.result();
-            boolean canRoll = tds.stream().noneMatch(
-                td -> wouldAffectAvailability(podId, topicNameToConfig, td));
-            if (!canRoll) {
-                LOGGER.debugCr(reconciliation, "Restart pod {} would remove it from ISR, stalling producers with acks=all", podId);
-            }
-            return canRoll;
-        }).recover(error -> {
-            LOGGER.warnCr(reconciliation, "Error determining whether it is safe to restart pod {}", podId, error);
-            return Future.failedFuture(error);
-        });
+    private boolean canRollBroker(int podId, Collection<TopicDescription> tds, Map<String, Integer> minIsrs) {
+        boolean canRoll = tds.stream().noneMatch(
+            td -> wouldAffectAvailability(podId, minIsrs.getOrDefault(td.name(), -1), td));
+        if (!canRoll) {
+            LOGGER.debugCr(reconciliation, "Restart pod {} would remove it from ISR, stalling producers with acks=all", podId);
+        }
+        return canRoll;
     }
 
-    private boolean wouldAffectAvailability(int broker, Map<String, Config> nameToConfig, TopicDescription td) {
-        Config config = nameToConfig.get(td.name());
-        ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
-        int minIsr;
-        if (minIsrConfig != null && minIsrConfig.value() != null) {
-            minIsr = parseInt(minIsrConfig.value());
-            LOGGER.debugCr(reconciliation, "{} has {}={}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
-        } else {
-            minIsr = -1;
-            LOGGER.debugCr(reconciliation, "{} lacks {}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+    private boolean wouldAffectAvailability(int broker, int minIsr, TopicDescription td) {
+        if (minIsr < 0) {
+            return false;
         }
 
         for (TopicPartitionInfo pi : td.partitions()) {
+            if (!contains(pi.replicas(), broker)) {
+                continue;
+            }
+
             List<Node> isr = pi.isr();
-            if (minIsr >= 0) {
-                if (pi.replicas().size() <= minIsr) {
-                    if (LOGGER.isDebugEnabled()) {
-                        LOGGER.debugCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted, but there are only {} replicas.",
-                                td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
-                                pi.replicas().size());
-                    }
-                } else if (isr.size() < minIsr
-                        && contains(pi.replicas(), broker)) {
-                    if (LOGGER.isInfoEnabled()) {
-                        String msg;
-                        if (contains(isr, broker)) {
-                            msg = "{}/{} is already under-replicated (ISR={{}}, replicas=[{}], {}={}); broker {} is in the ISR, " +
-                                                          "so should not be restarted right now (it would impact consumers).";
-                        } else {
-                            msg = "{}/{} is already under-replicated (ISR={{}}, replicas=[{}], {}={}); broker {} has a replica, " +
-                                                          "so should not be restarted right now (it might be first to catch up).";
-                        }
-                        LOGGER.infoCr(reconciliation, msg,
-                                td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
-                    }
-                    return true;
-                } else if (isr.size() == minIsr
-                        && contains(isr, broker)) {
-                    if (minIsr < pi.replicas().size()) {
-                        if (LOGGER.isInfoEnabled()) {
-                            LOGGER.infoCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted.",
-                                    td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
-                        }
-                        return true;
+            if (pi.replicas().size() <= minIsr) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debugCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted, but there are only {} replicas.",
+                            td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
+                            pi.replicas().size());
+                }
+            } else if (isr.size() < minIsr) {
+                if (LOGGER.isInfoEnabled()) {
+                    String msg;
+                    if (contains(isr, broker)) {
+                        msg = "{}/{} is already under-replicated (ISR={{}}, replicas=[{}], {}={}); broker {} is in the ISR, " +
+                                                      "so should not be restarted right now (it would impact consumers).";
                     } else {
-                        if (LOGGER.isDebugEnabled()) {
-                            LOGGER.debugCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted, but there are only {} replicas.",
-                                    td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
-                                    pi.replicas().size());
-                        }
+                        msg = "{}/{} is already under-replicated (ISR={{}}, replicas=[{}], {}={}); broker {} has a replica, " +
+                                                      "so should not be restarted right now (it might be first to catch up).";
                     }
+                    LOGGER.infoCr(reconciliation, msg,
+                            td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
+                }
+                return true;
+            } else if (isr.size() == minIsr
+                    && contains(isr, broker)) {
+                if (LOGGER.isInfoEnabled()) {
+                    LOGGER.infoCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted.",
+                            td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
                 }
+                return true;
             }
         }
         return false;
@@ -157,6 +151,77 @@ class KafkaAvailability {
         return isr.stream().anyMatch(node -> node.id() == broker);
     }
 
+    /**
+     * Describes all topics and returns the descriptions of the topics hosted by the given broker
+     *
+     * @param podId     ID of the broker
+     *
+     * @return  Future with the descriptions of the topics with a replica on the broker
+     */
+    private Future<Collection<TopicDescription>> topicsOnBroker(int podId) {
+        return topicNames()
+                .compose(names -> {
+                    LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
+                    LOGGER.traceCr(reconciliation, "Topic names {}", names);
+                    return describeTopics(names);
+                })
+                .map(tds -> {
+                    Set<TopicDescription> onBroker = groupTopicsByBroker(tds, podId);
+                    LOGGER.debugCr(reconciliation, "Broker {} hosts {} of {} topics", podId, onBroker.size(), tds.size());
+                    return onBroker;
+                });
+    }
+
+    private Set<TopicDescription> groupTopicsByBroker(Collection<TopicDescription> tds, int podId) {
+        Set<TopicDescription> topicPartitionInfos = new HashSet<>();
+        for (TopicDescription td : tds) {
+            LOGGER.traceCr(reconciliation, td);
+            for (TopicPartitionInfo pd : td.partitions()) {
+                if (contains(pd.replicas(), podId)) {
+                    topicPartitionInfos.add(td);
+                    break;
+                }
+            }
+        }
+        return topicPartitionInfos;
+    }
+
+    /**
+     * Returns the {@code min.insync.replicas} of the given topics
+     *
+     * @param tds   Descriptions of the topics
+     *
+     * @return  Future with map of topic names to their {@code min.insync.replicas} or -1 if it is not set
+     */
+    private Future<Map<String, Integer>> minIsrs(Collection<TopicDescription> tds) {
+        if (tds.isEmpty()) {
+            return Future.succeededFuture(Map.of());
+        }
+
+        return topicConfigs(tds.stream().map(TopicDescription::name).collect(Collectors.toSet()))
+                .map(topicNameToConfig -> {
+                    Map<String, Integer> result = new HashMap<>(topicNameToConfig.size());
+
+                    for (Map.Entry<String, Config> entry : topicNameToConfig.entrySet()) {
+                        result.put(entry.getKey(), minIsr(entry.getKey(), entry.getValue()));
+                    }
+
+                    return result;
+                });
+    }
+
+    private int minIsr(String topic, Config config) {
+        ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+        if (minIsrConfig != null && minIsrConfig.value() != null) {
+            int minIsr = parseInt(minIsrConfig.value());
+            LOGGER.debugCr(reconciliation, "{} has {}={}.", topic, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
+            return minIsr;
+        } else {
+            LOGGER.debugCr(reconciliation, "{} lacks {}.", topic, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+            return -1;
+        }
+    }
+
     private Future<Map<String, Config>> topicConfigs(Collection<String> topicNames) {
         LOGGER.debugCr(reconciliation, "Getting topic configs for {} topics", topicNames.size());
         List<ConfigResource> configs = topicNames.stream()
@@ -177,21 +242,6 @@ class KafkaAvailability {
         return promise.future();
     }
 
-    private Set<TopicDescription> groupTopicsByBroker(Collection<TopicDescription> tds, int podId) {
-        Set<TopicDescription> topicPartitionInfos = new HashSet<>();
-        for (TopicDescription td : tds) {
-            LOGGER.traceCr(reconciliation, td);
-            for (TopicPartitionInfo pd : td.partitions()) {
-                for (Node broker : pd.replicas()) {
-                    if (podId == broker.id()) {
-                        topicPartitionInfos.add(td);
-                    }
-                }
-            }
-        }
-        return topicPartitionInfos;
-    }
-
     protected Future<Collection<TopicDescription>> describeTopics(Set<String> names) {
         Promise<Collection<TopicDescription>> descPromise = Promise.promise();
         ac.describeTopics(names).allTopicNames()
@@ -5,8 +5,6 @@
 
 package io.strimzi.operator.cluster.operator.resource;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.kafka.config.model.ConfigModel;
 import io.strimzi.kafka.config.model.Scope;
 import io.strimzi.operator.cluster.model.KafkaConfiguration;
@@ -23,10 +21,10 @@ import org.apache.kafka.clients.admin.ConfigEntry;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * The algorithm:
@@ -39,7 +37,8 @@ import java.util.stream.Collectors;
  */
 public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaBrokerConfigurationDiff.class);
-    private static final String PLACE_HOLDER = Pattern.quote("STRIMZI_BROKER_ID");
+    private static final String PLACE_HOLDER = "${STRIMZI_BROKER_ID}";
+    private static final Pattern PLACE_HOLDER_PATTERN = Pattern.compile(Pattern.quote(PLACE_HOLDER));
 
     private final Reconciliation reconciliation;
     private final Collection<AlterConfigOp> brokerConfigDiff;
@@ -86,9 +85,13 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
     }
 
     private static void fillPlaceholderValue(Map<String, String> orderedProperties, String value) {
+        String replacement = Matcher.quoteReplacement(value);
+
         orderedProperties.entrySet().forEach(entry -> {
-            String v = entry.getValue().replaceAll("\\$\\{" + PLACE_HOLDER + "}", value);
-            entry.setValue(v);
+            // Most values do not contain any placeholders, so the regular expression is used only when needed
+            if (entry.getValue().contains(PLACE_HOLDER)) {
+                entry.setValue(PLACE_HOLDER_PATTERN.matcher(entry.getValue()).replaceAll(replacement));
+            }
         });
     }
 
@@ -153,14 +156,15 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
         if (brokerConfigs == null || desired == null) {
             return Collections.emptyList();
         }
-        Map<String, String> currentMap;
 
         Collection<AlterConfigOp> updatedCE = new ArrayList<>();
 
-        currentMap = brokerConfigs.entries().stream().collect(
-            Collectors.toMap(
-                ConfigEntry::name,
-                configEntry -> configEntry.value() == null ? "null" : configEntry.value()));
+        // Index of the current entries by their names
+        Collection<ConfigEntry> currentEntries = brokerConfigs.entries();
+        Map<String, ConfigEntry> currentMap = new HashMap<>(currentEntries.size() * 2);
+        for (ConfigEntry entry : currentEntries) {
+            currentMap.put(entry.name(), entry);
+        }
 
         OrderedProperties orderedProperties = new OrderedProperties();
         orderedProperties.addStringPairs(desired);
@@ -168,49 +172,50 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
 
         fillPlaceholderValue(desiredMap, Integer.toString(brokerNodeRef.nodeId()));
 
-        JsonNode source = PATCH_MAPPER.valueToTree(currentMap);
-        JsonNode target = PATCH_MAPPER.valueToTree(desiredMap);
-        JsonNode jsonDiff = JsonDiff.asJson(source, target);
-
-        for (JsonNode d : jsonDiff) {
-            String pathValue = d.get("path").asText();
-            String pathValueWithoutSlash = pathValue.substring(1);
+        // Entries which were added or updated in the desired configuration
+        for (Map.Entry<String, String> desiredEntry : desiredMap.entrySet()) {
+            String name = desiredEntry.getKey();
+            ConfigEntry currentEntry = currentMap.get(name);
 
-            Optional<ConfigEntry> optEntry = brokerConfigs.entries().stream()
-                    .filter(configEntry -> configEntry.name().equals(pathValueWithoutSlash))
-                    .findFirst();
-
-            String op = d.get("op").asText();
-            if (optEntry.isPresent()) {
-                ConfigEntry entry = optEntry.get();
-                if ("remove".equals(op)) {
-                    removeProperty(configModel, updatedCE, pathValueWithoutSlash, entry, brokerNodeRef.controller());
-                } else if ("replace".equals(op)) {
-                    // entry is in the current, desired is updated value
-                    updateOrAdd(entry.name(), configModel, desiredMap, updatedCE, brokerNodeRef.controller());
-                }
-            } else {
-                if ("add".equals(op)) {
-                    // entry is not in the current, it is added
-                    updateOrAdd(pathValueWithoutSlash, configModel, desiredMap, updatedCE, brokerNodeRef.controller());
-                }
+            if (currentEntry == null) {
+                logDifference(brokerNodeRef, "add", name, null, desiredEntry.getValue());
+                updateOrAdd(name, configModel, desiredMap, updatedCE, brokerNodeRef.controller());
+            } else if (!desiredEntry.getValue().equals(currentValue(currentEntry))) {
+                logDifference(brokerNodeRef, "replace", name, currentValue(currentEntry), desiredEntry.getValue());
+                updateOrAdd(name, configModel, desiredMap, updatedCE, brokerNodeRef.controller());
             }
+        }
 
-            if ("remove".equals(op)) {
+        // Entries which were removed from the desired configuration
+        for (ConfigEntry currentEntry : currentEntries) {
+            if (!desiredMap.containsKey(currentEntry.name())) {
                 // there is a lot of properties set by default - not having them in desired causes very noisy log output
-                LOGGER.traceCr(reconciliation, "Kafka Broker {} Config Differs : {}", brokerNodeRef.nodeId(), d);
-                LOGGER.traceCr(reconciliation, "Current Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(source, pathValue));
-                LOGGER.traceCr(reconciliation, "Desired Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(target, pathValue));
-            } else {
-                LOGGER.debugCr(reconciliation, "Kafka Broker {} Config Differs : {}", brokerNodeRef.nodeId(), d);
-                LOGGER.debugCr(reconciliation, "Current Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(source, pathValue));
-                LOGGER.debugCr(reconciliation, "Desired Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(target, pathValue));
+                LOGGER.traceCr(reconciliation, "Kafka Broker {} Config Differs : remove {}", brokerNodeRef.nodeId(), currentEntry.name());
+                LOGGER.traceCr(reconciliation, "Current Kafka Broker Config path {} has value {}", currentEntry.name(), currentValue(currentEntry));
+                removeProperty(configModel, updatedCE, currentEntry.name(), currentEntry, brokerNodeRef.controller());
             }
         }
 
         return updatedCE;
     }
 
+    private void logDifference(NodeRef brokerNodeRef, String op, String name, String currentValue, String desiredValue) {
+        LOGGER.debugCr(reconciliation, "Kafka Broker {} Config Differs : {} {}", brokerNodeRef.nodeId(), op, name);
+        LOGGER.debugCr(reconciliation, "Current Kafka Broker Config path {} has value {}", name, currentValue);
+        LOGGER.debugCr(reconciliation, "Desired Kafka Broker Config path {} has value {}", name, desiredValue);
+    }
+
+    /**
+     * Current value of the config entry. Null values are compared as the "null" String.
+     *
+     * @param entry     Config entry
+     *
+     * @return  Value of the config entry
+     */
+    private static String currentValue(ConfigEntry entry) {
+        return entry.value() == null ? "null" : entry.value();
+    }
+
     private void updateOrAdd(String propertyName, Map<String, ConfigModel> configModel, Map<String, String> desiredMap, Collection<AlterConfigOp> updatedCE, boolean nodeIsController) {
         if (!isIgnorableProperty(propertyName, nodeIsController)) {
             if (isCustomEntry(propertyName, configModel)) {
@@ -21,6 +21,7 @@ import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEve
 import io.strimzi.operator.cluster.operator.resource.kubernetes.PodOperator;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -129,6 +130,7 @@ public class KafkaRoller {
     private final KafkaVersion kafkaVersion;
     private final Reconciliation reconciliation;
     private final boolean allowReconfiguration;
+    private final MetricsProvider metricsProvider;
     /**
      * Admin client used to send requests that are only relevant for the brokers. It is bootstrapped with broker nodes that might be rolled.
      */
@@ -158,11 +160,14 @@ public class KafkaRoller {
      * @param kafkaVersion              Kafka version
      * @param allowReconfiguration      Flag indicting whether reconfiguration is allowed or not
      * @param eventsPublisher           Kubernetes Events publisher for publishing events about pod restarts
+     * @param metricsProvider           Metrics provider used for the timer of the availability checks. If null, the
+     *                                  duration of the checks is not recorded.
      */
     public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
                        long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier, Set<NodeRef> nodes,
                        TlsPemIdentity coTlsPemIdentity, AdminClientProvider adminClientProvider, KafkaAgentClientProvider kafkaAgentClientProvider,
-                       Function<Integer, String> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration, KubernetesRestartEventPublisher eventsPublisher) {
+                       Function<Integer, String> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration, KubernetesRestartEventPublisher eventsPublisher,
+                       MetricsProvider metricsProvider) {
         this.namespace = reconciliation.namespace();
         this.cluster = reconciliation.name();
         this.nodes = nodes;
@@ -183,6 +188,7 @@ public class KafkaRoller {
         this.kafkaVersion = kafkaVersion;
         this.reconciliation = reconciliation;
         this.allowReconfiguration = allowReconfiguration;
+        this.metricsProvider = metricsProvider;
     }
 
     private final ScheduledExecutorService singleExecutor = Executors.newSingleThreadScheduledExecutor(
@@ -275,9 +281,11 @@ public class KafkaRoller {
                 }).onComplete(ar -> {
                     singleExecutor.shutdown();
 
+                    // The Admin clients are shared with other reconciliations. When the rolling update failed, they
+                    // are discarded, so that the next reconciliation does not reuse a client which ran into problems.
                     try {
                         if (brokerAdminClient != null) {
-                            brokerAdminClient.close(Duration.ofSeconds(30));
+                            closeAdminClient(brokerAdminClient, ar.failed());
                         }
                     } catch (RuntimeException e) {
                         LOGGER.debugCr(reconciliation, "Exception closing broker admin client", e);
@@ -285,7 +293,7 @@ public class KafkaRoller {
 
                     try {
                         if (controllerAdminClient != null) {
-                            controllerAdminClient.close(Duration.ofSeconds(30));
+                            closeAdminClient(controllerAdminClient, ar.failed());
                         }
                     } catch (RuntimeException e) {
                         LOGGER.debugCr(reconciliation, "Exception closing controller admin client", e);
@@ -935,8 +943,24 @@ public class KafkaRoller {
         return new KafkaQuorumCheck(reconciliation, ac, vertx, controllerQuorumFetchTimeoutMs);
     }
 
+    /**
+     * Closes the Admin client used by the rolling update. When it should not be reused, it is discarded first.
+     *
+     * @param ac        The Admin client
+     * @param discard   Flag indicating whether the Admin client should be discarded
+     */
+    private void closeAdminClient(Admin ac, boolean discard) {
+        try {
+            if (discard) {
+                adminClientProvider.discardAdminClient(ac);
+            }
+        } finally {
+            ac.close(Duration.ofSeconds(30));
+        }
+    }
+
     /* test */ KafkaAvailability availability(Admin ac) {
-        return new KafkaAvailability(reconciliation, ac);
+        return new KafkaAvailability(reconciliation, ac, metricsProvider);
     }
     
     /**
@@ -984,6 +1008,8 @@ public class KafkaRoller {
                     controllerNode = controller.get(timeout, unit);
                     restartContext.clearConnectionError();
                 } catch (ExecutionException | TimeoutException e) {
+                    // The client might be stuck connecting to the node, so it is not reused
+                    adminClientProvider.discardAdminClient(ac);
                     maybeTcpProbe(nodeRef, e, restartContext);
                 }
 
@@ -53,6 +53,7 @@ import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.PooledAdminClientProvider;
 import io.vertx.core.Vertx;
 
 /**
@@ -268,7 +269,7 @@ public class ResourceOperatorSupplier {
                 new ZookeeperLeaderFinder(vertx,
                         // Retry up to 3 times (4 attempts), with overall max delay of 35000ms
                         () -> new BackOff(5_000, 2, 4)),
-                new DefaultAdminClientProvider(),
+                new PooledAdminClientProvider(new DefaultAdminClientProvider(), metricsProvider),
                 new DefaultZookeeperScalerProvider(),
                 new DefaultKafkaAgentClientProvider(),
                 metricsProvider,
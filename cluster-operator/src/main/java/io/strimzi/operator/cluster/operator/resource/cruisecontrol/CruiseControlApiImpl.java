@@ -6,11 +6,15 @@ package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
 import io.fabric8.kubernetes.api.model.HTTPHeader;
 import io.fabric8.kubernetes.api.model.Secret;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.cluster.operator.resource.HttpClientUtils;
 import io.strimzi.operator.common.CruiseControlUtil;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.metrics.MetricsHolder;
 import io.strimzi.operator.common.model.cruisecontrol.CruiseControlApiProperties;
 import io.strimzi.operator.common.model.cruisecontrol.CruiseControlEndpoints;
 import io.strimzi.operator.common.model.cruisecontrol.CruiseControlParameters;
@@ -21,6 +25,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpMethod;
@@ -31,7 +36,10 @@ import io.vertx.core.net.PemTrustOptions;
 
 import java.net.ConnectException;
 import java.net.NoRouteToHostException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 
 import static io.strimzi.operator.common.model.cruisecontrol.CruiseControlHeaders.USER_TASK_ID_HEADER;
 
@@ -44,7 +52,14 @@ public class CruiseControlApiImpl implements CruiseControlApi {
      * Default timeout for the HTTP client (-1 means use the clients default)
      */
     public static final int HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS = -1;
+
+    /**
+     * Metric name for the duration of the Cruise Control REST API requests
+     */
+    public static final String METRICS_REQUEST_DURATION = MetricsHolder.METRICS_PREFIX + "cruise.control.request.duration";
+
     private static final boolean HTTP_CLIENT_ACTIVITY_LOGGING = false;
+    private static final int HTTP_CLIENT_KEEP_ALIVE_TIMEOUT_SECONDS = 60;
     private static final String STATUS_KEY = "Status";
 
     private final Vertx vertx;
@@ -52,6 +67,8 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     private final boolean apiSslEnabled;
     private final HTTPHeader authHttpHeader;
     private final PemTrustOptions pto;
+    private final HttpClientPool clientPool;
+    private final MetricsProvider metricsProvider;
 
     /**
      * Constructor
@@ -64,11 +81,31 @@ public class CruiseControlApiImpl implements CruiseControlApi {
      * @param apiSslEnabled     Flag indicating if TLS is enabled
      */
     public CruiseControlApiImpl(Vertx vertx, int idleTimeout, Secret ccSecret, Secret ccApiSecret, Boolean apiAuthEnabled, boolean apiSslEnabled) {
+        this(vertx, idleTimeout, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled, null, null);
+    }
+
+    /**
+     * Constructor for a client which uses pooled HTTP clients. The pooled client for a given Cruise Control instance
+     * keeps its connections (and TLS sessions) open between the requests. It is replaced only when the HTTP client
+     * options, including the Cruise Control certificate from the Cruise Control Secret, change.
+     *
+     * @param vertx             Vert.x instance
+     * @param idleTimeout       Idle timeout
+     * @param ccSecret          Cruise Control Secret
+     * @param ccApiSecret       Cruise Control API Secret
+     * @param apiAuthEnabled    Flag indicating if authentication is enabled
+     * @param apiSslEnabled     Flag indicating if TLS is enabled
+     * @param clientPool        Pool of HTTP clients or null to use a new HTTP client for every request
+     * @param metricsProvider   Metrics provider used for the request duration metrics or null to disable them
+     */
+    public CruiseControlApiImpl(Vertx vertx, int idleTimeout, Secret ccSecret, Secret ccApiSecret, Boolean apiAuthEnabled, boolean apiSslEnabled, HttpClientPool clientPool, MetricsProvider metricsProvider) {
         this.vertx = vertx;
         this.idleTimeout = idleTimeout;
         this.apiSslEnabled = apiSslEnabled;
         this.authHttpHeader = getAuthHttpHeader(apiAuthEnabled, ccApiSecret);
         this.pto = new PemTrustOptions().addCertValue(Buffer.buffer(Util.decodeBase64FieldFromSecret(ccSecret, "cruise-control.crt")));
+        this.clientPool = clientPool;
+        this.metricsProvider = metricsProvider;
     }
 
     @Override
@@ -80,6 +117,8 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         if (apiSslEnabled) {
             return new HttpClientOptions()
                 .setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING)
+                .setKeepAlive(true)
+                .setKeepAliveTimeout(HTTP_CLIENT_KEEP_ALIVE_TIMEOUT_SECONDS)
                 .setSsl(true)
                 .setVerifyHost(true)
                 .setTrustOptions(
@@ -87,7 +126,42 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 );
         } else {
             return new HttpClientOptions()
-                    .setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
+                    .setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING)
+                    .setKeepAlive(true)
+                    .setKeepAliveTimeout(HTTP_CLIENT_KEEP_ALIVE_TIMEOUT_SECONDS);
+        }
+    }
+
+    /**
+     * Performs the operation using the pooled HTTP client for given Cruise Control instance or a new HTTP client when
+     * no pool is configured. The duration of the request is recorded in the request duration metric.
+     *
+     * @param endpoint      Cruise Control endpoint used in the metric tags
+     * @param host          Cruise Control host
+     * @param port          Cruise Control port
+     * @param options       HTTP client options
+     * @param operation     Operation which should be performed with the HTTP client
+     *
+     * @return  Future which completes with the result of the operation
+     *
+     * @param <T>   Type of the result
+     */
+    private <T> Future<T> withHttpClient(CruiseControlEndpoints endpoint, String host, int port, HttpClientOptions options, BiConsumer<HttpClient, Promise<T>> operation) {
+        long startTime = System.nanoTime();
+        Future<T> result;
+
+        if (clientPool != null) {
+            result = clientPool.withHttpClient(host + ":" + port, options, operation);
+        } else {
+            result = HttpClientUtils.withHttpClient(vertx, options, operation);
+        }
+
+        if (metricsProvider != null) {
+            return result.onComplete(i -> metricsProvider
+                    .timer(METRICS_REQUEST_DURATION, "The time the Cruise Control REST API requests take", Tags.of("endpoint", endpoint.name().toLowerCase(Locale.ENGLISH)))
+                    .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS));
+        } else {
+            return result;
         }
     }
 
@@ -116,7 +190,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions options = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return withHttpClient(CruiseControlEndpoints.STATE, host, port, options, (httpClient, result) -> {
             LOGGER.debugCr(reconciliation, "Sending GET request to {}", path);
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
@@ -262,7 +336,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions httpOptions = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, httpOptions, (httpClient, result) -> {
+        return withHttpClient(CruiseControlEndpoints.REBALANCE, host, port, httpOptions, (httpClient, result) -> {
             LOGGER.debugCr(reconciliation, "Sending POST request to {} with userTaskID {}", path, userTaskId);
             httpClient.request(HttpMethod.POST, port, host, path, request -> internalRebalance(reconciliation, host, port, path, userTaskId, request, result));
         });
@@ -282,7 +356,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions httpOptions = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, httpOptions, (httpClient, result) -> {
+        return withHttpClient(CruiseControlEndpoints.ADD_BROKER, host, port, httpOptions, (httpClient, result) -> {
             LOGGER.debugCr(reconciliation, "Sending POST request to {} with userTaskID {}", path, userTaskId);
             httpClient.request(HttpMethod.POST, port, host, path, request -> internalRebalance(reconciliation, host, port, path, userTaskId, request, result));
         });
@@ -302,7 +376,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions httpOptions = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, httpOptions, (httpClient, result) -> {
+        return withHttpClient(CruiseControlEndpoints.REMOVE_BROKER, host, port, httpOptions, (httpClient, result) -> {
             LOGGER.debugCr(reconciliation, "Sending POST request to {} with userTaskID {}", path, userTaskId);
             httpClient.request(HttpMethod.POST, port, host, path, request -> internalRebalance(reconciliation, host, port, path, userTaskId, request, result));
         });
@@ -324,7 +398,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions options = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return withHttpClient(CruiseControlEndpoints.USER_TASKS, host, port, options, (httpClient, result) -> {
             LOGGER.debugCr(reconciliation, "Sending GET request to {} with userTaskID {}", path, userTaskId);
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
@@ -433,7 +507,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions options = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return withHttpClient(CruiseControlEndpoints.STOP, host, port, options, (httpClient, result) -> {
             LOGGER.debugCr(reconciliation, "Sending POST request to {}", path);
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
@@ -18,6 +18,7 @@ import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.strimzi.operator.cluster.operator.VertxUtil;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.config.ConfigParameter;
@@ -27,10 +28,13 @@ import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -49,6 +53,8 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
         extends AbstractResourceOperator<C, T, L, R> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AbstractNamespacedResourceOperator.class);
 
+    private volatile ResourceCache<T> cache;
+
     /**
      * Constructor.
      * @param vertx The vertx instance.
@@ -93,7 +99,7 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
             return Future.failedFuture("Given name " + name + " incompatible with desired name " + desired.getMetadata().getName());
         }
 
-        return getAsync(namespace, name)
+        return getForReconcile(namespace, name)
                 .compose(current -> {
                     if (desired != null) {
                         if (current == null) {
@@ -116,6 +122,92 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
                 });
     }
 
+    /**
+     * Gets the current resource for the reconciliation. When the resource cache is enabled, the resource is read from
+     * the cache. If it is not in the cache or the cached resource might be outdated, it is read from the Kubernetes API
+     * server.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  Future with the current resource or null if it does not exist
+     */
+    private Future<T> getForReconcile(String namespace, String name) {
+        ResourceCache<T> cache = this.cache;
+
+        if (cache != null) {
+            T cached = cache.get(namespace, name);
+
+            if (cached != null) {
+                return Future.succeededFuture(cached);
+            }
+        }
+
+        return getAsync(namespace, name);
+    }
+
+    /**
+     * Records the resource created or updated by the operator in the resource cache (if enabled). This has to be called
+     * by all methods writing the resource, so that the cache is not used until it catches up with the write.
+     *
+     * @param resource  The resource returned by the Kubernetes API server after the write
+     */
+    protected void cacheWritten(T resource) {
+        ResourceCache<T> cache = this.cache;
+
+        if (cache != null) {
+            cache.written(resource);
+        }
+    }
+
+    /**
+     * Records the resource deleted by the operator in the resource cache (if enabled). This has to be called by all
+     * methods deleting the resource, so that the cache is not used until it observes the deletion.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     */
+    protected void cacheDeleted(String namespace, String name) {
+        ResourceCache<T> cache = this.cache;
+
+        if (cache != null) {
+            cache.deleted(namespace, name);
+        }
+    }
+
+    /**
+     * Enables the read cache used by the reconcile(...) methods to get the current resources. The cache uses one
+     * informer per namespace (or one informer for all namespaces) watching the resources with the Strimzi labels. The
+     * informers are not started by this method and have to be started by the caller using the returned cache.
+     *
+     * @param namespaces        Namespaces which should be cached (or * for all namespaces)
+     * @param metricsProvider   Metrics provider used for the cache hit and miss metrics
+     * @param resyncIntervalMs  The interval in which the resync of the informers should happen in milliseconds
+     *
+     * @return  The resource cache
+     */
+    public ResourceCache<T> enableCache(Set<String> namespaces, MetricsProvider metricsProvider, long resyncIntervalMs) {
+        Map<String, SharedIndexInformer<T>> informers = new HashMap<>(namespaces.size());
+
+        for (String namespace : namespaces) {
+            informers.put(namespace, informer(namespace, ResourceCache.SELECTOR, resyncIntervalMs));
+        }
+
+        ResourceCache<T> cache = new ResourceCache<>(resourceKind, informers, metricsProvider);
+        useCache(cache);
+
+        return cache;
+    }
+
+    /**
+     * Sets the resource cache used by the reconcile(...) methods
+     *
+     * @param cache     Resource cache or null to disable the cache
+     */
+    /* test */ void useCache(ResourceCache<T> cache) {
+        this.cache = cache;
+    }
+
     /**
      * Does a batch reconciliation of resources. It takes a list with desired resources and a selector for getting all
      * resources. It will compare the desired resources against the actual resources based on the selector and decides
@@ -219,7 +311,8 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
                 }
             });
 
-        Future<Void> deleteFuture = resourceSupport.deleteAsync(resourceOp.withPropagationPolicy(cascading ? DeletionPropagation.FOREGROUND : DeletionPropagation.ORPHAN).withGracePeriod(-1L));
+        Future<Void> deleteFuture = resourceSupport.deleteAsync(resourceOp.withPropagationPolicy(cascading ? DeletionPropagation.FOREGROUND : DeletionPropagation.ORPHAN).withGracePeriod(-1L))
+                .onSuccess(v -> cacheDeleted(namespace, name));
 
         return Future.join(watchForDeleteFuture, deleteFuture).map(ReconcileResult.deleted());
     }
@@ -232,6 +325,7 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
         if (needsPatching(reconciliation, name, current, desired))  {
             try {
                 T result = patchOrReplace(namespace, name, desired);
+                cacheWritten(result);
                 LOGGER.debugCr(reconciliation, "{} {} in namespace {} has been patched", resourceKind, name, namespace);
                 return Future.succeededFuture(wasChanged(current, result) ? ReconcileResult.patched(result) : ReconcileResult.noop(result));
             } catch (Exception e) {
@@ -264,7 +358,9 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      */
     protected Future<ReconcileResult<T>> internalCreate(Reconciliation reconciliation, String namespace, String name, T desired) {
         try {
-            ReconcileResult<T> result = ReconcileResult.created(operation().inNamespace(namespace).resource(desired).create());
+            T created = operation().inNamespace(namespace).resource(desired).create();
+            cacheWritten(created);
+            ReconcileResult<T> result = ReconcileResult.created(created);
             LOGGER.debugCr(reconciliation, "{} {} in namespace {} has been created", resourceKind, name, namespace);
             return Future.succeededFuture(result);
         } catch (Exception e) {
@@ -389,6 +485,55 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
             () -> predicate.test(namespace, name));
     }
 
+    /**
+     * Returns a future that completes when the resource identified by the given {@code namespace} and {@code name}
+     * fulfills the predicate. Unlike {@link #waitFor(Reconciliation, String, String, String, long, long, BiPredicate)},
+     * it does not poll the Kubernetes API server. It watches the resource and evaluates the predicate for every change
+     * of the resource instead. Polling is used only as a fallback when the watch cannot be used.
+     *
+     * @param reconciliation The reconciliation
+     * @param namespace The namespace.
+     * @param name The resource name.
+     * @param logState The state we are waiting for use in log messages
+     * @param pollIntervalMs The poll interval in milliseconds used when falling back to polling.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param predicate The predicate. The resource passed to it is null when it does not exist.
+     * @return A future that completes when the resource identified by the given {@code namespace} and {@code name}
+     * fulfills the predicate.
+     */
+    public Future<Void> waitForResource(Reconciliation reconciliation, String namespace, String name, String logState, long pollIntervalMs, long timeoutMs, Predicate<T> predicate) {
+        return waitForResource(reconciliation, namespace, name, logState, pollIntervalMs, timeoutMs, predicate, (ns, n) -> predicate.test(get(ns, n)));
+    }
+
+    /**
+     * Returns a future that completes when the resource identified by the given {@code namespace} and {@code name}
+     * fulfills the predicate. It watches the resource and evaluates the predicate for every change of the resource.
+     * When the watch cannot be used, it falls back to polling the poll predicate.
+     *
+     * @param reconciliation The reconciliation
+     * @param namespace The namespace.
+     * @param name The resource name.
+     * @param logState The state we are waiting for use in log messages
+     * @param pollIntervalMs The poll interval in milliseconds used when falling back to polling.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param predicate The predicate. The resource passed to it is null when it does not exist.
+     * @param pollPredicate The predicate used when falling back to polling.
+     * @return A future that completes when the resource identified by the given {@code namespace} and {@code name}
+     * fulfills the predicate.
+     */
+    public Future<Void> waitForResource(Reconciliation reconciliation, String namespace, String name, String logState, long pollIntervalMs, long timeoutMs,
+                                        Predicate<T> predicate, BiPredicate<String, String> pollPredicate) {
+        R resourceOp = operation().inNamespace(namespace).withName(name);
+
+        return resourceSupport.waitFor(reconciliation, resourceOp, resourceOp,
+                String.format("%s resource %s in namespace %s", resourceKind, name, namespace),
+                logState,
+                pollIntervalMs,
+                timeoutMs,
+                predicate,
+                () -> pollPredicate.test(namespace, name));
+    }
+
     /**
      * Asynchronously deletes the resource with the given {@code name} in the given {@code namespace}.
      *
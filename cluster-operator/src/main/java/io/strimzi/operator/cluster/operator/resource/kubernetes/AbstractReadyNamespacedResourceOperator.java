@@ -8,6 +8,7 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.readiness.Readiness;
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
@@ -39,18 +40,30 @@ public abstract class AbstractReadyNamespacedResourceOperator<C extends Kubernet
     }
 
     /**
-     * Waits for resource to get ready
+     * Waits for resource to get ready. The readiness is checked on every change of the resource observed by a watch.
+     * Polling is used only when the watch cannot be used.
      *
      * @param reconciliation    Reconciliation marker
      * @param namespace         Namespace of the resource
      * @param name              Name of the resource
-     * @param pollIntervalMs    How often should it poll for readiness
+     * @param pollIntervalMs    How often should it poll for readiness when falling back to polling
      * @param timeoutMs         How long should it wait for the resource to get ready
      *
      * @return  A future which completes when the resource is ready or times out
      */
     public Future<Void> readiness(Reconciliation reconciliation, String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(reconciliation, namespace, name, pollIntervalMs, timeoutMs, this::isReady);
+        return waitForResource(reconciliation, namespace, name, "ready", pollIntervalMs, timeoutMs, this::isReady, this::isReady);
+    }
+
+    /**
+     * Check if a resource is in the Ready state. Unlike {@link #isReady(String, String)}, it does not get the resource
+     * from the Kubernetes API server.
+     *
+     * @param resource The resource or null if it does not exist.
+     * @return Whether the resource is in the Ready state.
+     */
+    public boolean isReady(T resource) {
+        return resource != null && Readiness.getInstance().isReady(resource);
     }
 
     /**
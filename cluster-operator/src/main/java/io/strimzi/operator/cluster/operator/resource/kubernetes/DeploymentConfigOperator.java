@@ -10,6 +10,7 @@ import io.fabric8.openshift.api.model.DeploymentConfig;
 import io.fabric8.openshift.api.model.DeploymentConfigList;
 import io.fabric8.openshift.client.OpenShiftClient;
 import io.fabric8.openshift.client.dsl.DeployableScalableResource;
+import io.fabric8.openshift.client.readiness.OpenShiftReadiness;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.vertx.core.Future;
@@ -127,4 +128,16 @@ public class DeploymentConfigOperator extends AbstractScalableNamespacedResource
             return false;
         }
     }
+
+    /**
+     * The DeploymentConfig readiness has to be checked with the OpenShift readiness for the same reason as in
+     * {@link #isReady(String, String)}.
+     *
+     * @param resource The DeploymentConfig or null if it does not exist.
+     * @return Whether the resource is in the Ready state.
+     */
+    @Override
+    public boolean isReady(DeploymentConfig resource) {
+        return resource != null && OpenShiftReadiness.getInstance().isReady(resource);
+    }
 }
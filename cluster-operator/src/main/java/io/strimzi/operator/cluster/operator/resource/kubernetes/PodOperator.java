@@ -60,9 +60,9 @@ public class PodOperator extends AbstractReadyNamespacedResourceOperator<Kuberne
         LOGGER.debugCr(reconciliation, "Waiting for pod {} to be deleted", podName);
         Future<Void> podReconcileFuture =
                 reconcile(reconciliation, namespace, podName, null)
-                        .compose(ignore -> waitFor(reconciliation, namespace, podName, "deleted", pollingIntervalMs, timeoutMs, (ignore1, ignore2) -> {
+                        .compose(ignore -> waitForResource(reconciliation, namespace, podName, "deleted", pollingIntervalMs, timeoutMs, currentPod -> {
                             // predicate - changed generation means pod has been updated
-                            String newUid = getPodUid(get(namespace, podName));
+                            String newUid = getPodUid(currentPod);
                             boolean done = !deleted.equals(newUid);
 
                             if (done) {
@@ -0,0 +1,268 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.kubernetes;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.InformerUtils;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.config.ConfigParameter;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read cache for the resources managed by the Cluster Operator. It is backed by informers which watch the resources
+ * with the Strimzi labels in the watched namespaces. The cache is used only to read the current state of the
+ * resources during the reconciliation. All writes still go to the Kubernetes API server.
+ *
+ * The informers are eventually consistent. To avoid using outdated resources, the cache remembers the resource
+ * versions created by the operator's own writes. A cached resource is used only once the informer caught up with the
+ * last write. Until then, the resource is treated as a cache miss and the caller reads it from the API server. Resources
+ * which are not in the cache (for example because they do not have the Strimzi labels) are always cache misses as well.
+ *
+ * The resource versions are opaque, so they are never compared as numbers. The informer caught up with a write once it
+ * delivered an event with exactly the written resource version (or the deletion of a deleted resource). The informer
+ * delivers the events in order, so any resource it has after that is at least as new as the write.
+ *
+ * @param <T>   Type of the cached resource
+ */
+public class ResourceCache<T extends HasMetadata> {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ResourceCache.class);
+    private static final KubernetesSerialization SERIALIZATION = new KubernetesSerialization();
+
+    /**
+     * Label selector used by the informers. It selects all resources with the strimzi.io/kind label which is set on all
+     * operands managed by the Cluster Operator.
+     */
+    static final LabelSelector SELECTOR = new LabelSelectorBuilder()
+            .addNewMatchExpression()
+                .withKey(Labels.STRIMZI_KIND_LABEL)
+                .withOperator("Exists")
+            .endMatchExpression()
+            .build();
+
+    /**
+     * Metric name for the number of cache hits
+     */
+    public static final String METRICS_CACHE_HITS = MetricsHolder.METRICS_PREFIX + "resource.cache.hits";
+
+    /**
+     * Metric name for the number of cache misses
+     */
+    public static final String METRICS_CACHE_MISSES = MetricsHolder.METRICS_PREFIX + "resource.cache.misses";
+
+    private final String resourceKind;
+    private final Map<String, SharedIndexInformer<T>> informers;
+    private final Map<String, WrittenVersion> writtenVersions = new ConcurrentHashMap<>();
+    private final Counter hitsCounter;
+    private final Counter missesCounter;
+    private volatile boolean stopping = false;
+
+    /**
+     * Creates the resource cache
+     *
+     * @param resourceKind      Kind of the cached resource
+     * @param informers         Map with informers for the watched namespaces. The informer for all namespaces should
+     *                          use the * key.
+     * @param metricsProvider   Metrics provider
+     */
+    public ResourceCache(String resourceKind, Map<String, SharedIndexInformer<T>> informers, MetricsProvider metricsProvider) {
+        this.resourceKind = resourceKind;
+        this.informers = informers;
+
+        for (SharedIndexInformer<T> informer : informers.values()) {
+            informer.addEventHandler(new WriteTrackingHandler());
+        }
+
+        Tags tags = Tags.of("kind", resourceKind);
+        this.hitsCounter = metricsProvider.counter(METRICS_CACHE_HITS, "Number of resources read from the resource cache", tags);
+        this.missesCounter = metricsProvider.counter(METRICS_CACHE_MISSES, "Number of resources which were not in the resource cache or were outdated", tags);
+    }
+
+    /**
+     * Starts the informers
+     */
+    public void start() {
+        for (Map.Entry<String, SharedIndexInformer<T>> informer : informers.entrySet()) {
+            informer.getValue().start();
+            informer.getValue().stopped().whenComplete((v, t) -> InformerUtils.stoppedInformerHandler(resourceKind + " cache", t, stopping));
+        }
+    }
+
+    /**
+     * Stops the informers
+     *
+     * @param timeoutMs     Timeout in milliseconds for how long we will wait for each informer to stop
+     */
+    public void stop(long timeoutMs) {
+        stopping = true;
+        InformerUtils.stopAll(timeoutMs, informers.values().toArray(new SharedIndexInformer<?>[0]));
+    }
+
+    /**
+     * Gets the resource from the cache. The resource is returned only when it is in the cache and the cache is not
+     * behind the last write done by the operator. Otherwise, null is returned and the caller should get the resource
+     * from the Kubernetes API server. The returned resource is a copy and can be modified by the caller.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  Copy of the cached resource or null if it is not in the cache or is outdated
+     */
+    public T get(String namespace, String name) {
+        T cached = getFromInformer(namespace, name);
+
+        if (cached != null && isUpToDate(key(namespace, name), cached)) {
+            hitsCounter.increment();
+            return SERIALIZATION.clone(cached);
+        } else {
+            missesCounter.increment();
+            return null;
+        }
+    }
+
+    /**
+     * Records the resource version of a resource which was created or updated by the operator.
+     *
+     * @param resource  The resource returned by the Kubernetes API server after the write
+     */
+    public void written(T resource) {
+        if (resource != null
+                && resource.getMetadata() != null
+                && resource.getMetadata().getResourceVersion() != null) {
+            String namespace = resource.getMetadata().getNamespace();
+            String name = resource.getMetadata().getName();
+            WrittenVersion written = new WrittenVersion(resource.getMetadata().getResourceVersion(), false);
+            writtenVersions.put(key(namespace, name), written);
+
+            // The informer might have delivered the write already before it was recorded
+            T cached = getFromInformer(namespace, name);
+            if (cached != null && written.resourceVersion().equals(cached.getMetadata().getResourceVersion())) {
+                writtenVersions.remove(key(namespace, name), written);
+            }
+        }
+    }
+
+    /**
+     * Records the deletion of a resource by the operator. The cached resource is not used until the deletion is
+     * observed by the informer or until it is replaced by a newer write done by the operator.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     */
+    public void deleted(String namespace, String name) {
+        writtenVersions.put(key(namespace, name), new WrittenVersion(null, true));
+        // If the informer already observed the deletion, getFromInformer() removes it again
+        getFromInformer(namespace, name);
+    }
+
+    private T getFromInformer(String namespace, String name) {
+        SharedIndexInformer<T> informer = informers.get(namespace);
+
+        if (informer == null) {
+            informer = informers.get(ConfigParameter.ANY_NAMESPACE);
+        }
+
+        if (informer == null || !informer.hasSynced()) {
+            return null;
+        } else {
+            T cached = informer.getIndexer().getByKey(key(namespace, name));
+
+            if (cached == null) {
+                // The resource is not in the cache => any deletion done by us was already observed
+                writtenVersions.computeIfPresent(key(namespace, name), (key, written) -> written.deleted() ? null : written);
+            }
+
+            return cached;
+        }
+    }
+
+    /**
+     * Checks whether the cached resource is at least as new as the last write done by the operator. That is the case
+     * when there is no write which was not delivered by the informer yet.
+     *
+     * @param key       Key of the resource
+     * @param cached    Cached resource
+     *
+     * @return  True if the cached resource can be used. False otherwise.
+     */
+    private boolean isUpToDate(String key, T cached) {
+        WrittenVersion written = writtenVersions.get(key);
+
+        if (written == null) {
+            return true;
+        } else {
+            LOGGER.debugOp("{} {} in the cache ({}) did not catch up with the last write ({})", resourceKind, key,
+                    cached.getMetadata().getResourceVersion(), written.deleted() ? "deletion" : written.resourceVersion());
+            return false;
+        }
+    }
+
+    /**
+     * Called when the informer delivers a new or updated resource
+     *
+     * @param resource  The resource
+     */
+    private void observed(T resource) {
+        if (resource != null && resource.getMetadata() != null) {
+            writtenVersions.computeIfPresent(key(resource.getMetadata().getNamespace(), resource.getMetadata().getName()),
+                    (key, written) -> !written.deleted() && written.resourceVersion().equals(resource.getMetadata().getResourceVersion()) ? null : written);
+        }
+    }
+
+    /**
+     * Called when the informer delivers a deleted resource
+     *
+     * @param resource  The resource
+     */
+    private void observedDeletion(T resource) {
+        if (resource != null && resource.getMetadata() != null) {
+            writtenVersions.computeIfPresent(key(resource.getMetadata().getNamespace(), resource.getMetadata().getName()),
+                    (key, written) -> written.deleted() ? null : written);
+        }
+    }
+
+    private static String key(String namespace, String name) {
+        return namespace + "/" + name;
+    }
+
+    /**
+     * Resource version written by the operator
+     *
+     * @param resourceVersion   The resource version (null for deleted resources)
+     * @param deleted           Flag indicating whether the resource was deleted
+     */
+    private record WrittenVersion(String resourceVersion, boolean deleted) { }
+
+    /**
+     * Event handler which forgets the writes once the informer delivers them
+     */
+    private class WriteTrackingHandler implements ResourceEventHandler<T> {
+        @Override
+        public void onAdd(T resource) {
+            observed(resource);
+        }
+
+        @Override
+        public void onUpdate(T oldResource, T newResource) {
+            observed(newResource);
+        }
+
+        @Override
+        public void onDelete(T resource, boolean deletedFinalStateUnknown) {
+            observedDeletion(resource);
+        }
+    }
+}
@@ -25,8 +25,11 @@ import io.vertx.core.Vertx;
 import java.io.Closeable;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Utility method for working with Kubernetes resources
@@ -212,6 +215,190 @@ public class ResourceSupport {
         }.resultPromise.future();
     }
 
+    /**
+     * Waits until the resource fulfills the {@code predicate}. The wait is driven by a watch on the resource: the
+     * predicate is evaluated for the current resource right after the watch is opened and then for every event received
+     * by the watch. So the wait completes as soon as the change is observed instead of after the next poll interval and
+     * without getting the resource from the Kubernetes API server again and again.
+     *
+     * When the watch cannot be opened or when it is closed with an error, the wait falls back to evaluating the
+     * {@code pollPredicate} every {@code pollIntervalMs} milliseconds for the rest of the timeout.
+     *
+     * @param reconciliation    Reconciliation marker used for logging
+     * @param watchable         The watchable - used to watch the resource
+     * @param gettable          The Gettable - used to get the resource after the watch is opened
+     * @param logContext        A string used for context in logging
+     * @param logState          The state we are waiting for used in log messages
+     * @param pollIntervalMs    The poll interval in milliseconds used when falling back to polling
+     * @param timeoutMs         The timeout in milliseconds
+     * @param predicate         Determines when the wait is complete based on the resource. The resource is null when it
+     *                          does not exist or was deleted.
+     * @param pollPredicate     Determines when the wait is complete when falling back to polling
+     * @param <T>               The type of watched resource
+     *
+     * @return  A Future which completes on the context thread when the predicate is fulfilled or fails with
+     *          TimeoutException when it is not fulfilled within the timeout
+     */
+    <T> Future<Void> waitFor(Reconciliation reconciliation,
+                             Watchable<T> watchable,
+                             Gettable<T> gettable,
+                             String logContext,
+                             String logState,
+                             long pollIntervalMs,
+                             long timeoutMs,
+                             Predicate<T> predicate,
+                             BooleanSupplier pollPredicate) {
+        LOGGER.debugCr(reconciliation, "Waiting for {} to get {}", logContext, logState);
+        return new ResourceWait<>(reconciliation, gettable, logContext, logState, pollIntervalMs, timeoutMs, predicate, pollPredicate).start(watchable);
+    }
+
+    /**
+     * Single wait for a resource used by {@link #waitFor(Reconciliation, Watchable, Gettable, String, String, long, long, Predicate, BooleanSupplier)}
+     *
+     * @param <T>   The type of watched resource
+     */
+    private class ResourceWait<T> implements Watcher<T> {
+        private final Reconciliation reconciliation;
+        private final Gettable<T> gettable;
+        private final String logContext;
+        private final String logState;
+        private final long pollIntervalMs;
+        private final long timeoutMs;
+        private final Predicate<T> predicate;
+        private final BooleanSupplier pollPredicate;
+        private final Promise<Void> promise = Promise.promise();
+        private final AtomicBoolean polling = new AtomicBoolean(false);
+        private final long timerId;
+
+        private volatile Watch watch;
+
+        ResourceWait(Reconciliation reconciliation, Gettable<T> gettable, String logContext, String logState, long pollIntervalMs,
+                     long timeoutMs, Predicate<T> predicate, BooleanSupplier pollPredicate) {
+            this.reconciliation = reconciliation;
+            this.gettable = gettable;
+            this.logContext = logContext;
+            this.logState = logState;
+            this.pollIntervalMs = pollIntervalMs;
+            this.timeoutMs = timeoutMs;
+            this.predicate = predicate;
+            this.pollPredicate = pollPredicate;
+
+            this.timerId = vertx.setTimer(Math.max(1L, timeoutMs), ignored -> timeout());
+            promise.future().onComplete(ignored -> {
+                vertx.cancelTimer(timerId);
+                closeWatch();
+            });
+        }
+
+        Future<Void> start(Watchable<T> watchable) {
+            executeBlocking(() -> {
+                watch = watchable.watch(this);
+
+                if (watch == null) {
+                    throw new IllegalStateException("The watch was not opened");
+                } else if (promise.future().isComplete()) {
+                    // The wait might have timed out in the meantime
+                    closeWatch();
+                    return false;
+                }
+
+                // The resource is checked after the watch is open to make sure we did not miss the event
+                return predicate.test(gettable.get());
+            }).onComplete(res -> {
+                if (res.succeeded()) {
+                    if (res.result()) {
+                        complete();
+                    } else {
+                        LOGGER.traceCr(reconciliation, "{} is not {}, waiting for the watch", logContext, logState);
+                    }
+                } else if (watch == null) {
+                    LOGGER.debugCr(reconciliation, "Failed to watch {}, falling back to polling", logContext, res.cause());
+                    startPolling();
+                } else {
+                    LOGGER.warnCr(reconciliation, "Caught exception while waiting for {} to get {}", logContext, logState, res.cause());
+                }
+            });
+
+            return promise.future();
+        }
+
+        @Override
+        public void eventReceived(Action action, T resource) {
+            if (promise.future().isComplete()) {
+                return;
+            }
+
+            try {
+                if (predicate.test(action == Action.DELETED ? null : resource)) {
+                    vertx.runOnContext(ignored -> complete());
+                } else {
+                    LOGGER.traceCr(reconciliation, "{} is not {}", logContext, logState);
+                }
+            } catch (RuntimeException e) {
+                LOGGER.warnCr(reconciliation, "Caught exception while waiting for {} to get {}", logContext, logState, e);
+            }
+        }
+
+        @Override
+        public void onClose(WatcherException cause) {
+            // The watch is closed with an error only when it cannot recover (e.g. when the resource version is too old)
+            if (!promise.future().isComplete()) {
+                LOGGER.debugCr(reconciliation, "Watch for {} was closed, falling back to polling", logContext, cause);
+                vertx.runOnContext(ignored -> startPolling());
+            }
+        }
+
+        private void startPolling() {
+            if (polling.compareAndSet(false, true)) {
+                poll();
+            }
+        }
+
+        private void poll() {
+            if (promise.future().isComplete()) {
+                return;
+            }
+
+            executeBlocking(pollPredicate::getAsBoolean).onComplete(res -> {
+                if (res.succeeded() && res.result()) {
+                    complete();
+                } else {
+                    if (res.failed()) {
+                        LOGGER.warnCr(reconciliation, "Caught exception while waiting for {} to get {}", logContext, logState, res.cause());
+                    } else {
+                        LOGGER.traceCr(reconciliation, "{} is not {}", logContext, logState);
+                    }
+
+                    if (!promise.future().isComplete()) {
+                        vertx.setTimer(pollIntervalMs, ignored -> poll());
+                    }
+                }
+            });
+        }
+
+        private void complete() {
+            if (promise.tryComplete()) {
+                LOGGER.debugCr(reconciliation, "{} is {}", logContext, logState);
+            }
+        }
+
+        private void timeout() {
+            String exceptionMessage = String.format("Exceeded timeout of %dms while waiting for %s to be %s", timeoutMs, logContext, logState);
+
+            if (promise.tryFail(new TimeoutException(exceptionMessage))) {
+                LOGGER.errorCr(reconciliation, exceptionMessage);
+            }
+        }
+
+        private void closeWatch() {
+            Watch current = watch;
+
+            if (current != null) {
+                closeOnWorkerThread(current);
+            }
+        }
+    }
+
     /**
      * Asynchronously deletes the given resource(s), returning a Future which completes on the context thread.
      * <strong>Note: The API server can return asynchronously, meaning the resource is still accessible from the API server
@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManagerConfig;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.UnsupportedVersionException;
@@ -360,6 +361,97 @@ public class ClusterOperatorConfigTest {
         assertThat(e.getMessage(), containsString("Failed to parse. Value nsLabelKey1,nsLabelKey2 is not valid"));
     }
 
+    @Test
+    public void testCertManagerType() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManagerType(), is(CertManagerType.OPENSSL));
+
+        envVars.put(ClusterOperatorConfig.CERT_MANAGER_TYPE.key(), "BouncyCastle");
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManagerType(), is(CertManagerType.BOUNCY_CASTLE));
+
+        envVars.put(ClusterOperatorConfig.CERT_MANAGER_TYPE.key(), "keytool");
+        InvalidConfigurationException e = assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+        assertThat(e.getMessage(), containsString("Failed to parse. Value keytool is not valid"));
+    }
+
+    @Test
+    public void testResourceCacheEnabled() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isResourceCacheEnabled(), is(false));
+
+        envVars.put(ClusterOperatorConfig.RESOURCE_CACHE_ENABLED.key(), "true");
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isResourceCacheEnabled(), is(true));
+    }
+
+    @Test
+    public void testCustomResourceInformersEnabled() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isCustomResourceInformersEnabled(), is(false));
+
+        envVars.put(ClusterOperatorConfig.CUSTOM_RESOURCE_INFORMERS_ENABLED.key(), "true");
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isCustomResourceInformersEnabled(), is(true));
+    }
+
+    @Test
+    public void testReconciliationStepsConcurrency() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getReconciliationStepsConcurrency(), is(1));
+
+        envVars.put(ClusterOperatorConfig.RECONCILIATION_STEPS_CONCURRENCY.key(), "5");
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getReconciliationStepsConcurrency(), is(5));
+
+        envVars.put(ClusterOperatorConfig.RECONCILIATION_STEPS_CONCURRENCY.key(), "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testConnectorReconciliationLimits() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        ClusterOperatorConfig config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getConnectorReconciliationConcurrency(), is(10));
+        assertThat(config.getConnectorReconciliationRate(), is(20));
+
+        envVars.put(ClusterOperatorConfig.CONNECTOR_RECONCILIATION_CONCURRENCY.key(), "2");
+        envVars.put(ClusterOperatorConfig.CONNECTOR_RECONCILIATION_RATE.key(), "5");
+        config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getConnectorReconciliationConcurrency(), is(2));
+        assertThat(config.getConnectorReconciliationRate(), is(5));
+
+        Map<String, String> invalidConcurrency = new HashMap<>(envVars);
+        invalidConcurrency.put(ClusterOperatorConfig.CONNECTOR_RECONCILIATION_CONCURRENCY.key(), "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(invalidConcurrency, KafkaVersionTestUtils.getKafkaVersionLookup()));
+
+        Map<String, String> invalidRate = new HashMap<>(envVars);
+        invalidRate.put(ClusterOperatorConfig.CONNECTOR_RECONCILIATION_RATE.key(), "-1");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(invalidRate, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testKafkaModelCache() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        ClusterOperatorConfig config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.isKafkaModelCacheEnabled(), is(true));
+        assertThat(config.isKafkaModelCacheVerify(), is(false));
+
+        envVars.put(ClusterOperatorConfig.KAFKA_MODEL_CACHE_ENABLED.key(), "false");
+        envVars.put(ClusterOperatorConfig.KAFKA_MODEL_CACHE_VERIFY.key(), "true");
+        config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.isKafkaModelCacheEnabled(), is(false));
+        assertThat(config.isKafkaModelCacheVerify(), is(true));
+    }
+
+    @Test
+    public void testPodSetControllerWorkers() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getPodSetControllerWorkers(), is(4));
+
+        envVars.put(ClusterOperatorConfig.POD_SET_CONTROLLER_WORKERS.key(), "1");
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getPodSetControllerWorkers(), is(1));
+
+        envVars.put(ClusterOperatorConfig.POD_SET_CONTROLLER_WORKERS.key(), "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
     @Test
     public void testParsePodSecurityProviderClass() {
         assertThat(ClusterOperatorConfig.parsePodSecurityProviderClass("Baseline"), is(ClusterOperatorConfig.POD_SECURITY_PROVIDER_BASELINE_CLASS.defaultValue()));
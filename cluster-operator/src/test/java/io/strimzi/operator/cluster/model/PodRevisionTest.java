@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.cluster.model;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.Pod;
@@ -11,6 +12,7 @@ import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.strimzi.api.kafka.model.podset.StrimziPodSet;
 import io.strimzi.api.kafka.model.podset.StrimziPodSetBuilder;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.test.annotations.ParallelSuite;
 import io.strimzi.test.annotations.ParallelTest;
@@ -65,6 +67,28 @@ public class PodRevisionTest {
         assertThat(PodRevision.getRevision(Reconciliation.DUMMY_RECONCILIATION, pod2), is(not(basicPodRevision)));
     }
 
+    @ParallelTest
+    public void testRevisionsMatchStringHash() throws JsonProcessingException {
+        // The revision has to stay the same as the hash of the Pod serialized to a String to not roll existing pods
+        assertThat(PodRevision.getRevision(Reconciliation.DUMMY_RECONCILIATION, POD), is(Util.hashStub(PodSetUtils.podToString(POD))));
+
+        // Non-ASCII characters (including characters outside the Basic Multilingual Plane) and escaped characters
+        Pod pod = new PodBuilder(POD)
+                .editMetadata()
+                    .withAnnotations(Map.of("description", "Kafka \u00e9\u00e8 \u4e2d\u6587 \ud83d\ude80 \ud800x \udc00 \"quoted\"\n\ttabbed"))
+                .endMetadata()
+                .build();
+        assertThat(PodRevision.getRevision(Reconciliation.DUMMY_RECONCILIATION, pod), is(Util.hashStub(PodSetUtils.podToString(pod))));
+
+        // Large pods are written in multiple chunks
+        pod = new PodBuilder(POD)
+                .editMetadata()
+                    .withAnnotations(Map.of("large", "\u00e9".repeat(5_000) + "a".repeat(10_000) + "\ud83d\ude80".repeat(5_000)))
+                .endMetadata()
+                .build();
+        assertThat(PodRevision.getRevision(Reconciliation.DUMMY_RECONCILIATION, pod), is(Util.hashStub(PodSetUtils.podToString(pod))));
+    }
+
     @ParallelTest
     public void testHasChangedWithPods()    {
         // Two pods without the revision annotation
@@ -13,6 +13,7 @@ import io.strimzi.test.annotations.ParallelTest;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 @ParallelSuite
@@ -40,4 +41,23 @@ public class PodSetUtilsTest {
 
         assertThat(PodSetUtils.mapToPod(PodSetUtils.podToMap(pod)), is(pod));
     }
+
+    @ParallelTest
+    public void testNameAndAnnotationFromMap() {
+        Pod pod = new PodBuilder()
+                    .withNewMetadata()
+                        .withName("my-pod")
+                        .withAnnotations(Map.of("some-anno", "some-anno-value"))
+                    .endMetadata()
+                    .build();
+        Map<String, Object> map = PodSetUtils.podToMap(pod);
+
+        assertThat(PodSetUtils.podName(map), is("my-pod"));
+        assertThat(PodSetUtils.podAnnotation(map, "some-anno"), is("some-anno-value"));
+        assertThat(PodSetUtils.podAnnotation(map, "other-anno"), is(nullValue()));
+
+        // Missing metadata or annotations
+        assertThat(PodSetUtils.podName(Map.of()), is(nullValue()));
+        assertThat(PodSetUtils.podAnnotation(PodSetUtils.podToMap(new PodBuilder().withNewMetadata().withName("my-pod").endMetadata().build()), "some-anno"), is(nullValue()));
+    }
 }
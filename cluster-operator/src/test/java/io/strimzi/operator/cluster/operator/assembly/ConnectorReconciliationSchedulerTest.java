@@ -0,0 +1,171 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ConnectorReconciliationSchedulerTest {
+    private static final Tags TAGS = Tags.of("kind", "KafkaConnect", "namespace", "my-namespace", "resource-name", "my-connect");
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static ConnectorReconciliationScheduler scheduler(int maxInFlight, int ratePerSecond, MeterRegistry registry) {
+        return new ConnectorReconciliationScheduler(vertx, maxInFlight, ratePerSecond, new MicrometerMetricsProvider(registry), TAGS);
+    }
+
+    private static Future<Void> schedule(ConnectorReconciliationScheduler scheduler, ConnectorReconciliationScheduler.Priority priority, String name,
+                                         List<String> started, Map<String, Promise<Void>> promises) {
+        Promise<Void> promise = Promise.promise();
+        promises.put(name, promise);
+
+        return scheduler.schedule(priority, () -> {
+            started.add(name);
+            return promise.future();
+        });
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Timed out waiting for the condition");
+            }
+
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void testInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> scheduler(0, 10, new SimpleMeterRegistry()));
+        assertThrows(IllegalArgumentException.class, () -> scheduler(10, 0, new SimpleMeterRegistry()));
+    }
+
+    @Test
+    public void testInFlightLimitAndPriorities() throws InterruptedException, ExecutionException, TimeoutException {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ConnectorReconciliationScheduler scheduler = scheduler(1, 1_000, registry);
+        List<String> started = new CopyOnWriteArrayList<>();
+        Map<String, Promise<Void>> promises = new HashMap<>();
+        List<Future<Void>> results = new ArrayList<>();
+
+        // The first reconciliation starts right away and blocks the others
+        results.add(schedule(scheduler, ConnectorReconciliationScheduler.Priority.STATUS_REFRESH, "first-status", started, promises));
+        results.add(schedule(scheduler, ConnectorReconciliationScheduler.Priority.STATUS_REFRESH, "second-status", started, promises));
+        results.add(schedule(scheduler, ConnectorReconciliationScheduler.Priority.RESTART, "restart", started, promises));
+        results.add(schedule(scheduler, ConnectorReconciliationScheduler.Priority.SPEC_CHANGE, "spec", started, promises));
+
+        assertThat(started, is(List.of("first-status")));
+        assertThat(scheduler.inFlight(), is(1));
+        assertThat(scheduler.queueSize(), is(3));
+        assertThat(registry.get(ConnectorReconciliationScheduler.METRICS_QUEUE_SIZE).tags(TAGS).gauge().value(), is(3.0));
+
+        // The queued reconciliations start one after another in the order of their priority
+        for (int i = 1; i < 4; i++) {
+            int expected = i + 1;
+            promises.get(started.get(i - 1)).complete();
+            waitFor(() -> started.size() == expected);
+            assertThat(scheduler.inFlight(), is(1));
+        }
+        promises.get(started.get(3)).complete();
+
+        assertThat(started, is(List.of("first-status", "spec", "restart", "second-status")));
+        Future.join(new ArrayList<>(results)).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        waitFor(() -> scheduler.inFlight() == 0);
+
+        assertThat(scheduler.queueSize(), is(0));
+        assertThat(registry.get(ConnectorReconciliationScheduler.METRICS_QUEUE_WAIT).tags(TAGS).timer().count(), is(4L));
+        assertThat(registry.get(ConnectorReconciliationScheduler.METRICS_QUEUE_SIZE).tags(TAGS).gauge().value(), is(0.0));
+    }
+
+    @Test
+    public void testRemoveMetrics() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ConnectorReconciliationScheduler scheduler = scheduler(1, 10, registry);
+        ConnectorReconciliationScheduler otherScheduler = new ConnectorReconciliationScheduler(vertx, 1, 10, new MicrometerMetricsProvider(registry),
+                Tags.of("kind", "KafkaConnect", "namespace", "my-namespace", "resource-name", "my-other-connect"));
+
+        scheduler.removeMetrics();
+
+        assertThat(registry.find(ConnectorReconciliationScheduler.METRICS_QUEUE_WAIT).tags(TAGS).timer(), is(nullValue()));
+        assertThat(registry.find(ConnectorReconciliationScheduler.METRICS_QUEUE_SIZE).tags(TAGS).gauge(), is(nullValue()));
+
+        // The metrics of the other Connect clusters are kept
+        assertThat(registry.find(ConnectorReconciliationScheduler.METRICS_QUEUE_WAIT).tag("resource-name", "my-other-connect").timer(), is(notNullValue()));
+        assertThat(registry.find(ConnectorReconciliationScheduler.METRICS_QUEUE_SIZE).tag("resource-name", "my-other-connect").gauge(), is(notNullValue()));
+        otherScheduler.removeMetrics();
+    }
+
+    @Test
+    public void testRateLimit() throws InterruptedException, ExecutionException, TimeoutException {
+        ConnectorReconciliationScheduler scheduler = scheduler(100, 2, new SimpleMeterRegistry());
+        List<Future<Void>> results = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 4; i++) {
+            results.add(scheduler.schedule(ConnectorReconciliationScheduler.Priority.SPEC_CHANGE, Future::succeededFuture));
+        }
+
+        // The bucket allows a burst of two reconciliations, the others wait for the tokens to be refilled
+        assertThat(scheduler.queueSize(), is(2));
+
+        Future.join(new ArrayList<>(results)).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 900, is(true));
+    }
+
+    @Test
+    public void testFailures() throws InterruptedException {
+        ConnectorReconciliationScheduler scheduler = scheduler(1, 1_000, new SimpleMeterRegistry());
+
+        Future<Void> failed = scheduler.schedule(ConnectorReconciliationScheduler.Priority.SPEC_CHANGE, () -> Future.failedFuture("Something went wrong"));
+        Future<Void> thrown = scheduler.schedule(ConnectorReconciliationScheduler.Priority.SPEC_CHANGE, () -> {
+            throw new RuntimeException("Something else went wrong");
+        });
+        Future<Void> succeeded = scheduler.schedule(ConnectorReconciliationScheduler.Priority.SPEC_CHANGE, Future::succeededFuture);
+
+        // Failed reconciliations release their slot as well
+        waitFor(() -> succeeded.isComplete());
+        assertThat(failed.cause().getMessage(), is("Something went wrong"));
+        assertThat(thrown.cause().getMessage(), is("Something else went wrong"));
+        assertThat(succeeded.succeeded(), is(true));
+        waitFor(() -> scheduler.inFlight() == 0);
+    }
+}
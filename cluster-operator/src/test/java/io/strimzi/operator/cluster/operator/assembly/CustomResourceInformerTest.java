@@ -0,0 +1,114 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Store;
+import io.strimzi.api.kafka.model.bridge.KafkaBridge;
+import io.strimzi.api.kafka.model.bridge.KafkaBridgeBuilder;
+import io.strimzi.operator.cluster.operator.resource.kubernetes.CrdOperator;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CustomResourceInformerTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    private static KafkaBridge bridge(String name, String resourceVersion) {
+        return new KafkaBridgeBuilder()
+                .withMetadata(new ObjectMetaBuilder().withNamespace(NAMESPACE).withName(name).withResourceVersion(resourceVersion).build())
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SharedIndexInformer<KafkaBridge> mockInformer(List<KafkaBridge> resources) {
+        SharedIndexInformer<KafkaBridge> mockInformer = mock(SharedIndexInformer.class);
+        CompletableFuture<Void> stopped = new CompletableFuture<>();
+        when(mockInformer.stopped()).thenReturn(stopped);
+        doAnswer(i -> stopped.complete(null)).when(mockInformer).stop();
+        when(mockInformer.hasSynced()).thenReturn(true);
+
+        Store<KafkaBridge> mockStore = mock(Store.class);
+        when(mockStore.list()).thenReturn(resources);
+        when(mockInformer.getStore()).thenReturn(mockStore);
+
+        return mockInformer;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CrdOperator<?, KafkaBridge, ?> mockResourceOperator(SharedIndexInformer<KafkaBridge> informer) {
+        CrdOperator<?, KafkaBridge, ?> mockOperator = mock(CrdOperator.class);
+        when(mockOperator.informer(anyString(), anyLong())).thenReturn(informer);
+        return mockOperator;
+    }
+
+    @Test
+    public void testResourceNamesFromCache() {
+        SharedIndexInformer<KafkaBridge> informer = mockInformer(List.of(bridge("my-bridge", "1"), bridge("my-other-bridge", "1")));
+        CustomResourceInformer<KafkaBridge> crInformer = new CustomResourceInformer<>(mockResourceOperator(informer), "KafkaBridge", NAMESPACE, null, r -> Future.succeededFuture());
+
+        assertThat(crInformer.hasSynced(), is(true));
+        assertThat(crInformer.resourceNames(), is(Set.of(new NamespaceAndName(NAMESPACE, "my-bridge"), new NamespaceAndName(NAMESPACE, "my-other-bridge"))));
+    }
+
+    @Test
+    public void testEventsAreDeduplicated() throws InterruptedException {
+        SharedIndexInformer<KafkaBridge> informer = mockInformer(List.of());
+        BlockingQueue<Reconciliation> reconciliations = new LinkedBlockingQueue<>();
+        Promise<Void> reconciliation = Promise.promise();
+
+        CustomResourceInformer<KafkaBridge> crInformer = new CustomResourceInformer<>(mockResourceOperator(informer), "KafkaBridge", NAMESPACE, null, r -> {
+            reconciliations.add(r);
+            return reconciliation.future();
+        });
+
+        // Multiple events for the same resource are enqueued only once
+        crInformer.enqueue(bridge("my-bridge", "1"), "ADDED");
+        crInformer.enqueue(bridge("my-bridge", "2"), "MODIFIED");
+        crInformer.enqueue(bridge("my-other-bridge", "1"), "ADDED");
+        assertThat(crInformer.queue().size(), is(2));
+
+        crInformer.start();
+
+        try {
+            Reconciliation first = reconciliations.poll(10, TimeUnit.SECONDS);
+            Reconciliation second = reconciliations.poll(10, TimeUnit.SECONDS);
+            assertThat(Set.of(first.name(), second.name()), is(Set.of("my-bridge", "my-other-bridge")));
+            assertThat(first.kind(), is("KafkaBridge"));
+            assertThat(first.namespace(), is(NAMESPACE));
+
+            // The resource is still being reconciled, so the next event waits until the reconciliation completes
+            crInformer.enqueue(bridge("my-bridge", "3"), "MODIFIED");
+            crInformer.enqueue(bridge("my-bridge", "4"), "MODIFIED");
+            assertThat(reconciliations.poll(100, TimeUnit.MILLISECONDS), is(nullValue()));
+
+            reconciliation.complete();
+            Reconciliation third = reconciliations.poll(10, TimeUnit.SECONDS);
+            assertThat(third.name(), is("my-bridge"));
+            assertThat(reconciliations.poll(100, TimeUnit.MILLISECONDS), is(nullValue()));
+        } finally {
+            crInformer.stop();
+        }
+    }
+}
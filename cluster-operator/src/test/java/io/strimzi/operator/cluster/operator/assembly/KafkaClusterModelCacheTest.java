@@ -0,0 +1,180 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.networking.v1.NetworkPolicyPeerBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.KafkaBuilder;
+import io.strimzi.api.kafka.model.kafka.PersistentClaimStorageBuilder;
+import io.strimzi.api.kafka.model.kafka.listener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.kafka.listener.KafkaListenerType;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePoolBuilder;
+import io.strimzi.api.kafka.model.nodepool.ProcessRoles;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.KafkaMetadataConfigurationState;
+import io.strimzi.operator.cluster.model.MockSharedEnvironmentProvider;
+import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class KafkaClusterModelCacheTest {
+    private final static String NAMESPACE = "my-ns";
+    private final static String CLUSTER_NAME = "my-cluster";
+    private final static Reconciliation RECONCILIATION = new Reconciliation("test", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME);
+
+    private final static Kafka KAFKA = new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(CLUSTER_NAME)
+                    .withNamespace(NAMESPACE)
+                    .withAnnotations(Map.of(Annotations.ANNO_STRIMZI_IO_NODE_POOLS, "enabled", Annotations.ANNO_STRIMZI_IO_KRAFT, "enabled"))
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withListeners(new GenericKafkaListenerBuilder()
+                                .withName("tls")
+                                .withPort(9092)
+                                .withType(KafkaListenerType.INTERNAL)
+                                .withTls(true)
+                                .build())
+                    .endKafka()
+                .endSpec()
+                .withNewStatus()
+                    .withClusterId("my-cluster-id")
+                .endStatus()
+                .build();
+
+    private final static KafkaNodePool POOL_MIXED = new KafkaNodePoolBuilder()
+            .withNewMetadata()
+                .withName("pool-mixed")
+                .withNamespace(NAMESPACE)
+            .endMetadata()
+            .withNewSpec()
+                .withReplicas(3)
+                .withNewJbodStorage()
+                    .withVolumes(new PersistentClaimStorageBuilder().withId(0).withSize("100Gi").build())
+                .endJbodStorage()
+                .withRoles(ProcessRoles.CONTROLLER, ProcessRoles.BROKER)
+            .endSpec()
+            .build();
+
+    private static String digest(Kafka kafka, List<KafkaNodePool> pools) {
+        return KafkaClusterModelCache.digest(kafka, pools, Map.of(), Map.of(), KafkaVersionTestUtils.DEFAULT_KRAFT_VERSION_CHANGE, KafkaMetadataConfigurationState.KRAFT);
+    }
+
+    private static KafkaCluster build(Kafka kafka, List<KafkaNodePool> pools, AtomicInteger builds) {
+        builds.incrementAndGet();
+        return KafkaClusterCreator.createKafkaCluster(RECONCILIATION, kafka, pools, Map.of(), Map.of(), KafkaVersionTestUtils.DEFAULT_KRAFT_VERSION_CHANGE,
+                KafkaMetadataConfigurationState.KRAFT, KafkaVersionTestUtils.getKafkaVersionLookup(), new MockSharedEnvironmentProvider());
+    }
+
+    private static double count(MeterRegistry registry, String name) {
+        return registry.get(name).tag("kind", Kafka.RESOURCE_KIND).counter().count();
+    }
+
+    @Test
+    public void testDigest() {
+        String digest = digest(KAFKA, List.of(POOL_MIXED));
+
+        // Same inputs => same digest
+        assertThat(digest(new KafkaBuilder(KAFKA).build(), List.of(new KafkaNodePoolBuilder(POOL_MIXED).build())), is(digest));
+
+        // Changes which are not used in the model do not change the digest
+        assertThat(digest(new KafkaBuilder(KAFKA).editMetadata().withResourceVersion("1234").endMetadata().build(), List.of(POOL_MIXED)), is(digest));
+        assertThat(digest(new KafkaBuilder(KAFKA).editStatus().withObservedGeneration(5L).endStatus().build(), List.of(POOL_MIXED)), is(digest));
+
+        // Changes used in the model change the digest
+        assertThat(digest(new KafkaBuilder(KAFKA).editSpec().editKafka().withConfig(Map.of("auto.create.topics.enable", "false")).endKafka().endSpec().build(), List.of(POOL_MIXED)), is(not(digest)));
+        assertThat(digest(new KafkaBuilder(KAFKA).editStatus().withClusterId("my-other-cluster-id").endStatus().build(), List.of(POOL_MIXED)), is(not(digest)));
+        assertThat(digest(KAFKA, List.of(new KafkaNodePoolBuilder(POOL_MIXED).editSpec().withReplicas(5).endSpec().build())), is(not(digest)));
+        assertThat(digest(KAFKA, List.of(new KafkaNodePoolBuilder(POOL_MIXED).withNewStatus().withNodeIds(0, 1, 2).endStatus().build())), is(not(digest)));
+        assertThat(KafkaClusterModelCache.digest(KAFKA, List.of(POOL_MIXED), Map.of(), Map.of("my-cluster-pool-mixed", List.of("my-cluster-pool-mixed-0")),
+                KafkaVersionTestUtils.DEFAULT_KRAFT_VERSION_CHANGE, KafkaMetadataConfigurationState.KRAFT), is(not(digest)));
+    }
+
+    @Test
+    public void testFingerprint() {
+        String fingerprint = KafkaClusterModelCache.fingerprint(build(KAFKA, List.of(POOL_MIXED), new AtomicInteger(0)));
+
+        // Same inputs => same fingerprint
+        assertThat(KafkaClusterModelCache.fingerprint(build(KAFKA, List.of(POOL_MIXED), new AtomicInteger(0))), is(fingerprint));
+
+        // Changes to the pod template, the external logging, the metrics or the network policies change the fingerprint
+        assertThat(KafkaClusterModelCache.fingerprint(build(new KafkaBuilder(KAFKA).editSpec().editKafka().withNewTemplate().withNewPod().withTerminationGracePeriodSeconds(5).endPod().endTemplate().endKafka().endSpec().build(), List.of(POOL_MIXED), new AtomicInteger(0))), is(not(fingerprint)));
+        assertThat(KafkaClusterModelCache.fingerprint(build(new KafkaBuilder(KAFKA).editSpec().editKafka().withNewExternalLogging().withNewValueFrom().withNewConfigMapKeyRef("log4j.properties", "my-logging", false).endValueFrom().endExternalLogging().endKafka().endSpec().build(), List.of(POOL_MIXED), new AtomicInteger(0))), is(not(fingerprint)));
+        assertThat(KafkaClusterModelCache.fingerprint(build(new KafkaBuilder(KAFKA).editSpec().editKafka().withNewJmxPrometheusExporterMetricsConfig().withNewValueFrom().withNewConfigMapKeyRef("metrics.yaml", "my-metrics", false).endValueFrom().endJmxPrometheusExporterMetricsConfig().endKafka().endSpec().build(), List.of(POOL_MIXED), new AtomicInteger(0))), is(not(fingerprint)));
+        assertThat(KafkaClusterModelCache.fingerprint(build(new KafkaBuilder(KAFKA).editSpec().editKafka().editFirstListener().withNetworkPolicyPeers(new NetworkPolicyPeerBuilder().withNewPodSelector().withMatchLabels(Map.of("app", "client")).endPodSelector().build()).endListener().endKafka().endSpec().build(), List.of(POOL_MIXED), new AtomicInteger(0))), is(not(fingerprint)));
+    }
+
+    @Test
+    public void testCacheHitsAndMisses() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        KafkaClusterModelCache cache = new KafkaClusterModelCache(false, new MicrometerMetricsProvider(registry));
+        AtomicInteger builds = new AtomicInteger(0);
+        String digest = digest(KAFKA, List.of(POOL_MIXED));
+
+        // Nothing is cached until the reconciliation succeeds
+        KafkaClusterModelCache.Entry first = cache.getOrBuild(RECONCILIATION, digest, () -> build(KAFKA, List.of(POOL_MIXED), builds));
+        KafkaClusterModelCache.Entry second = cache.getOrBuild(RECONCILIATION, digest, () -> build(KAFKA, List.of(POOL_MIXED), builds));
+        assertThat(builds.get(), is(2));
+        assertThat(cache.size(), is(0));
+
+        // Once stored, the same model is returned for the same digest
+        cache.put(RECONCILIATION, second);
+        KafkaClusterModelCache.Entry third = cache.getOrBuild(RECONCILIATION, digest, () -> build(KAFKA, List.of(POOL_MIXED), builds));
+        assertThat(builds.get(), is(2));
+        assertThat(third.model(), is(sameInstance(second.model())));
+        assertThat(first.model(), is(not(sameInstance(second.model()))));
+
+        // Different digest => new model
+        Kafka changedKafka = new KafkaBuilder(KAFKA).editSpec().editKafka().withConfig(Map.of("auto.create.topics.enable", "false")).endKafka().endSpec().build();
+        KafkaClusterModelCache.Entry fourth = cache.getOrBuild(RECONCILIATION, digest(changedKafka, List.of(POOL_MIXED)), () -> build(changedKafka, List.of(POOL_MIXED), builds));
+        assertThat(builds.get(), is(3));
+        assertThat(fourth.model(), is(not(sameInstance(second.model()))));
+
+        assertThat(count(registry, KafkaClusterModelCache.METRICS_HITS), is(1.0));
+        assertThat(count(registry, KafkaClusterModelCache.METRICS_MISSES), is(3.0));
+
+        cache.remove(RECONCILIATION);
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void testVerification() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        KafkaClusterModelCache cache = new KafkaClusterModelCache(true, new MicrometerMetricsProvider(registry));
+        AtomicInteger builds = new AtomicInteger(0);
+        String digest = digest(KAFKA, List.of(POOL_MIXED));
+
+        KafkaClusterModelCache.Entry cached = cache.getOrBuild(RECONCILIATION, digest, () -> build(KAFKA, List.of(POOL_MIXED), builds));
+        cache.put(RECONCILIATION, cached);
+
+        // The verified model matches => the cached model is used
+        KafkaClusterModelCache.Entry verified = cache.getOrBuild(RECONCILIATION, digest, () -> build(KAFKA, List.of(POOL_MIXED), builds));
+        assertThat(builds.get(), is(2));
+        assertThat(verified.model(), is(sameInstance(cached.model())));
+        assertThat(count(registry, KafkaClusterModelCache.METRICS_VERIFICATION_FAILURES), is(0.0));
+
+        // The verified model does not match => the new model is used
+        Kafka changedKafka = new KafkaBuilder(KAFKA).editSpec().editKafka().withConfig(Map.of("auto.create.topics.enable", "false")).endKafka().endSpec().build();
+        KafkaClusterModelCache.Entry mismatched = cache.getOrBuild(RECONCILIATION, digest, () -> build(changedKafka, List.of(POOL_MIXED), builds));
+        assertThat(builds.get(), is(3));
+        assertThat(mismatched.model(), is(not(sameInstance(cached.model()))));
+        assertThat(count(registry, KafkaClusterModelCache.METRICS_VERIFICATION_FAILURES), is(1.0));
+    }
+}
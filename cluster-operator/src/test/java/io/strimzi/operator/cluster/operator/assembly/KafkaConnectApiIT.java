@@ -5,6 +5,8 @@
 package io.strimzi.operator.cluster.operator.assembly;
 
 import io.strimzi.api.kafka.model.connect.ConnectorPlugin;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.OrderedProperties;
@@ -87,7 +89,7 @@ public class KafkaConnectApiIT {
     @Test
     @SuppressWarnings({"unchecked", "checkstyle:MethodLength", "checkstyle:NPathComplexity"})
     public void test(VertxTestContext context) throws InterruptedException {
-        KafkaConnectApi client = new KafkaConnectApiImpl(vertx);
+        KafkaConnectApi client = new KafkaConnectApiImpl(vertx, new HttpClientPool(vertx, "test", ResourceUtils.metricsProvider()));
         Checkpoint async = context.checkpoint();
         Thread.sleep(10_000L);
         client.listConnectorPlugins(Reconciliation.DUMMY_RECONCILIATION, "localhost", port)
@@ -245,7 +247,7 @@ public class KafkaConnectApiIT {
                 "log4j.logger.foo.bar=TRACE\n" +
                 "log4j.logger.foo.bar.quux=DEBUG";
 
-        KafkaConnectApi client = new KafkaConnectApiImpl(vertx);
+        KafkaConnectApi client = new KafkaConnectApiImpl(vertx, new HttpClientPool(vertx, "test", ResourceUtils.metricsProvider()));
         Checkpoint async = context.checkpoint();
 
         OrderedProperties ops = new OrderedProperties();
@@ -284,7 +286,7 @@ public class KafkaConnectApiIT {
                 "log4j.logger.oorg.eclipse.jetty.util=DEBUG\n" +
                 "log4j.logger.foo.bar.quux=DEBUG";
 
-        KafkaConnectApiImpl client = new KafkaConnectApiImpl(vertx);
+        KafkaConnectApiImpl client = new KafkaConnectApiImpl(vertx, new HttpClientPool(vertx, "test", ResourceUtils.metricsProvider()));
         OrderedProperties ops = new OrderedProperties();
         ops.addStringPairs(desired);
         assertEquals("TRACE", client.getEffectiveLevel("foo.bar", ops.asMap()));
@@ -5,6 +5,8 @@
 package io.strimzi.operator.cluster.operator.assembly;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
@@ -16,6 +18,7 @@ import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
 
@@ -39,7 +42,7 @@ public class KafkaConnectApiImplTest {
     public void testFeatureCompletionWithBadlyFormattedError(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
         HttpServer server = mockApi(vertx, 500, "Some error message");
 
-        KafkaConnectApi api = new KafkaConnectApiImpl(vertx);
+        KafkaConnectApi api = new KafkaConnectApiImpl(vertx, new HttpClientPool(vertx, "test", ResourceUtils.metricsProvider()));
 
         Checkpoint async = context.checkpoint();
         api.createOrUpdatePutRequest(Reconciliation.DUMMY_RECONCILIATION, "127.0.0.1", server.actualPort(), "my-connector", new JsonObject())
@@ -55,7 +58,7 @@ public class KafkaConnectApiImplTest {
     public void testFeatureCompletionWithWellFormattedError(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
         HttpServer server = mockApi(vertx, 500, "{\"message\": \"This is the error\"}");
 
-        KafkaConnectApi api = new KafkaConnectApiImpl(vertx);
+        KafkaConnectApi api = new KafkaConnectApiImpl(vertx, new HttpClientPool(vertx, "test", ResourceUtils.metricsProvider()));
 
         Checkpoint async = context.checkpoint();
         api.createOrUpdatePutRequest(Reconciliation.DUMMY_RECONCILIATION, "127.0.0.1", server.actualPort(), "my-connector", new JsonObject())
@@ -77,7 +80,7 @@ public class KafkaConnectApiImplTest {
                 )
             )
         ));
-        final KafkaConnectApi api = new KafkaConnectApiImpl(vertx);
+        final KafkaConnectApi api = new KafkaConnectApiImpl(vertx, new HttpClientPool(vertx, "test", ResourceUtils.metricsProvider()));
         final Checkpoint async = context.checkpoint();
         api.listConnectLoggers(Reconciliation.DUMMY_RECONCILIATION, "127.0.0.1", server.actualPort())
                 .onComplete(context.succeeding(res -> context.verify(() -> {
@@ -101,7 +104,7 @@ public class KafkaConnectApiImplTest {
                 )
             )
         ));
-        final KafkaConnectApi api = new KafkaConnectApiImpl(vertx);
+        final KafkaConnectApi api = new KafkaConnectApiImpl(vertx, new HttpClientPool(vertx, "test", ResourceUtils.metricsProvider()));
         final Checkpoint async = context.checkpoint();
         api.listConnectLoggers(Reconciliation.DUMMY_RECONCILIATION, "127.0.0.1", server.actualPort())
                 .onComplete(context.succeeding(res -> context.verify(() -> {
@@ -114,6 +117,39 @@ public class KafkaConnectApiImplTest {
                 })));
     }
 
+    @Test
+    public void testListWithStatusAndInfo(Vertx vertx, VertxTestContext context) throws Exception {
+        final HttpServer server = mockApi(vertx, 200, new ObjectMapper().writeValueAsString(
+            Map.of(
+                "my-connector",
+                Map.of(
+                    "info", Map.of(
+                        "name", "my-connector",
+                        "config", Map.of("name", "my-connector", "connector.class", "MyConnector", "tasks.max", "1"),
+                        "tasks", List.of(Map.of("connector", "my-connector", "task", 0)),
+                        "type", "source"
+                    ),
+                    "status", Map.of(
+                        "name", "my-connector",
+                        "connector", Map.of("state", "RUNNING", "worker_id", "my-worker:8083"),
+                        "tasks", List.of(Map.of("id", 0, "state", "RUNNING", "worker_id", "my-worker:8083")),
+                        "type", "source"
+                    )
+                )
+            )
+        ));
+        final KafkaConnectApi api = new KafkaConnectApiImpl(vertx, new HttpClientPool(vertx, "test", ResourceUtils.metricsProvider()));
+        final Checkpoint async = context.checkpoint();
+        api.listWithStatusAndInfo(Reconciliation.DUMMY_RECONCILIATION, "127.0.0.1", server.actualPort())
+                .onComplete(context.succeeding(res -> context.verify(() -> {
+                    assertThat(res, aMapWithSize(1));
+                    assertThat(res.get("my-connector").config(), is(Map.of("name", "my-connector", "connector.class", "MyConnector", "tasks.max", "1")));
+                    assertThat(res.get("my-connector").status().get("connector"), is(Map.of("state", "RUNNING", "worker_id", "my-worker:8083")));
+                    server.close();
+                    async.flag();
+                })));
+    }
+
     HttpServer mockApi(Vertx vertx, int status, String body) throws InterruptedException, ExecutionException {
         HttpServer httpServer = vertx.createHttpServer().requestHandler(request -> request.response().setStatusCode(status).end(body));
         return httpServer.listen(0).toCompletionStage().toCompletableFuture().get();
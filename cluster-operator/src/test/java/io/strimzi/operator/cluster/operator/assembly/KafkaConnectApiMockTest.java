@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.cluster.operator.assembly;
 
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Future;
@@ -93,7 +95,7 @@ public class KafkaConnectApiMockTest {
         private final Queue<Future<Map<String, Object>>> statusResults;
 
         public MockKafkaConnectApi(Vertx vertx, Queue<Future<Map<String, Object>>> statusResults) {
-            super(vertx);
+            super(vertx, new HttpClientPool(vertx, "test", ResourceUtils.metricsProvider()));
             this.statusResults = statusResults;
         }
 
@@ -14,9 +14,11 @@ import io.strimzi.api.kafka.model.connector.KafkaConnectorStatus;
 import io.strimzi.operator.cluster.ClusterOperatorConfig;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.cluster.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.ResourceUtils;
 import io.strimzi.operator.cluster.operator.resource.DefaultKafkaAgentClientProvider;
 import io.strimzi.operator.cluster.operator.resource.DefaultZooKeeperAdminProvider;
 import io.strimzi.operator.cluster.operator.resource.DefaultZookeeperScalerProvider;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.resource.ZookeeperLeaderFinder;
 import io.strimzi.operator.common.BackOff;
@@ -67,6 +69,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 
 @ExtendWith(VertxExtension.class)
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling"})
 public class KafkaConnectorIT {
     private static StrimziKafkaCluster cluster;
     private static Vertx vertx;
@@ -127,7 +130,7 @@ public class KafkaConnectorIT {
 
     @Test
     public void testConnectorNotUpdatedWhenConfigUnchanged(VertxTestContext context) {
-        KafkaConnectApiImpl connectClient = new KafkaConnectApiImpl(vertx);
+        KafkaConnectApiImpl connectClient = new KafkaConnectApiImpl(vertx, new HttpClientPool(vertx, "test", ResourceUtils.metricsProvider()));
 
         PlatformFeaturesAvailability pfa = new PlatformFeaturesAvailability(false, KubernetesVersion.MINIMAL_SUPPORTED_VERSION);
 
@@ -161,7 +164,7 @@ public class KafkaConnectorIT {
 
         KafkaConnectAssemblyOperator operator = new KafkaConnectAssemblyOperator(vertx, pfa, ros,
                 ClusterOperatorConfig.buildFromMap(Map.of(), KafkaVersionTestUtils.getKafkaVersionLookup()),
-            connect -> new KafkaConnectApiImpl(vertx),
+            connect -> new KafkaConnectApiImpl(vertx, new HttpClientPool(vertx, "test", ResourceUtils.metricsProvider())),
             connectCluster.getPort(2)
         ) { };
 
@@ -197,7 +200,7 @@ public class KafkaConnectorIT {
 
     @Test
     public void testConnectorResourceNotReadyWhenConnectorFailed(VertxTestContext context) {
-        KafkaConnectApiImpl connectClient = new KafkaConnectApiImpl(vertx);
+        KafkaConnectApiImpl connectClient = new KafkaConnectApiImpl(vertx, new HttpClientPool(vertx, "test", ResourceUtils.metricsProvider()));
 
         PlatformFeaturesAvailability pfa = new PlatformFeaturesAvailability(false, KubernetesVersion.MINIMAL_SUPPORTED_VERSION);
 
@@ -232,7 +235,7 @@ public class KafkaConnectorIT {
 
         KafkaConnectAssemblyOperator operator = new KafkaConnectAssemblyOperator(vertx, pfa, ros,
                 ClusterOperatorConfig.buildFromMap(Map.of(), KafkaVersionTestUtils.getKafkaVersionLookup()),
-                connect -> new KafkaConnectApiImpl(vertx),
+                connect -> new KafkaConnectApiImpl(vertx, new HttpClientPool(vertx, "test", ResourceUtils.metricsProvider())),
                 connectCluster.getPort(2)
         ) { };
 
@@ -247,7 +250,7 @@ public class KafkaConnectorIT {
 
     @Test
     public void testConnectorResourceNotReadyWhenTaskFailed(VertxTestContext context) {
-        KafkaConnectApiImpl connectClient = new KafkaConnectApiImpl(vertx);
+        KafkaConnectApiImpl connectClient = new KafkaConnectApiImpl(vertx, new HttpClientPool(vertx, "test", ResourceUtils.metricsProvider()));
 
         PlatformFeaturesAvailability pfa = new PlatformFeaturesAvailability(false, KubernetesVersion.MINIMAL_SUPPORTED_VERSION);
 
@@ -282,7 +285,7 @@ public class KafkaConnectorIT {
 
         KafkaConnectAssemblyOperator operator = new KafkaConnectAssemblyOperator(vertx, pfa, ros,
                 ClusterOperatorConfig.buildFromMap(Map.of(), KafkaVersionTestUtils.getKafkaVersionLookup()),
-                connect -> new KafkaConnectApiImpl(vertx),
+                connect -> new KafkaConnectApiImpl(vertx, new HttpClientPool(vertx, "test", ResourceUtils.metricsProvider())),
                 connectCluster.getPort(2)
         ) { };
 
@@ -308,7 +311,7 @@ public class KafkaConnectorIT {
 
     @Test
     public void testConnectorIsAutoRestarted(VertxTestContext context) {
-        KafkaConnectApiImpl connectClient = new KafkaConnectApiImpl(vertx);
+        KafkaConnectApiImpl connectClient = new KafkaConnectApiImpl(vertx, new HttpClientPool(vertx, "test", ResourceUtils.metricsProvider()));
 
         PlatformFeaturesAvailability pfa = new PlatformFeaturesAvailability(false, KubernetesVersion.MINIMAL_SUPPORTED_VERSION);
 
@@ -343,7 +346,7 @@ public class KafkaConnectorIT {
 
         KafkaConnectAssemblyOperator operator = new KafkaConnectAssemblyOperator(vertx, pfa, ros,
             ClusterOperatorConfig.buildFromMap(Map.of(), KafkaVersionTestUtils.getKafkaVersionLookup()),
-            connect -> new KafkaConnectApiImpl(vertx),
+            connect -> new KafkaConnectApiImpl(vertx, new HttpClientPool(vertx, "test", ResourceUtils.metricsProvider())),
             connectCluster.getPort(2)
         ) { };
 
@@ -358,7 +361,7 @@ public class KafkaConnectorIT {
 
     @Test
     public void testTaskIsAutoRestarted(VertxTestContext context) {
-        KafkaConnectApiImpl connectClient = new KafkaConnectApiImpl(vertx);
+        KafkaConnectApiImpl connectClient = new KafkaConnectApiImpl(vertx, new HttpClientPool(vertx, "test", ResourceUtils.metricsProvider()));
 
         PlatformFeaturesAvailability pfa = new PlatformFeaturesAvailability(false, KubernetesVersion.MINIMAL_SUPPORTED_VERSION);
 
@@ -393,7 +396,7 @@ public class KafkaConnectorIT {
 
         KafkaConnectAssemblyOperator operator = new KafkaConnectAssemblyOperator(vertx, pfa, ros,
             ClusterOperatorConfig.buildFromMap(Map.of(), KafkaVersionTestUtils.getKafkaVersionLookup()),
-            connect -> new KafkaConnectApiImpl(vertx),
+            connect -> new KafkaConnectApiImpl(vertx, new HttpClientPool(vertx, "test", ResourceUtils.metricsProvider())),
             connectCluster.getPort(2)
         ) { };
 
@@ -34,7 +34,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -108,7 +107,7 @@ public class KafkaMirrorMaker2AssemblyOperatorConnectorAutoRestartTest {
 
     private KafkaConnectApi mockConnectApi(Map<String, Object> status)    {
         KafkaConnectApi mockConnectApi = mock(KafkaConnectApi.class);
-        when(mockConnectApi.list(any(), any(), anyInt())).thenReturn(Future.succeededFuture(new ArrayList<>()));
+        when(mockConnectApi.listWithStatusAndInfo(any(), any(), anyInt())).thenReturn(Future.succeededFuture(Map.of("source->target.MirrorSourceConnector", new KafkaConnectApi.ConnectorSnapshot(EXPECTED_CONNECTOR_CONFIG, status))));
         when(mockConnectApi.getConnectorConfig(any(), any(), any(), anyInt(), eq("source->target.MirrorSourceConnector"))).thenReturn(Future.succeededFuture(EXPECTED_CONNECTOR_CONFIG));
         when(mockConnectApi.status(any(), any(), anyInt(), eq("source->target.MirrorSourceConnector"))).thenReturn(Future.succeededFuture(status));
         when(mockConnectApi.statusWithBackOff(any(), any(), any(), anyInt(), eq("source->target.MirrorSourceConnector"))).thenReturn(Future.succeededFuture(status));
@@ -140,6 +139,33 @@ public class KafkaMirrorMaker2AssemblyOperatorConnectorAutoRestartTest {
                 })));
     }
 
+    @Test
+    public void testUnchangedConnectorUsesSnapshot(VertxTestContext context) {
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+        KafkaConnectApi mockConnectApi = mockConnectApi(RUNNING_STATUS);
+        KafkaMirrorMaker2Cluster mirrorMaker2Cluster = KafkaMirrorMaker2Cluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, MM2, VERSIONS, SHARED_ENV_PROVIDER);
+        KafkaMirrorMaker2Status kafkaMirrorMaker2Status = new KafkaMirrorMaker2Status();
+
+        KafkaMirrorMaker2AssemblyOperator op = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, KubernetesVersion.MINIMAL_SUPPORTED_VERSION),
+                supplier, ResourceUtils.dummyClusterOperatorConfig(), (vertx) -> mockConnectApi);
+
+        Checkpoint checkpoint = context.checkpoint();
+
+        op.reconcileConnectors(Reconciliation.DUMMY_RECONCILIATION, MM2, mirrorMaker2Cluster, kafkaMirrorMaker2Status)
+                .onComplete(context.succeeding(r -> context.verify(() -> {
+                    assertThat(kafkaMirrorMaker2Status.getConnectors(), is(List.of(RUNNING_STATUS)));
+
+                    // The config and status come from the snapshot => no per-connector config or status requests
+                    verify(mockConnectApi, times(1)).listWithStatusAndInfo(any(), any(), anyInt());
+                    verify(mockConnectApi, never()).getConnectorConfig(any(), any(), any(), anyInt(), any());
+                    verify(mockConnectApi, never()).status(any(), any(), anyInt(), any());
+                    verify(mockConnectApi, never()).statusWithBackOff(any(), any(), any(), anyInt(), any());
+                    verify(mockConnectApi, never()).createOrUpdatePutRequest(any(), any(), anyInt(), any(), any());
+
+                    checkpoint.flag();
+                })));
+    }
+
     @Test
     public void testAutoRestartWhenEnabledAndNotFailed(VertxTestContext context) {
         ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
@@ -0,0 +1,181 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReconcileStepGraphTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+
+    private final List<String> started = new ArrayList<>();
+    private final Map<String, Promise<Void>> promises = new HashMap<>();
+
+    private Supplier<Future<Void>> asyncStep(String name) {
+        return () -> {
+            started.add(name);
+            Promise<Void> promise = Promise.promise();
+            promises.put(name, promise);
+            return promise.future();
+        };
+    }
+
+    private Supplier<Future<Void>> syncStep(String name) {
+        return () -> {
+            started.add(name);
+            return Future.succeededFuture();
+        };
+    }
+
+    @Test
+    public void testSynchronousStepsRunInOrder() {
+        Future<Void> result = new ReconcileStepGraph(RECONCILIATION, 5, null)
+                .step("a", syncStep("a"))
+                .step("b", syncStep("b"), "a")
+                .step("c", syncStep("c"))
+                .step("d", syncStep("d"), "b", "c")
+                .execute();
+
+        assertThat(result.succeeded(), is(true));
+        assertThat(started, is(List.of("a", "b", "c", "d")));
+    }
+
+    @Test
+    public void testIndependentStepsRunConcurrently() {
+        Future<Void> result = new ReconcileStepGraph(RECONCILIATION, 5, null)
+                .step("a", asyncStep("a"))
+                .step("b", asyncStep("b"), "a")
+                .step("c", asyncStep("c"))
+                .step("d", asyncStep("d"), "b", "c")
+                .execute();
+
+        assertThat(started, is(List.of("a", "c")));
+
+        promises.get("c").complete();
+        assertThat(started, is(List.of("a", "c")));
+
+        promises.get("a").complete();
+        assertThat(started, is(List.of("a", "c", "b")));
+
+        promises.get("b").complete();
+        assertThat(started, is(List.of("a", "c", "b", "d")));
+        assertThat(result.isComplete(), is(false));
+
+        promises.get("d").complete();
+        assertThat(result.succeeded(), is(true));
+    }
+
+    @Test
+    public void testConcurrencyLimit() {
+        Future<Void> result = new ReconcileStepGraph(RECONCILIATION, 2, null)
+                .step("a", asyncStep("a"))
+                .step("b", asyncStep("b"))
+                .step("c", asyncStep("c"))
+                .step("d", asyncStep("d"))
+                .execute();
+
+        assertThat(started, is(List.of("a", "b")));
+
+        promises.get("b").complete();
+        assertThat(started, is(List.of("a", "b", "c")));
+
+        promises.get("a").complete();
+        assertThat(started, is(List.of("a", "b", "c", "d")));
+
+        promises.get("c").complete();
+        promises.get("d").complete();
+        assertThat(result.succeeded(), is(true));
+    }
+
+    @Test
+    public void testFailureStopsNewStepsAndWaitsForRunningSteps() {
+        Future<Void> result = new ReconcileStepGraph(RECONCILIATION, 5, null)
+                .step("a", asyncStep("a"))
+                .step("b", asyncStep("b"))
+                .step("c", asyncStep("c"), "a")
+                .step("d", asyncStep("d"))
+                .execute();
+
+        assertThat(started, is(List.of("a", "b", "d")));
+
+        promises.get("b").fail("Step b failed");
+        promises.get("a").complete();
+
+        // Step c should not be started after the failure
+        assertThat(started, is(List.of("a", "b", "d")));
+        // The result should wait for the running steps
+        assertThat(result.isComplete(), is(false));
+
+        promises.get("d").fail("Step d failed");
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("Step b failed"));
+    }
+
+    @Test
+    public void testStepThrowingException() {
+        Future<Void> result = new ReconcileStepGraph(RECONCILIATION, 5, null)
+                .step("a", () -> {
+                    throw new RuntimeException("Step a failed");
+                })
+                .step("b", syncStep("b"), "a")
+                .execute();
+
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("Step a failed"));
+        assertThat(started, is(List.of()));
+    }
+
+    @Test
+    public void testEmptyGraph() {
+        assertThat(new ReconcileStepGraph(RECONCILIATION, 1, null).execute().succeeded(), is(true));
+    }
+
+    @Test
+    public void testInvalidGraph() {
+        ReconcileStepGraph graph = new ReconcileStepGraph(RECONCILIATION, 1, null)
+                .step("a", syncStep("a"));
+
+        assertThrows(IllegalArgumentException.class, () -> graph.step("a", syncStep("a")));
+        assertThrows(IllegalArgumentException.class, () -> graph.step("b", syncStep("b"), "c"));
+        assertThrows(IllegalArgumentException.class, () -> new ReconcileStepGraph(RECONCILIATION, 0, null));
+    }
+
+    @Test
+    public void testStepMetrics() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+
+        Future<Void> result = new ReconcileStepGraph(RECONCILIATION, 5, new MicrometerMetricsProvider(registry))
+                .step("a", syncStep("a"))
+                .step("b", asyncStep("b"), "a")
+                .execute();
+
+        promises.get("b").fail("Step b failed");
+        assertThat(result.failed(), is(true));
+
+        for (String step : List.of("a", "b")) {
+            assertThat(registry.get(ReconcileStepGraph.METRICS_STEP_DURATION)
+                    .tag("kind", "Kafka")
+                    .tag("namespace", "my-namespace")
+                    .tag("step", step)
+                    .timer()
+                    .count(), is(1L));
+        }
+    }
+}
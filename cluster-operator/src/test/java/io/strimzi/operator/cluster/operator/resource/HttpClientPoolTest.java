@@ -0,0 +1,136 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class HttpClientPoolTest {
+    @Test
+    public void testConnectionsAreReused(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        AtomicInteger connections = new AtomicInteger(0);
+        HttpServer server = mockServer(vertx, connections);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        HttpClientPool pool = new HttpClientPool(vertx, "test", new MicrometerMetricsProvider(registry));
+
+        Checkpoint async = context.checkpoint();
+        get(pool, server.actualPort(), new HttpClientOptions().setMaxPoolSize(1))
+                .compose(i -> get(pool, server.actualPort(), new HttpClientOptions().setMaxPoolSize(1)))
+                .compose(i -> get(pool, server.actualPort(), new HttpClientOptions().setMaxPoolSize(1)))
+                .onComplete(context.succeeding(status -> context.verify(() -> {
+                    assertThat(status, is(200));
+                    assertThat(connections.get(), is(1));
+                    assertThat(pool.size(), is(1));
+
+                    assertThat(registry.get(HttpClientPool.METRICS_CLIENTS).tag("pool", "test").gauge().value(), is(1.0));
+                    assertThat(registry.get(HttpClientPool.METRICS_REQUESTS_IN_FLIGHT).tag("pool", "test").gauge().value(), is(0.0));
+                    assertThat(registry.get(HttpClientPool.METRICS_CLIENTS_CREATED).tag("pool", "test").counter().count(), is(1.0));
+                    assertThat(registry.get(HttpClientPool.METRICS_CLIENTS_INVALIDATED).tag("pool", "test").counter().count(), is(0.0));
+                    assertThat(registry.get(HttpClientPool.METRICS_REQUEST_DURATION).tag("pool", "test").tag("server", "127.0.0.1:" + server.actualPort()).timer().count(), is(3L));
+
+                    pool.close();
+                    // The request duration metric is removed together with the client
+                    assertThat(registry.find(HttpClientPool.METRICS_REQUEST_DURATION).timer(), is(nullValue()));
+                    server.close();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testClientIsInvalidatedWhenOptionsChange(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        AtomicInteger connections = new AtomicInteger(0);
+        HttpServer server = mockServer(vertx, connections);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        HttpClientPool pool = new HttpClientPool(vertx, "test", new MicrometerMetricsProvider(registry));
+
+        Checkpoint async = context.checkpoint();
+        get(pool, server.actualPort(), new HttpClientOptions().setMaxPoolSize(1))
+                .compose(i -> get(pool, server.actualPort(), new HttpClientOptions().setMaxPoolSize(1).setConnectTimeout(1_000)))
+                .compose(i -> get(pool, server.actualPort(), new HttpClientOptions().setMaxPoolSize(1).setConnectTimeout(1_000)))
+                .onComplete(context.succeeding(status -> context.verify(() -> {
+                    assertThat(status, is(200));
+                    assertThat(connections.get(), is(2));
+                    assertThat(pool.size(), is(1));
+
+                    assertThat(registry.get(HttpClientPool.METRICS_CLIENTS_CREATED).tag("pool", "test").counter().count(), is(2.0));
+                    assertThat(registry.get(HttpClientPool.METRICS_CLIENTS_INVALIDATED).tag("pool", "test").counter().count(), is(1.0));
+
+                    pool.close();
+                    server.close();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testIdleClientsAreClosed(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        AtomicInteger connections = new AtomicInteger(0);
+        HttpServer server = mockServer(vertx, connections);
+        HttpClientPool pool = new HttpClientPool(vertx, "test", new MicrometerMetricsProvider(new SimpleMeterRegistry()), 0L);
+
+        Checkpoint async = context.checkpoint();
+        get(pool, server.actualPort(), new HttpClientOptions().setMaxPoolSize(1))
+                .compose(i -> get(pool, server.actualPort(), new HttpClientOptions().setMaxPoolSize(1)))
+                .onComplete(context.succeeding(status -> context.verify(() -> {
+                    // The first client was idle and closed before the second request
+                    assertThat(connections.get(), is(2));
+                    assertThat(pool.size(), is(1));
+
+                    pool.close();
+                    assertThat(pool.size(), is(0));
+
+                    server.close();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testFailedOperation(Vertx vertx, VertxTestContext context) {
+        HttpClientPool pool = new HttpClientPool(vertx, "test", new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
+        Checkpoint async = context.checkpoint();
+        pool.<Void>withHttpClient("my-key", new HttpClientOptions(), (client, result) -> {
+            throw new RuntimeException("Something went wrong");
+        }).onComplete(context.failing(e -> context.verify(() -> {
+            assertThat(e.getMessage(), is("Something went wrong"));
+            async.flag();
+        })));
+    }
+
+    private static Future<Integer> get(HttpClientPool pool, int port, HttpClientOptions options) {
+        return pool.withHttpClient("127.0.0.1:" + port, options, (client, result) -> client.request(HttpMethod.GET, port, "127.0.0.1", "/")
+                .compose(request -> request.send())
+                .compose(response -> response.body().map(body -> response))
+                .map(HttpClientResponse::statusCode)
+                .onComplete(result));
+    }
+
+    private static HttpServer mockServer(Vertx vertx, AtomicInteger connections) throws ExecutionException, InterruptedException {
+        HttpServer httpServer = vertx.createHttpServer()
+                .connectionHandler(connection -> connections.incrementAndGet())
+                .requestHandler(request -> request.response().setStatusCode(200).end("{}"));
+
+        return httpServer.listen(0).toCompletionStage().toCompletableFuture().get();
+    }
+}
@@ -4,6 +4,9 @@
  */
 package io.strimzi.operator.cluster.operator.resource;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -26,6 +29,7 @@ import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -34,16 +38,20 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -633,4 +641,109 @@ public class KafkaAvailabilityTest {
             }
         }
     }
+
+    @Test
+    public void testChangesBetweenChecksAreSeen(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(1)
+                        .isr(0, 1)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("C", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(3, 4, 5)
+                        .leader(3)
+                        .isr(3, 4, 5)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+
+        kafkaAvailability.canRoll(3)
+                .compose(canRoll -> {
+                    context.verify(() -> assertTrue(canRoll, "broker 3 should be rollable with all replicas in sync"));
+
+                    // A partition is added to topic A and broker 3 is one of only two in-sync replicas
+                    ksb.topics.get("A").addNewPartition(1)
+                            .replicaOn(3, 4, 5)
+                            .leader(3)
+                            .isr(3, 4)
+                        .endPartition();
+
+                    return kafkaAvailability.canRoll(3);
+                })
+                .compose(canRoll -> {
+                    context.verify(() -> assertFalse(canRoll, "broker 3 should not be rollable because of the new partition of topic A"));
+
+                    // The new partition of topic A catches up
+                    ksb.topics.get("A").partitions.get(1).isr(3, 4, 5);
+                    return kafkaAvailability.canRoll(3);
+                })
+                .compose(canRoll -> {
+                    context.verify(() -> assertTrue(canRoll, "broker 3 should be rollable once all replicas are in sync"));
+
+                    // Topic B is reassigned to broker 3 and its min.insync.replicas is increased
+                    ksb.topics.get("B").partitions.get(0)
+                            .replicaOn(3, 4, 5)
+                            .leader(3)
+                            .isr(3, 4);
+                    ksb.topics.get("B").addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2");
+
+                    return kafkaAvailability.canRoll(3);
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertFalse(canRoll, "broker 3 should not be rollable because of the reassigned topic B with min.insync.replicas = 2");
+
+                    // The configs are fetched in every check, but only for the topics on the checked broker
+                    ArgumentCaptor<Collection<ConfigResource>> captor = ArgumentCaptor.forClass(Collection.class);
+                    verify(ac, times(4)).describeConfigs(captor.capture());
+                    assertThat(captor.getAllValues().get(0).stream().map(ConfigResource::name).collect(Collectors.toSet()), is(Set.of("C")));
+                    assertThat(captor.getAllValues().get(1).stream().map(ConfigResource::name).collect(Collectors.toSet()), is(Set.of("A", "C")));
+                    assertThat(captor.getAllValues().get(3).stream().map(ConfigResource::name).collect(Collectors.toSet()), is(Set.of("A", "B", "C")));
+
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    public void testCheckDurationMetric(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic();
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "Kafka", "namespace", "A"), ksb.ac(), new MicrometerMetricsProvider(registry));
+
+        kafkaAvailability.canRoll(0)
+                .compose(i -> kafkaAvailability.canRoll(1))
+                .onComplete(context.succeeding(i -> context.verify(() -> {
+                    assertThat(registry.get(KafkaAvailability.METRICS_CHECK_DURATION)
+                            .tag("kind", "Kafka")
+                            .tag("namespace", "namespace")
+                            .timer()
+                            .count(), is(2L));
+
+                    context.completeNow();
+                })));
+    }
 }
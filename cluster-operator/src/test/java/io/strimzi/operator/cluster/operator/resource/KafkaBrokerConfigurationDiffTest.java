@@ -144,6 +144,18 @@ public class KafkaBrokerConfigurationDiffTest {
         assertConfig(kcd, new ConfigEntry("min.insync.replicas", "2"));
     }
 
+    @Test
+    public void testReplacedPropertyWithSameValue() {
+        List<ConfigEntry> current = singletonList(new ConfigEntry("log.message.timestamp.before.max.ms", "3600000"));
+        List<ConfigEntry> desired = singletonList(new ConfigEntry("log.message.timestamp.after.max.ms", "3600000"));
+        KafkaBrokerConfigurationDiff kcd = new KafkaBrokerConfigurationDiff(Reconciliation.DUMMY_RECONCILIATION, getCurrentConfiguration(current),
+                getDesiredConfiguration(desired), kafkaVersion, nodeRef);
+        assertThat(kcd.getDiffSize(), is(2));
+        assertThat(kcd.canBeUpdatedDynamically(), is(true));
+        assertConfig(kcd, new ConfigEntry("log.message.timestamp.before.max.ms", null));
+        assertConfig(kcd, new ConfigEntry("log.message.timestamp.after.max.ms", "3600000"));
+    }
+
     @Test
     public void testChangedPresentValueToDefault() {
         List<ConfigEntry> ces = singletonList(new ConfigEntry("min.insync.replicas", "1"));
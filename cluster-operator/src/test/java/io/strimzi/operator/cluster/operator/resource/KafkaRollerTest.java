@@ -73,7 +73,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -144,6 +146,8 @@ public class KafkaRollerTest {
                 asList(0, 1, 2, 3, 4),
                 asList(0, 1, 2, 3, 4), () -> {
                     assertEquals(kafkaRoller.tcpProbes, expectedTcpProbes);
+                    // The clients which timed out are not reused
+                    verify(mock, atLeast(expectedTcpProbes.size())).discardAdminClient(any());
                 });
     }
 
@@ -871,7 +875,8 @@ public class KafkaRollerTest {
                     "",
                     KafkaVersionTestUtils.getLatestVersion(),
                     true,
-                    mock(KubernetesRestartEventPublisher.class));
+                    mock(KubernetesRestartEventPublisher.class),
+                    null);
             this.delegateControllerCall = delegateControllerCall;
             this.delegateAdminClientCall = delegateAdminClientCall;
             this.controllers = controllers;
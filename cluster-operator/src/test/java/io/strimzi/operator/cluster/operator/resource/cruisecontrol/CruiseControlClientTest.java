@@ -4,7 +4,11 @@
  */
 package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.certs.Subject;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.cruisecontrol.CruiseControlEndpoints;
 import io.strimzi.operator.common.model.cruisecontrol.CruiseControlRebalanceKeys;
@@ -93,6 +97,33 @@ public class CruiseControlClientTest {
             })));
     }
 
+    @Test
+    public void testPooledClientIsReused(Vertx vertx, VertxTestContext context) {
+        cruiseControlServer.setupCCStateResponse();
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerMetricsProvider metricsProvider = new MicrometerMetricsProvider(registry);
+        HttpClientPool pool = new HttpClientPool(vertx, "test", metricsProvider);
+
+        // A new API client is created for every reconciliation, but they all share the same pool
+        Checkpoint checkpoint = context.checkpoint();
+        new CruiseControlApiImpl(vertx, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, MockCruiseControl.CC_SECRET, MockCruiseControl.CC_API_SECRET, API_AUTH_ENABLED, API_SSL_ENABLED, pool, metricsProvider)
+                .getCruiseControlState(Reconciliation.DUMMY_RECONCILIATION, HOST, cruiseControlPort, false)
+                .compose(i -> new CruiseControlApiImpl(vertx, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, MockCruiseControl.CC_SECRET, MockCruiseControl.CC_API_SECRET, API_AUTH_ENABLED, API_SSL_ENABLED, pool, metricsProvider)
+                        .getCruiseControlState(Reconciliation.DUMMY_RECONCILIATION, HOST, cruiseControlPort, false))
+                .onComplete(context.succeeding(result -> context.verify(() -> {
+                    assertThat(result.getJson().getJsonObject("ExecutorState"), hasEntry("state", "NO_TASK_IN_PROGRESS"));
+
+                    assertThat(pool.size(), is(1));
+                    assertThat(registry.get(HttpClientPool.METRICS_CLIENTS_CREATED).tag("pool", "test").counter().count(), is(1.0));
+                    assertThat(registry.get(HttpClientPool.METRICS_CLIENTS_INVALIDATED).tag("pool", "test").counter().count(), is(0.0));
+                    assertThat(registry.get(CruiseControlApiImpl.METRICS_REQUEST_DURATION).tag("endpoint", "state").timer().count(), is(2L));
+
+                    pool.close();
+                    checkpoint.flag();
+                })));
+    }
+
     @Test
     public void testCCRebalance(Vertx vertx, VertxTestContext context) throws IOException, URISyntaxException {
         RebalanceOptions options = new RebalanceOptions.RebalanceOptionsBuilder().build();
@@ -16,6 +16,10 @@ import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Vertx;
@@ -186,6 +190,92 @@ public abstract class AbstractNamespacedResourceOperatorTest<C extends Kubernete
         })));
     }
 
+    @Test
+    public void testReconcileUsesCache(VertxTestContext context) {
+        T resource = resource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        Indexer<T> mockIndexer = mock(Indexer.class);
+        when(mockIndexer.getByKey(resource.getMetadata().getNamespace() + "/" + resource.getMetadata().getName())).thenReturn(resource);
+        SharedIndexInformer<T> mockInformer = mock(SharedIndexInformer.class);
+        when(mockInformer.getIndexer()).thenReturn(mockIndexer);
+        when(mockInformer.hasSynced()).thenReturn(true);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+        op.useCache(new ResourceCache<>("Test", Map.of(NAMESPACE, mockInformer), new MicrometerMetricsProvider(new SimpleMeterRegistry())));
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, resource()).onComplete(context.succeeding(rr -> context.verify(() -> {
+            verify(mockResource, never()).get();
+            verify(mockResource, never()).patch(any(), any());
+            verify(mockResource, never()).create();
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testDeleteAsyncInvalidatesCache(VertxTestContext context) {
+        Deletable mockDeletable = mock(Deletable.class);
+        AtomicBoolean resourceDeleted = new AtomicBoolean(false);
+        when(mockDeletable.delete()).thenAnswer(args -> {
+            resourceDeleted.set(true);
+            return List.of();
+        });
+        GracePeriodConfigurable mockDeletableGrace = mock(GracePeriodConfigurable.class);
+        when(mockDeletableGrace.withGracePeriod(anyLong())).thenReturn(mockDeletable);
+
+        T resource = resource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenAnswer(args -> resourceDeleted.get() ? null : resource);
+        when(mockResource.create()).thenReturn(resource);
+        when(mockResource.withPropagationPolicy(any())).thenReturn(mockDeletableGrace);
+        when(mockResource.watch(any())).thenAnswer(invocation -> {
+            Watcher watcher = invocation.getArgument(0);
+            watcher.eventReceived(Watcher.Action.DELETED, resource);
+            return (Watch) () -> { };
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(RESOURCE_NAME))).thenReturn(mockResource);
+        when(mockNameable.resource(eq(resource))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        // The informer did not observe the deletion yet
+        Indexer<T> mockIndexer = mock(Indexer.class);
+        when(mockIndexer.getByKey(resource.getMetadata().getNamespace() + "/" + resource.getMetadata().getName())).thenReturn(resource);
+        SharedIndexInformer<T> mockInformer = mock(SharedIndexInformer.class);
+        when(mockInformer.getIndexer()).thenReturn(mockIndexer);
+        when(mockInformer.hasSynced()).thenReturn(true);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperationsWithMockedReadiness(vertx, mockClient);
+        op.useCache(new ResourceCache<>("Test", Map.of(NAMESPACE, mockInformer), new MicrometerMetricsProvider(new SimpleMeterRegistry())));
+
+        Checkpoint async = context.checkpoint();
+        op.deleteAsync(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, true)
+            .compose(i -> op.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, resource))
+            .onComplete(context.succeeding(rr -> context.verify(() -> {
+                // The deleted resource is not used from the cache => it is created again
+                verify(mockDeletable).delete();
+                verify(mockResource).create();
+                async.flag();
+            })));
+    }
+
     @Test
     public void testExistenceCheckThrows(VertxTestContext context) {
         T resource = resource();
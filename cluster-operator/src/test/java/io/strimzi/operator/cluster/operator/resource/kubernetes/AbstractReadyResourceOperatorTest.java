@@ -7,6 +7,9 @@ package io.strimzi.operator.cluster.operator.resource.kubernetes;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
@@ -16,15 +19,24 @@ import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -198,4 +210,78 @@ public abstract class AbstractReadyResourceOperatorTest<C extends KubernetesClie
                 async.flag();
             })));
     }
+
+    @Test
+    public void testReadinessCompletesOnWatchEvent(VertxTestContext context) throws Exception {
+        T resource = resource();
+        CompletableFuture<Watcher<T>> watcher = new CompletableFuture<>();
+        Watch mockWatch = mock(Watch.class);
+
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+        when(mockResource.watch(any())).thenAnswer(invocation -> {
+            watcher.complete(invocation.getArgument(0));
+            return mockWatch;
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AtomicBoolean ready = new AtomicBoolean(false);
+        AbstractReadyNamespacedResourceOperator<C, T, L, R> op = spy(createResourceOperations(vertx, mockClient));
+        doAnswer(invocation -> ready.get()).when(op).isReady(ArgumentMatchers.<T>any());
+
+        Checkpoint async = context.checkpoint();
+        // The poll interval is longer than the timeout, so only the watch can complete the wait
+        op.readiness(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, 60_000, 10_000)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                verify(mockResource, never()).isReady();
+                verify(mockWatch, timeout(1_000)).close();
+                async.flag();
+            })));
+
+        ready.set(true);
+        watcher.get(10, TimeUnit.SECONDS).eventReceived(Watcher.Action.MODIFIED, resource);
+    }
+
+    @Test
+    public void testReadinessFallsBackToPollingWhenWatchIsClosed(VertxTestContext context) throws Exception {
+        T resource = resource();
+        CompletableFuture<Watcher<T>> watcher = new CompletableFuture<>();
+
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+        when(mockResource.isReady()).thenReturn(Boolean.TRUE);
+        when(mockResource.watch(any())).thenAnswer(invocation -> {
+            watcher.complete(invocation.getArgument(0));
+            return mock(Watch.class);
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractReadyNamespacedResourceOperator<C, T, L, R> op = spy(createResourceOperations(vertx, mockClient));
+        doReturn(false).when(op).isReady(ArgumentMatchers.<T>any());
+
+        Checkpoint async = context.checkpoint();
+        op.readiness(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, 20, 10_000)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                verify(mockResource, atLeastOnce()).isReady();
+                async.flag();
+            })));
+
+        watcher.get(10, TimeUnit.SECONDS).onClose(new WatcherException("Resource version too old"));
+    }
 }
@@ -0,0 +1,209 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.kubernetes;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+public class ResourceCacheTest {
+    private static final String NAMESPACE = "my-namespace";
+    private static final String NAME = "my-cm";
+    private static final String KEY = NAMESPACE + "/" + NAME;
+
+    private SharedIndexInformer<ConfigMap> informer;
+    private Indexer<ConfigMap> indexer;
+    private MeterRegistry registry;
+    private ResourceCache<ConfigMap> cache;
+    private ResourceEventHandler<ConfigMap> handler;
+
+    @BeforeEach
+    public void setup() {
+        indexer = mock(Indexer.class);
+        informer = mock(SharedIndexInformer.class);
+        when(informer.getIndexer()).thenReturn(indexer);
+        when(informer.hasSynced()).thenReturn(true);
+
+        registry = new SimpleMeterRegistry();
+        cache = new ResourceCache<>("ConfigMap", Map.of(NAMESPACE, informer), new MicrometerMetricsProvider(registry));
+
+        ArgumentCaptor<ResourceEventHandler<ConfigMap>> handlerCaptor = ArgumentCaptor.forClass(ResourceEventHandler.class);
+        verify(informer).addEventHandler(handlerCaptor.capture());
+        handler = handlerCaptor.getValue();
+    }
+
+    private static ConfigMap configMap(String resourceVersion) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(NAME)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .withData(Map.of("key", "value"))
+                .build();
+    }
+
+    private double hits() {
+        return registry.get(ResourceCache.METRICS_CACHE_HITS).tag("kind", "ConfigMap").counter().count();
+    }
+
+    private double misses() {
+        return registry.get(ResourceCache.METRICS_CACHE_MISSES).tag("kind", "ConfigMap").counter().count();
+    }
+
+    @Test
+    public void testHit() {
+        ConfigMap cm = configMap("100");
+        when(indexer.getByKey(KEY)).thenReturn(cm);
+
+        ConfigMap cached = cache.get(NAMESPACE, NAME);
+        assertThat(cached, is(cm));
+        // The cached resource should be a copy
+        assertThat(cached, is(not(sameInstance(cm))));
+
+        assertThat(hits(), is(1.0));
+        assertThat(misses(), is(0.0));
+    }
+
+    @Test
+    public void testMissWhenNotCached() {
+        assertThat(cache.get(NAMESPACE, NAME), is(nullValue()));
+        assertThat(cache.get("other-namespace", NAME), is(nullValue()));
+
+        assertThat(hits(), is(0.0));
+        assertThat(misses(), is(2.0));
+    }
+
+    @Test
+    public void testMissWhenNotSynced() {
+        when(indexer.getByKey(KEY)).thenReturn(configMap("100"));
+        when(informer.hasSynced()).thenReturn(false);
+
+        assertThat(cache.get(NAMESPACE, NAME), is(nullValue()));
+        assertThat(misses(), is(1.0));
+    }
+
+    @Test
+    public void testAllNamespacesInformer() {
+        cache = new ResourceCache<>("ConfigMap", Map.of("*", informer), new MicrometerMetricsProvider(registry));
+        when(indexer.getByKey(KEY)).thenReturn(configMap("100"));
+
+        assertThat(cache.get(NAMESPACE, NAME), is(configMap("100")));
+        assertThat(hits(), is(1.0));
+    }
+
+    @Test
+    public void testMissUntilCacheCatchesUpWithWrite() {
+        when(indexer.getByKey(KEY)).thenReturn(configMap("100"));
+        cache.written(configMap("105"));
+
+        // Cache is behind our write
+        assertThat(cache.get(NAMESPACE, NAME), is(nullValue()));
+
+        // A version which does not match our write is not trusted even when it looks newer
+        when(indexer.getByKey(KEY)).thenReturn(configMap("110"));
+        assertThat(cache.get(NAMESPACE, NAME), is(nullValue()));
+
+        // Informer delivered our write
+        handler.onUpdate(configMap("100"), configMap("105"));
+        when(indexer.getByKey(KEY)).thenReturn(configMap("105"));
+        assertThat(cache.get(NAMESPACE, NAME), is(configMap("105")));
+
+        // Cache has a newer version modified by someone else
+        handler.onUpdate(configMap("105"), configMap("110"));
+        when(indexer.getByKey(KEY)).thenReturn(configMap("110"));
+        assertThat(cache.get(NAMESPACE, NAME), is(configMap("110")));
+
+        assertThat(hits(), is(2.0));
+        assertThat(misses(), is(2.0));
+    }
+
+    @Test
+    public void testWriteAlreadyInCache() {
+        // The informer delivered the write before it was recorded
+        when(indexer.getByKey(KEY)).thenReturn(configMap("105"));
+        handler.onUpdate(configMap("100"), configMap("105"));
+        cache.written(configMap("105"));
+
+        assertThat(cache.get(NAMESPACE, NAME), is(configMap("105")));
+    }
+
+    @Test
+    public void testOpaqueResourceVersions() {
+        when(indexer.getByKey(KEY)).thenReturn(configMap("abc"));
+        cache.written(configMap("xyz"));
+        assertThat(cache.get(NAMESPACE, NAME), is(nullValue()));
+
+        handler.onAdd(configMap("xyz"));
+        when(indexer.getByKey(KEY)).thenReturn(configMap("xyz"));
+        assertThat(cache.get(NAMESPACE, NAME), is(configMap("xyz")));
+    }
+
+    @Test
+    public void testMissUntilDeletionIsObserved() {
+        when(indexer.getByKey(KEY)).thenReturn(configMap("100"));
+        cache.deleted(NAMESPACE, NAME);
+
+        // Cache did not see the deletion yet
+        assertThat(cache.get(NAMESPACE, NAME), is(nullValue()));
+
+        // Deletion was observed
+        when(indexer.getByKey(KEY)).thenReturn(null);
+        assertThat(cache.get(NAMESPACE, NAME), is(nullValue()));
+
+        // Resource was recreated
+        when(indexer.getByKey(KEY)).thenReturn(configMap("120"));
+        assertThat(cache.get(NAMESPACE, NAME), is(configMap("120")));
+    }
+
+    @Test
+    public void testRecreatedResourceAfterDeletion() {
+        when(indexer.getByKey(KEY)).thenReturn(configMap("100"));
+        cache.deleted(NAMESPACE, NAME);
+
+        // The informer delivered the deletion and the resource was created again before the cache was used
+        handler.onDelete(configMap("100"), false);
+        handler.onAdd(configMap("120"));
+        when(indexer.getByKey(KEY)).thenReturn(configMap("120"));
+
+        assertThat(cache.get(NAMESPACE, NAME), is(configMap("120")));
+    }
+
+    @Test
+    public void testWriteAfterDeletion() {
+        when(indexer.getByKey(KEY)).thenReturn(configMap("100"));
+        cache.deleted(NAMESPACE, NAME);
+        cache.written(configMap("120"));
+
+        // The deletion delivered by the informer does not mean it caught up with the newer write
+        handler.onDelete(configMap("100"), false);
+        when(indexer.getByKey(KEY)).thenReturn(null);
+        assertThat(cache.get(NAMESPACE, NAME), is(nullValue()));
+
+        handler.onAdd(configMap("120"));
+        when(indexer.getByKey(KEY)).thenReturn(configMap("120"));
+        assertThat(cache.get(NAMESPACE, NAME), is(configMap("120")));
+    }
+}
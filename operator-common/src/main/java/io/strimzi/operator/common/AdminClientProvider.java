@@ -36,4 +36,23 @@ public interface AdminClientProvider {
      * @return Instance of Kafka Admin interface
      */
     Admin createAdminClient(String bootstrapHostnames, PemTrustSet kafkaCaTrustSet, PemAuthIdentity authIdentity, Properties config);
+
+    /**
+     * Marks the Kafka Admin interface instance which ran into a problem (for example a timeout) as not reusable.
+     * Providers which reuse the instances make sure it is not returned again. The caller still has to close it as
+     * usual. By default, nothing is done as the instances are not reused.
+     *
+     * @param adminClient Instance of Kafka Admin interface which should be discarded
+     */
+    default void discardAdminClient(Admin adminClient) {
+        // Nothing to do by default
+    }
+
+    /**
+     * Closes the resources held by the provider. This should be called when the operator is stopped. By default, there
+     * is nothing to close.
+     */
+    default void close() {
+        // Nothing to close by default
+    }
 }
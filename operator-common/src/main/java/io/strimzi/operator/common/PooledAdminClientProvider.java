@@ -0,0 +1,418 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.auth.PemAuthIdentity;
+import io.strimzi.operator.common.auth.PemTrustSet;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides Kafka Admin clients which are shared across the reconciliations. The clients are pooled by the bootstrap
+ * address, the trusted certificates, the client identity and the custom configuration. The Admin client returned to the
+ * caller can be closed as usual: closing it only returns it to the pool.
+ *
+ * There is at most one pooled client for every bootstrap address. When a client is requested for the same bootstrap
+ * address with different trusted certificates or a different identity (for example after a CA or client certificate
+ * renewal), the old client is removed from the pool and closed once it is not used anymore. Clients which were not
+ * used for longer than the idle timeout (for example because the Kafka cluster was deleted) are closed as well. The idle
+ * clients are checked periodically in a background thread.
+ *
+ * Callers which ran into a problem with the client (for example timeouts or connection errors) should discard it using
+ * the discardAdminClient method before closing it. The discarded client is removed from the pool, so that the next
+ * caller gets a new client.
+ */
+public class PooledAdminClientProvider implements AdminClientProvider {
+    private static final Logger LOGGER = LogManager.getLogger(PooledAdminClientProvider.class);
+
+    /**
+     * Metric name for the number of created Admin clients.
+     */
+    public static final String METRICS_ADMIN_CLIENTS_CREATED = MetricsHolder.METRICS_PREFIX + "admin.clients.created";
+    /**
+     * Metric name for the number of open Admin clients.
+     */
+    public static final String METRICS_ADMIN_CLIENTS_OPEN = MetricsHolder.METRICS_PREFIX + "admin.clients.open";
+    /**
+     * Metric name for the lifetime of the Admin clients.
+     */
+    public static final String METRICS_ADMIN_CLIENT_LIFETIME = MetricsHolder.METRICS_PREFIX + "admin.client.lifetime";
+
+    /**
+     * Default time after which the unused Admin clients are closed
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT_MS = 600_000L;
+
+    private final AdminClientProvider delegate;
+    private final long idleTimeoutNanos;
+    private final Map<String, PooledAdmin> pool = new HashMap<>(); // Guarded by this. Keyed by the bootstrap address.
+    private final ScheduledExecutorService idleCheckExecutor;
+
+    private final Counter createdCounter;
+    private final AtomicInteger openGauge;
+    private final Timer lifetimeTimer;
+
+    /**
+     * Creates the pooled Admin client provider
+     *
+     * @param delegate          Provider used to create the Admin clients
+     * @param metricsProvider   Metrics provider used for the Admin client metrics
+     */
+    public PooledAdminClientProvider(AdminClientProvider delegate, MetricsProvider metricsProvider) {
+        this(delegate, metricsProvider, DEFAULT_IDLE_TIMEOUT_MS);
+    }
+
+    /**
+     * Creates the pooled Admin client provider
+     *
+     * @param delegate          Provider used to create the Admin clients
+     * @param metricsProvider   Metrics provider used for the Admin client metrics
+     * @param idleTimeoutMs     Time after which the unused Admin clients are closed
+     */
+    public PooledAdminClientProvider(AdminClientProvider delegate, MetricsProvider metricsProvider, long idleTimeoutMs) {
+        this.delegate = delegate;
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMs);
+
+        this.createdCounter = metricsProvider.counter(METRICS_ADMIN_CLIENTS_CREATED, "Number of created Kafka Admin clients", Tags.empty());
+        this.openGauge = metricsProvider.gauge(METRICS_ADMIN_CLIENTS_OPEN, "Number of open Kafka Admin clients", Tags.empty());
+        this.lifetimeTimer = metricsProvider.timer(METRICS_ADMIN_CLIENT_LIFETIME, "Time between creating and closing the Kafka Admin clients", Tags.empty());
+
+        this.idleCheckExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "admin-client-pool-idle-check");
+            // The thread must not prevent the JVM exit when the pool is not closed
+            thread.setDaemon(true);
+            return thread;
+        });
+        long idleCheckIntervalMs = Math.max(idleTimeoutMs / 2, 1);
+        this.idleCheckExecutor.scheduleWithFixedDelay(this::closeIdle, idleCheckIntervalMs, idleCheckIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Admin createAdminClient(String bootstrapHostnames, PemTrustSet kafkaCaTrustSet, PemAuthIdentity authIdentity) {
+        return createAdminClient(bootstrapHostnames, kafkaCaTrustSet, authIdentity, new Properties());
+    }
+
+    @Override
+    public Admin createAdminClient(String bootstrapHostnames, PemTrustSet kafkaCaTrustSet, PemAuthIdentity authIdentity, Properties config) {
+        long now = System.nanoTime();
+        String fingerprint = fingerprint(kafkaCaTrustSet, authIdentity, config);
+        List<PooledAdmin> toClose = new ArrayList<>();
+        Admin borrowed;
+
+        synchronized (this) {
+            retireIdle(now, toClose);
+
+            PooledAdmin pooled = pool.get(bootstrapHostnames);
+            if (pooled != null && !pooled.fingerprint.equals(fingerprint)) {
+                LOGGER.debug("Trust set, identity or configuration for {} changed and its Admin client will be closed", bootstrapHostnames);
+                pool.remove(bootstrapHostnames);
+                pooled.retire(toClose);
+                pooled = null;
+            }
+
+            if (pooled == null) {
+                LOGGER.debug("Creating new Admin client for {}", bootstrapHostnames);
+                // The delegate might modify the configuration, so we pass a copy to keep the fingerprint valid
+                Properties configCopy = null;
+                if (config != null) {
+                    configCopy = new Properties();
+                    configCopy.putAll(config);
+                }
+
+                pooled = new PooledAdmin(bootstrapHostnames, delegate.createAdminClient(bootstrapHostnames, kafkaCaTrustSet, authIdentity, configCopy), fingerprint, now);
+                pool.put(bootstrapHostnames, pooled);
+                createdCounter.increment();
+                openGauge.incrementAndGet();
+            }
+
+            borrowed = pooled.borrow(now);
+        }
+
+        toClose.forEach(PooledAdmin::closeAdmin);
+        return borrowed;
+    }
+
+    /**
+     * Discards the Admin client which ran into a problem. The client is removed from the pool, so that it is not returned
+     * to any other caller, and closed once it is not used anymore. Admin clients which were not created by this provider
+     * are ignored.
+     *
+     * @param adminClient   Admin client which should be discarded
+     */
+    @Override
+    public void discardAdminClient(Admin adminClient) {
+        if (Proxy.isProxyClass(adminClient.getClass())
+                && Proxy.getInvocationHandler(adminClient) instanceof BorrowedAdmin borrowed
+                && borrowed.provider() == this) {
+            borrowed.pooled.discard();
+        }
+    }
+
+    /**
+     * Closes all pooled Admin clients and stops the periodic check of the idle clients. The clients which are currently
+     * in use are closed once they are returned.
+     */
+    @Override
+    public void close() {
+        idleCheckExecutor.shutdownNow();
+
+        List<PooledAdmin> toClose = new ArrayList<>();
+
+        synchronized (this) {
+            pool.values().forEach(pooled -> pooled.retire(toClose));
+            pool.clear();
+        }
+
+        toClose.forEach(PooledAdmin::closeAdmin);
+    }
+
+    /**
+     * @return  The number of Admin clients in the pool
+     */
+    /* test */ synchronized int size() {
+        return pool.size();
+    }
+
+    /**
+     * Closes the Admin clients which were not used for longer than the idle timeout. This is called periodically from
+     * the idle check thread.
+     */
+    private void closeIdle() {
+        List<PooledAdmin> toClose = new ArrayList<>();
+
+        synchronized (this) {
+            retireIdle(System.nanoTime(), toClose);
+        }
+
+        toClose.forEach(PooledAdmin::closeAdmin);
+    }
+
+    /**
+     * Removes the idle Admin clients from the pool. The caller is responsible for closing them outside of the lock.
+     *
+     * @param now       Current time in nanoseconds
+     * @param toClose   List to which the clients which should be closed are added
+     */
+    private void retireIdle(long now, List<PooledAdmin> toClose) {
+        Iterator<PooledAdmin> iterator = pool.values().iterator();
+
+        while (iterator.hasNext()) {
+            PooledAdmin pooled = iterator.next();
+
+            if (pooled.references == 0 && now - pooled.lastUsed > idleTimeoutNanos) {
+                LOGGER.debug("Admin client for {} is idle and will be closed", pooled.bootstrapHostnames);
+                iterator.remove();
+                pooled.retire(toClose);
+            }
+        }
+    }
+
+    /**
+     * Creates a fingerprint of everything what is used to configure the Admin client apart from the bootstrap address.
+     * The fingerprint is used to find out whether the pooled client can be reused.
+     *
+     * @param kafkaCaTrustSet   Trust set for connecting to Kafka
+     * @param authIdentity      Identity for TLS client authentication for connecting to Kafka
+     * @param config            Additional configuration for the Kafka Admin Client
+     *
+     * @return  The fingerprint
+     */
+    /* test */ static String fingerprint(PemTrustSet kafkaCaTrustSet, PemAuthIdentity authIdentity, Properties config) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            if (kafkaCaTrustSet != null) {
+                // The order of the trusted certificates is not deterministic
+                kafkaCaTrustSet.trustedCertificatesBytes().stream()
+                        .map(certificate -> Base64.getEncoder().encodeToString(certificate))
+                        .sorted()
+                        .forEach(certificate -> {
+                            digest.update(certificate.getBytes(StandardCharsets.US_ASCII));
+                            digest.update((byte) 0);
+                        });
+            }
+            digest.update((byte) 0);
+
+            if (authIdentity != null) {
+                digest.update(authIdentity.certificateChainAsPem().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                digest.update(authIdentity.privateKeyAsPem().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) 0);
+
+            if (config != null) {
+                config.entrySet().stream()
+                        .map(entry -> entry.getKey() + "=" + entry.getValue())
+                        .sorted()
+                        .forEach(entry -> {
+                            digest.update(entry.getBytes(StandardCharsets.UTF_8));
+                            digest.update((byte) 0);
+                        });
+            }
+
+            return Base64.getEncoder().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to create the Admin client fingerprint", e);
+        }
+    }
+
+    /**
+     * Pooled Admin client. It counts the callers using it, so that it is closed only when it is removed from the pool
+     * and not used by any caller.
+     */
+    private class PooledAdmin {
+        private final String bootstrapHostnames;
+        private final Admin admin;
+        private final String fingerprint;
+        private final long createdAt;
+
+        private int references = 0; // Guarded by PooledAdminClientProvider.this
+        private long lastUsed; // Guarded by PooledAdminClientProvider.this
+        private boolean retired = false; // Guarded by PooledAdminClientProvider.this
+
+        PooledAdmin(String bootstrapHostnames, Admin admin, String fingerprint, long createdAt) {
+            this.bootstrapHostnames = bootstrapHostnames;
+            this.admin = admin;
+            this.fingerprint = fingerprint;
+            this.createdAt = createdAt;
+            this.lastUsed = createdAt;
+        }
+
+        /**
+         * Returns the Admin client to the caller. Closing the returned client returns it to the pool instead of closing
+         * the underlying client.
+         */
+        Admin borrow(long now) {
+            references++;
+            lastUsed = now;
+
+            return (Admin) Proxy.newProxyInstance(Admin.class.getClassLoader(), new Class<?>[] {Admin.class}, new BorrowedAdmin(this));
+        }
+
+        /**
+         * Returns the client to the pool. It is closed when it was removed from the pool and nobody else uses it.
+         */
+        void giveBack() {
+            boolean close;
+
+            synchronized (PooledAdminClientProvider.this) {
+                references--;
+                lastUsed = System.nanoTime();
+                close = retired && references == 0;
+            }
+
+            if (close) {
+                closeAdmin();
+            }
+        }
+
+        /**
+         * Removes the client from the pool. It is closed once it is not used anymore.
+         */
+        void discard() {
+            boolean close = false;
+
+            synchronized (PooledAdminClientProvider.this) {
+                if (!retired) {
+                    LOGGER.debug("Admin client for {} was discarded and will be closed", bootstrapHostnames);
+                    pool.remove(bootstrapHostnames, this);
+                    retired = true;
+                    close = references == 0;
+                }
+            }
+
+            if (close) {
+                closeAdmin();
+            }
+        }
+
+        /**
+         * Marks the client as removed from the pool. When it is not used, it is added to the list of the clients which
+         * should be closed.
+         */
+        void retire(List<PooledAdmin> toClose) {
+            retired = true;
+
+            if (references == 0) {
+                toClose.add(this);
+            }
+        }
+
+        void closeAdmin() {
+            try {
+                admin.close(Duration.ofSeconds(10));
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to close the Admin client", e);
+            }
+
+            openGauge.decrementAndGet();
+            lifetimeTimer.record(System.nanoTime() - createdAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Handler of the Admin client proxy returned to a single caller. It passes all calls to the pooled client apart from
+     * closing it, which only returns it to the pool.
+     */
+    private class BorrowedAdmin implements InvocationHandler {
+        private final PooledAdmin pooled;
+        private final AtomicBoolean returned = new AtomicBoolean(false);
+
+        BorrowedAdmin(PooledAdmin pooled) {
+            this.pooled = pooled;
+        }
+
+        PooledAdminClientProvider provider() {
+            return PooledAdminClientProvider.this;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("close".equals(method.getName())) {
+                if (returned.compareAndSet(false, true)) {
+                    pooled.giveBack();
+                }
+
+                return null;
+            } else if ("equals".equals(method.getName()) && method.getParameterCount() == 1) {
+                return proxy == args[0];
+            } else if ("hashCode".equals(method.getName()) && method.getParameterCount() == 0) {
+                return System.identityHashCode(proxy);
+            }
+
+            try {
+                return method.invoke(pooled.admin, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -180,7 +180,13 @@ public abstract class AbstractControllerLoop {
                 try {
                     LOGGER.debugOp("{}: Waiting for next event from work queue", name);
                     SimplifiedReconciliation reconciliation = workQueue.take();
-                    reconcileWithLock(reconciliation);
+
+                    try {
+                        reconcileWithLock(reconciliation);
+                    } finally {
+                        // Allows the resource to be taken from the queue again
+                        workQueue.done(reconciliation);
+                    }
                 } catch (InterruptedException e) {
                     LOGGER.debugOp("{}: was interrupted", name, e);
                 } catch (Exception e) {
@@ -8,17 +8,14 @@ import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-
 /**
- * Controller queue class wraps a Blocking queue and exposes the methods used by controllers. This includes taking
- * events from the queue and enqueueing events into the queue.
+ * Controller queue class wraps a keyed work queue and exposes the methods used by controllers. This includes taking
+ * events from the queue, enqueueing events into the queue and marking the events as done.
  */
 public class ControllerQueue {
     private final static Logger LOGGER = LogManager.getLogger(ControllerQueue.class);
 
-    /*test*/ final BlockingQueue<SimplifiedReconciliation> queue;
+    /*test*/ final KeyedWorkQueue<SimplifiedReconciliation> queue;
     private final ControllerMetricsHolder metrics;
 
     /**
@@ -26,15 +23,19 @@ public class ControllerQueue {
      * namespace for namespaced mode.
      *
      * @param queueSize     The capacity of the work queue
+     * @param namespace     The namespace watched by the controller. Used for the work queue depth metric.
      * @param metrics       Holder for the controller metrics
      */
-    public ControllerQueue(int queueSize, ControllerMetricsHolder metrics) {
-        this.queue = new ArrayBlockingQueue<>(queueSize);
+    public ControllerQueue(int queueSize, String namespace, ControllerMetricsHolder metrics) {
+        this.queue = new KeyedWorkQueue<>(queueSize, metrics.workQueueDepthGauge(namespace));
         this.metrics = metrics;
     }
 
     /**
-     * @return  Takes the next item from the queue. Blocks if the queue is empty.
+     * Takes the next item from the queue. Blocks if the queue is empty. The same resource is not returned again until
+     * the done(...) method is called for it.
+     *
+     * @return  The next reconciliation from the queue
      *
      * @throws InterruptedException InterruptedException is thrown if interrupted while waiting to get the next resource from the queue (e.g. when the queue is empty)
      */
@@ -42,6 +43,16 @@ public class ControllerQueue {
         return queue.take();
     }
 
+    /**
+     * Marks the reconciliation taken from the queue as finished. If the same resource was enqueued again in the
+     * meantime, it will be now available for taking from the queue again.
+     *
+     * @param reconciliation    Reconciliation identifier
+     */
+    public void done(SimplifiedReconciliation reconciliation) {
+        queue.done(reconciliation);
+    }
+
     /**
      * Enqueues the next reconciliation. It checks whether another reconciliation for the same resource is already in
      * the queue and enqueues the new event only if it is not there yet.
@@ -49,14 +60,17 @@ public class ControllerQueue {
      * @param reconciliation    Reconciliation identifier
      */
     public void enqueue(SimplifiedReconciliation reconciliation)    {
-        if (!queue.contains(reconciliation)) {
-            LOGGER.debug("Enqueueing {} {} in namespace {}", reconciliation.kind, reconciliation.name, reconciliation.namespace);
-            if (!queue.offer(reconciliation))    {
+        switch (queue.offer(reconciliation)) {
+            case ENQUEUED:
+                LOGGER.debug("Enqueued {} {} in namespace {}", reconciliation.kind, reconciliation.name, reconciliation.namespace);
+                break;
+            case DUPLICATE:
+                metrics.alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
+                LOGGER.debug("{} {} in namespace {} is already enqueued => ignoring", reconciliation.kind, reconciliation.name, reconciliation.namespace);
+                break;
+            case FULL:
+            default:
                 LOGGER.warn("Failed to enqueue an event because the controller queue is full");
-            }
-        } else {
-            metrics.alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
-            LOGGER.debug("{} {} in namespace {} is already enqueued => ignoring", reconciliation.kind, reconciliation.name, reconciliation.namespace);
         }
     }
 
@@ -0,0 +1,205 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded FIFO work queue which de-duplicates its items in constant time. The items are compared using their equals and
+ * hashCode methods, so they should identify the resource (for example kind, namespace and name) and not the event.
+ *
+ * The queue is inspired by the Kubernetes client-go work queue and tracks two sets in addition to the FIFO queue:
+ *     - The dirty set contains the items which need to be processed. An item which is already dirty is not enqueued again.
+ *     - The processing set contains the items which were taken from the queue and are being processed. An item
+ *       enqueued while it is being processed is marked as dirty, but it is added to the FIFO queue only once the
+ *       processing finishes and the done(...) method is called. So the same item is never handed out to two
+ *       consumers at the same time.
+ *
+ * @param <T>   Type of the items in the queue
+ */
+public class KeyedWorkQueue<T> {
+    private final int capacity;
+    private final AtomicInteger depth;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Queue<T> queue = new ArrayDeque<>();
+    private final Map<T, T> dirty = new HashMap<>();
+    private final Set<T> processing = new HashSet<>();
+
+    /**
+     * Creates the work queue
+     *
+     * @param capacity  Maximal number of items waiting for processing
+     */
+    public KeyedWorkQueue(int capacity) {
+        this(capacity, new AtomicInteger(0));
+    }
+
+    /**
+     * Creates the work queue
+     *
+     * @param capacity  Maximal number of items waiting for processing
+     * @param depth     Gauge which will be kept updated with the number of items waiting in the queue
+     */
+    public KeyedWorkQueue(int capacity, AtomicInteger depth) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity of the work queue has to be positive");
+        }
+
+        this.capacity = capacity;
+        this.depth = depth;
+    }
+
+    /**
+     * Offers a new item to the queue.
+     *
+     * @param item  Item which should be enqueued
+     *
+     * @return  ENQUEUED when the item was enqueued, DUPLICATE when the same item is already waiting in the queue, or
+     *          FULL when the queue capacity was reached and the item was not enqueued
+     */
+    public OfferResult offer(T item) {
+        lock.lock();
+        try {
+            if (dirty.containsKey(item)) {
+                return OfferResult.DUPLICATE;
+            } else if (dirty.size() >= capacity) {
+                return OfferResult.FULL;
+            }
+
+            dirty.put(item, item);
+
+            if (!processing.contains(item)) {
+                // Items which are being processed are added to the queue only once the processing is done
+                push(item);
+            }
+
+            return OfferResult.ENQUEUED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the next item from the queue and marks it as being processed. Blocks if the queue is empty. Once the
+     * processing is finished, the done(...) method has to be called for the item.
+     *
+     * @return  The next item from the queue
+     *
+     * @throws InterruptedException InterruptedException is thrown if interrupted while waiting for the next item
+     */
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (queue.isEmpty()) {
+                notEmpty.await();
+            }
+
+            T item = queue.poll();
+            depth.set(queue.size());
+            dirty.remove(item);
+            processing.add(item);
+
+            return item;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marks the processing of the item as finished. If the item was enqueued again while being processed, it is now
+     * added to the end of the queue.
+     *
+     * @param item  Item which was processed
+     */
+    public void done(T item) {
+        lock.lock();
+        try {
+            processing.remove(item);
+
+            T pending = dirty.get(item);
+            if (pending != null) {
+                push(pending);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks whether the item is waiting for processing
+     *
+     * @param item  Item which should be checked
+     *
+     * @return  True if the item is enqueued. False otherwise.
+     */
+    public boolean contains(T item) {
+        lock.lock();
+        try {
+            return dirty.containsKey(item);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return  Number of items waiting in the queue
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return  Number of items which are being processed
+     */
+    public int processing() {
+        lock.lock();
+        try {
+            return processing.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void push(T item) {
+        queue.add(item);
+        depth.set(queue.size());
+        notEmpty.signal();
+    }
+
+    /**
+     * Result of the offer operation
+     */
+    public enum OfferResult {
+        /**
+         * The item was enqueued
+         */
+        ENQUEUED,
+
+        /**
+         * The item was not enqueued because it is already waiting in the queue
+         */
+        DUPLICATE,
+
+        /**
+         * The item was not enqueued because the queue is full
+         */
+        FULL
+    }
+}
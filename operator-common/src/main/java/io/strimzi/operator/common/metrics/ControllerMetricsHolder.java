@@ -5,12 +5,15 @@
 package io.strimzi.operator.common.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.model.Labels;
 
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A metrics holder for controllers.
@@ -20,8 +23,23 @@ public class ControllerMetricsHolder extends MetricsHolder {
      * Metric name for reconciliations which are already queued when we try to enqueue them again.
      */
     public static final String METRICS_RECONCILIATIONS_ALREADY_ENQUEUED = METRICS_PREFIX + "reconciliations.already.enqueued";
+    /**
+     * Metric name for the number of reconciliations waiting in the work queue.
+     */
+    public static final String METRICS_WORK_QUEUE_DEPTH = METRICS_PREFIX + "work.queue.depth";
+    /**
+     * Metric name for the time the reconciliations spend waiting in the work queue.
+     */
+    public static final String METRICS_WORK_QUEUE_WAIT = METRICS_PREFIX + "work.queue.wait";
+    /**
+     * Metric name for the time the controller workers spend reconciling resources.
+     */
+    public static final String METRICS_WORKER_BUSY = METRICS_PREFIX + "controller.worker.busy";
 
     private final Map<MetricKey, Counter> alreadyQueuedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, AtomicInteger> workQueueDepthGaugeMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, Timer> workQueueWaitTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> workerBusyTimerMap = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the controller metrics holder
@@ -48,4 +66,48 @@ public class ControllerMetricsHolder extends MetricsHolder {
                 "Number of reconciliations skipped because another reconciliation for the same resource was still running",
                 Optional.of(getLabelSelectorValues()), alreadyQueuedReconciliationsCounterMap);
     }
+
+    /**
+     * Gauge metric for the number of reconciliations waiting in the work queue of the controller. When it keeps
+     * growing, the controller is not able to keep up with the incoming events.
+     *
+     * @param namespace     Namespace watched by the controller
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger workQueueDepthGauge(String namespace) {
+        return getGauge(new MetricKey(kind, namespace), METRICS_WORK_QUEUE_DEPTH,
+                "Number of reconciliations waiting in the work queue",
+                Optional.of(getLabelSelectorValues()), workQueueDepthGaugeMap);
+    }
+
+    /**
+     * Timer metric for the time between enqueueing a reconciliation and a worker picking it up from the work queue.
+     *
+     * @param namespace     Namespace watched by the controller
+     *
+     * @return  Metrics timer
+     */
+    public Timer workQueueWaitTimer(String namespace) {
+        return getTimer(new MetricKey(kind, namespace), METRICS_WORK_QUEUE_WAIT,
+                "The time the reconciliations spend waiting in the work queue",
+                Optional.of(getLabelSelectorValues()), workQueueWaitTimerMap);
+    }
+
+    /**
+     * Timer metric for the time a controller worker spends reconciling resources. The rate of the total time shows the
+     * utilization of the worker. When all workers are close to full utilization, the number of workers can be
+     * increased.
+     *
+     * @param namespace     Namespace watched by the controller
+     * @param worker        Index of the worker
+     *
+     * @return  Metrics timer
+     */
+    public Timer workerBusyTimer(String namespace, int worker) {
+        return workerBusyTimerMap.computeIfAbsent(kind + "/" + namespace + "/" + worker,
+                key -> metricsProvider.timer(METRICS_WORKER_BUSY,
+                        "The time the controller worker spends reconciling resources",
+                        MetricsUtils.getAllMetricTags(namespace, kind, Optional.of(getLabelSelectorValues()), Tag.of("worker", String.valueOf(worker)))));
+    }
 }
@@ -448,11 +448,6 @@ public abstract class Ca {
      * @throws IOException If the cert could not be generated.
      */
     public CertAndKey generateSignedCert(String commonName, String organization) throws IOException {
-        File csrFile = Files.createTempFile("tls", "csr").toFile();
-        File keyFile = Files.createTempFile("tls", "key").toFile();
-        File certFile = Files.createTempFile("tls", "cert").toFile();
-        File keyStoreFile = Files.createTempFile("tls", "p12").toFile();
-
         Subject.Builder subject = new Subject.Builder();
 
         if (organization != null) {
@@ -461,14 +456,9 @@ public abstract class Ca {
 
         subject.withCommonName(commonName);
 
-        CertAndKey result = generateSignedCert(subject.build(),
-                csrFile, keyFile, certFile, keyStoreFile);
-
-        delete(reconciliation, csrFile);
-        delete(reconciliation, keyFile);
-        delete(reconciliation, certFile);
-        delete(reconciliation, keyStoreFile);
-        return result;
+        Subject sbj = subject.build();
+        LOGGER.infoCr(reconciliation, "Generating certificate {}, signed by CA {}", sbj, this);
+        return certManager.generateSignedCert(sbj, currentCaKey(), currentCaCertBytes(), validityDays, passwordGenerator.generate());
     }
 
     /**
@@ -0,0 +1,206 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.auth.PemAuthIdentity;
+import io.strimzi.operator.common.auth.PemTrustSet;
+import io.strimzi.test.TestUtils;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PooledAdminClientProviderTest {
+    private static PemTrustSet mockPemTrustSet(String... certificates) {
+        Set<byte[]> bytes = new LinkedHashSet<>();
+        for (String certificate : certificates) {
+            bytes.add(certificate.getBytes(StandardCharsets.US_ASCII));
+        }
+
+        PemTrustSet mockTrustSet = mock(PemTrustSet.class);
+        when(mockTrustSet.trustedCertificatesBytes()).thenReturn(bytes);
+        return mockTrustSet;
+    }
+
+    private static PemAuthIdentity mockPemAuthIdentity(String certificate, String key) {
+        PemAuthIdentity mockAuthIdentity = mock(PemAuthIdentity.class);
+        when(mockAuthIdentity.certificateChainAsPem()).thenReturn(certificate);
+        when(mockAuthIdentity.privateKeyAsPem()).thenReturn(key);
+        return mockAuthIdentity;
+    }
+
+    private static AdminClientProvider mockAdminClientProvider(List<Admin> created) {
+        AdminClientProvider mockProvider = mock(AdminClientProvider.class);
+        when(mockProvider.createAdminClient(any(), any(), any(), any())).thenAnswer(i -> {
+            Admin admin = mock(Admin.class);
+            created.add(admin);
+            return admin;
+        });
+        return mockProvider;
+    }
+
+    @Test
+    public void testFingerprint() {
+        Properties config = new Properties();
+        config.setProperty(AdminClientConfig.RETRIES_CONFIG, "5");
+
+        String fingerprint = PooledAdminClientProvider.fingerprint(mockPemTrustSet("ca1", "ca2"), mockPemAuthIdentity("user-cert", "user-key"), config);
+
+        // The order of the trusted certificates does not matter
+        assertThat(PooledAdminClientProvider.fingerprint(mockPemTrustSet("ca2", "ca1"), mockPemAuthIdentity("user-cert", "user-key"), config), is(fingerprint));
+
+        // Changes in the trust set, identity or configuration change the fingerprint
+        assertThat(PooledAdminClientProvider.fingerprint(mockPemTrustSet("ca1", "ca3"), mockPemAuthIdentity("user-cert", "user-key"), config), is(not(fingerprint)));
+        assertThat(PooledAdminClientProvider.fingerprint(mockPemTrustSet("ca1", "ca2"), mockPemAuthIdentity("user-cert-2", "user-key"), config), is(not(fingerprint)));
+        assertThat(PooledAdminClientProvider.fingerprint(mockPemTrustSet("ca1", "ca2"), mockPemAuthIdentity("user-cert", "user-key-2"), config), is(not(fingerprint)));
+        assertThat(PooledAdminClientProvider.fingerprint(mockPemTrustSet("ca1", "ca2"), mockPemAuthIdentity("user-cert", "user-key"), new Properties()), is(not(fingerprint)));
+        assertThat(PooledAdminClientProvider.fingerprint(null, null, config), is(not(fingerprint)));
+    }
+
+    @Test
+    public void testAdminClientIsReused() {
+        List<Admin> created = new ArrayList<>();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PooledAdminClientProvider provider = new PooledAdminClientProvider(mockAdminClientProvider(created), new MicrometerMetricsProvider(registry));
+
+        Admin first = provider.createAdminClient("my-kafka:9092", mockPemTrustSet("ca"), mockPemAuthIdentity("user-cert", "user-key"));
+        first.describeCluster();
+        first.close();
+
+        Admin second = provider.createAdminClient("my-kafka:9092", mockPemTrustSet("ca"), mockPemAuthIdentity("user-cert", "user-key"));
+        second.describeCluster();
+        second.close(Duration.ofSeconds(30));
+
+        // Both callers used the same client which was not closed
+        assertThat(created.size(), is(1));
+        verify(created.get(0), times(2)).describeCluster();
+        verify(created.get(0), never()).close(any());
+        assertThat(provider.size(), is(1));
+
+        // Different bootstrap address uses a different client
+        provider.createAdminClient("my-other-kafka:9092", mockPemTrustSet("ca"), mockPemAuthIdentity("user-cert", "user-key")).close();
+        assertThat(created.size(), is(2));
+        assertThat(provider.size(), is(2));
+
+        assertThat(registry.get(PooledAdminClientProvider.METRICS_ADMIN_CLIENTS_CREATED).counter().count(), is(2.0));
+        assertThat(registry.get(PooledAdminClientProvider.METRICS_ADMIN_CLIENTS_OPEN).gauge().value(), is(2.0));
+
+        provider.close();
+        verify(created.get(0)).close(any());
+        verify(created.get(1)).close(any());
+        assertThat(registry.get(PooledAdminClientProvider.METRICS_ADMIN_CLIENTS_OPEN).gauge().value(), is(0.0));
+        assertThat(registry.get(PooledAdminClientProvider.METRICS_ADMIN_CLIENT_LIFETIME).timer().count(), is(2L));
+    }
+
+    @Test
+    public void testAdminClientIsClosedAfterRotation() {
+        List<Admin> created = new ArrayList<>();
+        PooledAdminClientProvider provider = new PooledAdminClientProvider(mockAdminClientProvider(created), new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
+        Admin old = provider.createAdminClient("my-kafka:9092", mockPemTrustSet("ca"), mockPemAuthIdentity("user-cert", "user-key"));
+
+        // The identity was renewed => new client is created, but the old one is still in use
+        Admin renewed = provider.createAdminClient("my-kafka:9092", mockPemTrustSet("ca"), mockPemAuthIdentity("user-cert-2", "user-key-2"));
+        assertThat(created.size(), is(2));
+        assertThat(provider.size(), is(1));
+        verify(created.get(0), never()).close(any());
+
+        // Once the old client is returned, it is closed
+        old.close();
+        old.close();
+        verify(created.get(0), times(1)).close(any());
+
+        // The renewed client stays in the pool
+        renewed.close();
+        verify(created.get(1), never()).close(any());
+        assertThat(provider.size(), is(1));
+    }
+
+    @Test
+    public void testIdleAdminClientIsClosed() throws InterruptedException {
+        List<Admin> created = new ArrayList<>();
+        PooledAdminClientProvider provider = new PooledAdminClientProvider(mockAdminClientProvider(created), new MicrometerMetricsProvider(new SimpleMeterRegistry()), 10);
+
+        Admin inUse = provider.createAdminClient("my-kafka:9092", null, null);
+        provider.createAdminClient("my-other-kafka:9092", null, null).close();
+        Thread.sleep(50);
+
+        // The idle client is closed when the pool is used next time, the client in use is kept
+        provider.createAdminClient("my-third-kafka:9092", null, null);
+        verify(created.get(0), never()).close(any());
+        verify(created.get(1)).close(any());
+        assertThat(provider.size(), is(2));
+
+        inUse.close();
+    }
+
+    @Test
+    public void testIdleAdminClientIsClosedByTimer() {
+        List<Admin> created = new ArrayList<>();
+        PooledAdminClientProvider provider = new PooledAdminClientProvider(mockAdminClientProvider(created), new MicrometerMetricsProvider(new SimpleMeterRegistry()), 10);
+
+        Admin inUse = provider.createAdminClient("my-kafka:9092", null, null);
+        provider.createAdminClient("my-other-kafka:9092", null, null).close();
+
+        // The idle client is closed without the pool being used again
+        TestUtils.waitFor("Idle Admin client to be closed", 10, 5_000, () -> provider.size() == 1);
+        verify(created.get(1)).close(any());
+        verify(created.get(0), never()).close(any());
+
+        inUse.close();
+        provider.close();
+    }
+
+    @Test
+    public void testDiscardedAdminClientIsNotReused() {
+        List<Admin> created = new ArrayList<>();
+        PooledAdminClientProvider provider = new PooledAdminClientProvider(mockAdminClientProvider(created), new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
+        Admin failed = provider.createAdminClient("my-kafka:9092", null, null);
+        Admin other = provider.createAdminClient("my-kafka:9092", null, null);
+        assertThat(created.size(), is(1));
+
+        // The discarded client is removed from the pool, but it is closed only once both callers return it
+        provider.discardAdminClient(failed);
+        failed.close();
+        provider.discardAdminClient(failed);
+        assertThat(provider.size(), is(0));
+        verify(created.get(0), never()).close(any());
+
+        other.close();
+        verify(created.get(0), times(1)).close(any());
+
+        // The next caller gets a new client
+        provider.createAdminClient("my-kafka:9092", null, null).close();
+        assertThat(created.size(), is(2));
+        assertThat(provider.size(), is(1));
+
+        // Clients which do not come from the pool are ignored
+        Admin notPooled = mock(Admin.class);
+        provider.discardAdminClient(notPooled);
+        verify(notPooled, never()).close();
+
+        provider.close();
+        verify(created.get(1), times(1)).close(any());
+    }
+}
@@ -20,7 +20,7 @@ public class ControllerQueueTest {
     public void testEnqueueingEnqueued() {
         MeterRegistry metricsRegistry = new SimpleMeterRegistry();
         MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
-        ControllerQueue q = new ControllerQueue(10, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+        ControllerQueue q = new ControllerQueue(10, "my-namespace", new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
 
         SimplifiedReconciliation r1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "watch");
         SimplifiedReconciliation r2 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "timer");
@@ -36,5 +36,29 @@ public class ControllerQueueTest {
 
         // Test metric
         assertThat(metricsRegistry.get(ControllerMetricsHolder.METRICS_RECONCILIATIONS_ALREADY_ENQUEUED).tag("kind", "kind").tag("namespace", "my-namespace").counter().count(), is(1.0));
+        assertThat(metricsRegistry.get(ControllerMetricsHolder.METRICS_WORK_QUEUE_DEPTH).tag("kind", "kind").tag("namespace", "my-namespace").gauge().value(), is(2.0));
+    }
+
+    @Test
+    public void testEnqueueingInProgress() throws InterruptedException {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        ControllerQueue q = new ControllerQueue(10, "my-namespace", new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+
+        SimplifiedReconciliation r1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "watch");
+        SimplifiedReconciliation r2 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "timer");
+
+        q.enqueue(r1);
+        assertThat(q.take(), is(r1));
+
+        // The resource is being reconciled => it should not be available until done
+        q.enqueue(r2);
+        assertThat(q.queue.size(), is(0));
+        assertThat(q.queue.contains(r2), is(true));
+
+        q.done(r1);
+        assertThat(q.queue.size(), is(1));
+        assertThat(q.take().trigger, is("timer"));
+        assertThat(metricsRegistry.get(ControllerMetricsHolder.METRICS_WORK_QUEUE_DEPTH).tag("kind", "kind").tag("namespace", "my-namespace").gauge().value(), is(0.0));
     }
 }
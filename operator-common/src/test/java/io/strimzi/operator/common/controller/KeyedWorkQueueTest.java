@@ -0,0 +1,102 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class KeyedWorkQueueTest {
+    @Test
+    public void testFifoOrderAndDeduplication() throws InterruptedException {
+        AtomicInteger depth = new AtomicInteger(0);
+        KeyedWorkQueue<String> queue = new KeyedWorkQueue<>(10, depth);
+
+        assertThat(queue.offer("a"), is(KeyedWorkQueue.OfferResult.ENQUEUED));
+        assertThat(queue.offer("b"), is(KeyedWorkQueue.OfferResult.ENQUEUED));
+        assertThat(queue.offer("a"), is(KeyedWorkQueue.OfferResult.DUPLICATE));
+        assertThat(queue.offer("c"), is(KeyedWorkQueue.OfferResult.ENQUEUED));
+        assertThat(queue.offer("b"), is(KeyedWorkQueue.OfferResult.DUPLICATE));
+
+        assertThat(queue.size(), is(3));
+        assertThat(depth.get(), is(3));
+
+        assertThat(queue.take(), is("a"));
+        assertThat(queue.take(), is("b"));
+        assertThat(queue.take(), is("c"));
+
+        assertThat(queue.size(), is(0));
+        assertThat(queue.processing(), is(3));
+        assertThat(depth.get(), is(0));
+    }
+
+    @Test
+    public void testCapacity() throws InterruptedException {
+        KeyedWorkQueue<String> queue = new KeyedWorkQueue<>(2);
+
+        assertThat(queue.offer("a"), is(KeyedWorkQueue.OfferResult.ENQUEUED));
+        assertThat(queue.offer("b"), is(KeyedWorkQueue.OfferResult.ENQUEUED));
+        assertThat(queue.offer("c"), is(KeyedWorkQueue.OfferResult.FULL));
+
+        // Duplicates are reported as duplicates even when the queue is full
+        assertThat(queue.offer("a"), is(KeyedWorkQueue.OfferResult.DUPLICATE));
+
+        assertThat(queue.take(), is("a"));
+        assertThat(queue.offer("c"), is(KeyedWorkQueue.OfferResult.ENQUEUED));
+        assertThat(queue.size(), is(2));
+    }
+
+    @Test
+    public void testEnqueueWhileProcessing() throws InterruptedException {
+        KeyedWorkQueue<String> queue = new KeyedWorkQueue<>(10);
+
+        queue.offer("a");
+        queue.offer("b");
+        assertThat(queue.take(), is("a"));
+
+        // Re-enqueued while being processed => waits until done is called
+        assertThat(queue.offer("a"), is(KeyedWorkQueue.OfferResult.ENQUEUED));
+        assertThat(queue.offer("a"), is(KeyedWorkQueue.OfferResult.DUPLICATE));
+        assertThat(queue.contains("a"), is(true));
+        assertThat(queue.size(), is(1));
+
+        assertThat(queue.take(), is("b"));
+        queue.done("b");
+
+        queue.done("a");
+        assertThat(queue.size(), is(1));
+        assertThat(queue.processing(), is(0));
+        assertThat(queue.take(), is("a"));
+        queue.done("a");
+
+        assertThat(queue.size(), is(0));
+        assertThat(queue.processing(), is(0));
+        assertThat(queue.contains("a"), is(false));
+    }
+
+    @Test
+    public void testBlockingTake() throws Exception {
+        KeyedWorkQueue<String> queue = new KeyedWorkQueue<>(10);
+
+        CompletableFuture<String> taken = CompletableFuture.supplyAsync(() -> {
+            try {
+                return queue.take();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        Thread.sleep(100);
+        assertThat(taken.isDone(), is(false));
+
+        queue.offer("a");
+        assertThat(taken.get(10, TimeUnit.SECONDS), is("a"));
+    }
+}
@@ -7,6 +7,7 @@ package io.strimzi.operator.topic;
 import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.fabric8.kubernetes.client.informers.cache.ItemStore;
 import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder;
@@ -17,37 +18,47 @@ import io.strimzi.operator.topic.model.TopicEvent.TopicDelete;
 import io.strimzi.operator.topic.model.TopicEvent.TopicUpsert;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
-import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Encapsulates a queue (actually a deque) of {@link TopicEvent}s and a pool of threads (see {@link LoopRunnable}) servicing
+ * Encapsulates a coalescing queue (see {@link TopicEventQueue}) of {@link TopicEvent}s and a pool of threads (see {@link LoopRunnable}) servicing
  * the reconciliation of those events using a {@link BatchingTopicController}.
  * Any given {@link KafkaTopic} is only being reconciled by a single thread at any one time.
+ * The threads fill their batches in parallel. Events for a topic which is being reconciled by another thread are parked
+ * until that reconciliation finishes.
  */
 class BatchingLoop {
 
     static final ReconciliationLogger LOGGER = ReconciliationLogger.create(BatchingLoop.class);
 
+    /**
+     * Marks an in-flight topic without any parked events
+     */
+    private static final List<TopicEvent> NO_PARKED_EVENTS = List.of();
+
+    /**
+     * How long to block the informer when the queue is full before logging a warning
+     */
+    private static final long QUEUE_FULL_WARNING_MS = 1_000L;
+
     private final BatchingTopicController controller;
-    private final BlockingDeque<TopicEvent> queue;
+    private final TopicEventQueue queue;
 
     /**
-     * The set of topics currently being reconciled by a controller.
-     * Guarded by the monitor of the BatchingLoop.
-     * This functions as mechanism for preventing concurrent reconciliation of the same topic.
+     * The topics currently being reconciled by a controller, mapped to the events for the same topic which were taken
+     * from the queue in the meantime. Those events are parked here until the reconciliation of the topic finishes and
+     * are then returned to the queue.
+     * This functions as mechanism for preventing concurrent reconciliation of the same topic without any thread having
+     * to hold a lock while it fills its batch.
      */
-    private final Set<KubeRef> inFlight = new HashSet<>(); // guarded by this
+    private final ConcurrentHashMap<KubeRef, List<TopicEvent>> inFlight = new ConcurrentHashMap<>();
     private final LoopRunnable[] threads;
     private final int maxBatchSize;
     private final long maxBatchLingerMs;
     private final ItemStore<KafkaTopic> itemStore;
-    private final Runnable stop;
     private final int maxQueueSize;
     private final TopicOperatorMetricsHolder metrics;
     private final String namespace;
@@ -59,11 +70,10 @@ class BatchingLoop {
             int maxBatchSize,
             long maxBatchLingerMs,
             ItemStore<KafkaTopic> itemStore,
-            Runnable stop,
             TopicOperatorMetricsHolder metrics,
             String namespace) {
         this.maxQueueSize = maxQueueSize;
-        this.queue = new LinkedBlockingDeque<>(maxQueueSize);
+        this.queue = new TopicEventQueue(maxQueueSize);
         this.controller = controller;
         this.threads = new LoopRunnable[maxThreads];
         for (int i = 0; i < maxThreads; i++) {
@@ -72,7 +82,6 @@ class BatchingLoop {
         this.maxBatchSize = maxBatchSize;
         this.maxBatchLingerMs = maxBatchLingerMs;
         this.itemStore = itemStore;
-        this.stop = stop;
         this.metrics = metrics;
         this.namespace = namespace;
     }
@@ -100,19 +109,89 @@ class BatchingLoop {
     }
 
     /**
-     * Add an event to be reconciled to the tail of the {@link #queue}.
+     * Add an event to be reconciled to the tail of the {@link #queue}, or coalesce it with the event already waiting
+     * there for the same topic.
+     * When the queue is full, this blocks the calling informer thread until there is space in the queue. This
+     * throttles the delivery of the informer events until the threads catch up.
      * @param event The event
      */
     public void offer(TopicEvent event) {
-        if (queue.offerFirst(event)) {
-            LOGGER.debugOp("Item {} added to front of queue", event);
+        try {
+            while (!queue.offer(event, QUEUE_FULL_WARNING_MS, TimeUnit.MILLISECONDS)) {
+                LOGGER.warnOp("Queue length {} exceeded, waiting for the queue to drain. Consider increasing {} environment variable.",
+                        maxQueueSize,
+                        TopicOperatorConfig.MAX_QUEUE_SIZE.key());
+
+                if (!isReady()) {
+                    LOGGER.warnOp("Dropping item {} because the loop is not running", event);
+                    return;
+                }
+            }
+            LOGGER.debugOp("Item {} added to queue", event);
             metrics.reconciliationsMaxQueueSize(namespace).getAndUpdate(size -> Math.max(size, queue.size()));
+        } catch (InterruptedException e) {
+            LOGGER.warnOp("Interrupted while adding item {} to queue", event);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Marks the topic of the event as in-flight. If the topic is already in-flight, the event is parked until the
+     * reconciliation of the topic finishes.
+     *
+     * @param event The event
+     *
+     * @return True if the topic was marked as in-flight and the event can be reconciled. False if it was parked.
+     */
+    private boolean acquireOrPark(TopicEvent event) {
+        KubeRef ref = event.toRef();
+
+        while (true) {
+            if (inFlight.putIfAbsent(ref, NO_PARKED_EVENTS) == null) {
+                return true;
+            } else if (inFlight.computeIfPresent(ref, (key, parked) -> park(parked, event)) != null) {
+                return false;
+            }
+            // The topic finished its reconciliation in the meantime => try again
+        }
+    }
+
+    /**
+     * Parks the event using the same rules as the {@link TopicEventQueue}, so at most a delete followed by an upsert
+     * is parked for any topic.
+     *
+     * @param parked    Events already parked for the topic
+     * @param event     The event to park
+     *
+     * @return  The parked events
+     */
+    private static List<TopicEvent> park(List<TopicEvent> parked, TopicEvent event) {
+        List<TopicEvent> events = parked == NO_PARKED_EVENTS ? new ArrayList<>(2) : parked;
+
+        if (event instanceof TopicDelete) {
+            // A delete overrides any parked upsert
+            events.clear();
+            events.add(event);
+        } else if (!events.isEmpty() && events.get(events.size() - 1) instanceof TopicUpsert last) {
+            events.set(events.size() - 1, TopicEventQueue.coalesce(last, (TopicUpsert) event));
         } else {
-            LOGGER.errorOp("Queue length {} exceeded, stopping operator. Please increase {} environment variable.",
-                    maxQueueSize,
-                    TopicOperatorConfig.MAX_QUEUE_SIZE.key());
-            this.stop.run();
+            events.add(event);
         }
+
+        return events;
+    }
+
+    /**
+     * Removes the topic from the in-flight topics and returns the events parked in the meantime to the queue. They
+     * are coalesced with any newer event waiting in the queue for the same topic. The topic is removed while the
+     * queue lock is held. So no other thread can take a newer event for the topic from the queue and reconcile it
+     * before the parked events are back in the queue.
+     *
+     * @param event The event which was reconciled
+     */
+    private void release(TopicEvent event) {
+        // The parked events were already accepted by the queue once => they do not wait for free space.
+        queue.addOlder(() -> inFlight.remove(event.toRef()));
     }
 
     /**
@@ -194,15 +273,8 @@ class BatchingLoop {
 
         private boolean runOnce(int batchId, Batch batch) {
             try {
-                synchronized (BatchingLoop.this) {
-                    // remove the old batch from the inflight set and reset the batch
-                    LOGGER.traceOp("[Batch #{}] Removing batch from inflight", batchId - 1);
-                    batch.toUpdate.stream().map(TopicEvent::toRef).forEach(inFlight::remove);
-                    batch.toDelete.stream().map(TopicEvent::toRef).forEach(inFlight::remove);
-                    batch.clear();
-                    // fill a new batch
-                    fillBatch(batchId, batch);
-                }
+                // fill a new batch
+                fillBatch(batchId, batch);
 
                 if (batch.size() > 0) {
                     LOGGER.infoOp("[Batch #{}] Reconciling batch of {} topics", batchId, batch.size());
@@ -223,6 +295,12 @@ class BatchingLoop {
                 return true;
             } catch (Exception e) {
                 LOGGER.errorOp("[Batch #{}] Unexpected exception", batchId, e);
+            } finally {
+                // remove the batch from the inflight topics and reset the batch
+                LOGGER.traceOp("[Batch #{}] Removing batch from inflight", batchId);
+                batch.toUpdate.forEach(BatchingLoop.this::release);
+                batch.toDelete.forEach(BatchingLoop.this::release);
+                batch.clear();
             }
             return stopRequested;
         }
@@ -235,7 +313,8 @@ class BatchingLoop {
                         batchId, topicUpsert, BatchingTopicController.resourceVersion(kt));
                 var r = new Reconciliation("upsert", "KafkaTopic", topicUpsert.namespace(), topicUpsert.name());
                 LOGGER.debugOp("[Batch #{}] Contains {}", batchId, r);
-                return new ReconcilableTopic(r, kt, TopicOperatorUtil.topicName(kt));
+                // The controller modifies the status, so it gets a copy and the informer cache stays intact
+                return new ReconcilableTopic(r, new KafkaTopicBuilder(kt).build(), TopicOperatorUtil.topicName(kt));
             } else {
                 // Null can happen if the KafkaTopic has been deleted from Kube and we've not yet processed
                 // the corresponding delete event
@@ -247,7 +326,6 @@ class BatchingLoop {
 
         private void fillBatch(int batchId, Batch batch) throws InterruptedException {
             LOGGER.traceOp("[Batch #{}] Filling", batchId);
-            List<TopicEvent> rejected = new ArrayList<>();
 
             final long deadlineNanoTime = System.nanoTime() + maxBatchLingerMs * 1_000_000;
             while (true) {
@@ -261,34 +339,27 @@ class BatchingLoop {
                     LOGGER.traceOp("[Batch #{}] {}ms linger expired", batchId, maxBatchLingerMs);
                     break;
                 }
-                LOGGER.traceOp("[Batch #{}] Taking next item from deque head with timeout {}ns", batchId, timeoutNs);
-                TopicEvent topicEvent = queue.pollFirst(timeoutNs, TimeUnit.NANOSECONDS);
+                LOGGER.traceOp("[Batch #{}] Taking next item from queue head with timeout {}ns", batchId, timeoutNs);
+                // The event is added to the batch or parked while the queue lock is held, so that it cannot overtake
+                // the events which are being returned to the queue by release()
+                TopicEvent topicEvent = queue.poll(timeoutNs, TimeUnit.NANOSECONDS, event -> addToBatch(batchId, batch, event));
 
                 if (topicEvent == null) {
                     LOGGER.traceOp("[Batch #{}] Linger expired, batch complete", batchId);
                     break;
                 }
-                addToBatch(batchId, batch, rejected, topicEvent);
             }
             LOGGER.traceOp("[Batch #{}] Filled with {} topics", batchId, batch.size());
             metrics.reconciliationsMaxBatchSize(namespace).getAndUpdate(size -> Math.max(size, batch.size()));
-
-            // here we need a deque and can push `rejected` back on the front of the queue
-            //      where they can be taken by the next thread.
-            for (int i = rejected.size() - 1; i >= 0; i--) {
-                TopicEvent item = rejected.get(i);
-                offer(item);
-            }
         }
 
-        private void addToBatch(int batchId, Batch batch, List<TopicEvent> rejected, TopicEvent topicEvent) {
+        private void addToBatch(int batchId, Batch batch, TopicEvent topicEvent) {
             // We could add logic here to cope properly with interleaved upserts and deletes
             // of the same topic in the same batch.
             // E.g. upset then delete is equivalent to just a delete
             // It's actually a bit tricky since you have to process the events in reverse order to correctly
             // simplify them, so `Batch` would have to be something like a `Map<Ref, List<TopicEvent>>`.
-            KubeRef ref = topicEvent.toRef();
-            if (inFlight.add(ref)) {
+            if (acquireOrPark(topicEvent)) {
                 // wasn't already inflight
                 LOGGER.debugOp("[Batch #{}] Adding {}", batchId, topicEvent);
                 if (topicEvent instanceof TopicUpsert) {
@@ -297,8 +368,8 @@ class BatchingLoop {
                     batch.toDelete.add((TopicDelete) topicEvent);
                 }
             } else {
-                LOGGER.debugOp("[Batch #{}] Rejecting item {}, already inflight", batchId, topicEvent);
-                rejected.add(topicEvent);
+                // the event is returned to the queue once the reconciliation of the inflight topic finishes
+                LOGGER.debugOp("[Batch #{}] Parking item {}, already inflight", batchId, topicEvent);
                 metrics.lockedReconciliationsCounter(namespace).increment();
             }
         }
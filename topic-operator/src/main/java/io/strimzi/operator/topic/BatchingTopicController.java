@@ -6,11 +6,14 @@ package io.strimzi.operator.topic;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.model.common.Condition;
 import io.strimzi.api.kafka.model.common.ConditionBuilder;
 import io.strimzi.api.kafka.model.topic.KafkaTopic;
 import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopicStatus;
 import io.strimzi.api.kafka.model.topic.KafkaTopicStatusBuilder;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
@@ -64,6 +67,11 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -100,6 +108,8 @@ public class BatchingTopicController {
     private final Map<String, String> selector;
 
     private final KubernetesClient kubeClient;
+    private final ItemStore<KafkaTopic> itemStore;
+    private final ExecutorService statusUpdateExecutor;
 
     // Key: topic name, Value: The KafkaTopics known to manage that topic
     /* test */ final Map<String, List<KubeRef>> topics = new HashMap<>();
@@ -115,6 +125,7 @@ public class BatchingTopicController {
                             Map<String, String> selector,
                             Admin admin,
                             KubernetesClient kubeClient,
+                            ItemStore<KafkaTopic> itemStore,
                             TopicOperatorMetricsHolder metrics, 
                             ReplicasChangeHandler replicasChangeHandler) {
         this.config = config;
@@ -134,6 +145,15 @@ public class BatchingTopicController {
         }
 
         this.kubeClient = kubeClient;
+        this.itemStore = itemStore;
+        // The number of threads limits the number of status updates in flight
+        AtomicInteger threadCounter = new AtomicInteger(0);
+        this.statusUpdateExecutor = Executors.newFixedThreadPool(config.maxInflightStatusUpdates(), runnable -> {
+            Thread thread = new Thread(runnable, "status-update-" + threadCounter.getAndIncrement());
+            // The threads must not prevent the JVM exit when the controller is not stopped
+            thread.setDaemon(true);
+            return thread;
+        });
         this.metrics = metrics;
         this.namespace = config.namespace();
         this.enableAdditionalMetrics = config.enableAdditionalMetrics();
@@ -141,6 +161,18 @@ public class BatchingTopicController {
         this.topicNameIdMap = new HashMap<>();
     }
 
+    /**
+     * Stops the threads used for the status updates.
+     *
+     * @throws InterruptedException If interrupted while waiting for the status updates in flight to complete.
+     */
+    void stop() throws InterruptedException {
+        statusUpdateExecutor.shutdown();
+        if (!statusUpdateExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+            statusUpdateExecutor.shutdownNow();
+        }
+    }
+
     /**
      * Retrieves the specified configuration value for a Kafka cluster.
      *
@@ -670,16 +702,34 @@ public class BatchingTopicController {
     }
 
     private void updateStatuses(Map<ReconcilableTopic, Either<TopicOperatorException, Object>> results) {
-        // Update statues with the overall results.
-        results.entrySet().stream().forEach(entry -> {
-            var reconcilableTopic = entry.getKey();
-            var either = entry.getValue();
+        var timerSample = TopicOperatorUtil.startExternalRequestTimer(metrics, enableAdditionalMetrics);
+        // Update statuses with the overall results.
+        // The statuses are computed on this thread, but the Kubernetes requests are sent concurrently.
+        List<Future<?>> updates = new ArrayList<>(results.size());
+        results.forEach((reconcilableTopic, either) -> {
             if (either.isRight()) {
-                updateStatusForSuccess(reconcilableTopic);
+                setStatusForSuccess(reconcilableTopic);
             } else {
-                updateStatusForException(reconcilableTopic, either.left());
+                setStatusForException(reconcilableTopic, either.left());
+            }
+            var updatedTopic = statusUpdate(reconcilableTopic);
+            if (updatedTopic != null) {
+                updates.add(statusUpdateExecutor.submit(() -> sendStatusUpdate(reconcilableTopic, updatedTopic)));
             }
         });
+
+        for (var update : updates) {
+            try {
+                update.get();
+            } catch (InterruptedException e) {
+                updates.forEach(u -> u.cancel(true));
+                throw new UncheckedInterruptedException(e);
+            } catch (ExecutionException e) {
+                // Not expected, sendStatusUpdate() handles its own errors
+                LOGGER.errorOp("Status update failed: {}", e.getCause().getMessage());
+            }
+        }
+        TopicOperatorUtil.stopExternalRequestTimer(timerSample, metrics::updateStatusesTimer, enableAdditionalMetrics, namespace);
         LOGGER.traceOp("Updated status of {} KafkaTopics", results.size());
     }
 
@@ -1141,7 +1191,7 @@ public class BatchingTopicController {
                 && kt.getSpec().getConfig() != null;
     }
     
-    private void updateStatusForSuccess(ReconcilableTopic reconcilableTopic) {
+    private void setStatusForSuccess(ReconcilableTopic reconcilableTopic) {
         List<Condition> conditions = new ArrayList<>();
         var conditionType = "Ready";
         if (!TopicOperatorUtil.isManaged(reconcilableTopic.kt())) {
@@ -1162,7 +1212,6 @@ public class BatchingTopicController {
             new KafkaTopicStatusBuilder(reconcilableTopic.kt().getStatus())
                 .withConditions(conditions)
             .build());
-        updateStatus(reconcilableTopic);
         metrics.successfulReconciliationsCounter(namespace).increment();
     }
 
@@ -1201,6 +1250,14 @@ public class BatchingTopicController {
     }
 
     private void updateStatusForException(ReconcilableTopic reconcilableTopic, Exception e) {
+        setStatusForException(reconcilableTopic, e);
+        var updatedTopic = statusUpdate(reconcilableTopic);
+        if (updatedTopic != null) {
+            sendStatusUpdate(reconcilableTopic, updatedTopic);
+        }
+    }
+
+    private void setStatusForException(ReconcilableTopic reconcilableTopic, Exception e) {
         String reason;
         if (e instanceof TopicOperatorException) {
             LOGGER.warnCr(reconcilableTopic.reconciliation(), "Reconciliation failed: {}", e.getMessage());
@@ -1219,14 +1276,29 @@ public class BatchingTopicController {
                     .withLastTransitionTime(StatusUtils.iso8601Now())
                     .build()))
                 .build());
-        updateStatus(reconcilableTopic);
         metrics.failedReconciliationsCounter(namespace).increment();
     }
 
-    private void updateStatus(ReconcilableTopic reconcilableTopic) {
-        var oldStatus = Crds.topicOperation(kubeClient)
-            .inNamespace(reconcilableTopic.kt().getMetadata().getNamespace())
-            .withName(reconcilableTopic.kt().getMetadata().getName()).get().getStatus();
+    /**
+     * The status last seen by the informer. The KafkaTopics passed to the controller are copies of the informer
+     * cache items, so the status changed during the reconciliation does not leak into the cache.
+     *
+     * @param kafkaTopic KafkaTopic.
+     * @return The current status or null if the KafkaTopic is not in the cache (anymore).
+     */
+    private KafkaTopicStatus currentStatus(KafkaTopic kafkaTopic) {
+        var cached = itemStore.get(Cache.metaNamespaceKeyFunc(kafkaTopic));
+        return cached != null ? cached.getStatus() : null;
+    }
+
+    /**
+     * Completes the status of the KafkaTopic and compares it with the current status.
+     *
+     * @param reconcilableTopic Reconcilable topic.
+     * @return The KafkaTopic to update the status with or null if the status did not change.
+     */
+    private KafkaTopic statusUpdate(ReconcilableTopic reconcilableTopic) {
+        var oldStatus = currentStatus(reconcilableTopic.kt());
 
         // the observedGeneration is a marker that shows that the operator works and that it saw the last update to the resource
         reconcilableTopic.kt().getStatus().setObservedGeneration(reconcilableTopic.kt().getMetadata().getGeneration());
@@ -1247,23 +1319,28 @@ public class BatchingTopicController {
         );
 
         StatusDiff statusDiff = new StatusDiff(oldStatus, reconcilableTopic.kt().getStatus());
-        if (!statusDiff.isEmpty()) {
-            var updatedTopic = new KafkaTopicBuilder(reconcilableTopic.kt())
-                .editOrNewMetadata()
-                    .withResourceVersion(null)
-                .endMetadata()
-                .withStatus(reconcilableTopic.kt().getStatus())
-                .build();
-            LOGGER.debugCr(reconcilableTopic.reconciliation(), "Updating status with {}", updatedTopic.getStatus());
-            var timerSample = TopicOperatorUtil.startExternalRequestTimer(metrics, enableAdditionalMetrics);
-            try {
-                var got = Crds.topicOperation(kubeClient).resource(updatedTopic).updateStatus();
-                LOGGER.traceCr(reconcilableTopic.reconciliation(), "Updated status to observedGeneration {}, resourceVersion {}",
-                    got.getStatus().getObservedGeneration(), got.getMetadata().getResourceVersion());
-            } catch (Throwable e) {
-                LOGGER.errorOp("Status update failed: {}", e.getMessage());
-            }
-            TopicOperatorUtil.stopExternalRequestTimer(timerSample, metrics::updateStatusTimer, enableAdditionalMetrics, namespace);
+        if (statusDiff.isEmpty()) {
+            return null;
+        }
+
+        return new KafkaTopicBuilder(reconcilableTopic.kt())
+            .editOrNewMetadata()
+                .withResourceVersion(null)
+            .endMetadata()
+            .withStatus(reconcilableTopic.kt().getStatus())
+            .build();
+    }
+
+    private void sendStatusUpdate(ReconcilableTopic reconcilableTopic, KafkaTopic updatedTopic) {
+        LOGGER.debugCr(reconcilableTopic.reconciliation(), "Updating status with {}", updatedTopic.getStatus());
+        var timerSample = TopicOperatorUtil.startExternalRequestTimer(metrics, enableAdditionalMetrics);
+        try {
+            var got = Crds.topicOperation(kubeClient).resource(updatedTopic).updateStatus();
+            LOGGER.traceCr(reconcilableTopic.reconciliation(), "Updated status to observedGeneration {}, resourceVersion {}",
+                got.getStatus().getObservedGeneration(), got.getMetadata().getResourceVersion());
+        } catch (Throwable e) {
+            LOGGER.errorOp("Status update failed: {}", e.getMessage());
         }
+        TopicOperatorUtil.stopExternalRequestTimer(timerSample, metrics::updateStatusTimer, enableAdditionalMetrics, namespace);
     }
 }
@@ -0,0 +1,214 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.topic.model.TopicEvent.TopicUpsert;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DescribeTopicsOptions;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicCollection;
+import org.apache.kafka.common.Uuid;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically takes a snapshot of the topic IDs and partition counts from the Kafka metadata and compares it with the
+ * previous snapshot. The topic IDs come from the topic listing. The partition counts come from a single describe of the
+ * topics managed by a {@link KafkaTopic} (without the authorized operations), so the topics not managed by the
+ * operator are never described. The {@link KafkaTopic}s of the topics which were created, deleted, re-created or which
+ * changed their number of partitions in Kafka are enqueued for reconciliation, so that such drift is corrected without
+ * waiting for the next full reconciliation.
+ *
+ * Changes of the topic configuration are not part of the snapshot and are still corrected only by the full
+ * reconciliation.
+ */
+class KafkaMetadataWatcher {
+    static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaMetadataWatcher.class);
+
+    private final Admin admin;
+    private final ItemStore<KafkaTopic> itemStore;
+    private final BatchingLoop queue;
+    private final long pollIntervalMs;
+
+    private ScheduledExecutorService scheduler;
+    private Map<String, TopicMetadata> lastSnapshot; // only accessed from the scheduler thread
+
+    /**
+     * Creates the watcher
+     *
+     * @param admin             Kafka Admin client
+     * @param itemStore         Informer cache with the KafkaTopics
+     * @param queue             Queue for the reconciliations
+     * @param pollIntervalMs    Interval between two snapshots
+     */
+    KafkaMetadataWatcher(Admin admin, ItemStore<KafkaTopic> itemStore, BatchingLoop queue, long pollIntervalMs) {
+        this.admin = admin;
+        this.itemStore = itemStore;
+        this.queue = queue;
+        this.pollIntervalMs = pollIntervalMs;
+    }
+
+    /**
+     * Starts polling the Kafka metadata
+     */
+    synchronized void start() {
+        if (scheduler != null) {
+            throw new IllegalStateException();
+        }
+
+        LOGGER.infoOp("Polling Kafka metadata every {}ms", pollIntervalMs);
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "KafkaMetadataWatcher"));
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                poll();
+            } catch (RuntimeException e) {
+                // An exception would cancel the further polls
+                LOGGER.errorOp("Unexpected exception while polling Kafka metadata", e);
+            }
+        }, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops polling the Kafka metadata
+     *
+     * @throws InterruptedException If interrupted while waiting for the last poll to complete
+     */
+    synchronized void stop() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            if (!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
+                LOGGER.warnOp("Kafka metadata watcher did not stop in time");
+            }
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Takes a new snapshot of the Kafka metadata and enqueues the KafkaTopics of the topics which changed since the
+     * previous snapshot. The first snapshot only records the baseline.
+     */
+    /* test */ void poll() {
+        Map<String, TopicMetadata> snapshot;
+        try {
+            snapshot = snapshot();
+        } catch (ExecutionException e) {
+            // Keep the last snapshot, so the changes are found by the next successful poll
+            LOGGER.warnOp("Failed to get Kafka metadata: {}", String.valueOf(e.getCause()));
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        if (lastSnapshot != null) {
+            Set<String> changed = changedTopics(lastSnapshot, snapshot);
+            if (!changed.isEmpty()) {
+                LOGGER.debugOp("Kafka metadata changed for topics {}", changed);
+                enqueue(changed);
+            }
+        }
+        lastSnapshot = snapshot;
+    }
+
+    private Map<String, TopicMetadata> snapshot() throws ExecutionException, InterruptedException {
+        Collection<TopicListing> listings = admin.listTopics().listings().get();
+
+        Map<String, TopicMetadata> snapshot = new HashMap<>(listings.size());
+        for (TopicListing listing : listings) {
+            snapshot.put(listing.name(), new TopicMetadata(listing.topicId(), TopicMetadata.UNKNOWN_PARTITIONS));
+        }
+
+        Set<String> managedTopics = new HashSet<>();
+        itemStore.values()
+                .filter(TopicOperatorUtil::isManaged)
+                .map(TopicOperatorUtil::topicName)
+                .filter(snapshot::containsKey)
+                .forEach(managedTopics::add);
+
+        if (!managedTopics.isEmpty()) {
+            Map<String, KafkaFuture<TopicDescription>> descriptions = admin.describeTopics(TopicCollection.ofTopicNames(managedTopics),
+                    new DescribeTopicsOptions().includeAuthorizedOperations(false)).topicNameValues();
+
+            for (Map.Entry<String, KafkaFuture<TopicDescription>> entry : descriptions.entrySet()) {
+                try {
+                    TopicDescription description = entry.getValue().get();
+                    snapshot.put(entry.getKey(), new TopicMetadata(description.topicId(), description.partitions().size()));
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof UnknownTopicOrPartitionException) {
+                        // The topic was deleted after it was listed
+                        snapshot.remove(entry.getKey());
+                    } else {
+                        throw e;
+                    }
+                }
+            }
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Compares two snapshots of the Kafka metadata
+     *
+     * @param previous  The previous snapshot
+     * @param current   The current snapshot
+     *
+     * @return  Names of the topics which were created, deleted, re-created or changed their number of partitions
+     *          between the snapshots
+     */
+    /* test */ static Set<String> changedTopics(Map<String, TopicMetadata> previous, Map<String, TopicMetadata> current) {
+        Set<String> changed = new HashSet<>();
+
+        for (Map.Entry<String, TopicMetadata> entry : current.entrySet()) {
+            if (!Objects.equals(previous.get(entry.getKey()), entry.getValue())) {
+                changed.add(entry.getKey());
+            }
+        }
+
+        for (String name : previous.keySet()) {
+            if (!current.containsKey(name)) {
+                changed.add(name);
+            }
+        }
+
+        return changed;
+    }
+
+    private void enqueue(Set<String> topicNames) {
+        itemStore.values()
+                .filter(kt -> topicNames.contains(TopicOperatorUtil.topicName(kt)))
+                .forEach(kt -> {
+                    LOGGER.debugOp("Enqueuing KafkaTopic {}/{} after a change in Kafka", kt.getMetadata().getNamespace(), kt.getMetadata().getName());
+                    queue.offer(new TopicUpsert(System.nanoTime(), kt.getMetadata().getNamespace(),
+                            kt.getMetadata().getName(), kt.getMetadata().getResourceVersion()));
+                });
+    }
+
+    /**
+     * Metadata of a single topic in the snapshot
+     *
+     * @param topicId       ID of the topic
+     * @param partitions    Number of partitions or {@link #UNKNOWN_PARTITIONS} for topics which are not managed by a
+     *                      KafkaTopic and are therefore not described
+     */
+    /* test */ record TopicMetadata(Uuid topicId, int partitions) {
+        static final int UNKNOWN_PARTITIONS = -1;
+    }
+}
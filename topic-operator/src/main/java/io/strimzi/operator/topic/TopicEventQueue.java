@@ -0,0 +1,253 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.topic.model.KubeRef;
+import io.strimzi.operator.topic.model.TopicEvent;
+import io.strimzi.operator.topic.model.TopicEvent.TopicDelete;
+import io.strimzi.operator.topic.model.TopicEvent.TopicUpsert;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Bounded FIFO queue of {@link TopicEvent}s which keeps at most one pending event per {@link KubeRef}.
+ * The events for a topic which is already waiting in the queue are coalesced with the pending event:
+ * <ul>
+ *     <li>A newer upsert replaces the pending upsert. The reconciliation always reads the latest KafkaTopic from the
+ *     informer cache, so only the latest resourceVersion matters.</li>
+ *     <li>A delete replaces any pending upsert.</li>
+ *     <li>An upsert of a topic with a pending delete (i.e. the KafkaTopic was deleted and created again) is kept
+ *     separately and enqueued once the delete is taken from the queue.</li>
+ * </ul>
+ * Events which were parked while their topic was being reconciled are older than any event pending for the same
+ * topic. They are added with {@link #addOlder(TopicEvent)} which applies the same rules in the reverse order.
+ * The capacity limits the number of distinct topics in the queue, so the memory used by the queue is bounded by the
+ * number of topics and not by the rate of the events.
+ */
+class TopicEventQueue {
+    private final int capacity;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final LinkedHashMap<KubeRef, TopicEvent> pending = new LinkedHashMap<>();
+    private final Map<KubeRef, TopicUpsert> upsertsAfterDelete = new HashMap<>();
+
+    /**
+     * Creates the queue
+     *
+     * @param capacity  Maximal number of distinct topics waiting in the queue
+     */
+    TopicEventQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity of the queue has to be positive");
+        }
+
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds the event to the queue or coalesces it with the event already pending for the same topic. If the queue is
+     * full, waits up to the timeout for a free slot.
+     *
+     * @param event     The event
+     * @param timeout   How long to wait for a free slot
+     * @param unit      Unit of the timeout
+     *
+     * @return  True if the event was enqueued or coalesced. False if the queue stayed full until the timeout.
+     *
+     * @throws InterruptedException If interrupted while waiting
+     */
+    boolean offer(TopicEvent event, long timeout, TimeUnit unit) throws InterruptedException {
+        KubeRef ref = event.toRef();
+        long remainingNs = unit.toNanos(timeout);
+
+        lock.lockInterruptibly();
+        try {
+            while (!pending.containsKey(ref) && pending.size() >= capacity) {
+                if (remainingNs <= 0) {
+                    return false;
+                }
+
+                remainingNs = notFull.awaitNanos(remainingNs);
+            }
+
+            enqueue(ref, event);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an event which is older than the event already pending for the same topic (if any) and coalesces them.
+     * This is used for the events parked while the topic was being reconciled. They were already accepted by the
+     * queue once, so they do not wait for free space in the queue.
+     * <ul>
+     *     <li>An older upsert is coalesced with the pending upsert which keeps its resourceVersion.</li>
+     *     <li>An older delete is put before the pending upsert, so the upsert is enqueued once the delete is taken
+     *     from the queue.</li>
+     *     <li>Any older event is dropped when a delete is pending, because the pending delete overrides it.</li>
+     * </ul>
+     *
+     * @param event     The older event
+     */
+    void addOlder(TopicEvent event) {
+        lock.lock();
+        try {
+            KubeRef ref = event.toRef();
+            TopicEvent existing = pending.get(ref);
+
+            if (existing == null) {
+                pending.put(ref, event);
+                notEmpty.signal();
+            } else if (existing instanceof TopicUpsert existingUpsert) {
+                if (event instanceof TopicUpsert olderUpsert) {
+                    pending.put(ref, coalesce(olderUpsert, existingUpsert));
+                } else {
+                    // The topic was deleted and created again => the delete goes first, the upsert after it
+                    pending.put(ref, event);
+                    upsertsAfterDelete.put(ref, existingUpsert);
+                }
+            }
+            // Otherwise a newer delete is pending and it overrides the older event
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the older events returned by the supplier (see {@link #addOlder(TopicEvent)}). The supplier is called while
+     * the queue lock is held. So no event can be taken from the queue between the supplier releasing the topic and the
+     * older events being added.
+     *
+     * @param olderEvents   Supplier of the older events ordered from the oldest to the newest. It may return null.
+     */
+    void addOlder(Supplier<List<TopicEvent>> olderEvents) {
+        lock.lock();
+        try {
+            List<TopicEvent> events = olderEvents.get();
+
+            if (events != null) {
+                // The events are added from the newest to the oldest
+                for (int i = events.size() - 1; i >= 0; i--) {
+                    addOlder(events.get(i));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the oldest event from the queue. Waits up to the timeout if the queue is empty.
+     *
+     * @param timeout   How long to wait for an event
+     * @param unit      Unit of the timeout
+     *
+     * @return  The event or null if the queue stayed empty until the timeout
+     *
+     * @throws InterruptedException If interrupted while waiting
+     */
+    TopicEvent poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return poll(timeout, unit, event -> { });
+    }
+
+    /**
+     * Takes the oldest event from the queue and passes it to the consumer while the queue lock is still held. Waits up
+     * to the timeout if the queue is empty.
+     *
+     * @param timeout   How long to wait for an event
+     * @param unit      Unit of the timeout
+     * @param onTake    Consumer called with the event before the queue lock is released
+     *
+     * @return  The event or null if the queue stayed empty until the timeout
+     *
+     * @throws InterruptedException If interrupted while waiting
+     */
+    TopicEvent poll(long timeout, TimeUnit unit, Consumer<TopicEvent> onTake) throws InterruptedException {
+        long remainingNs = unit.toNanos(timeout);
+
+        lock.lockInterruptibly();
+        try {
+            while (pending.isEmpty()) {
+                if (remainingNs <= 0) {
+                    return null;
+                }
+
+                remainingNs = notEmpty.awaitNanos(remainingNs);
+            }
+
+            Iterator<Map.Entry<KubeRef, TopicEvent>> iterator = pending.entrySet().iterator();
+            Map.Entry<KubeRef, TopicEvent> head = iterator.next();
+            iterator.remove();
+
+            TopicUpsert upsert = upsertsAfterDelete.remove(head.getKey());
+            if (upsert != null) {
+                // The topic was created again after it was deleted => the upsert goes to the end of the queue
+                pending.put(head.getKey(), upsert);
+                notEmpty.signal();
+            } else {
+                notFull.signal();
+            }
+
+            onTake.accept(head.getValue());
+            return head.getValue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return  Number of distinct topics waiting in the queue
+     */
+    int size() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void enqueue(KubeRef ref, TopicEvent event) {
+        TopicEvent existing = pending.get(ref);
+
+        if (existing == null) {
+            pending.put(ref, event);
+            notEmpty.signal();
+        } else if (event instanceof TopicDelete) {
+            // Replacing the value keeps the position of the topic in the queue
+            pending.put(ref, event);
+            upsertsAfterDelete.remove(ref);
+        } else if (existing instanceof TopicUpsert existingUpsert) {
+            pending.put(ref, coalesce(existingUpsert, (TopicUpsert) event));
+        } else {
+            upsertsAfterDelete.merge(ref, (TopicUpsert) event, TopicEventQueue::coalesce);
+        }
+    }
+
+    /**
+     * Coalesces two upserts of the same topic. The result has the resourceVersion of the newer upsert, but keeps the
+     * start time of the older one, so that the age of the event covers the whole time the topic was waiting.
+     *
+     * @param older     The older upsert
+     * @param newer     The newer upsert
+     *
+     * @return  The coalesced upsert
+     */
+    static TopicUpsert coalesce(TopicUpsert older, TopicUpsert newer) {
+        return new TopicUpsert(older.nanosStartOffset(), newer.namespace(), newer.name(), newer.resourceVersion());
+    }
+}
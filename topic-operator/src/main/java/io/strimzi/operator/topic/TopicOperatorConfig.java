@@ -30,6 +30,7 @@ import static io.strimzi.operator.common.config.ConfigParameterParser.LABEL_PRED
 import static io.strimzi.operator.common.config.ConfigParameterParser.LONG;
 import static io.strimzi.operator.common.config.ConfigParameterParser.NON_EMPTY_STRING;
 import static io.strimzi.operator.common.config.ConfigParameterParser.STRING;
+import static io.strimzi.operator.common.config.ConfigParameterParser.nonNegative;
 import static io.strimzi.operator.common.config.ConfigParameterParser.parseFeatureGates;
 import static io.strimzi.operator.common.config.ConfigParameterParser.strictlyPositive;
 
@@ -41,6 +42,7 @@ import static io.strimzi.operator.common.config.ConfigParameterParser.strictlyPo
  * @param bootstrapServers                      The Kafka bootstrap servers.
  * @param clientId                              The client Id to use for the Admin client.
  * @param fullReconciliationIntervalMs          The periodic reconciliation interval in milliseconds.
+ * @param kafkaMetadataPollIntervalMs           The interval in milliseconds for polling the Kafka metadata for changes (0 disables the polling).
  * @param tlsEnabled                            Whether the Admin client should be configured to use TLS.
  * @param truststoreLocation                    The location (path) of the Admin client's truststore.
  * @param truststorePassword                    The password for the truststore at {@code truststoreLocation}.
@@ -57,6 +59,7 @@ import static io.strimzi.operator.common.config.ConfigParameterParser.strictlyPo
  * @param maxQueueSize                          The capacity of the queue.
  * @param maxBatchSize                          The maximum size of a reconciliation batch.
  * @param maxBatchLingerMs                      The maximum time to wait for a reconciliation batch to contain {@code maxBatchSize} items.
+ * @param maxInflightStatusUpdates              The maximum number of KafkaTopic status updates sent concurrently.
  * @param enableAdditionalMetrics               Whether to enable additional metrics.
  * @param featureGates                          Configured feature gates.
  * @param cruiseControlEnabled                  Whether Cruise Control integration is enabled.
@@ -77,6 +80,7 @@ public record TopicOperatorConfig(
         String bootstrapServers,
         String clientId,
         long fullReconciliationIntervalMs,
+        long kafkaMetadataPollIntervalMs,
         boolean tlsEnabled,
         String truststoreLocation,
         String truststorePassword,
@@ -93,6 +97,7 @@ public record TopicOperatorConfig(
         int maxQueueSize,
         int maxBatchSize,
         long maxBatchLingerMs,
+        int maxInflightStatusUpdates,
         boolean enableAdditionalMetrics,
         FeatureGates featureGates,
         boolean cruiseControlEnabled,
@@ -118,6 +123,7 @@ public record TopicOperatorConfig(
     static final ConfigParameter<String> BOOTSTRAP_SERVERS = new ConfigParameter<>("STRIMZI_KAFKA_BOOTSTRAP_SERVERS", NON_EMPTY_STRING, CONFIG_VALUES);
     static final ConfigParameter<String> CLIENT_ID = new ConfigParameter<>("STRIMZI_CLIENT_ID", NON_EMPTY_STRING, "strimzi-topic-operator-" + UUID.randomUUID(), CONFIG_VALUES);
     static final ConfigParameter<Long> FULL_RECONCILIATION_INTERVAL_MS = new ConfigParameter<>("STRIMZI_FULL_RECONCILIATION_INTERVAL_MS", strictlyPositive(LONG), "120000", CONFIG_VALUES);
+    static final ConfigParameter<Long> KAFKA_METADATA_POLL_INTERVAL_MS = new ConfigParameter<>("STRIMZI_KAFKA_METADATA_POLL_INTERVAL_MS", nonNegative(LONG), "30000", CONFIG_VALUES);
     static final ConfigParameter<Boolean> TLS_ENABLED = new ConfigParameter<>("STRIMZI_TLS_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
     static final ConfigParameter<String> TRUSTSTORE_LOCATION = new ConfigParameter<>("STRIMZI_TRUSTSTORE_LOCATION", STRING, "", CONFIG_VALUES);
     static final ConfigParameter<String> TRUSTSTORE_PASSWORD = new ConfigParameter<>("STRIMZI_TRUSTSTORE_PASSWORD", STRING, "", CONFIG_VALUES);
@@ -134,6 +140,7 @@ public record TopicOperatorConfig(
     static final ConfigParameter<Integer> MAX_QUEUE_SIZE = new ConfigParameter<>("STRIMZI_MAX_QUEUE_SIZE", strictlyPositive(INTEGER), "1024", CONFIG_VALUES);
     static final ConfigParameter<Integer> MAX_BATCH_SIZE = new ConfigParameter<>("STRIMZI_MAX_BATCH_SIZE", strictlyPositive(INTEGER), "100", CONFIG_VALUES);
     static final ConfigParameter<Long> MAX_BATCH_LINGER_MS = new ConfigParameter<>("STRIMZI_MAX_BATCH_LINGER_MS", strictlyPositive(LONG), "100", CONFIG_VALUES);
+    static final ConfigParameter<Integer> MAX_INFLIGHT_STATUS_UPDATES = new ConfigParameter<>("STRIMZI_MAX_INFLIGHT_STATUS_UPDATES", strictlyPositive(INTEGER), "10", CONFIG_VALUES);
     static final ConfigParameter<Boolean> ENABLE_ADDITIONAL_METRICS = new ConfigParameter<>("STRIMZI_ENABLE_ADDITIONAL_METRICS", BOOLEAN, "false", CONFIG_VALUES);
     static final ConfigParameter<String> ALTERABLE_TOPIC_CONFIG = new ConfigParameter<>("STRIMZI_ALTERABLE_TOPIC_CONFIG", STRING, "ALL", CONFIG_VALUES);
     static final ConfigParameter<Boolean> SKIP_CLUSTER_CONFIG_REVIEW = new ConfigParameter<>("STRIMZI_SKIP_CLUSTER_CONFIG_REVIEW", BOOLEAN, "false", CONFIG_VALUES);
@@ -186,6 +193,7 @@ public record TopicOperatorConfig(
                 get(map, BOOTSTRAP_SERVERS),
                 get(map, CLIENT_ID),
                 get(map, FULL_RECONCILIATION_INTERVAL_MS),
+                get(map, KAFKA_METADATA_POLL_INTERVAL_MS),
                 get(map, TLS_ENABLED),
                 get(map, TRUSTSTORE_LOCATION),
                 get(map, TRUSTSTORE_PASSWORD),
@@ -202,6 +210,7 @@ public record TopicOperatorConfig(
                 get(map, MAX_QUEUE_SIZE),
                 get(map, MAX_BATCH_SIZE),
                 get(map, MAX_BATCH_LINGER_MS),
+                get(map, MAX_INFLIGHT_STATUS_UPDATES),
                 get(map, ENABLE_ADDITIONAL_METRICS),
                 get(map, FEATURE_GATES),
                 get(map, CRUISE_CONTROL_ENABLED),
@@ -348,6 +357,7 @@ public record TopicOperatorConfig(
                 "\n\tbootstrapServers='" + bootstrapServers + '\'' +
                 "\n\tclientId='" + clientId + '\'' +
                 "\n\tfullReconciliationIntervalMs=" + fullReconciliationIntervalMs +
+                "\n\tkafkaMetadataPollIntervalMs=" + kafkaMetadataPollIntervalMs +
                 "\n\ttlsEnabled=" + tlsEnabled +
                 "\n\ttruststoreLocation='" + truststoreLocation + '\'' +
                 "\n\ttruststorePassword='" + mask + '\'' +
@@ -366,6 +376,7 @@ public record TopicOperatorConfig(
                 "\n\tmaxQueueSize=" + maxQueueSize +
                 "\n\tmaxBatchSize=" + maxBatchSize +
                 "\n\tmaxBatchLingerMs=" + maxBatchLingerMs +
+                "\n\tmaxInflightStatusUpdates=" + maxInflightStatusUpdates +
                 "\n\tenableAdditionalMetrics=" + enableAdditionalMetrics +
                 "\n\tfeatureGates='" + featureGates + "'" +
                 "\n\tcruiseControlEnabled=" + cruiseControlEnabled +
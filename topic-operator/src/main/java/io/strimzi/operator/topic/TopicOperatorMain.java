@@ -47,6 +47,7 @@ public class TopicOperatorMain implements Liveness, Readiness {
     private final BasicItemStore<KafkaTopic> itemStore;
     private final ReplicasChangeHandler replicasChangeHandler;
     /* test */ final BatchingTopicController controller;
+    private final KafkaMetadataWatcher metadataWatcher;
     private final Admin admin;
     private SharedIndexInformer<KafkaTopic> informer; // guarded by this
     Thread shutdownHook; // guarded by this
@@ -68,9 +69,11 @@ public class TopicOperatorMain implements Liveness, Readiness {
         TopicOperatorMetricsProvider metricsProvider = createMetricsProvider();
         TopicOperatorMetricsHolder metrics = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, Labels.fromMap(selector), metricsProvider);
         this.replicasChangeHandler = new ReplicasChangeHandler(config, metrics);
-        this.controller = new BatchingTopicController(config, selector, admin, kubeClient, metrics, replicasChangeHandler);
         this.itemStore = new BasicItemStore<>(Cache::metaNamespaceKeyFunc);
-        this.queue = new BatchingLoop(config.maxQueueSize(), controller, 1, config.maxBatchSize(), config.maxBatchLingerMs(), itemStore, this::stop, metrics, namespace);
+        this.controller = new BatchingTopicController(config, selector, admin, kubeClient, itemStore, metrics, replicasChangeHandler);
+        this.queue = new BatchingLoop(config.maxQueueSize(), controller, 1, config.maxBatchSize(), config.maxBatchLingerMs(), itemStore, metrics, namespace);
+        this.metadataWatcher = config.kafkaMetadataPollIntervalMs() > 0
+                ? new KafkaMetadataWatcher(admin, itemStore, queue, config.kafkaMetadataPollIntervalMs()) : null;
         this.resourceEventHandler = new TopicOperatorEventHandler(config, queue, metrics);
         this.healthAndMetricsServer = new HealthCheckAndMetricsServer(8080, this, this, metricsProvider);
     }
@@ -103,6 +106,10 @@ public class TopicOperatorMain implements Liveness, Readiness {
                 .itemStore(itemStore);
         LOGGER.infoOp("Starting informer");
         informer.run();
+        if (metadataWatcher != null) {
+            LOGGER.infoOp("Starting Kafka metadata watcher");
+            metadataWatcher.start();
+        }
         LOGGER.infoOp("TopicOperator started");
     }
 
@@ -133,10 +140,14 @@ public class TopicOperatorMain implements Liveness, Readiness {
                 informer.stop();
                 informer = null;
             }
+            if (metadataWatcher != null) {
+                metadataWatcher.stop();
+            }
             if (replicasChangeHandler != null) {
                 replicasChangeHandler.stop();
             }
             this.queue.stop();
+            this.controller.stop();
             this.admin.close();
             this.healthAndMetricsServer.stop();
             LOGGER.infoOp("Shutdown completed normally");
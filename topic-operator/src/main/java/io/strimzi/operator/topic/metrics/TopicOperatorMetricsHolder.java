@@ -42,6 +42,10 @@ public class TopicOperatorMetricsHolder extends MetricsHolder {
      * Metric name for Kubernetes update status duration.
      */
     public static final String METRICS_UPDATE_TOPICS_DURATION = METRICS_PREFIX + "update.status.duration";
+    /**
+     * Metric name for the duration of the Kubernetes status updates of a batch.
+     */
+    public static final String METRICS_UPDATE_STATUSES_DURATION = METRICS_PREFIX + "update.statuses.duration";
     /**
      * Metric name for Kafka list reassignments duration.
      */
@@ -83,6 +87,7 @@ public class TopicOperatorMetricsHolder extends MetricsHolder {
     private final Map<MetricKey, Timer> removeFinalizerTimerMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, Timer> createTopicsTimerMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, Timer> updateStatusTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, Timer> updateStatusesTimerMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, Timer> listReassignmentsTimerMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, Timer> alterConfigsTimerMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, Timer> createPartitionsTimerMap = new ConcurrentHashMap<>(1);
@@ -197,6 +202,18 @@ public class TopicOperatorMetricsHolder extends MetricsHolder {
                 Optional.of(getLabelSelectorValues()), updateStatusTimerMap);
     }
 
+    /**
+     * Timer which measures how long the status updates of a whole batch take to complete.
+     *
+     * @param namespace Namespace of the resources being reconciled.
+     * @return Metrics timer.
+     */
+    public Timer updateStatusesTimer(String namespace) {
+        return getFineGrainedTimer(namespace, METRICS_UPDATE_STATUSES_DURATION,
+            "The time the Kubernetes updateStatus requests of a batch take to complete",
+                Optional.of(getLabelSelectorValues()), updateStatusesTimerMap);
+    }
+
     /**
      * Timer which measures how long the Kafka listPartitionReassignments request takes to complete.
      *
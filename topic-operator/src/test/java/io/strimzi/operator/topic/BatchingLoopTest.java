@@ -0,0 +1,125 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.metrics.TopicOperatorMetricsProvider;
+import io.strimzi.operator.topic.model.ReconcilableTopic;
+import io.strimzi.operator.topic.model.TopicEvent.TopicUpsert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static io.strimzi.api.kafka.model.topic.KafkaTopic.RESOURCE_KIND;
+import static io.strimzi.operator.common.metrics.MetricsHolder.METRICS_RECONCILIATIONS_LOCKED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.anyList;
+
+class BatchingLoopTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    private BatchingLoop loop;
+
+    @AfterEach
+    void afterEach() throws InterruptedException {
+        if (loop != null) {
+            loop.stop();
+        }
+    }
+
+    private static KafkaTopic kafkaTopic(String name) {
+        return new KafkaTopicBuilder()
+            .withNewMetadata()
+                .withNamespace(NAMESPACE)
+                .withName(name)
+                .withResourceVersion("100100")
+            .endMetadata()
+            .build();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Timed out waiting for the condition");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void shouldParkEventsForInflightTopics() throws InterruptedException {
+        var itemStore = new BasicItemStore<KafkaTopic>(Cache::metaNamespaceKeyFunc);
+        itemStore.put(Cache.namespaceKeyFunc(NAMESPACE, "t0"), kafkaTopic("t0"));
+        itemStore.put(Cache.namespaceKeyFunc(NAMESPACE, "t1"), kafkaTopic("t1"));
+
+        var firstBatchStarted = new CountDownLatch(1);
+        var finishFirstBatch = new CountDownLatch(1);
+        var firstBatch = new AtomicBoolean(true);
+        var overlap = new AtomicBoolean(false);
+        Set<String> inProgress = ConcurrentHashMap.newKeySet();
+        List<String> reconciled = new CopyOnWriteArrayList<>();
+
+        var controller = Mockito.mock(BatchingTopicController.class);
+        Mockito.doAnswer(invocation -> {
+            List<ReconcilableTopic> batch = invocation.getArgument(0);
+            for (var topic : batch) {
+                if (!inProgress.add(topic.kt().getMetadata().getName())) {
+                    overlap.set(true);
+                }
+            }
+
+            if (firstBatch.compareAndSet(true, false)) {
+                firstBatchStarted.countDown();
+                finishFirstBatch.await();
+            }
+
+            for (var topic : batch) {
+                inProgress.remove(topic.kt().getMetadata().getName());
+                reconciled.add(topic.kt().getMetadata().getName());
+            }
+            return null;
+        }).when(controller).onUpdate(anyList());
+
+        var metrics = new TopicOperatorMetricsHolder(RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+        loop = new BatchingLoop(10, controller, 2, 1, 10, itemStore, metrics, NAMESPACE);
+        loop.start();
+
+        // The first thread takes t0 and blocks in the controller
+        loop.offer(new TopicUpsert(0, NAMESPACE, "t0", "100100"));
+        assertTrue(firstBatchStarted.await(30, TimeUnit.SECONDS));
+
+        // The second thread has to park the event for t0 and reconcile t1
+        loop.offer(new TopicUpsert(0, NAMESPACE, "t0", "100101"));
+        loop.offer(new TopicUpsert(0, NAMESPACE, "t1", "100100"));
+        waitUntil(() -> reconciled.contains("t1"));
+        assertEquals(List.of("t1"), reconciled);
+
+        // Once the first reconciliation finishes, the parked event is reconciled as well
+        finishFirstBatch.countDown();
+        waitUntil(() -> reconciled.size() == 3);
+        assertEquals(List.of("t1", "t0", "t0"), reconciled);
+        assertFalse(overlap.get());
+        assertEquals(1.0, metrics.metricsProvider().meterRegistry().get(METRICS_RECONCILIATIONS_LOCKED)
+            .tags("kind", RESOURCE_KIND, "namespace", NAMESPACE).counter().count());
+    }
+}
@@ -5,6 +5,9 @@
 package io.strimzi.operator.topic;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
 import io.kroxylicious.testing.kafka.api.KafkaCluster;
 import io.kroxylicious.testing.kafka.common.BrokerCluster;
 import io.kroxylicious.testing.kafka.junit5ext.KafkaClusterExtension;
@@ -87,6 +90,7 @@ class BatchingTopicControllerTest {
     private static MockKube3 mockKube;
     private static KubernetesClient kubernetesClient;
     private final Admin[] kafkaAdminClient = new Admin[] {null};
+    private final ItemStore<KafkaTopic> itemStore = new BasicItemStore<>(Cache::metaNamespaceKeyFunc);
 
     @BeforeAll
     public static void beforeAll() {
@@ -138,12 +142,13 @@ class BatchingTopicControllerTest {
 
     private void assertOnUpdateThrowsInterruptedException(Admin kafkaAdminClient, KafkaTopic kafkaTopic) {
         var config = Mockito.mock(TopicOperatorConfig.class);
+        Mockito.doReturn(1).when(config).maxInflightStatusUpdates();
         Mockito.doReturn(NAMESPACE).when(config).namespace();
         Mockito.doReturn(true).when(config).useFinalizer();
         Mockito.doReturn(false).when(config).enableAdditionalMetrics();
 
         var metricsHolder = new TopicOperatorMetricsHolder(RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
-        var controller = new BatchingTopicController(config, Map.of("key", "VALUE"), kafkaAdminClient, kubernetesClient, metricsHolder, new ReplicasChangeHandler(config, metricsHolder));
+        var controller = new BatchingTopicController(config, Map.of("key", "VALUE"), kafkaAdminClient, kubernetesClient, itemStore, metricsHolder, new ReplicasChangeHandler(config, metricsHolder));
 
         List<ReconcilableTopic> batch = List.of(new ReconcilableTopic(new Reconciliation("test", "KafkaTopic", NAMESPACE, "my-topic"), kafkaTopic, topicName(kafkaTopic)));
         assertThrows(InterruptedException.class, () -> controller.onUpdate(batch));
@@ -274,6 +279,7 @@ class BatchingTopicControllerTest {
 
         // setup
         var config = Mockito.mock(TopicOperatorConfig.class);
+        Mockito.doReturn(1).when(config).maxInflightStatusUpdates();
         Mockito.doReturn(NAMESPACE).when(config).namespace();
         Mockito.doReturn(true).when(config).useFinalizer();
         Mockito.doReturn(false).when(config).enableAdditionalMetrics();
@@ -331,7 +337,7 @@ class BatchingTopicControllerTest {
 
         // test
         var metricsHolder = new TopicOperatorMetricsHolder(RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
-        var controller = new BatchingTopicController(config, Map.of("key", "VALUE"), kafkaAdminClient, kubernetesClient, metricsHolder, replicasChangeHandler);
+        var controller = new BatchingTopicController(config, Map.of("key", "VALUE"), kafkaAdminClient, kubernetesClient, itemStore, metricsHolder, replicasChangeHandler);
         var results = controller.checkReplicasChanges(reconcilableTopics, currentStatesOrError);
         
         if (cruiseControlEnabled) {
@@ -350,6 +356,7 @@ class BatchingTopicControllerTest {
 
         // setup: pending with error and .spec.replicas == uniqueReplicationFactor
         var config = Mockito.mock(TopicOperatorConfig.class);
+        Mockito.doReturn(1).when(config).maxInflightStatusUpdates();
         Mockito.doReturn(NAMESPACE).when(config).namespace();
         Mockito.doReturn(true).when(config).useFinalizer();
         Mockito.doReturn(false).when(config).enableAdditionalMetrics();
@@ -403,7 +410,7 @@ class BatchingTopicControllerTest {
         
         // run test
         var metricsHolder = new TopicOperatorMetricsHolder(RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
-        var controller = new BatchingTopicController(config, Map.of("key", "VALUE"), kafkaAdminClient, kubernetesClient, metricsHolder, new ReplicasChangeHandler(config, metricsHolder));
+        var controller = new BatchingTopicController(config, Map.of("key", "VALUE"), kafkaAdminClient, kubernetesClient, itemStore, metricsHolder, new ReplicasChangeHandler(config, metricsHolder));
         var results = controller.checkReplicasChanges(reconcilableTopics, currentStatesOrError);
 
         assertThat(results.ok().count(), is(1L));
@@ -417,6 +424,7 @@ class BatchingTopicControllerTest {
 
         // setup: pending with .spec.replicas == uniqueReplicationFactor
         var config = Mockito.mock(TopicOperatorConfig.class);
+        Mockito.doReturn(1).when(config).maxInflightStatusUpdates();
         Mockito.doReturn(NAMESPACE).when(config).namespace();
         Mockito.doReturn(true).when(config).useFinalizer();
         Mockito.doReturn(false).when(config).enableAdditionalMetrics();
@@ -469,7 +477,7 @@ class BatchingTopicControllerTest {
 
         // run test
         var metricsHolder = new TopicOperatorMetricsHolder(RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
-        var controller = new BatchingTopicController(config, Map.of("key", "VALUE"), kafkaAdminClient, kubernetesClient, metricsHolder, new ReplicasChangeHandler(config, metricsHolder));
+        var controller = new BatchingTopicController(config, Map.of("key", "VALUE"), kafkaAdminClient, kubernetesClient, itemStore, metricsHolder, new ReplicasChangeHandler(config, metricsHolder));
         var results = controller.checkReplicasChanges(reconcilableTopics, currentStatesOrError);
         
         assertThat(results.ok().count(), is(1L));
@@ -487,7 +495,7 @@ class BatchingTopicControllerTest {
         ));
 
         var metricsHolder = new TopicOperatorMetricsHolder(RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
-        new BatchingTopicController(config, Map.of("key", "VALUE"), kafkaAdminClient, kubernetesClient, metricsHolder, new ReplicasChangeHandler(config, metricsHolder));
+        new BatchingTopicController(config, Map.of("key", "VALUE"), kafkaAdminClient, kubernetesClient, itemStore, metricsHolder, new ReplicasChangeHandler(config, metricsHolder));
         
         verifyNoInteractions(kafkaAdminClient);
     }
@@ -519,12 +527,13 @@ class BatchingTopicControllerTest {
                   .build()).create();
 
         var config = Mockito.mock(TopicOperatorConfig.class);
+        Mockito.doReturn(1).when(config).maxInflightStatusUpdates();
         Mockito.doReturn(NAMESPACE).when(config).namespace();
         Mockito.doReturn(true).when(config).skipClusterConfigReview();
         Mockito.doReturn(alterableTopicConfig).when(config).alterableTopicConfig();
 
         var metricsHolder = new TopicOperatorMetricsHolder(RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
-        var controller = new BatchingTopicController(config, Map.of("key", "VALUE"), kafkaAdminClient, kubernetesClient, metricsHolder, new ReplicasChangeHandler(config, metricsHolder));
+        var controller = new BatchingTopicController(config, Map.of("key", "VALUE"), kafkaAdminClient, kubernetesClient, itemStore, metricsHolder, new ReplicasChangeHandler(config, metricsHolder));
         
         var reconcilableTopics = List.of(TopicOperatorTestUtil.reconcilableTopic(kafkaTopic, NAMESPACE));
         controller.onUpdate(reconcilableTopics);
@@ -566,12 +575,13 @@ class BatchingTopicControllerTest {
                     .build()).create();
 
         var config = Mockito.mock(TopicOperatorConfig.class);
+        Mockito.doReturn(1).when(config).maxInflightStatusUpdates();
         Mockito.doReturn(NAMESPACE).when(config).namespace();
         Mockito.doReturn(true).when(config).skipClusterConfigReview();
         Mockito.doReturn(alterableTopicConfig).when(config).alterableTopicConfig();
 
         var metricsHolder = new TopicOperatorMetricsHolder(RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
-        var controller = new BatchingTopicController(config, Map.of("key", "VALUE"), kafkaAdminClient, kubernetesClient, metricsHolder, new ReplicasChangeHandler(config, metricsHolder));
+        var controller = new BatchingTopicController(config, Map.of("key", "VALUE"), kafkaAdminClient, kubernetesClient, itemStore, metricsHolder, new ReplicasChangeHandler(config, metricsHolder));
 
         var reconcilableTopics = List.of(TopicOperatorTestUtil.reconcilableTopic(kafkaTopic, NAMESPACE));
         controller.onUpdate(reconcilableTopics);
@@ -618,12 +628,13 @@ class BatchingTopicControllerTest {
                     .build()).create();
 
         var config = Mockito.mock(TopicOperatorConfig.class);
+        Mockito.doReturn(1).when(config).maxInflightStatusUpdates();
         Mockito.doReturn(NAMESPACE).when(config).namespace();
         Mockito.doReturn(true).when(config).skipClusterConfigReview();
         Mockito.doReturn(alterableTopicConfig).when(config).alterableTopicConfig();
 
         var metricsHolder = new TopicOperatorMetricsHolder(RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
-        var controller = new BatchingTopicController(config, Map.of("key", "VALUE"), kafkaAdminClient, kubernetesClient, metricsHolder, new ReplicasChangeHandler(config, metricsHolder));
+        var controller = new BatchingTopicController(config, Map.of("key", "VALUE"), kafkaAdminClient, kubernetesClient, itemStore, metricsHolder, new ReplicasChangeHandler(config, metricsHolder));
 
         var reconcilableTopics = List.of(TopicOperatorTestUtil.reconcilableTopic(kafkaTopic, NAMESPACE));
         controller.onUpdate(reconcilableTopics);
@@ -0,0 +1,238 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.operator.topic.KafkaMetadataWatcher.TopicMetadata;
+import io.strimzi.operator.topic.model.TopicEvent;
+import io.strimzi.operator.topic.model.TopicEvent.TopicUpsert;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DescribeTopicsOptions;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicCollection;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.Uuid;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+
+class KafkaMetadataWatcherTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    private static KafkaTopic kafkaTopic(String name, String topicName) {
+        return new KafkaTopicBuilder()
+            .withNewMetadata()
+                .withNamespace(NAMESPACE)
+                .withName(name)
+                .withResourceVersion("100100")
+            .endMetadata()
+            .withNewSpec()
+                .withTopicName(topicName)
+            .endSpec()
+            .build();
+    }
+
+    private static KafkaTopic unmanagedKafkaTopic(String name, String topicName) {
+        return new KafkaTopicBuilder(kafkaTopic(name, topicName))
+            .editMetadata()
+                .withAnnotations(Map.of(TopicOperatorUtil.MANAGED, "false"))
+            .endMetadata()
+            .build();
+    }
+
+    /**
+     * Topic in the mocked Kafka metadata
+     */
+    private record KafkaTopicMetadata(String name, Uuid topicId, int partitions) { }
+
+    private static KafkaTopicMetadata topic(String name, Uuid topicId, int partitions) {
+        return new KafkaTopicMetadata(name, topicId, partitions);
+    }
+
+    private static void mockMetadata(Admin admin, KafkaTopicMetadata... topics) {
+        var listTopicsResult = Mockito.mock(ListTopicsResult.class);
+        Mockito.doReturn(KafkaFuture.completedFuture(Stream.of(topics)
+            .map(topic -> new TopicListing(topic.name(), topic.topicId(), false)).toList())).when(listTopicsResult).listings();
+        Mockito.doReturn(listTopicsResult).when(admin).listTopics();
+
+        Mockito.doAnswer(invocation -> {
+            TopicCollection.TopicNameCollection names = invocation.getArgument(0);
+            Map<String, KafkaFuture<TopicDescription>> descriptions = new HashMap<>();
+
+            for (String name : names.topicNames()) {
+                var topic = Stream.of(topics).filter(t -> t.name().equals(name)).findFirst();
+                if (topic.isPresent()) {
+                    descriptions.put(name, KafkaFuture.completedFuture(new TopicDescription(name, false,
+                        IntStream.range(0, topic.get().partitions()).mapToObj(p -> new TopicPartitionInfo(p, null, List.of(), List.of())).toList(),
+                        Set.of(), topic.get().topicId())));
+                } else {
+                    var future = new KafkaFutureImpl<TopicDescription>();
+                    future.completeExceptionally(new UnknownTopicOrPartitionException());
+                    descriptions.put(name, future);
+                }
+            }
+
+            var describeTopicsResult = Mockito.mock(DescribeTopicsResult.class);
+            Mockito.doReturn(descriptions).when(describeTopicsResult).topicNameValues();
+            return describeTopicsResult;
+        }).when(admin).describeTopics(any(TopicCollection.class), any(DescribeTopicsOptions.class));
+    }
+
+    @Test
+    void shouldFindChangedTopics() {
+        var id0 = Uuid.randomUuid();
+        var id1 = Uuid.randomUuid();
+        var id2 = Uuid.randomUuid();
+        var id3 = Uuid.randomUuid();
+        var previous = Map.of(
+            "unchanged", new TopicMetadata(id0, 3),
+            "unmanaged", new TopicMetadata(id1, TopicMetadata.UNKNOWN_PARTITIONS),
+            "recreated", new TopicMetadata(id2, 3),
+            "partitions", new TopicMetadata(id3, 3),
+            "deleted", new TopicMetadata(Uuid.randomUuid(), 3));
+        var current = Map.of(
+            "unchanged", new TopicMetadata(id0, 3),
+            "unmanaged", new TopicMetadata(id1, TopicMetadata.UNKNOWN_PARTITIONS),
+            "recreated", new TopicMetadata(Uuid.randomUuid(), 3),
+            "partitions", new TopicMetadata(id3, 6),
+            "created", new TopicMetadata(Uuid.randomUuid(), 1));
+
+        assertEquals(Set.of("recreated", "partitions", "deleted", "created"), KafkaMetadataWatcher.changedTopics(previous, current));
+        assertEquals(Set.of(), KafkaMetadataWatcher.changedTopics(current, current));
+    }
+
+    @Test
+    void shouldEnqueueKafkaTopicsOfChangedTopics() {
+        var itemStore = new BasicItemStore<KafkaTopic>(Cache::metaNamespaceKeyFunc);
+        itemStore.put(Cache.namespaceKeyFunc(NAMESPACE, "kt-a"), kafkaTopic("kt-a", "topic-a"));
+        itemStore.put(Cache.namespaceKeyFunc(NAMESPACE, "kt-b"), kafkaTopic("kt-b", "topic-b"));
+        itemStore.put(Cache.namespaceKeyFunc(NAMESPACE, "kt-c"), kafkaTopic("kt-c", "topic-c"));
+        itemStore.put(Cache.namespaceKeyFunc(NAMESPACE, "kt-d"), kafkaTopic("kt-d", "topic-d"));
+
+        var admin = Mockito.mock(Admin.class);
+        var queue = Mockito.mock(BatchingLoop.class);
+        var watcher = new KafkaMetadataWatcher(admin, itemStore, queue, 1_000);
+
+        var idA = Uuid.randomUuid();
+        var idB = Uuid.randomUuid();
+        var idC = Uuid.randomUuid();
+        var idD = Uuid.randomUuid();
+
+        // The first snapshot is only the baseline
+        mockMetadata(admin, topic("topic-a", idA, 3), topic("topic-b", idB, 3), topic("topic-c", idC, 3), topic("topic-d", idD, 3));
+        watcher.poll();
+        Mockito.verifyNoInteractions(queue);
+
+        // No change
+        watcher.poll();
+        Mockito.verifyNoInteractions(queue);
+
+        // topic-a re-created, topic-c deleted and topic-d got more partitions in Kafka
+        mockMetadata(admin, topic("topic-a", Uuid.randomUuid(), 3), topic("topic-b", idB, 3), topic("topic-d", idD, 6));
+        watcher.poll();
+
+        var captor = ArgumentCaptor.forClass(TopicEvent.class);
+        Mockito.verify(queue, Mockito.times(3)).offer(captor.capture());
+        assertEquals(Set.of("kt-a", "kt-c", "kt-d"), captor.getAllValues().stream()
+            .map(event -> ((TopicUpsert) event).name()).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void shouldDescribeOnlyManagedTopics() {
+        var itemStore = new BasicItemStore<KafkaTopic>(Cache::metaNamespaceKeyFunc);
+        itemStore.put(Cache.namespaceKeyFunc(NAMESPACE, "kt-a"), kafkaTopic("kt-a", "topic-a"));
+        itemStore.put(Cache.namespaceKeyFunc(NAMESPACE, "kt-b"), unmanagedKafkaTopic("kt-b", "topic-b"));
+        itemStore.put(Cache.namespaceKeyFunc(NAMESPACE, "kt-missing"), kafkaTopic("kt-missing", "topic-missing"));
+
+        var admin = Mockito.mock(Admin.class);
+        var queue = Mockito.mock(BatchingLoop.class);
+        var watcher = new KafkaMetadataWatcher(admin, itemStore, queue, 1_000);
+
+        mockMetadata(admin, topic("topic-a", Uuid.randomUuid(), 3), topic("topic-b", Uuid.randomUuid(), 3), topic("topic-c", Uuid.randomUuid(), 3));
+        watcher.poll();
+
+        // Only the managed topics which exist in Kafka are described and without the authorized operations
+        var topicsCaptor = ArgumentCaptor.forClass(TopicCollection.class);
+        var optionsCaptor = ArgumentCaptor.forClass(DescribeTopicsOptions.class);
+        Mockito.verify(admin).describeTopics(topicsCaptor.capture(), optionsCaptor.capture());
+        assertEquals(Set.of("topic-a"), Set.copyOf(((TopicCollection.TopicNameCollection) topicsCaptor.getValue()).topicNames()));
+        assertFalse(optionsCaptor.getValue().includeAuthorizedOperations());
+    }
+
+    @Test
+    void shouldTreatTopicDeletedBeforeDescribeAsDeleted() {
+        var itemStore = new BasicItemStore<KafkaTopic>(Cache::metaNamespaceKeyFunc);
+        itemStore.put(Cache.namespaceKeyFunc(NAMESPACE, "kt-a"), kafkaTopic("kt-a", "topic-a"));
+
+        var admin = Mockito.mock(Admin.class);
+        var queue = Mockito.mock(BatchingLoop.class);
+        var watcher = new KafkaMetadataWatcher(admin, itemStore, queue, 1_000);
+
+        mockMetadata(admin, topic("topic-a", Uuid.randomUuid(), 3));
+        watcher.poll();
+
+        // topic-a is still listed, but it is deleted before it is described
+        var listTopicsResult = Mockito.mock(ListTopicsResult.class);
+        Mockito.doReturn(KafkaFuture.completedFuture(List.of(new TopicListing("topic-a", Uuid.randomUuid(), false)))).when(listTopicsResult).listings();
+        Mockito.doReturn(listTopicsResult).when(admin).listTopics();
+        var future = new KafkaFutureImpl<TopicDescription>();
+        future.completeExceptionally(new UnknownTopicOrPartitionException());
+        var describeTopicsResult = Mockito.mock(DescribeTopicsResult.class);
+        Mockito.doReturn(Map.of("topic-a", future)).when(describeTopicsResult).topicNameValues();
+        Mockito.doReturn(describeTopicsResult).when(admin).describeTopics(any(TopicCollection.class), any(DescribeTopicsOptions.class));
+        watcher.poll();
+
+        Mockito.verify(queue).offer(new TopicUpsert(0, NAMESPACE, "kt-a", "100100"));
+    }
+
+    @Test
+    void shouldKeepLastSnapshotWhenPollFails() {
+        var itemStore = new BasicItemStore<KafkaTopic>(Cache::metaNamespaceKeyFunc);
+        itemStore.put(Cache.namespaceKeyFunc(NAMESPACE, "kt-a"), kafkaTopic("kt-a", "topic-a"));
+
+        var admin = Mockito.mock(Admin.class);
+        var queue = Mockito.mock(BatchingLoop.class);
+        var watcher = new KafkaMetadataWatcher(admin, itemStore, queue, 1_000);
+
+        var idA = Uuid.randomUuid();
+        mockMetadata(admin, topic("topic-a", idA, 3));
+        watcher.poll();
+
+        // The failed poll does not replace the baseline
+        var listTopicsResult = Mockito.mock(ListTopicsResult.class);
+        Mockito.doReturn(KafkaFuture.completedFuture(null).thenApply(v -> {
+            throw new RuntimeException("Kafka not available");
+        })).when(listTopicsResult).listings();
+        Mockito.doReturn(listTopicsResult).when(admin).listTopics();
+        watcher.poll();
+        Mockito.verifyNoInteractions(queue);
+
+        // The topic was re-created in the meantime
+        mockMetadata(admin, topic("topic-a", Uuid.randomUuid(), 3));
+        watcher.poll();
+        Mockito.verify(queue).offer(new TopicUpsert(0, NAMESPACE, "kt-a", "100100"));
+    }
+}
@@ -1283,10 +1283,11 @@ class TopicControllerIT {
             kafkaCluster.getBootstrapServers(),
             TopicControllerIT.class.getSimpleName(),
             fullReconciliationIntervalMs,
+            0,
             false, "", "", "", "", "",
             false, "", "", "", "", "",
             useFinalizer,
-            100, 100, 10, false, new FeatureGates(""),
+            100, 100, 10, 10, false, new FeatureGates(""),
             false, false, "", 9090, false, false, "", "", "",
             "all", false);
     }
@@ -2052,7 +2053,7 @@ class TopicControllerIT {
     }
 
     @Test
-    public void shouldTerminateIfQueueFull(
+    public void shouldThrottleIfQueueFull(
         @BrokerConfig(name = "auto.create.topics.enable", value = "false")
         @BrokerConfig(name = "num.partitions", value = "4")
         @BrokerConfig(name = "default.replication.factor", value = "1")
@@ -2063,11 +2064,11 @@ class TopicControllerIT {
         String ns = createNamespace(NAMESPACE);
 
         var config = new TopicOperatorConfig(ns, Labels.fromMap(SELECTOR),
-            kafkaCluster.getBootstrapServers(), TopicControllerIT.class.getSimpleName(), 10_000,
+            kafkaCluster.getBootstrapServers(), TopicControllerIT.class.getSimpleName(), 10_000, 0,
             false, "", "", "", "", "",
             false, "", "", "", "", "",
             true,
-            1, 100, 5_0000, false, new FeatureGates(""),
+            1, 100, 5_0000, 10, false, new FeatureGates(""),
             false, false, "", 9090, false, false, "", "", "",
             "all", false);
 
@@ -2089,8 +2090,8 @@ class TopicControllerIT {
         operator.queue.stop();
 
         try (var logCaptor = LogCaptor.logMessageMatches(BatchingLoop.LOGGER,
-            Level.ERROR,
-            "Queue length 1 exceeded, stopping operator. Please increase STRIMZI_MAX_QUEUE_SIZE environment variable",
+            Level.WARN,
+            "Queue length 1 exceeded, waiting for the queue to drain. Consider increasing STRIMZI_MAX_QUEUE_SIZE environment variable.",
             5L,
             TimeUnit.SECONDS)) {
 
@@ -2100,10 +2101,11 @@ class TopicControllerIT {
         }
 
         // then
-        assertNull(operator.shutdownHook, "Expect the operator to shutdown");
+        assertNotNull(operator.shutdownHook, "Expect the operator to keep running");
 
-        // finally, because the @After method of this class asserts that the operator is running
+        // finally, because the @After method of this class asserts that the loop is running
         // we start a new operator
+        operator.stop();
         kafkaAdminClient = null;
         kafkaAdminClientOp = null;
         operator = null;
@@ -0,0 +1,262 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.operator.topic.model.TopicEvent;
+import io.strimzi.operator.topic.model.TopicEvent.TopicDelete;
+import io.strimzi.operator.topic.model.TopicEvent.TopicUpsert;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TopicEventQueueTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    private static TopicUpsert upsert(long nanos, String name, String resourceVersion) {
+        return new TopicUpsert(nanos, NAMESPACE, name, resourceVersion);
+    }
+
+    private static TopicDelete delete(long nanos, String name) {
+        return new TopicDelete(nanos, new KafkaTopicBuilder()
+            .withNewMetadata()
+                .withNamespace(NAMESPACE)
+                .withName(name)
+            .endMetadata()
+            .build());
+    }
+
+    private static TopicEvent poll(TopicEventQueue queue) throws InterruptedException {
+        return queue.poll(0, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void shouldRejectNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new TopicEventQueue(0));
+    }
+
+    @Test
+    void shouldReturnEventsInFifoOrder() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        assertTrue(queue.offer(upsert(1, "t0", "1"), 0, TimeUnit.MILLISECONDS));
+        assertTrue(queue.offer(upsert(2, "t1", "1"), 0, TimeUnit.MILLISECONDS));
+        assertTrue(queue.offer(upsert(3, "t2", "1"), 0, TimeUnit.MILLISECONDS));
+        assertEquals(3, queue.size());
+
+        assertEquals("t0", ((TopicUpsert) poll(queue)).name());
+        assertEquals("t1", ((TopicUpsert) poll(queue)).name());
+        assertEquals("t2", ((TopicUpsert) poll(queue)).name());
+        assertNull(poll(queue));
+    }
+
+    @Test
+    void shouldCoalesceUpserts() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        queue.offer(upsert(1, "t0", "1"), 0, TimeUnit.MILLISECONDS);
+        queue.offer(upsert(2, "t1", "1"), 0, TimeUnit.MILLISECONDS);
+        queue.offer(upsert(3, "t0", "2"), 0, TimeUnit.MILLISECONDS);
+        assertEquals(2, queue.size());
+
+        // The coalesced upsert keeps the position and the start time of the first one
+        var first = (TopicUpsert) poll(queue);
+        assertEquals("t0", first.name());
+        assertEquals("2", first.resourceVersion());
+        assertEquals(1, first.nanosStartOffset());
+        assertEquals("t1", ((TopicUpsert) poll(queue)).name());
+        assertNull(poll(queue));
+    }
+
+    @Test
+    void shouldReplaceUpsertWithDelete() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        queue.offer(upsert(1, "t0", "1"), 0, TimeUnit.MILLISECONDS);
+        queue.offer(delete(2, "t0"), 0, TimeUnit.MILLISECONDS);
+        assertEquals(1, queue.size());
+
+        assertInstanceOf(TopicDelete.class, poll(queue));
+        assertNull(poll(queue));
+    }
+
+    @Test
+    void shouldReturnUpsertAfterDelete() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        queue.offer(delete(1, "t0"), 0, TimeUnit.MILLISECONDS);
+        queue.offer(upsert(2, "t1", "1"), 0, TimeUnit.MILLISECONDS);
+        queue.offer(upsert(3, "t0", "5"), 0, TimeUnit.MILLISECONDS);
+        queue.offer(upsert(4, "t0", "6"), 0, TimeUnit.MILLISECONDS);
+        assertEquals(2, queue.size());
+
+        // The re-created topic goes to the end of the queue once the delete was taken
+        assertInstanceOf(TopicDelete.class, poll(queue));
+        assertEquals("t1", ((TopicUpsert) poll(queue)).name());
+        var recreated = (TopicUpsert) poll(queue);
+        assertEquals("t0", recreated.name());
+        assertEquals("6", recreated.resourceVersion());
+        assertEquals(3, recreated.nanosStartOffset());
+        assertNull(poll(queue));
+    }
+
+    @Test
+    void shouldDropUpsertAfterDeleteWhenDeletedAgain() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        queue.offer(delete(1, "t0"), 0, TimeUnit.MILLISECONDS);
+        queue.offer(upsert(2, "t0", "5"), 0, TimeUnit.MILLISECONDS);
+        queue.offer(delete(3, "t0"), 0, TimeUnit.MILLISECONDS);
+
+        var deleted = poll(queue);
+        assertInstanceOf(TopicDelete.class, deleted);
+        assertEquals(3, ((TopicDelete) deleted).nanosStartOffset());
+        assertNull(poll(queue));
+    }
+
+    @Test
+    void shouldPutOlderDeleteBeforePendingUpsert() throws InterruptedException {
+        // The KafkaTopic was deleted while it was being reconciled (the delete was parked) and created again
+        var queue = new TopicEventQueue(10);
+        queue.offer(upsert(2, "t0", "6"), 0, TimeUnit.MILLISECONDS);
+        queue.offer(upsert(3, "t1", "1"), 0, TimeUnit.MILLISECONDS);
+
+        // The parked delete is released when the reconciliation finishes
+        queue.addOlder(delete(1, "t0"));
+        assertEquals(2, queue.size());
+
+        var deleted = poll(queue);
+        assertInstanceOf(TopicDelete.class, deleted);
+        assertEquals(1, ((TopicDelete) deleted).nanosStartOffset());
+        assertEquals("t1", ((TopicUpsert) poll(queue)).name());
+
+        // The re-created topic is not lost
+        var recreated = (TopicUpsert) poll(queue);
+        assertEquals("t0", recreated.name());
+        assertEquals("6", recreated.resourceVersion());
+        assertNull(poll(queue));
+    }
+
+    @Test
+    void shouldKeepPendingResourceVersionForOlderUpsert() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        queue.offer(upsert(2, "t0", "6"), 0, TimeUnit.MILLISECONDS);
+
+        queue.addOlder(upsert(1, "t0", "5"));
+        assertEquals(1, queue.size());
+
+        var upsert = (TopicUpsert) poll(queue);
+        assertEquals("6", upsert.resourceVersion());
+        assertEquals(1, upsert.nanosStartOffset());
+        assertNull(poll(queue));
+    }
+
+    @Test
+    void shouldDropOlderEventsWhenDeleteIsPending() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        queue.offer(delete(3, "t0"), 0, TimeUnit.MILLISECONDS);
+
+        queue.addOlder(upsert(2, "t0", "5"));
+        queue.addOlder(delete(1, "t0"));
+
+        var deleted = poll(queue);
+        assertInstanceOf(TopicDelete.class, deleted);
+        assertEquals(3, ((TopicDelete) deleted).nanosStartOffset());
+        assertNull(poll(queue));
+    }
+
+    @Test
+    void shouldAddParkedDeleteAndUpsertFromNewest() throws InterruptedException {
+        // The BatchingLoop returns the parked events (a delete followed by an upsert) which are added from the newest
+        // to the oldest
+        var queue = new TopicEventQueue(10);
+        queue.addOlder(() -> List.of(delete(1, "t0"), upsert(2, "t0", "5")));
+
+        assertInstanceOf(TopicDelete.class, poll(queue));
+        assertEquals("5", ((TopicUpsert) poll(queue)).resourceVersion());
+        assertNull(poll(queue));
+    }
+
+    @Test
+    void shouldNotTakeNewerEventWhileOlderEventsAreAdded() throws Exception {
+        // The KafkaTopic was deleted while it was being reconciled (the delete was parked) and created again. The
+        // upsert of the re-created topic is waiting in the queue while the parked delete is being released.
+        var queue = new TopicEventQueue(10);
+        queue.offer(upsert(2, "t0", "6"), 0, TimeUnit.MILLISECONDS);
+
+        var releaseStarted = new CountDownLatch(1);
+        var finishRelease = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<?> release = executor.submit(() -> queue.addOlder(() -> {
+                releaseStarted.countDown();
+                try {
+                    finishRelease.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return List.of(delete(1, "t0"));
+            }));
+            assertTrue(releaseStarted.await(10, TimeUnit.SECONDS));
+
+            // Another thread polls concurrently with the release => it has to wait until the parked delete is back
+            Future<TopicEvent> polled = executor.submit(() -> queue.poll(10, TimeUnit.SECONDS));
+            Thread.sleep(100);
+            assertFalse(polled.isDone());
+
+            finishRelease.countDown();
+            release.get(10, TimeUnit.SECONDS);
+
+            assertInstanceOf(TopicDelete.class, polled.get(10, TimeUnit.SECONDS));
+            assertEquals("6", ((TopicUpsert) poll(queue)).resourceVersion());
+            assertNull(poll(queue));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldLimitDistinctTopics() throws InterruptedException {
+        var queue = new TopicEventQueue(2);
+        assertTrue(queue.offer(upsert(1, "t0", "1"), 0, TimeUnit.MILLISECONDS));
+        assertTrue(queue.offer(upsert(2, "t1", "1"), 0, TimeUnit.MILLISECONDS));
+
+        // A new topic does not fit into the full queue, but the events for pending topics are still coalesced
+        assertFalse(queue.offer(upsert(3, "t2", "1"), 10, TimeUnit.MILLISECONDS));
+        assertTrue(queue.offer(upsert(4, "t0", "2"), 0, TimeUnit.MILLISECONDS));
+        assertEquals(2, queue.size());
+
+        // Events which were already accepted before are added regardless of the capacity
+        queue.addOlder(upsert(5, "t3", "1"));
+        assertEquals(3, queue.size());
+    }
+
+    @Test
+    void shouldUnblockOfferWhenTopicIsTaken() throws InterruptedException {
+        var queue = new TopicEventQueue(1);
+        queue.offer(upsert(1, "t0", "1"), 0, TimeUnit.MILLISECONDS);
+
+        var consumer = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+                queue.poll(0, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+
+        assertTrue(queue.offer(upsert(2, "t1", "1"), 30, TimeUnit.SECONDS));
+        consumer.join();
+        assertEquals("t1", ((TopicUpsert) poll(queue)).name());
+    }
+}
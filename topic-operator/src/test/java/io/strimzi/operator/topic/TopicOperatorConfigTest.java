@@ -375,6 +375,51 @@ class TopicOperatorConfigTest {
         assertEquals("ALL", config.alterableTopicConfig());
     }
 
+    @Test
+    void shouldPollKafkaMetadataByDefault() {
+        var config = TopicOperatorConfig.buildFromMap(Map.of(
+              TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+              TopicOperatorConfig.NAMESPACE.key(), NAMESPACE
+        ));
+        assertEquals(30_000L, config.kafkaMetadataPollIntervalMs());
+
+        config = TopicOperatorConfig.buildFromMap(Map.of(
+              TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+              TopicOperatorConfig.NAMESPACE.key(), NAMESPACE,
+              TopicOperatorConfig.KAFKA_METADATA_POLL_INTERVAL_MS.key(), "0"
+        ));
+        assertEquals(0L, config.kafkaMetadataPollIntervalMs());
+
+        var negative = Map.of(
+              TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+              TopicOperatorConfig.NAMESPACE.key(), NAMESPACE,
+              TopicOperatorConfig.KAFKA_METADATA_POLL_INTERVAL_MS.key(), "-1"
+        );
+        assertThrows(InvalidConfigurationException.class, () -> TopicOperatorConfig.buildFromMap(negative));
+    }
+
+    @Test
+    void shouldLimitInflightStatusUpdates() {
+        var config = TopicOperatorConfig.buildFromMap(Map.of(
+              TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+              TopicOperatorConfig.NAMESPACE.key(), NAMESPACE
+        ));
+        assertEquals(10, config.maxInflightStatusUpdates());
+
+        config = TopicOperatorConfig.buildFromMap(Map.of(
+              TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+              TopicOperatorConfig.NAMESPACE.key(), NAMESPACE,
+              TopicOperatorConfig.MAX_INFLIGHT_STATUS_UPDATES.key(), "25"
+        ));
+        assertEquals(25, config.maxInflightStatusUpdates());
+
+        assertThrows(InvalidConfigurationException.class, () -> TopicOperatorConfig.buildFromMap(Map.of(
+              TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+              TopicOperatorConfig.NAMESPACE.key(), NAMESPACE,
+              TopicOperatorConfig.MAX_INFLIGHT_STATUS_UPDATES.key(), "0"
+        )));
+    }
+
     @Test
     public void testDefaultFeatureGates()    {
         TopicOperatorConfig config = TopicOperatorConfig.buildFromMap(Map.of(TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234", TopicOperatorConfig.NAMESPACE.key(), NAMESPACE));
@@ -5,6 +5,8 @@
 package io.strimzi.operator.topic;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.fabric8.kubernetes.client.informers.cache.ItemStore;
 import io.kroxylicious.testing.kafka.api.KafkaCluster;
 import io.kroxylicious.testing.kafka.junit5ext.KafkaClusterExtension;
@@ -60,6 +62,7 @@ import static io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder.METRI
 import static io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder.METRICS_RECONCILIATIONS_MAX_BATCH_SIZE;
 import static io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder.METRICS_RECONCILIATIONS_MAX_QUEUE_SIZE;
 import static io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder.METRICS_REMOVE_FINALIZER_DURATION;
+import static io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder.METRICS_UPDATE_STATUSES_DURATION;
 import static io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder.METRICS_UPDATE_TOPICS_DURATION;
 import static java.lang.String.format;
 import static org.hamcrest.CoreMatchers.is;
@@ -150,11 +153,10 @@ public class TopicOperatorMetricsTest {
     public void batchingLoopMetrics() throws InterruptedException {
         var controller = mock(BatchingTopicController.class);
         var itemStore = mock(ItemStore.class);
-        var stop = mock(Runnable.class);
         var metricsHolder = new TopicOperatorMetricsHolder(RESOURCE_KIND, null,
             new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
         var batchingLoop = new BatchingLoop(MAX_QUEUE_SIZE, controller, 1, 
-            MAX_BATCH_SIZE, MAX_BATCH_LINGER_MS, itemStore, stop, metricsHolder, NAMESPACE);
+            MAX_BATCH_SIZE, MAX_BATCH_LINGER_MS, itemStore, metricsHolder, NAMESPACE);
         batchingLoop.start();
         
         int numOfTestResources = 100;
@@ -195,7 +197,8 @@ public class TopicOperatorMetricsTest {
 
         var metricsHolder = new TopicOperatorMetricsHolder(RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
         var replicasChangeHandler = new ReplicasChangeHandler(config, metricsHolder, cruiseControlClient);
-        var controller = new BatchingTopicController(config, Map.of("key", "VALUE"), kafkaAdminClient, kubernetesClient, metricsHolder, replicasChangeHandler);
+        var itemStore = new BasicItemStore<KafkaTopic>(Cache::metaNamespaceKeyFunc);
+        var controller = new BatchingTopicController(config, Map.of("key", "VALUE"), kafkaAdminClient, kubernetesClient, itemStore, metricsHolder, replicasChangeHandler);
 
         // create topics
         var t1 = createTopic("my-topic-a");
@@ -214,6 +217,7 @@ public class TopicOperatorMetricsTest {
         assertMetricMatches(metricsHolder, METRICS_DESCRIBE_CONFIGS_DURATION, "timer", greaterThan(0.0));
         assertMetricMatches(metricsHolder, METRICS_CREATE_TOPICS_DURATION, "timer", greaterThan(0.0));
         assertMetricMatches(metricsHolder, METRICS_ADD_FINALIZER_DURATION, "timer", greaterThan(0.0));
+        assertMetricMatches(metricsHolder, METRICS_UPDATE_STATUSES_DURATION, "timer", greaterThan(0.0));
 
         // config change
         var t1ConfigChanged = updateTopic(TopicOperatorUtil.topicName(t1), kt -> {
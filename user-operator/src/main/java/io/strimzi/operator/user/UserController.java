@@ -103,7 +103,7 @@ public class UserController implements Liveness, Readiness {
         this.metrics = new ControllerMetricsHolder(RESOURCE_KIND, Labels.fromMap(userSelector), metricsProvider);
 
         // Set up the work queue
-        this.workQueue = new ControllerQueue(config.getWorkQueueSize(), this.metrics);
+        this.workQueue = new ControllerQueue(config.getWorkQueueSize(), watchedNamespace, this.metrics);
 
         // Secret informer and lister is used to get events about Secrets and get Secrets quickly
         this.secretInformer = secretOperator.informer(watchedNamespace, secretSelector, DEFAULT_RESYNC_PERIOD_MS);
@@ -4,7 +4,9 @@
  */
 package io.strimzi.operator.user;
 
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.config.ConfigParameter;
+import io.strimzi.operator.common.config.ConfigParameterParser;
 import io.strimzi.operator.common.featuregates.FeatureGates;
 import io.strimzi.operator.common.model.Labels;
 
@@ -117,10 +119,19 @@ public class UserOperatorConfig {
      * Maximal batch time for micro-batching the Kafka Admin API requests
      */
     public static final ConfigParameter<Integer> BATCH_MAXIMUM_BLOCK_TIME_MS = new ConfigParameter<>("STRIMZI_BATCH_MAXIMUM_BLOCK_TIME_MS", strictlyPositive(INTEGER), "100", CONFIG_VALUES);
+    /**
+     * Enables tuning of the batch size and batch time from the Kafka Admin API latency and the queue depth. The
+     * maximal batch size and time are used as the upper bounds.
+     */
+    public static final ConfigParameter<Boolean> BATCH_ADAPTIVE = new ConfigParameter<>("STRIMZI_BATCH_ADAPTIVE", BOOLEAN, "false", CONFIG_VALUES);
     /**
      * Size of the thread pool for user operations done by KafkaUserOperator and the classes used by it
      */
     public static final ConfigParameter<Integer> USER_OPERATIONS_THREAD_POOL_SIZE = new ConfigParameter<>("STRIMZI_USER_OPERATIONS_THREAD_POOL_SIZE", INTEGER, "4", CONFIG_VALUES);
+    /**
+     * Size of the thread pool used to issue the user certificates
+     */
+    public static final ConfigParameter<Integer> CERTIFICATE_ISSUANCE_THREAD_POOL_SIZE = new ConfigParameter<>("STRIMZI_CERTIFICATE_ISSUANCE_THREAD_POOL_SIZE", strictlyPositive(INTEGER), "4", CONFIG_VALUES);
     /**
      * Additional configuration for the Kafka Admin Client
      */
@@ -133,6 +144,10 @@ public class UserOperatorConfig {
      * Configuration string with feature gates settings
      */
     public static final ConfigParameter<FeatureGates> FEATURE_GATES = new ConfigParameter<>("STRIMZI_FEATURE_GATES", parseFeatureGates(), "", CONFIG_VALUES);
+    /**
+     * The CertManager implementation used to issue the user certificates
+     */
+    public static final ConfigParameter<CertManagerType> CERT_MANAGER_TYPE = new ConfigParameter<>("STRIMZI_CERT_MANAGER_TYPE", ConfigParameterParser.CERT_MANAGER_TYPE, "openssl", CONFIG_VALUES);
 
     private final Map<String, Object> map;
 
@@ -351,6 +366,13 @@ public class UserOperatorConfig {
         return get(BATCH_MAXIMUM_BLOCK_TIME_MS);
     }
 
+    /**
+     * @return  Indicates whether the batch size and batch time are tuned from the Kafka Admin API latency
+     */
+    public boolean isBatchAdaptive() {
+        return get(BATCH_ADAPTIVE);
+    }
+
     /**
      * @return Size of the thread pool for user operations done by KafkaUserOperator and the classes used by it
      */
@@ -358,6 +380,13 @@ public class UserOperatorConfig {
         return get(USER_OPERATIONS_THREAD_POOL_SIZE);
     }
 
+    /**
+     * @return Size of the thread pool used to issue the user certificates
+     */
+    public int getCertificateIssuanceThreadPoolSize() {
+        return get(CERTIFICATE_ISSUANCE_THREAD_POOL_SIZE);
+    }
+
     /**
      * @return The number of certificates validity days.
      */
@@ -372,6 +401,13 @@ public class UserOperatorConfig {
         return get(CERTS_RENEWAL_DAYS);
     }
 
+    /**
+     * @return  The type of the CertManager used to issue the user certificates
+     */
+    public CertManagerType getCertManagerType() {
+        return get(CERT_MANAGER_TYPE);
+    }
+
     /**
      * @return  Feature gates configuration
      */
@@ -405,7 +441,10 @@ public class UserOperatorConfig {
                 "\n\tbatchQueueSize=" + getBatchQueueSize() +
                 "\n\tbatchMaxBlockSize=" + getBatchMaxBlockSize() +
                 "\n\tbatchMaxBlockTime=" + getBatchMaxBlockTime() +
+                "\n\tbatchAdaptive=" + isBatchAdaptive() +
                 "\n\tuserOperationsThreadPoolSize=" + getUserOperationsThreadPoolSize() +
+                "\n\tcertificateIssuanceThreadPoolSize=" + getCertificateIssuanceThreadPoolSize() +
+                "\n\tcertManagerType='" + getCertManagerType() + '\'' +
                 "\n\tfeatureGates='" + featureGates() + "'" +
                 '}';
     }
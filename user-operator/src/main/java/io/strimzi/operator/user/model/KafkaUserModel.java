@@ -67,6 +67,7 @@ public class KafkaUserModel {
     protected KafkaUserAuthentication authentication;
     protected String caCert;
     protected CertAndKey userCertAndKey;
+    protected boolean newCertificate = false;
     protected String scramSha512Password;
     protected Set<SimpleAclRule> simpleAclRules = null;
 
@@ -279,7 +280,9 @@ public class KafkaUserModel {
 
     CertAndKey generateNewCertificate(Reconciliation reconciliation, Ca clientsCa) {
         try {
-            return clientsCa.generateSignedCert(name);
+            CertAndKey certAndKey = clientsCa.generateSignedCert(name);
+            newCertificate = true;
+            return certAndKey;
         } catch (IOException e) {
             LOGGER.errorCr(reconciliation, "Error generating signed certificate for user {}", name, e);
             return null;
@@ -572,6 +575,15 @@ public class KafkaUserModel {
         this.simpleAclRules = simpleAclRules;
     }
 
+    /**
+     * Returns true if a new user certificate was generated during this reconciliation.
+     *
+     * @return true if a new user certificate was generated.
+     */
+    public boolean isNewCertificate()  {
+        return newCertificate;
+    }
+
     /**
      * Returns true if the user is using TLS authentication.
      *
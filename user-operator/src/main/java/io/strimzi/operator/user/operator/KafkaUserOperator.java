@@ -7,16 +7,21 @@ package io.strimzi.operator.user.operator;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.user.KafkaUser;
 import io.strimzi.api.kafka.model.user.KafkaUserList;
 import io.strimzi.api.kafka.model.user.KafkaUserQuotas;
 import io.strimzi.api.kafka.model.user.KafkaUserStatus;
 import io.strimzi.certs.CertManager;
 import io.strimzi.operator.common.InvalidConfigurationException;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationException;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.metrics.MetricsHolder;
 import io.strimzi.operator.common.model.InvalidResourceException;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.NamespaceAndName;
@@ -37,6 +42,9 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -46,6 +54,19 @@ import java.util.stream.Collectors;
 public class KafkaUserOperator {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaUserOperator.class.getName());
 
+    /**
+     * Metric name for the number of issued user certificates.
+     */
+    public static final String METRICS_CERTIFICATES_ISSUED = MetricsHolder.METRICS_PREFIX + "certificates.issued";
+    /**
+     * Metric name for the number of TLS users waiting for their certificates to be issued or reused.
+     */
+    public static final String METRICS_CERTIFICATES_BACKLOG = MetricsHolder.METRICS_PREFIX + "certificates.backlog";
+    /**
+     * Metric name for the time needed to issue or reuse the user certificate.
+     */
+    public static final String METRICS_CERTIFICATES_ISSUANCE = MetricsHolder.METRICS_PREFIX + "certificates.issuance";
+
     private final CertManager certManager;
     private final AdminApiOperator<Set<SimpleAclRule>, Set<String>> aclOperator;
     private final AdminApiOperator<String, List<String>> scramCredentialsOperator;
@@ -55,6 +76,10 @@ public class KafkaUserOperator {
     private final LabelSelector selector;
     private final SecretOperator secretOperator;
     private final CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> kafkaUserCrdOperator;
+    private final ExecutorService certificateIssuanceExecutor;
+    private final Counter certificatesIssuedCounter;
+    private final AtomicInteger certificatesBacklog;
+    private final Timer certificateIssuanceTimer;
 
     /**
      * Creates the instance of KafkaUserOperator
@@ -66,6 +91,7 @@ public class KafkaUserOperator {
      * @param scramCredentialsOperator For operating on SCRAM SHA credentials.
      * @param quotasOperator           For operating on Kafka User quotas.
      * @param aclOperator              For operating on ACLs.
+     * @param metricsProvider          Metrics provider used for the certificate issuance metrics
      */
     public KafkaUserOperator(
             UserOperatorConfig config,
@@ -74,7 +100,8 @@ public class KafkaUserOperator {
             CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> kafkaUserCrdOperator,
             AdminApiOperator<String, List<String>> scramCredentialsOperator,
             AdminApiOperator<KafkaUserQuotas, Set<String>> quotasOperator,
-            AdminApiOperator<Set<SimpleAclRule>, Set<String>> aclOperator
+            AdminApiOperator<Set<SimpleAclRule>, Set<String>> aclOperator,
+            MetricsProvider metricsProvider
     ) {
         this.certManager = certManager;
         this.scramCredentialsOperator = scramCredentialsOperator;
@@ -86,6 +113,16 @@ public class KafkaUserOperator {
         this.passwordGenerator = new PasswordGenerator(this.config.getScramPasswordLength());
         this.secretOperator = secretOperator;
         this.kafkaUserCrdOperator = kafkaUserCrdOperator;
+
+        // Issuing the certificates is CPU bound (RSA key generation and signing), so it uses its own thread pool to
+        // not block the threads used for the Kubernetes and Kafka operations
+        AtomicInteger threadCounter = new AtomicInteger(0);
+        this.certificateIssuanceExecutor = Executors.newFixedThreadPool(config.getCertificateIssuanceThreadPoolSize(),
+                r -> new Thread(r, "certificate-issuance-" + threadCounter.getAndIncrement()));
+
+        this.certificatesIssuedCounter = metricsProvider.counter(METRICS_CERTIFICATES_ISSUED, "Number of issued user certificates", Tags.empty());
+        this.certificatesBacklog = metricsProvider.gauge(METRICS_CERTIFICATES_BACKLOG, "Number of TLS users waiting for their certificates to be issued or reused", Tags.empty());
+        this.certificateIssuanceTimer = metricsProvider.timer(METRICS_CERTIFICATES_ISSUANCE, "Time needed to issue or reuse the user certificate", Tags.empty());
     }
 
     /**
@@ -104,6 +141,7 @@ public class KafkaUserOperator {
         quotasOperator.stop();
         aclOperator.stop();
         scramCredentialsOperator.stop();
+        certificateIssuanceExecutor.shutdownNow();
     }
 
     /**
@@ -329,18 +367,29 @@ public class KafkaUserOperator {
             .toCompletableFuture();
 
         return CompletableFuture.allOf(caCertPromise, caKeyPromise)
-                .thenRun(() -> user.maybeGenerateCertificates(
-                        reconciliation,
-                        certManager,
-                        passwordGenerator,
-                        caCertPromise.join(),
-                        caKeyPromise.join(),
-                        userSecret,
-                        config.getClientsCaValidityDays(),
-                        config.getClientsCaRenewalDays(),
-                        config.getMaintenanceWindows(),
-                        Clock.systemUTC()
-                ));
+                .thenRun(certificatesBacklog::incrementAndGet)
+                .thenRunAsync(() -> {
+                    try {
+                        certificateIssuanceTimer.record(() -> user.maybeGenerateCertificates(
+                                reconciliation,
+                                certManager,
+                                passwordGenerator,
+                                caCertPromise.join(),
+                                caKeyPromise.join(),
+                                userSecret,
+                                config.getClientsCaValidityDays(),
+                                config.getClientsCaRenewalDays(),
+                                config.getMaintenanceWindows(),
+                                Clock.systemUTC()
+                        ));
+
+                        if (user.isNewCertificate()) {
+                            certificatesIssuedCounter.increment();
+                        }
+                    } finally {
+                        certificatesBacklog.decrementAndGet();
+                    }
+                }, certificateIssuanceExecutor);
     }
 
     private CompletionStage<Secret> getRequiredSecret(String namespace, String name, Function<String, Throwable> missingSecretError) {
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
@@ -18,13 +19,19 @@ import org.apache.kafka.clients.admin.UserScramCredentialDeletion;
 import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 
 /**
@@ -41,6 +48,9 @@ public class ScramCredentialsOperator implements AdminApiOperator<String, List<S
     private final ScramShaCredentialsBatchReconciler patchReconciler;
     private final ScramShaCredentialsCache cache;
     private final ExecutorService executor;
+    // Fingerprints of the credentials upserted by this operator, used to skip upserts which would not change anything.
+    // The salt changes when the operator restarts, so the credentials of every user are upserted once after a restart.
+    private final Map<String, String> appliedFingerprints = new ConcurrentHashMap<>();
 
     /**
      * Constructor
@@ -48,15 +58,16 @@ public class ScramCredentialsOperator implements AdminApiOperator<String, List<S
      * @param adminClient   Kafka Admin client instance
      * @param config        User operator configuration
      * @param executor      Shared executor for executing async operations
+     * @param metricsProvider Metrics provider used for the cache metrics
      */
-    public ScramCredentialsOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor) {
+    public ScramCredentialsOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor, MetricsProvider metricsProvider) {
         this.executor = executor;
 
         // Create cache for querying the SCRAM-SHA Credentials locally
-        this.cache = new ScramShaCredentialsCache(adminClient, config.getCacheRefresh());
+        this.cache = new ScramShaCredentialsCache(adminClient, config.getCacheRefresh(), metricsProvider);
 
         // Create micro-batching reconciler for updating the SCRAM-SHA credentials
-        this.patchReconciler = new ScramShaCredentialsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
+        this.patchReconciler = new ScramShaCredentialsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime(), config.isBatchAdaptive(), metricsProvider);
     }
 
     /**
@@ -71,10 +82,16 @@ public class ScramCredentialsOperator implements AdminApiOperator<String, List<S
     @Override
     public CompletionStage<ReconcileResult<String>> reconcile(Reconciliation reconciliation, String username, String desired) {
         boolean exists = userExists(username);
+        String fingerprint = desired != null ? fingerprint(desired) : null;
 
         if (desired == null && !exists) {
             // Username is not found in cache so the credentials should not exist => we can ignore it.
+            appliedFingerprints.remove(username);
             return CompletableFuture.completedFuture(ReconcileResult.noop(null));
+        } else if (exists && fingerprint != null && fingerprint.equals(appliedFingerprints.get(username))) {
+            // The credentials exist and were already upserted with the same password, salt and iterations
+            LOGGER.debugCr(reconciliation, "SCRAM-SHA credentials for user {} are up to date", username);
+            return CompletableFuture.completedFuture(ReconcileResult.noop(desired));
         } else {
             // Username either does not exist yet and should be created or does not exist and should be deleted
             UserScramCredentialAlteration alteration;
@@ -98,6 +115,9 @@ public class ScramCredentialsOperator implements AdminApiOperator<String, List<S
 
             return future.handleAsync((r, e) -> {
                 if (e != null) {
+                    // The state of the credentials is not known => they will be upserted again
+                    appliedFingerprints.remove(username);
+
                     if (desired != null) {
                         LOGGER.warnCr(reconciliation, "Failed to upsert SCRAM-SHA credentials of user {}", username, e);
                     } else {
@@ -109,8 +129,11 @@ public class ScramCredentialsOperator implements AdminApiOperator<String, List<S
                     if (desired != null) {
                         LOGGER.debugCr(reconciliation, "Updated SCRAM credentials for user {}", username);
                         cache.put(username, true); // Update the cache
+                        appliedFingerprints.put(username, fingerprint);
                         return ReconcileResult.patched(desired);
                     } else {
+                        appliedFingerprints.remove(username);
+
                         if (r instanceof ReconcileResult.Noop) {
                             LOGGER.debugCr(reconciliation, "SCRAM credentials for user {} did not exist anymore", username);
                             cache.remove(username); // Update the cache
@@ -150,6 +173,26 @@ public class ScramCredentialsOperator implements AdminApiOperator<String, List<S
         }
     }
 
+    /**
+     * Calculates the fingerprint of the SCRAM-SHA credentials which would be upserted for given password. The password
+     * itself is not kept in memory, only its hash together with the mechanism, iterations and salt.
+     *
+     * @param password  The password
+     *
+     * @return  Fingerprint of the credentials
+     */
+    private static String fingerprint(String password) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(SCRAM_MECHANISM.mechanismName().getBytes(StandardCharsets.UTF_8));
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(ITERATIONS).array());
+            digest.update(SALT);
+            return Base64.getEncoder().encodeToString(digest.digest(password.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to get SHA-256 hash", e);
+        }
+    }
+
     /**
      * Utility methods which checks if the user already has some SCRAM-SHA credentials
      *
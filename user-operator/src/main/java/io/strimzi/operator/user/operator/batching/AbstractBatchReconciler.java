@@ -4,6 +4,11 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.metrics.MetricsHolder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -12,52 +17,111 @@ import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Abstract class for collecting Kafka Admin API requests and sending them to Kafka in batches. The batches are sent
- * when we collect some (configurable) amount of requests or after some (configurable) time interval
+ * when we collect some (configurable) amount of requests or after some (configurable) time interval.
+ *
+ * In the adaptive mode, the batch size which triggers the batch and the time for which the requests are collected
+ * (linger) are tuned from the observed Admin API latency and the queue depth. The configured maximal batch size and
+ * time are used as the upper bounds. When the queue is empty, the linger time is reset to the maximal batch time, so
+ * that an idle reconciler does not wake up more often than in the non-adaptive mode.
  *
  * @param <T>   The type that is reconciled by given batch reconciler instance
  */
 public abstract class AbstractBatchReconciler<T> {
     private final static Logger LOGGER = LogManager.getLogger(AbstractBatchReconciler.class);
 
-    private final BlockingQueue<T> queue;
+    /**
+     * Metric name for the size of the batches.
+     */
+    public static final String METRICS_BATCH_SIZE = MetricsHolder.METRICS_PREFIX + "batch.size";
+    /**
+     * Metric name for the time between enqueuing a request and completing its batch.
+     */
+    public static final String METRICS_BATCH_LATENCY = MetricsHolder.METRICS_PREFIX + "batch.latency";
+    /**
+     * Metric name for the current batch size target.
+     */
+    public static final String METRICS_BATCH_TARGET_SIZE = MetricsHolder.METRICS_PREFIX + "batch.target.size";
+    /**
+     * Metric name for the current batch linger time.
+     */
+    public static final String METRICS_BATCH_LINGER = MetricsHolder.METRICS_PREFIX + "batch.linger.ms";
+
+    // Weight of the latest batch in the moving average of the Admin API latency
+    private static final double LATENCY_SMOOTHING = 0.2;
+    // The linger time is never shorter than this fraction of the maximal batch time to limit the wake-ups of the batch
+    // handler thread
+    private static final int MIN_LINGER_DIVISOR = 10;
+
+    private final BlockingQueue<Queued<T>> queue;
     private final int maxBatchSize;
     private final int maxBatchTime;
+    private final boolean adaptive;
     private final Thread batchHandlerThread;
+    private final Semaphore batchReady = new Semaphore(0);
+    private final List<Queued<T>> drainBuffer; // Only accessed from the batch handler thread
 
-    private volatile CountDownLatch batchSize;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer latencyTimer;
+    private final AtomicInteger targetBatchSizeGauge;
+    private final AtomicInteger lingerGauge;
+
+    private volatile int targetBatchSize;
+    private volatile int linger;
+    private double averageLatencyMs = -1; // Guarded by this
     private volatile boolean stop = false;
 
     /**
      * Creates the BatchReconciler
      *
-     * @param name          Name of the reconciler
-     * @param queueSize     Size of the queue for queueing the reconciliation requests
-     * @param maxBatchSize  Maximal size of the batch
-     * @param maxBatchTime  Maximal time to wait before batch is executed
+     * @param name              Name of the reconciler
+     * @param queueSize         Size of the queue for queueing the reconciliation requests
+     * @param maxBatchSize      Maximal size of the batch
+     * @param maxBatchTime      Maximal time to wait before batch is executed
+     * @param adaptive          Indicates whether the batch size and time should be tuned within the maximal values
+     * @param metricsProvider   Metrics provider used for the batching metrics
      */
-    public AbstractBatchReconciler(String name, int queueSize, int maxBatchSize, int maxBatchTime) {
+    public AbstractBatchReconciler(String name, int queueSize, int maxBatchSize, int maxBatchTime, boolean adaptive, MetricsProvider metricsProvider) {
         if (maxBatchSize > queueSize)   {
             throw new IllegalArgumentException("Maximum batch size cannot be bigger than queue size");
         }
 
         this.queue = new ArrayBlockingQueue<>(queueSize);
-        this.batchSize = new CountDownLatch(0);
+        this.drainBuffer = new ArrayList<>(maxBatchSize);
         this.maxBatchSize = maxBatchSize;
         this.maxBatchTime = maxBatchTime;
+        this.adaptive = adaptive;
+        this.targetBatchSize = maxBatchSize;
+        this.linger = maxBatchTime;
         this.batchHandlerThread = new Thread(new Runner(), name);
+
+        Tags tags = Tags.of("reconciler", name);
+        this.batchSizeSummary = DistributionSummary.builder(METRICS_BATCH_SIZE)
+                .description("Number of requests in the batches sent to Kafka")
+                .serviceLevelObjectives(1, 10, 50, 100, 500, 1000)
+                .tags(tags)
+                .register(metricsProvider.meterRegistry());
+        this.latencyTimer = metricsProvider.timer(METRICS_BATCH_LATENCY, "Time between enqueuing a request and completing its batch", tags);
+        this.targetBatchSizeGauge = metricsProvider.gauge(METRICS_BATCH_TARGET_SIZE, "Number of queued requests which triggers the next batch", tags);
+        this.lingerGauge = metricsProvider.gauge(METRICS_BATCH_LINGER, "Time for which the requests are collected before the next batch is sent", tags);
+        this.targetBatchSizeGauge.set(targetBatchSize);
+        this.lingerGauge.set(linger);
     }
 
     /**
      * Method responsible for sending the batch of requests to Apache Kafka and handling the result
      *
      * @param items Items which should be reconciled
+     *
+     * @return  Completion stage which completes once the results of all items are handled
      */
-    protected abstract void reconcile(Collection<T> items);
+    protected abstract CompletionStage<Void> reconcile(Collection<T> items);
 
     /**
      * Enqueues a reconciliation request
@@ -67,35 +131,123 @@ public abstract class AbstractBatchReconciler<T> {
      * @throws InterruptedException Thrown when interrupted while enqueuing the resource
      */
     public void enqueue(T item) throws InterruptedException {
-        queue.put(item);
+        queue.put(new Queued<>(item, System.nanoTime()));
 
-        if (queue.size() >= maxBatchSize)   {
-            batchSize.countDown();
+        if (queue.size() >= targetBatchSize && batchReady.availablePermits() == 0)   {
+            batchReady.release();
         }
     }
 
     /**
      * Starts a new batch of requests. It drains the queue and passes the batch of requests to the reconcile method.
      *
-     * @param batchSizeReached  Indicates whether the batch is triggered because we reached the maximal batch size
-     *                          (true) or the time limit (false)
+     * @param batchSizeReached  Indicates whether the batch is triggered because we reached the batch size (true) or
+     *                          the time limit (false)
      */
     private void handleBatch(boolean batchSizeReached)  {
         if (batchSizeReached) {
-            LOGGER.trace("{}: Running the next batch of the BatchReconciler because maximum batch size was reached", batchHandlerThread.getName());
+            LOGGER.trace("{}: Running the next batch of the BatchReconciler because batch size was reached", batchHandlerThread.getName());
         } else {
-            LOGGER.trace("{}: Running the next batch of the BatchReconciler because maximum batch time was reached", batchHandlerThread.getName());
+            LOGGER.trace("{}: Running the next batch of the BatchReconciler because batch time was reached", batchHandlerThread.getName());
         }
 
-        List<T> batch = new ArrayList<>();
-        int batchSize = queue.drainTo(batch, maxBatchSize);
+        int batchSize = queue.drainTo(drainBuffer, maxBatchSize);
 
         if (batchSize > 0)  {
             LOGGER.debug("{}: Processing batch of {} records in the BatchReconciler", batchHandlerThread.getName(), batchSize);
-            reconcile(batch);
+
+            // The batch is used by the reconcile method until the Admin API request completes, so it cannot be reused
+            List<T> batch = new ArrayList<>(batchSize);
+            long[] enqueuedAt = new long[batchSize];
+            for (int i = 0; i < batchSize; i++) {
+                Queued<T> queued = drainBuffer.get(i);
+                batch.add(queued.item());
+                enqueuedAt[i] = queued.enqueuedAt();
+            }
+            drainBuffer.clear();
+
+            batchSizeSummary.record(batchSize);
+            long sentAt = System.nanoTime();
+
+            reconcile(batch).whenComplete((r, e) -> {
+                long completedAt = System.nanoTime();
+
+                for (long enqueued : enqueuedAt) {
+                    latencyTimer.record(completedAt - enqueued, TimeUnit.NANOSECONDS);
+                }
+
+                if (adaptive) {
+                    adapt(batchSize, completedAt - sentAt, queue.size());
+                }
+            });
+        } else if (adaptive) {
+            resetLinger();
+        }
+
+        // When there is still enough requests in the queue, the next batch is triggered without waiting
+        if (queue.size() >= targetBatchSize && batchReady.availablePermits() == 0) {
+            batchReady.release();
         }
     }
 
+    /**
+     * Tunes the batch size and the linger time after a batch completes. The batch size target grows while the batches
+     * are full and there is a backlog in the queue, so that the backlog is sent in fewer requests. It shrinks when the
+     * batches are at most half full, so that the requests are sent sooner when there are only few of them.
+     * The linger time follows the moving average of the Admin API latency: when Kafka responds quickly, collecting the
+     * requests for a long time only adds latency. It is kept between a tenth of the maximal batch time and the maximal
+     * batch time.
+     *
+     * @param batchSize     Size of the completed batch
+     * @param latencyNanos  Time the Admin API needed to complete the batch
+     * @param queueDepth    Number of requests waiting in the queue
+     */
+    /* test */ synchronized void adapt(int batchSize, long latencyNanos, int queueDepth) {
+        double latencyMs = latencyNanos / 1_000_000.0;
+        averageLatencyMs = averageLatencyMs < 0 ? latencyMs : (1 - LATENCY_SMOOTHING) * averageLatencyMs + LATENCY_SMOOTHING * latencyMs;
+
+        int target = targetBatchSize;
+        if (batchSize >= target && queueDepth > 0) {
+            target = Math.min(maxBatchSize, target * 2);
+        } else if (batchSize * 2 <= target) {
+            target = Math.max(1, target / 2);
+        }
+
+        targetBatchSize = target;
+        linger = (int) Math.max(minLinger(), Math.min(maxBatchTime, Math.round(averageLatencyMs)));
+
+        targetBatchSizeGauge.set(targetBatchSize);
+        lingerGauge.set(linger);
+    }
+
+    /**
+     * Resets the linger time to the maximal batch time. This is used when the batch handler finds the queue empty, so
+     * that the idle reconciler does not keep waking up with the short linger time tuned for the last busy period. The
+     * linger time is tuned again after the next batch completes.
+     */
+    /* test */ synchronized void resetLinger() {
+        linger = maxBatchTime;
+        lingerGauge.set(linger);
+    }
+
+    private int minLinger() {
+        return Math.max(1, maxBatchTime / MIN_LINGER_DIVISOR);
+    }
+
+    /**
+     * @return  The number of queued requests which triggers the next batch
+     */
+    /* test */ int targetBatchSize() {
+        return targetBatchSize;
+    }
+
+    /**
+     * @return  The time in milliseconds for which the requests are collected before the next batch is sent
+     */
+    /* test */ int linger() {
+        return linger;
+    }
+
     /**
      * Starts the reconciler: this method creates a new thread in which the controller will run
      */
@@ -116,6 +268,16 @@ public abstract class AbstractBatchReconciler<T> {
         batchHandlerThread.join();
     }
 
+    /**
+     * Request waiting in the queue
+     *
+     * @param item          The reconciliation request
+     * @param enqueuedAt    Time in nanoseconds when the request was enqueued
+     *
+     * @param <T>   The type of the reconciliation request
+     */
+    private record Queued<T>(T item, long enqueuedAt) { }
+
     /**
      * Runner class which is used to run the controller loop. This is implemented as a private inner class to not expose
      * it as a public method.
@@ -132,11 +294,8 @@ public abstract class AbstractBatchReconciler<T> {
             while (!stop)    {
                 try {
                     LOGGER.trace("{}: Waiting for the next batch of the BatchReconciler", batchHandlerThread.getName());
-                    boolean batchSizeReached = batchSize.await(maxBatchTime, TimeUnit.MILLISECONDS);
-
-                    if (batchSizeReached) {
-                        batchSize = new CountDownLatch(1);
-                    }
+                    boolean batchSizeReached = batchReady.tryAcquire(linger, TimeUnit.MILLISECONDS);
+                    batchReady.drainPermits();
 
                     handleBatch(batchSizeReached);
                 } catch (InterruptedException e) {
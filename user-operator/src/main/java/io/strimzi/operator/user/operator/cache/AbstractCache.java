@@ -4,26 +4,63 @@
  */
 package io.strimzi.operator.user.operator.cache;
 
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.metrics.MetricsHolder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Enumeration;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Abstract cache provides a periodically refreshed cache. The cache is based around ConcurrentHashMap and a scheduled
  * periodical timer which regularly updates the cache. It also provides method to access the cache and its data.
  *
+ * The first load fills the cache. Every further refresh diffs the newly loaded data into the existing map in place, so
+ * the values which did not change are kept and the map does not need to be re-allocated.
+ *
  * @param <T> Type of the resource that will be cached
  */
 public abstract class AbstractCache<T> {
     private final static Logger LOGGER = LogManager.getLogger(AbstractCache.class);
 
+    /**
+     * Metric name for the duration of the cache refresh.
+     */
+    public static final String METRICS_CACHE_REFRESH = MetricsHolder.METRICS_PREFIX + "cache.refresh";
+    /**
+     * Metric name for the number of entries in the cache after the last refresh.
+     */
+    public static final String METRICS_CACHE_ENTRIES = MetricsHolder.METRICS_PREFIX + "cache.entries";
+    /**
+     * Metric name for the estimated heap used by the cache after the last refresh.
+     */
+    public static final String METRICS_CACHE_HEAP = MetricsHolder.METRICS_PREFIX + "cache.estimated.heap.bytes";
+    /**
+     * Metric name for the generation of the cache.
+     */
+    public static final String METRICS_CACHE_GENERATION = MetricsHolder.METRICS_PREFIX + "cache.generation";
+
+    // Rough estimates of the heap used by a map entry and by a String key on 64-bit JVM with compressed references
+    private static final long ENTRY_BYTES = 36L;
+    private static final long STRING_BYTES = 40L;
+
     private final long refreshIntervalMs;
     private final ScheduledExecutorService scheduledExecutor;
+    private final AtomicLong generation = new AtomicLong(0);
+
+    private final Timer refreshTimer;
+    private final AtomicInteger entriesGauge;
+    private final AtomicLong heapGauge;
+    private final AtomicLong generationGauge;
 
     private volatile ConcurrentHashMap<String, T> cache = null;
 
@@ -32,10 +69,17 @@ public abstract class AbstractCache<T> {
      *
      * @param name                  Name of the cache
      * @param refreshIntervalMs     Interval in which the cache should be refreshed
+     * @param metricsProvider       Metrics provider used for the cache metrics
      */
-    public AbstractCache(String name, long refreshIntervalMs) {
+    public AbstractCache(String name, long refreshIntervalMs, MetricsProvider metricsProvider) {
         this.refreshIntervalMs = refreshIntervalMs;
         this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, name + "-cache"));
+
+        Tags tags = Tags.of("cache", name);
+        this.refreshTimer = metricsProvider.timer(METRICS_CACHE_REFRESH, "Time spent in refreshing the cache", tags);
+        this.entriesGauge = metricsProvider.gauge(METRICS_CACHE_ENTRIES, "Number of entries in the cache after the last refresh", tags);
+        this.heapGauge = metricsProvider.gaugeLong(METRICS_CACHE_HEAP, "Estimated heap used by the cache after the last refresh", tags);
+        this.generationGauge = metricsProvider.gaugeLong(METRICS_CACHE_GENERATION, "Number of successful refreshes of the cache", tags);
     }
 
     /**
@@ -45,6 +89,38 @@ public abstract class AbstractCache<T> {
      */
     protected abstract ConcurrentHashMap<String, T> loadCache();
 
+    /**
+     * Estimates the heap used by a single value in the cache. It is used only for the metrics. Implementations
+     * which store values that are shared or not worth counting can keep the default.
+     *
+     * @param value     The cached value
+     *
+     * @return  Estimated size of the value in bytes
+     */
+    protected long estimateValueBytes(T value) {
+        return 0L;
+    }
+
+    /**
+     * Estimates the heap used by the data which is shared between the entries of the cache (for example interned
+     * values). It is used only for the metrics.
+     *
+     * @return  Estimated size of the shared data in bytes
+     */
+    protected long estimateSharedBytes() {
+        return 0L;
+    }
+
+    /**
+     * Returns the generation of the cache. The generation is increased with every successful refresh and can be used
+     * to find out whether the cache was refreshed since some earlier point in time.
+     *
+     * @return  The generation of the cache
+     */
+    public long generation() {
+        return generation.get();
+    }
+
     /**
      * Retrieves a value from the cache for given key.
      *
@@ -145,11 +221,70 @@ public abstract class AbstractCache<T> {
     private void updateCache()  {
         try {
             LOGGER.debug("Starting update of {}", this.getClass().getSimpleName());
-            cache = loadCache();
-            LOGGER.debug("{} updated", this.getClass().getSimpleName());
+            Timer.Sample sample = Timer.start();
+
+            ConcurrentHashMap<String, T> snapshot = loadCache();
+            ConcurrentHashMap<String, T> current = cache;
+
+            if (current == null) {
+                cache = snapshot;
+                LOGGER.debug("{} loaded with {} entries", this.getClass().getSimpleName(), snapshot.size());
+            } else {
+                int changed = merge(current, snapshot);
+                LOGGER.debug("{} updated with {} changed entries", this.getClass().getSimpleName(), changed);
+            }
+
+            sample.stop(refreshTimer);
+            generationGauge.set(generation.incrementAndGet());
+            updateSizeMetrics();
         } catch (Exception e)   {
             LOGGER.error("{} failed to update", this.getClass().getSimpleName(), e);
             cache = null; // Reset the cache
         }
     }
+
+    /**
+     * Diffs the snapshot into the current cache in place. Values which did not change are kept as they are.
+     *
+     * @param current   The map used by the cache
+     * @param snapshot  The newly loaded data
+     *
+     * @return  The number of added, updated or removed entries
+     */
+    /* test */ static <T> int merge(ConcurrentHashMap<String, T> current, Map<String, T> snapshot)  {
+        int changed = 0;
+
+        for (Map.Entry<String, T> entry : snapshot.entrySet()) {
+            if (!entry.getValue().equals(current.get(entry.getKey()))) {
+                current.put(entry.getKey(), entry.getValue());
+                changed++;
+            }
+        }
+
+        for (String key : current.keySet()) {
+            if (!snapshot.containsKey(key)) {
+                current.remove(key);
+                changed++;
+            }
+        }
+
+        return changed;
+    }
+
+    /**
+     * Updates the metrics with the number of entries and the estimated heap used by the cache
+     */
+    private void updateSizeMetrics()    {
+        ConcurrentHashMap<String, T> current = cache;
+
+        if (current != null) {
+            long bytes = estimateSharedBytes();
+            for (Map.Entry<String, T> entry : current.entrySet()) {
+                bytes += ENTRY_BYTES + STRING_BYTES + entry.getKey().length() + estimateValueBytes(entry.getValue());
+            }
+
+            entriesGauge.set(current.size());
+            heapGauge.set(bytes);
+        }
+    }
 }
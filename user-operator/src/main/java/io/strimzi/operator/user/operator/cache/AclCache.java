@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user.operator.cache;
 
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.common.KafkaFuture;
@@ -15,7 +16,9 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
@@ -23,21 +26,34 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 /**
- * A periodically updated ACL Cache for keeping the ACLs locally and avoid querying Kafka
+ * A periodically updated ACL Cache for keeping the ACLs locally and avoid querying Kafka.
+ *
+ * The same ACL rules are often used by many users (for example when many users read from the same topic). The rules
+ * are therefore interned, so that each distinct rule is kept in memory only once, and the rules of each user are kept
+ * in compact immutable sets.
  */
 public class AclCache extends AbstractCache<Set<SimpleAclRule>> {
     private final static Logger LOGGER = LogManager.getLogger(AclCache.class);
 
+    // Rough estimates of the heap used by an immutable set and by a single interned ACL rule
+    private static final long SET_BYTES = 32L;
+    private static final long SET_ELEMENT_BYTES = 8L;
+    private static final long RULE_BYTES = 128L;
+
     private final Admin adminClient;
 
+    // The interned rules from the last refresh. Only accessed from the refresh thread.
+    private Map<SimpleAclRule, SimpleAclRule> internedRules = Map.of();
+
     /**
      * Constructs the ACL cache
      *
      * @param adminClient           Kafka Admin client
      * @param refreshIntervalMs     Interval in which the cache should be refreshed
+     * @param metricsProvider       Metrics provider used for the cache metrics
      */
-    public AclCache(Admin adminClient, long refreshIntervalMs) {
-        super("ACL", refreshIntervalMs);
+    public AclCache(Admin adminClient, long refreshIntervalMs, MetricsProvider metricsProvider) {
+        super("ACL", refreshIntervalMs, metricsProvider);
         this.adminClient = adminClient;
     }
 
@@ -56,19 +72,38 @@ public class AclCache extends AbstractCache<Set<SimpleAclRule>> {
             // of rules. But we size it for 3-5 rules per user to give us at least some start and have some better
             // initial size than Java's default
             ConcurrentHashMap<String, Set<SimpleAclRule>> map = new ConcurrentHashMap<>(aclsBindings.size() / 3);
+            // The rules are interned against the rules of the previous refresh, so unchanged rules keep their instances
+            Map<SimpleAclRule, SimpleAclRule> interned = new HashMap<>(internedRules.size());
 
             for (AclBinding aclBinding : aclsBindings) {
                 KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
 
                 if (KafkaPrincipal.USER_TYPE.equals(principal.getPrincipalType())) {
-                    map.computeIfAbsent(principal.getName(), k -> new HashSet<>()).add(SimpleAclRule.fromAclBinding(aclBinding));
+                    SimpleAclRule rule = SimpleAclRule.fromAclBinding(aclBinding);
+                    rule = interned.computeIfAbsent(rule, r -> internedRules.getOrDefault(r, r));
+                    map.computeIfAbsent(principal.getName(), k -> new HashSet<>()).add(rule);
                 }
             }
 
+            // The rules of each user are collected in a mutable set first and replaced with the compact immutable set in place
+            map.replaceAll((user, rules) -> Set.copyOf(rules));
+            internedRules = interned;
+
             return map;
         } catch (InterruptedException | ExecutionException | TimeoutException e) {
             LOGGER.warn("Failed to load ACLs", e);
             throw new RuntimeException("Failed to load ACLs", e);
         }
     }
+
+    @Override
+    protected long estimateValueBytes(Set<SimpleAclRule> rules) {
+        // The rules themselves are interned and counted as shared data
+        return SET_BYTES + SET_ELEMENT_BYTES * rules.size();
+    }
+
+    @Override
+    protected long estimateSharedBytes() {
+        return RULE_BYTES * internedRules.size();
+    }
 }
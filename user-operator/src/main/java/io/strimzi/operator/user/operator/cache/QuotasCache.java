@@ -5,6 +5,7 @@
 package io.strimzi.operator.user.operator.cache;
 
 import io.strimzi.api.kafka.model.user.KafkaUserQuotas;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.user.model.QuotaUtils;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.common.KafkaFuture;
@@ -25,6 +26,9 @@ import java.util.concurrent.TimeoutException;
 public class QuotasCache extends AbstractCache<KafkaUserQuotas> {
     private final static Logger LOGGER = LogManager.getLogger(QuotasCache.class);
 
+    // Rough estimate of the heap used by the quotas of a single user
+    private static final long QUOTAS_BYTES = 96L;
+
     private final Admin adminClient;
 
     /**
@@ -32,9 +36,10 @@ public class QuotasCache extends AbstractCache<KafkaUserQuotas> {
      *
      * @param adminClient           Kafka Admin client
      * @param refreshIntervalMs     Interval in which the cache should be refreshed
+     * @param metricsProvider       Metrics provider used for the cache metrics
      */
-    public QuotasCache(Admin adminClient, long refreshIntervalMs) {
-        super("Quotas", refreshIntervalMs);
+    public QuotasCache(Admin adminClient, long refreshIntervalMs, MetricsProvider metricsProvider) {
+        super("Quotas", refreshIntervalMs, metricsProvider);
         this.adminClient = adminClient;
     }
 
@@ -66,4 +71,9 @@ public class QuotasCache extends AbstractCache<KafkaUserQuotas> {
             throw new RuntimeException("Failed to load Quotas", e);
         }
     }
+
+    @Override
+    protected long estimateValueBytes(KafkaUserQuotas quotas) {
+        return QUOTAS_BYTES;
+    }
 }
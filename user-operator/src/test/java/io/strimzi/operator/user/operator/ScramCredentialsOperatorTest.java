@@ -0,0 +1,130 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.strimzi.operator.user.ResourceUtils;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.DescribeUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
+import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
+import org.apache.kafka.common.KafkaFuture;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ScramCredentialsOperatorTest {
+    private final static ExecutorService EXECUTOR = Executors.newSingleThreadExecutor();
+
+    @SuppressWarnings("unchecked")
+    private static Admin mockAdminClient(List<String> existingUsers) {
+        Admin mockAdminClient = mock(Admin.class);
+
+        DescribeUserScramCredentialsResult describeResult = mock(DescribeUserScramCredentialsResult.class);
+        when(describeResult.users()).thenReturn(KafkaFuture.completedFuture(existingUsers));
+        when(mockAdminClient.describeUserScramCredentials()).thenReturn(describeResult);
+
+        when(mockAdminClient.alterUserScramCredentials(any())).thenAnswer(invocation -> {
+            List<UserScramCredentialAlteration> alterations = invocation.getArgument(0);
+            AlterUserScramCredentialsResult alterResult = mock(AlterUserScramCredentialsResult.class);
+            when(alterResult.all()).thenReturn(KafkaFuture.completedFuture(null));
+            when(alterResult.values()).thenReturn(alterations.stream()
+                    .collect(Collectors.toMap(UserScramCredentialAlteration::user, a -> KafkaFuture.completedFuture((Void) null))));
+            return alterResult;
+        });
+
+        return mockAdminClient;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testUnchangedCredentialsAreNotUpserted() throws ExecutionException, InterruptedException {
+        Admin mockAdminClient = mockAdminClient(List.of("my-user"));
+
+        ScramCredentialsOperator scramOp = new ScramCredentialsOperator(mockAdminClient, ResourceUtils.createUserOperatorConfig(), EXECUTOR, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        scramOp.start();
+
+        try {
+            // The credentials exist in Kafka, but we do not know with which password => upserted
+            ReconcileResult<String> result = scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "my-user", "password").toCompletableFuture().get();
+            assertThat(result, instanceOf(ReconcileResult.Patched.class));
+
+            // Same password => skipped
+            result = scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "my-user", "password").toCompletableFuture().get();
+            assertThat(result, instanceOf(ReconcileResult.Noop.class));
+            assertThat(result.resource(), is("password"));
+
+            // Changed password => upserted again
+            result = scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "my-user", "new-password").toCompletableFuture().get();
+            assertThat(result, instanceOf(ReconcileResult.Patched.class));
+
+            ArgumentCaptor<List<UserScramCredentialAlteration>> captor = ArgumentCaptor.forClass(List.class);
+            verify(mockAdminClient, times(2)).alterUserScramCredentials(captor.capture());
+            assertThat(captor.getAllValues().stream().flatMap(List::stream).allMatch(a -> a instanceof UserScramCredentialUpsertion), is(true));
+        } finally {
+            scramOp.stop();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDeletedCredentialsAreUpsertedAgain() throws ExecutionException, InterruptedException {
+        Admin mockAdminClient = mockAdminClient(List.of());
+
+        ScramCredentialsOperator scramOp = new ScramCredentialsOperator(mockAdminClient, ResourceUtils.createUserOperatorConfig(), EXECUTOR, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        scramOp.start();
+
+        try {
+            ReconcileResult<String> result = scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "my-user", "password").toCompletableFuture().get();
+            assertThat(result, instanceOf(ReconcileResult.Patched.class));
+
+            // Deleting the credentials forgets the fingerprint
+            result = scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "my-user", null).toCompletableFuture().get();
+            assertThat(result, instanceOf(ReconcileResult.Deleted.class));
+
+            // The same password has to be upserted again
+            result = scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "my-user", "password").toCompletableFuture().get();
+            assertThat(result, instanceOf(ReconcileResult.Patched.class));
+
+            verify(mockAdminClient, times(3)).alterUserScramCredentials(any());
+        } finally {
+            scramOp.stop();
+        }
+    }
+
+    @Test
+    public void testNoopWithoutCredentials() throws ExecutionException, InterruptedException {
+        Admin mockAdminClient = mockAdminClient(List.of());
+
+        ScramCredentialsOperator scramOp = new ScramCredentialsOperator(mockAdminClient, ResourceUtils.createUserOperatorConfig(), EXECUTOR, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        scramOp.start();
+
+        try {
+            ReconcileResult<String> result = scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "my-user", null).toCompletableFuture().get();
+            assertThat(result, instanceOf(ReconcileResult.Noop.class));
+            verify(mockAdminClient, times(0)).alterUserScramCredentials(any());
+        } finally {
+            scramOp.stop();
+        }
+    }
+}
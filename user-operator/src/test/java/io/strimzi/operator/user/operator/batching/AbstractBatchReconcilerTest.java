@@ -4,6 +4,9 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.Test;
@@ -11,9 +14,14 @@ import org.junit.jupiter.api.Test;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
 public class AbstractBatchReconcilerTest {
     Set<Integer> reconciled;
     CountDownLatch reconciliationFinished;
@@ -25,7 +33,7 @@ public class AbstractBatchReconcilerTest {
         reconciled = new HashSet<>(numberOfItems);
         reconciliationFinished = new CountDownLatch(numberOfItems);
 
-        AbstractBatchReconciler<Integer> batcher = new TestBatchReconciler(20, 5, 100);
+        AbstractBatchReconciler<Integer> batcher = new TestBatchReconciler(20, 5, 100, false, new SimpleMeterRegistry());
         batcher.start();
 
         Thread producer = new Thread(() -> {
@@ -50,15 +58,99 @@ public class AbstractBatchReconcilerTest {
         batcher.stop();
     }
 
+    @Test
+    public void testMetrics() throws InterruptedException {
+        int numberOfItems = 10;
+
+        reconciled = ConcurrentHashMap.newKeySet(numberOfItems);
+        reconciliationFinished = new CountDownLatch(2);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AbstractBatchReconciler<Integer> batcher = new TestBatchReconciler(20, 5, 100, false, registry);
+        batcher.start();
+
+        try {
+            for (int i = 0; i < numberOfItems; i++)    {
+                batcher.enqueue(i);
+            }
+
+            Timer latency = registry.get(AbstractBatchReconciler.METRICS_BATCH_LATENCY).tag("reconciler", "TestBatchReconciler").timer();
+            long deadline = System.currentTimeMillis() + 1_000;
+            while (latency.count() < numberOfItems && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            MatcherAssert.assertThat(registry.get(AbstractBatchReconciler.METRICS_BATCH_SIZE).tag("reconciler", "TestBatchReconciler").summary().totalAmount(), CoreMatchers.is(10.0));
+            MatcherAssert.assertThat(latency.count(), CoreMatchers.is(10L));
+        } finally {
+            batcher.stop();
+        }
+    }
+
+    @Test
+    public void testAdaptiveBatchSize() {
+        AbstractBatchReconciler<Integer> batcher = new TestBatchReconciler(1000, 100, 100, true, new SimpleMeterRegistry());
+
+        // Starts with the maximal values
+        MatcherAssert.assertThat(batcher.targetBatchSize(), CoreMatchers.is(100));
+        MatcherAssert.assertThat(batcher.linger(), CoreMatchers.is(100));
+
+        // Small batches with fast Admin API => smaller batches and shorter linger, but not below a tenth of the maximum
+        batcher.adapt(10, TimeUnit.MILLISECONDS.toNanos(20), 0);
+        MatcherAssert.assertThat(batcher.targetBatchSize(), CoreMatchers.is(50));
+        MatcherAssert.assertThat(batcher.linger(), CoreMatchers.is(20));
+        for (int i = 0; i < 10; i++) {
+            batcher.adapt(1, TimeUnit.MILLISECONDS.toNanos(5), 0);
+        }
+        MatcherAssert.assertThat(batcher.targetBatchSize(), CoreMatchers.is(1));
+        MatcherAssert.assertThat(batcher.linger(), CoreMatchers.is(10));
+
+        // Full batches with a backlog => bigger batches, but never above the maximum
+        for (int i = 0; i < 10; i++) {
+            batcher.adapt(batcher.targetBatchSize(), TimeUnit.MILLISECONDS.toNanos(50), 500);
+        }
+        MatcherAssert.assertThat(batcher.targetBatchSize(), CoreMatchers.is(100));
+        MatcherAssert.assertThat(batcher.linger(), CoreMatchers.is(greaterThanOrEqualTo(40)));
+
+        // Slow Admin API => linger limited by the maximal batch time
+        for (int i = 0; i < 10; i++) {
+            batcher.adapt(100, TimeUnit.SECONDS.toNanos(1), 500);
+        }
+        MatcherAssert.assertThat(batcher.linger(), CoreMatchers.is(100));
+    }
+
+    @Test
+    public void testAdaptiveLingerIsResetWhenIdle() throws InterruptedException {
+        AbstractBatchReconciler<Integer> batcher = new TestBatchReconciler(1000, 100, 100, true, new SimpleMeterRegistry());
+
+        for (int i = 0; i < 10; i++) {
+            batcher.adapt(1, TimeUnit.MILLISECONDS.toNanos(1), 0);
+        }
+        MatcherAssert.assertThat(batcher.linger(), CoreMatchers.is(10));
+
+        // The batch handler finds the queue empty and resets the linger to the maximal batch time
+        batcher.start();
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (batcher.linger() != 100 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            MatcherAssert.assertThat(batcher.linger(), CoreMatchers.is(100));
+        } finally {
+            batcher.stop();
+        }
+    }
+
     class TestBatchReconciler extends AbstractBatchReconciler<Integer> {
-        public TestBatchReconciler(int queueSize, int maxBatchSize, int maxBatchTime) {
-            super("TestBatchReconciler", queueSize, maxBatchSize, maxBatchTime);
+        public TestBatchReconciler(int queueSize, int maxBatchSize, int maxBatchTime, boolean adaptive, SimpleMeterRegistry registry) {
+            super("TestBatchReconciler", queueSize, maxBatchSize, maxBatchTime, adaptive, new MicrometerMetricsProvider(registry));
         }
 
         @Override
-        protected void reconcile(Collection<Integer> items) {
+        protected CompletionStage<Void> reconcile(Collection<Integer> items) {
             reconciled.addAll(items);
             reconciliationFinished.countDown();
+            return CompletableFuture.completedFuture(null);
         }
     }
 }
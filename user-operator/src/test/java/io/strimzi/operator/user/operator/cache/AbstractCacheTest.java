@@ -4,15 +4,21 @@
  */
 package io.strimzi.operator.user.operator.cache;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.test.TestUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 
 public class AbstractCacheTest {
     private CountDownLatch reload;
@@ -50,14 +56,18 @@ public class AbstractCacheTest {
         assertThat(cache.get("two"), is(nullValue()));
         assertThat(cache.get("three"), is(true));
 
-        // Wait for cache refresh
+        // Wait for cache refresh. The latch is released when the data are loaded, but before they are merged into the
+        // cache, so we wait also for the generation to increase.
         reload.await();
+        TestUtils.waitFor("Cache refresh", 10L, 30_000L, () -> cache.generation() >= 2);
 
         // Check refreshed values
         assertThat(cache.get("one"), is(true));
         assertThat(cache.get("two"), is(true));
         assertThat(cache.get("three"), is(true));
 
+        assertThat(cache.generation(), is(greaterThanOrEqualTo(2L)));
+
         // Stop the cache
         cache.stop();
 
@@ -71,9 +81,45 @@ public class AbstractCacheTest {
         assertThat(e.getMessage(), is("TestCache is not ready!"));
     }
 
+    @Test
+    public void testMergeInPlace() {
+        String unchanged = new String("unchanged");
+        ConcurrentHashMap<String, String> current = new ConcurrentHashMap<>(Map.of("one", unchanged, "two", "old", "three", "removed"));
+
+        int changed = AbstractCache.merge(current, Map.of("one", new String("unchanged"), "two", "new", "four", "added"));
+
+        assertThat(changed, is(3));
+        assertThat(current, is(Map.of("one", "unchanged", "two", "new", "four", "added")));
+        // Unchanged values are not replaced
+        assertThat(current.get("one"), is(sameInstance(unchanged)));
+    }
+
+    @Test
+    public void testMetrics() throws InterruptedException {
+        reload = new CountDownLatch(2);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AbstractCache<Boolean> cache = new TestCache(registry);
+
+        try {
+            cache.start();
+            reload.await();
+
+            assertThat(registry.get(AbstractCache.METRICS_CACHE_ENTRIES).tag("cache", "Test").gauge().value(), is(3.0));
+            assertThat(registry.get(AbstractCache.METRICS_CACHE_GENERATION).tag("cache", "Test").gauge().value(), is(greaterThanOrEqualTo(1.0)));
+            assertThat(registry.get(AbstractCache.METRICS_CACHE_HEAP).tag("cache", "Test").gauge().value() > 0, is(true));
+            assertThat(registry.get(AbstractCache.METRICS_CACHE_REFRESH).tag("cache", "Test").timer().count(), is(greaterThanOrEqualTo(1L)));
+        } finally {
+            cache.stop();
+        }
+    }
+
     class TestCache extends AbstractCache<Boolean>  {
         public TestCache() {
-            super("Test", 100L);
+            this(new SimpleMeterRegistry());
+        }
+
+        public TestCache(SimpleMeterRegistry registry) {
+            super("Test", 100L, new MicrometerMetricsProvider(registry));
         }
 
         @Override
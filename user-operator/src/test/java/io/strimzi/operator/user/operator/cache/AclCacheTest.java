@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.user.operator.cache;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.DescribeAclsResult;
@@ -28,6 +30,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasItems;
@@ -91,7 +94,7 @@ public class AclCacheTest {
             return mockResult;
         });
 
-        AclCache cache = new AclCache(mockClient, 10);
+        AclCache cache = new AclCache(mockClient, 10, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
 
         try {
             cache.start();
@@ -104,6 +107,10 @@ public class AclCacheTest {
             assertThat(cache.get("my-user2").size(), is(1));
             assertThat(cache.get("my-user2"), hasItems(SimpleAclRule.fromAclBinding(myUser2Read)));
 
+            // The same rules of different users are interned
+            SimpleAclRule myUserReadRule = cache.get("my-user").stream().filter(r -> r.equals(SimpleAclRule.fromAclBinding(myUserRead))).findFirst().orElseThrow();
+            assertThat(cache.get("my-user2").iterator().next(), is(sameInstance(myUserReadRule)));
+
             // Check update data after another call
             initialData.set(false);
             update.await();
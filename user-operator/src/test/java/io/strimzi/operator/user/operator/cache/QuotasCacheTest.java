@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.user.operator.cache;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.user.model.QuotaUtils;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.DescribeClientQuotasResult;
@@ -85,7 +87,7 @@ public class QuotasCacheTest {
             return mockResult;
         });
 
-        QuotasCache cache = new QuotasCache(mockClient, 10);
+        QuotasCache cache = new QuotasCache(mockClient, 10, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
 
         try {
             cache.start();